@@ -0,0 +1,95 @@
+package com.depth.deokive.domain.s3.service;
+
+import com.depth.deokive.domain.s3.dto.S3ServiceDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.ReflectionUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 멀티파트 초기화 Part 서명: 전체 직렬(기존) vs 전체 병렬 vs 첫 Window
+ * - 실행: ./gradlew jmh
+ * - 서명은 로컬 연산(HMAC)이므로 S3 연결 없이 측정
+ * - serialAll: Part마다 generatePresignedUrl 순차 호출
+ * - parallelAll: generatePartPresignedUrls 전체 구간 (가상 스레드 병렬)
+ * - firstWindow: 초기화 응답에 싣는 앞쪽 16개만 (나머지는 /multipart/presign)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class S3PartPresignBenchmark {
+
+    private static final long MB = 1024L * 1024;
+    private static final int WINDOW = 16;
+
+    @Param({"100", "1024", "5120", "51200", "512000"})
+    private long fileSizeMb;
+
+    private S3Presigner presigner;
+    private S3Service s3Service;
+    private long fileSize;
+    private int partCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("bench-access", "bench-secret")))
+                .build();
+        s3Service = new S3Service(null, presigner);
+
+        Field bucketName = ReflectionUtils.findField(S3Service.class, "bucketName");
+        ReflectionUtils.makeAccessible(bucketName);
+        ReflectionUtils.setField(bucketName, s3Service, "bench-bucket");
+
+        fileSize = fileSizeMb * MB;
+        partCount = s3Service.calculatePartCount(fileSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        presigner.close();
+    }
+
+    @Benchmark
+    public void serialAll(Blackhole bh) {
+        for (int part = 1; part <= partCount; part++) {
+            bh.consume(s3Service.generatePresignedUrl(S3ServiceDto.PresignedUrlRequest.builder()
+                    .key("videos/bench.mp4").uploadId("bench-upload").partNumber(part).contentLength(fileSize / partCount)
+                    .build()));
+        }
+    }
+
+    @Benchmark
+    public List<S3ServiceDto.PartPresignedUrlResponse> parallelAll() {
+        return s3Service.generatePartPresignedUrls(request(null, null));
+    }
+
+    @Benchmark
+    public List<S3ServiceDto.PartPresignedUrlResponse> firstWindow() {
+        return s3Service.generatePartPresignedUrls(request(1, Math.min(partCount, WINDOW)));
+    }
+
+    private S3ServiceDto.PartPresignedUrlRequest request(Integer from, Integer to) {
+        return S3ServiceDto.PartPresignedUrlRequest.builder()
+                .key("videos/bench.mp4").uploadId("bench-upload").fileSize(fileSize)
+                .fromPartNumber(from).toPartNumber(to)
+                .build();
+    }
+}
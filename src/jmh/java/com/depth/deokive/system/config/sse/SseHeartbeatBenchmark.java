@@ -0,0 +1,100 @@
+package com.depth.deokive.system.config.sse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSE Heartbeat: 전체 순회(기존) vs Timer Wheel tick
+ * - 실행: ./gradlew jmh
+ * - fullSweep: 30초마다 한 번에 모든 연결에 쓰기 (한 번의 스파이크 비용)
+ * - wheelTick: 100ms tick 1회 비용 (연결 수 / 300 개만 처리)
+ * - *Churn: 연결/해제 1회 비용 (CopyOnWriteArrayList 복사 vs ConcurrentHashMap)
+ * - Emitter.send는 no-op -> 네트워크 I/O를 제외한 자료구조/순회 비용만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SseHeartbeatBenchmark {
+
+    private static final long INTERVAL_MS = 30_000;
+    private static final long TICK_MS = 100;
+
+    @Param({"1000", "50000"})
+    private int connections;
+
+    private SseConnectionManager manager;
+    private List<SseEmitter> legacyEmitters;
+    private Map<Long, List<SseEmitter>> legacyRegistry;
+    private long churnUserId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        manager = new SseConnectionManager(new SimpleMeterRegistry(), INTERVAL_MS, TICK_MS);
+        legacyEmitters = new ArrayList<>(connections);
+        legacyRegistry = new ConcurrentHashMap<>();
+
+        for (long userId = 0; userId < connections; userId++) {
+            SseEmitter emitter = new NoOpEmitter();
+            manager.register("bench", userId, emitter, "ping");
+            legacyEmitters.add(emitter);
+            legacyRegistry.computeIfAbsent(userId % 1000, k -> new CopyOnWriteArrayList<>()).add(emitter);
+        }
+        churnUserId = 0;
+    }
+
+    @Benchmark
+    public int fullSweep() {
+        int sent = 0;
+        for (SseEmitter emitter : legacyEmitters) {
+            try {
+                emitter.send(SseEmitter.event().name("ping").data(""));
+                sent++;
+            } catch (Exception ignored) {
+            }
+        }
+        return sent;
+    }
+
+    @Benchmark
+    public int wheelTick() {
+        return manager.runTick();
+    }
+
+    @Benchmark
+    public void copyOnWriteChurn() {
+        List<SseEmitter> list = legacyRegistry.get(churnUserId++ % 1000);
+        SseEmitter emitter = new NoOpEmitter();
+        list.add(emitter);
+        list.remove(emitter);
+    }
+
+    @Benchmark
+    public void connectionManagerChurn() {
+        SseEmitter emitter = new NoOpEmitter();
+        SseConnection connection = manager.register("bench", churnUserId++ % 1000, emitter, "ping");
+        manager.unregister(connection);
+    }
+
+    private static class NoOpEmitter extends SseEmitter {
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build();
+        }
+    }
+}
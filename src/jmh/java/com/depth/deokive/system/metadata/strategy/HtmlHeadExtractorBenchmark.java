@@ -0,0 +1,115 @@
+package com.depth.deokive.system.metadata.strategy;
+
+import com.depth.deokive.system.metadata.strategy.HtmlHeadExtractor.HeadMetadata;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <head> 스트리밍 추출 vs Jsoup 전체 파싱
+ * - 실행: ./gradlew jmh
+ * - 지표: 추출 1회당 평균 시간(CPU) + bytesRead (AuxCounters, 추출 1회당 읽은 바이트)
+ * - 문서: 본문 크기(bodyRows)만 다르고 <head>는 동일
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HtmlHeadExtractorBenchmark {
+
+    private static final int HEAD_BYTE_CAP = 256 * 1024;
+    private static final int MAX_BODY_SIZE = 5 * 1024 * 1024;
+
+    @Param({"100", "5000", "50000"})
+    private int bodyRows;
+
+    private byte[] html;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringBuilder sb = new StringBuilder("""
+                <!DOCTYPE html>
+                <html lang="ko">
+                <head>
+                <meta charset="utf-8">
+                <title>Benchmark Page</title>
+                <script>window.__STATE__ = {"a": "<meta>"};</script>
+                <meta property="og:title" content="덕카이브 벤치마크 &amp; 테스트">
+                <meta property="og:image" content="https://img.example.com/bench.png">
+                <link rel="stylesheet" href="/app.css">
+                </head>
+                <body>
+                """);
+        for (int i = 0; i < bodyRows; i++) {
+            sb.append("<div class=\"row\"><p>Lorem ipsum dolor sit amet ").append(i).append("</p></div>\n");
+        }
+        html = sb.append("</body></html>").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class BytesRead {
+        public long bytesRead;
+    }
+
+    @Benchmark
+    public String streamingHead(BytesRead counter) throws IOException {
+        HeadMetadata result = HtmlHeadExtractor.extract(new ByteArrayInputStream(html), null, HEAD_BYTE_CAP);
+        counter.bytesRead += result.getBytesRead();
+        return result.getTitle() + result.getImageUrl();
+    }
+
+    @Benchmark
+    public String jsoupFullParse(BytesRead counter) throws IOException {
+        CountingInputStream in = new CountingInputStream(new ByteArrayInputStream(html), MAX_BODY_SIZE);
+        Document doc = Jsoup.parse(in, null, "https://example.com/");
+        counter.bytesRead += in.count;
+
+        var title = doc.selectFirst("meta[property=og:title]");
+        var image = doc.selectFirst("meta[property=og:image]");
+        return (title != null ? title.attr("content") : doc.title())
+                + (image != null ? image.attr("content") : null);
+    }
+
+    /** 기존 경로의 maxBodySize 동작을 흉내내면서 읽은 바이트 수를 센다 */
+    private static final class CountingInputStream extends InputStream {
+        private final InputStream delegate;
+        private final int limit;
+        private long count;
+
+        private CountingInputStream(InputStream delegate, int limit) {
+            this.delegate = delegate;
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (count >= limit) return -1;
+            int b = delegate.read();
+            if (b >= 0) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buf, int off, int len) throws IOException {
+            if (count >= limit) return -1;
+            int n = delegate.read(buf, off, (int) Math.min(len, limit - count));
+            if (n > 0) count += n;
+            return n;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.depth.deokive.common.dto;
+
+import com.depth.deokive.common.enums.Visibility;
+
+/**
+ * 상세 조회 조건부 요청(If-None-Match) 판단에 필요한 최소 정보 (ContentVersionCache 저장 단위)
+ * - ownerId / visibility: 본문 조회 없이 접근 권한을 확인하기 위함 (게시글은 전체 공개라 null)
+ * - ownerNickname: 상세 응답에 포함되지만 콘텐츠 버전과 무관하게 바뀌는 값 -> ETag에 반영
+ */
+public record ContentVersion(long version, Long ownerId, Visibility visibility, String ownerNickname) {
+
+    public static ContentVersion of(long version) {
+        return new ContentVersion(version, null, null, null);
+    }
+}
@@ -0,0 +1,26 @@
+package com.depth.deokive.common.event;
+
+import com.depth.deokive.common.enums.ViewLikeDomain;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글/아카이브 본문 변경·삭제 이벤트
+ * - 커밋 후 파생 캐시 무효화: 상세 콘텐츠 버전(ETag), 공유 페이지, oEmbed, 피드 첫 페이지
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class ContentChangedEvent {
+    private final ViewLikeDomain domain;
+    private final List<Long> ids;
+
+    public static ContentChangedEvent post(Long postId) {
+        return of(ViewLikeDomain.POST, List.of(postId));
+    }
+
+    public static ContentChangedEvent archive(Long archiveId) {
+        return of(ViewLikeDomain.ARCHIVE, List.of(archiveId));
+    }
+}
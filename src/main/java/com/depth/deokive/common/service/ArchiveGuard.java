@@ -17,6 +17,7 @@ public class ArchiveGuard {
 
     // 1. 아카이브 읽기 권한 체크 (주인, 친구, 공개범위 판단)
     public void checkArchiveReadPermission(Archive archive, UserPrincipal user) {
+        checkNotDeleted(archive);
         checkVisibility(archive.getUser().getId(), user, archive.getVisibility());
     }
 
@@ -47,6 +48,19 @@ public class ArchiveGuard {
         }
     }
 
+    // 3-1. 아카이브 소유자 체크 (삭제된 아카이브는 존재하지 않는 것으로 취급)
+    public void checkOwner(Archive archive, UserPrincipal user) {
+        checkNotDeleted(archive);
+        checkOwner(archive.getUser().getId(), user);
+    }
+
+    // 3-2. Tombstone 체크 (삭제 요청 이후 ~ Purge Job 완료 전까지의 아카이브)
+    public void checkNotDeleted(Archive archive) {
+        if (archive.isDeleted()) {
+            throw new RestException(ErrorCode.ARCHIVE_NOT_FOUND);
+        }
+    }
+
     // 4. 친구 관계 확인 (Helper)
     public boolean isFriend(Long viewerId, Long ownerId) {
         if (viewerId == null) return false;
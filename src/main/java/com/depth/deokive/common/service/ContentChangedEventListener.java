@@ -0,0 +1,41 @@
+package com.depth.deokive.common.service;
+
+import com.depth.deokive.common.enums.ViewLikeDomain;
+import com.depth.deokive.common.event.ContentChangedEvent;
+import com.depth.deokive.domain.post.service.PostDetailCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentChangedEventListener {
+
+    private final ContentVersionCache contentVersionCache;
+    private final PostDetailCache postDetailCache;
+    private final FeedCache feedCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleContentChanged(ContentChangedEvent event) {
+        try {
+            contentVersionCache.evict(event.getDomain(), event.getIds());
+            if (event.getDomain() == ViewLikeDomain.POST) {
+                postDetailCache.evict(event.getIds());
+            }
+        } catch (Exception e) {
+            // Soft Fail: 무효화 실패 시 TTL 동안 이전 버전의 ETag / 상세가 유지됨
+            log.warn("[ContentVersion] Evict failed -> Domain: {}, Ids: {}, Error: {}",
+                    event.getDomain(), event.getIds(), e.getMessage());
+        }
+
+        try {
+            feedCache.evict(event.getDomain());
+        } catch (Exception e) {
+            // Soft Fail: 이 노드는 이미 제거됨, 다른 노드는 TTL 동안 이전 피드 유지
+            log.warn("[Feed] Evict broadcast failed -> Domain: {}, Error: {}", event.getDomain(), e.getMessage());
+        }
+    }
+}
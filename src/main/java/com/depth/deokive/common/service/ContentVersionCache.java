@@ -0,0 +1,55 @@
+package com.depth.deokive.common.service;
+
+import com.depth.deokive.common.dto.ContentVersion;
+import com.depth.deokive.common.enums.ViewLikeDomain;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 게시글/아카이브 상세의 콘텐츠 버전 캐시
+ *
+ * [배경]
+ * - 같은 상세를 다시 여는 클라이언트도 매번 엔티티/파일 매핑/통계를 조회해 같은 본문을 받아감
+ * - 버전만 알면 If-None-Match 비교가 가능 -> Cache Hit이면 DB 조회 없이 304
+ *
+ * [구조] (VersionedHashCache)
+ * - 키: content:{post|archive}:{id}, variant 하나 ("v")
+ * - 원본: 엔티티의 content_version 컬럼 (Redis가 비워져도 버전이 되돌아가지 않음)
+ * - 무효화: 수정·삭제 커밋 후 (ContentChangedEvent)
+ */
+@Component
+public class ContentVersionCache extends VersionedHashCache<ContentVersion> {
+
+    private static final String VARIANT = "v";
+
+    public ContentVersionCache(RedisTemplate<String, Object> redisTemplate,
+                               RedisMessageListenerContainer redisMessageListenerContainer,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${content.version-cache.ttl:10m}") Duration ttl,
+                               @Value("${content.version-cache.local-ttl:1m}") Duration localTtl,
+                               @Value("${content.version-cache.local-max-size:50000}") long localMaxSize) {
+        super("content", ContentVersion.class, ttl, localTtl, localMaxSize,
+                redisTemplate, redisMessageListenerContainer, objectMapper, meterRegistry);
+    }
+
+    public ContentVersion get(ViewLikeDomain domain, Long id, Supplier<ContentVersion> loader) {
+        return get(subjectOf(domain, id), VARIANT, version -> loader.get());
+    }
+
+    public void evict(ViewLikeDomain domain, Collection<Long> ids) {
+        evictSubjects(ids.stream().map(id -> subjectOf(domain, id)).toList());
+    }
+
+    private static String subjectOf(ViewLikeDomain domain, Long id) {
+        return domain.getPrefix() + ":" + id;
+    }
+}
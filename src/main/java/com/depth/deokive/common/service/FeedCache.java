@@ -0,0 +1,170 @@
+package com.depth.deokive.common.service;
+
+import com.depth.deokive.common.dto.PageDto;
+import com.depth.deokive.common.enums.ViewLikeDomain;
+import com.depth.deokive.system.config.datasource.ReplicationRoutingDataSource;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 전역 피드(게시글 / 아카이브) 첫 페이지 캐시
+ *
+ * [배경]
+ * - 메인 진입 시 모든 사용자가 같은 첫 페이지(카테고리 x 정렬)를 조회 -> 뷰어와 무관한 같은 결과를 매번 MySQL에서 조회
+ *
+ * [구조]
+ * - 노드 로컬 Caffeine, 짧은 TTL (새 글/통계 반영 지연의 상한)
+ * - 키: {domain prefix}:{조합} (keyOf) -> 도메인 단위로 무효화
+ * - 기본 크기의 첫 페이지만 저장 (그 외 페이지/크기는 캐시 없이 조회)
+ * - 웜업(FeedWarmer)은 refresh로 TTL 전에 다시 적재 -> 자주 보는 조합은 Miss 없이 유지
+ *
+ * [무효화]
+ * - 수정·삭제(공개 범위 변경 포함) 커밋 후 ContentChangedEvent -> 해당 도메인 피드 키 전체 제거
+ *   (비공개로 바뀌거나 삭제된 글이 TTL 동안 피드에 남지 않도록, 조합 수가 적어 도메인 단위로 충분)
+ * - feed:invalidate 채널로 PUBLISH -> 모든 노드가 로컬에서 제거
+ * - 도메인별 세대(generation): 무효화마다 증가, 적재는 조회 시작 시점의 세대가 그대로일 때만 유지
+ *   (무효화 전에 시작한 Miss/웜업이 이전 페이지를 다시 넣지 않음)
+ * - 무효화 직후(primary-after-evict) Miss/웜업은 Primary에서 조회 (아직 복제되지 않은 Replica의 이전 페이지 방지)
+ * - 새 글 / 통계 변화는 무효화하지 않고 TTL로만 갱신
+ */
+@Slf4j
+@Component
+public class FeedCache implements MessageListener {
+
+    public static final int CACHED_PAGE_SIZE = 10;
+
+    private static final String CHANNEL = "feed:invalidate";
+
+    private final Cache<String, PageDto.PageListResponse<?>> local;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Map<String, Generation> generations = new ConcurrentHashMap<>();
+    private final long primaryAfterEvictNanos;
+
+    public FeedCache(MeterRegistry meterRegistry,
+                     RedisTemplate<String, Object> redisTemplate,
+                     RedisMessageListenerContainer redisMessageListenerContainer,
+                     @Value("${feed.cache.ttl:30s}") Duration ttl,
+                     @Value("${feed.cache.max-size:500}") long maxSize,
+                     @Value("${feed.cache.primary-after-evict:5s}") Duration primaryAfterEvict) {
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.redisTemplate = redisTemplate;
+        this.primaryAfterEvictNanos = primaryAfterEvict.toNanos();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "feed");
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public static boolean isCacheable(int page, int size) {
+        return page == 0 && size == CACHED_PAGE_SIZE;
+    }
+
+    public static String keyOf(ViewLikeDomain domain, String variant) {
+        return domain.getPrefix() + ":" + variant;
+    }
+
+    /**
+     * 조회 (Miss면 loader 결과 적재, 같은 키의 동시 Miss는 한 번만 조회)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> PageDto.PageListResponse<T> get(String key, Supplier<PageDto.PageListResponse<T>> loader) {
+        Generation generation = generationOf(key);
+        long seen = generation.current();
+
+        PageDto.PageListResponse<?> page = local.get(key, k -> load(generation, loader));
+        discardIfEvicted(key, page, generation, seen);
+        return (PageDto.PageListResponse<T>) page;
+    }
+
+    /**
+     * 무조건 다시 조회해서 교체 (웜업용)
+     */
+    public <T> void refresh(String key, Supplier<PageDto.PageListResponse<T>> loader) {
+        Generation generation = generationOf(key);
+        long seen = generation.current();
+
+        PageDto.PageListResponse<T> page = load(generation, loader);
+        if (generation.current() != seen) return;
+        local.put(key, page);
+        discardIfEvicted(key, page, generation, seen);
+    }
+
+    /**
+     * 도메인 피드 무효화 (커밋 후 호출, 다른 노드에도 전파)
+     */
+    public void evict(ViewLikeDomain domain) {
+        evictLocal(domain.getPrefix());
+        redisTemplate.convertAndSend(CHANNEL, domain.getPrefix());
+    }
+
+    /**
+     * 다른 노드의 무효화 -> 로컬 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void evictLocal(String prefix) {
+        generations.computeIfAbsent(prefix, p -> new Generation()).advance(); // 제거보다 먼저 -> 이후 적재는 세대 불일치로 버려짐
+        String keyPrefix = prefix + ":";
+        local.asMap().keySet().removeIf(key -> key.startsWith(keyPrefix));
+        log.debug("[Feed] Evicted: prefix={}", prefix);
+    }
+
+    // --- Helper Methods ---
+
+    private Generation generationOf(String key) {
+        return generations.computeIfAbsent(key.substring(0, key.indexOf(':')), p -> new Generation());
+    }
+
+    private <T> PageDto.PageListResponse<T> load(Generation generation, Supplier<PageDto.PageListResponse<T>> loader) {
+        return generation.evictedWithin(primaryAfterEvictNanos) ? ReplicationRoutingDataSource.onPrimary(loader) : loader.get();
+    }
+
+    // 적재 도중(또는 직후) 무효화가 지나갔으면 방금 넣은 값 제거 (무효화의 removeIf보다 먼저 들어간 경우 대비)
+    private void discardIfEvicted(String key, PageDto.PageListResponse<?> page, Generation generation, long seen) {
+        if (generation.current() != seen) local.asMap().remove(key, page);
+    }
+
+    private static final class Generation {
+
+        private final AtomicLong value = new AtomicLong();
+        private volatile long evictedAt;
+        private volatile boolean evicted;
+
+        long current() {
+            return value.get();
+        }
+
+        void advance() {
+            evictedAt = System.nanoTime();
+            evicted = true;
+            value.incrementAndGet();
+        }
+
+        boolean evictedWithin(long nanos) {
+            return evicted && System.nanoTime() - evictedAt < nanos;
+        }
+    }
+}
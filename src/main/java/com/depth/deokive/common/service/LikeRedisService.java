@@ -1,6 +1,5 @@
 package com.depth.deokive.common.service;
 
-import com.depth.deokive.common.dto.LikeMessageDto;
 import com.depth.deokive.common.enums.ViewLikeDomain;
 import com.depth.deokive.system.exception.model.ErrorCode;
 import com.depth.deokive.system.exception.model.RestException;
@@ -8,12 +7,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
@@ -24,13 +23,15 @@ import java.util.function.Supplier;
 public class LikeRedisService {
 
     private final RedisTemplate<String, Long> longRedisTemplate;
-    private final RabbitTemplate rabbitTemplate;
     private final RedissonClient redissonClient;
     private final DefaultRedisScript<Long> likeScript;
 
     private static final String DUMMY_VALUE = "dummy";
     private static final String TTL_SECONDS = "259200"; // 3일
 
+    // 좋아요 MQ 이벤트 Outbox (Redis Stream) -> OutboxRelay가 소비
+    public static final String LIKE_OUTBOX_STREAM = "outbox:like";
+
     // --- Key Generators
     private String getLikeCountKey(ViewLikeDomain domain, Long id) { return "like:" + domain.getPrefix() + ":count:" + id; }
     private String getLikeSetKey(ViewLikeDomain domain, Long id) { return "like:" + domain.getPrefix() + ":users:" + id; }
@@ -52,22 +53,20 @@ public class LikeRedisService {
             warmingWithLock(setKey, countKey, lockKey, dbLoader, existenceValidator);
         }
 
-        // 2. Lua Script 실행: 중복체크 + 카운팅 + TTL을 Redis 내부에서 원자적으로 처리
+        // 2. Lua Script 실행: 중복체크 + 카운팅 + TTL + Outbox 적재를 Redis 내부에서 원자적으로 처리
         // 락 없이도 Redis 싱글 스레드 특성상 완벽한 원자성 보장
+        // MQ 전송은 OutboxRelay가 Stream을 배치로 읽어 Publisher Confirm과 함께 수행 -> 요청 지연이 브로커 상태와 무관
         Long result = longRedisTemplate.execute(
                 likeScript,
-                List.of(setKey, countKey), // KEYS[1], KEYS[2]
+                List.of(setKey, countKey, LIKE_OUTBOX_STREAM), // KEYS[1], KEYS[2], KEYS[3]
                 String.valueOf(userId),    // ARGV[1]
                 DUMMY_VALUE,               // ARGV[2]
-                TTL_SECONDS                // ARGV[3]
+                TTL_SECONDS,               // ARGV[3]
+                domain.name(),             // ARGV[4]
+                String.valueOf(targetId)   // ARGV[5]
         );
 
-        boolean isLiked = (result != null && result == 1);
-
-        // 3. MQ 전송
-        sendToQueue(domain, targetId, userId, isLiked);
-
-        return isLiked;
+        return result != null && result == 1;
     }
 
     public boolean isLiked(ViewLikeDomain domain, Long targetId, Long userId, Supplier<List<Long>> dbLoader, Runnable existenceValidator) {
@@ -130,13 +129,6 @@ public class LikeRedisService {
         }
     }
 
-    @Async("messagingTaskExecutor")
-    public void sendToQueue(ViewLikeDomain domain, Long targetId, Long userId, boolean isLiked) {
-        LikeMessageDto message = new LikeMessageDto(targetId, userId, isLiked);
-        rabbitTemplate.convertAndSend(domain.getExchangeName(), domain.getRoutingKey(), message);
-        log.info("🐇 [MQ Send] Domain: {}, TargetId: {}, Action: {}", domain, targetId, isLiked ? "LIKE" : "UNLIKE");
-    }
-
     public void deleteLikeData(ViewLikeDomain domain, Long targetId) {
         String setKey = getLikeSetKey(domain, targetId);
         String countKey = getLikeCountKey(domain, targetId);
@@ -146,4 +138,20 @@ public class LikeRedisService {
         longRedisTemplate.delete(List.of(setKey, countKey));
         log.info("[Redis] Deleted Like Data for {} ID: {}", domain, targetId);
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 대상의 좋아요 캐시 일괄 삭제 (DEL 1회) -> 다음 조회에서 DB 기준으로 Warming
+     */
+    public void deleteLikeData(ViewLikeDomain domain, Collection<Long> targetIds) {
+        if (targetIds.isEmpty()) return;
+
+        List<String> keys = new ArrayList<>(targetIds.size() * 2);
+        for (Long targetId : targetIds) {
+            keys.add(getLikeSetKey(domain, targetId));
+            keys.add(getLikeCountKey(domain, targetId));
+        }
+
+        longRedisTemplate.delete(keys);
+        log.info("[Redis] Deleted Like Data for {} targets: {}", domain, targetIds.size());
+    }
+}
@@ -11,7 +11,9 @@ import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.LongPredicate;
 
 @Slf4j
 @Service
@@ -50,6 +52,11 @@ public class RedisViewService {
 
     /** 특정 도메인의 조회수 데이터를 모두 스캔하여 반환 */
     public Map<Long, Long> getAndFlushViewCounts(ViewLikeDomain domain, int limit) {
+        return getAndFlushViewCounts(domain, limit, id -> true);
+    }
+
+    /** 스캔 중 accept를 통과한 ID만 반환 (클러스터에서 이 노드가 소유한 샤드만 수집, limit도 소유분 기준) */
+    public Map<Long, Long> getAndFlushViewCounts(ViewLikeDomain domain, int limit, LongPredicate accept) {
         Map<Long, Long> viewCounts = new HashMap<>();
         String pattern = String.format("view:count:%s:*", domain.getPrefix()); // Ex. view:count:archive:*
 
@@ -68,7 +75,7 @@ public class RedisViewService {
                 if (value != null) {
                     try {
                         Long id = Long.parseLong(key.split(":")[3]); // Key 파싱: view:count:{domain}:{id}
-                        viewCounts.put(id, Long.parseLong(value));
+                        if (accept.test(id)) viewCounts.put(id, Long.parseLong(value));
                     } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
                         log.warn("⚠️ [Redis] Malformed data ignored. Key: {}, Value: {}", key, value);
                     }
@@ -80,6 +87,24 @@ public class RedisViewService {
         return viewCounts;
     }
 
+    /** 지정한 ID들의 현재 조회수 (키가 없으면 제외) */
+    public Map<Long, Long> getViewCounts(ViewLikeDomain domain, List<Long> ids) {
+        List<String> values = redisTemplate.opsForValue().multiGet(
+                ids.stream().map(id -> String.format(COUNT_KEY_FORMAT, domain.getPrefix(), id)).toList());
+
+        Map<Long, Long> viewCounts = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            if (value == null) continue;
+            try {
+                viewCounts.put(ids.get(i), Long.parseLong(value));
+            } catch (NumberFormatException e) {
+                log.warn("⚠️ [Redis] Malformed data ignored. Id: {}, Value: {}", ids.get(i), value);
+            }
+        }
+        return viewCounts;
+    }
+
     /** DB 반영 후 차감 */
     public void decrementCount(ViewLikeDomain domain, Long id, Long count) {
         String key = String.format(COUNT_KEY_FORMAT, domain.getPrefix(), id);
@@ -0,0 +1,190 @@
+package com.depth.deokive.common.service;
+
+import com.depth.deokive.system.config.datasource.ReplicationRoutingDataSource;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 대상(게시글/아카이브 등) 단위로 무효화되는 2단 Read Cache (CalendarCache와 같은 구조)
+ *
+ * [구조]
+ * - 대상 하나에 변형(variant)이 여러 개: 프론트 URL별 공유 페이지, 크기별 oEmbed 등
+ * - L1(Caffeine): {name}:{subject} -> { variant -> V }   (subject 예: post:12)
+ * - L2(Redis Hash): {name}:{subject} (field = variant, value = JSON), TTL
+ * - 버전: {name}:{subject}:ver -> 무효화마다 INCR (loader에 전달 -> 버전 기반 ETag 등에 사용)
+ *
+ * [무효화]
+ * - L2 삭제 + 버전 증가 후 {name}:invalidate 채널로 PUBLISH -> 모든 노드가 L1에서 제거
+ * - 적재는 조회 시작 시점의 버전이 그대로일 때만 HSET (조회 도중 무효화된 오래된 값이 다시 들어가지 않음)
+ * - 적재할 값은 Primary에서 로드 -> 무효화 직후 아직 복제되지 않은 Replica의 이전 값이 새 버전으로 TTL 동안 남지 않음
+ *
+ * - 하위 클래스는 이름 / 값 타입 / TTL / subject 규칙만 정함
+ */
+@Slf4j
+public abstract class VersionedHashCache<V> implements MessageListener {
+
+    // 버전이 조회 시작 시점과 같을 때만 적재
+    private static final DefaultRedisScript<Long> SET_IF_VERSION = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+                    "redis.call('HSET', KEYS[1], ARGV[2], ARGV[3]) " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+                    "return 1",
+            Long.class);
+
+    // KEYS = [data1, ver1, data2, ver2, ...]
+    private static final DefaultRedisScript<Long> EVICT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS, 2 do " +
+                    "redis.call('DEL', KEYS[i]) " +
+                    "redis.call('INCR', KEYS[i + 1]) " +
+                    "redis.call('EXPIRE', KEYS[i + 1], ARGV[1]) " +
+                    "end " +
+                    "return #KEYS / 2",
+            Long.class);
+
+    private final String name;
+    private final String channel;
+    private final Class<V> type;
+    private final Duration ttl;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Map<String, V>> local;
+
+    protected VersionedHashCache(String name, Class<V> type,
+                                 Duration ttl, Duration localTtl, long localMaxSize,
+                                 RedisTemplate<String, Object> redisTemplate,
+                                 RedisMessageListenerContainer redisMessageListenerContainer,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry) {
+        this.name = name;
+        this.channel = name + ":invalidate";
+        this.type = type;
+        this.ttl = ttl;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name);
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    /**
+     * L1 -> L2 -> loader 순으로 조회
+     * - loader는 조회 시작 시점의 버전을 받음
+     * - Redis 장애 시 loader 결과를 그대로 반환 (Soft Fail, 버전 "0")
+     * - loader 예외(NOT_FOUND, FORBIDDEN 등)는 캐시하지 않고 그대로 전파
+     */
+    protected V get(String subject, String variant, Function<String, V> loader) {
+        String key = keyOf(subject);
+
+        // SEQ 1. L1
+        Map<String, V> values = local.getIfPresent(key);
+        V cached = values != null ? values.get(variant) : null;
+        if (cached != null) return cached;
+
+        // SEQ 2. L2 (Miss면 loader 실행 전에 현재 버전을 읽어 둠)
+        String version;
+        try {
+            V hit = parse(redisTemplate.opsForHash().get(key, variant));
+            if (hit != null) {
+                putLocal(key, variant, hit);
+                return hit;
+            }
+            Object current = redisTemplate.opsForValue().get(versionKeyOf(key));
+            version = current != null ? current.toString() : "0";
+        } catch (Exception e) {
+            log.warn("[{}] Lookup failed: key={}", name, key, e);
+            return loader.apply("0");
+        }
+
+        // SEQ 3. Primary에서 로드 후 버전이 그대로일 때만 적재
+        V loaded = ReplicationRoutingDataSource.onPrimary(() -> loader.apply(version));
+        if (store(key, variant, version, loaded)) putLocal(key, variant, loaded);
+        return loaded;
+    }
+
+    /**
+     * 대상 무효화 (커밋 후 호출)
+     */
+    protected void evictSubjects(Collection<String> subjects) {
+        if (subjects.isEmpty()) return;
+
+        List<String> keys = subjects.stream().map(this::keyOf).toList();
+        keys.forEach(local::invalidate);
+
+        List<String> scriptKeys = new ArrayList<>(keys.size() * 2);
+        for (String key : keys) {
+            scriptKeys.add(key);
+            scriptKeys.add(versionKeyOf(key));
+        }
+        redisTemplate.execute(EVICT, scriptKeys, String.valueOf(ttl.toSeconds()));
+        redisTemplate.convertAndSend(channel, String.join(",", keys));
+    }
+
+    /**
+     * 다른 노드의 무효화 -> L1 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String key : body.split(",")) {
+            local.invalidate(key);
+        }
+    }
+
+    private void putLocal(String key, String variant, V value) {
+        local.get(key, k -> new ConcurrentHashMap<>()).put(variant, value);
+    }
+
+    private boolean store(String key, String variant, String version, V value) {
+        try {
+            Long stored = redisTemplate.execute(SET_IF_VERSION, List.of(key, versionKeyOf(key)),
+                    version, variant, objectMapper.writeValueAsString(value), String.valueOf(ttl.toSeconds()));
+            return Long.valueOf(1L).equals(stored);
+        } catch (Exception e) {
+            log.warn("[{}] Store failed: key={}", name, key, e);
+            return false;
+        }
+    }
+
+    private V parse(Object value) {
+        if (value == null) return null;
+        try {
+            return objectMapper.readValue(value.toString(), type);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private String keyOf(String subject) {
+        return name + ":" + subject;
+    }
+
+    private static String versionKeyOf(String key) {
+        return key + ":ver";
+    }
+}
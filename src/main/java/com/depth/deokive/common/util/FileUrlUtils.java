@@ -1,5 +1,6 @@
 package com.depth.deokive.common.util;
 
+import com.depth.deokive.domain.file.entity.File;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -30,4 +31,14 @@ public class FileUrlUtils {
         // URL 결합
         return cdnBaseUrl + "/" + cleanPath;
     }
-}
\ No newline at end of file
+
+    /**
+     * 표시 너비에 맞는 썸네일 URL (생성 완료된 이미지만, 그 외에는 원본 URL)
+     * - width 이상인 가장 작은 Variant 선택 -> 카드/목록에서 원본 다운로드 방지
+     */
+    public static String buildThumbnailUrl(File file, int width) {
+        if (file == null) return null;
+        if (!file.isThumbnailReady()) return buildCdnUrl(file.getS3ObjectKey());
+        return buildCdnUrl(ThumbnailUtils.getThumbnailKey(file.getS3ObjectKey(), ThumbnailUtils.Variant.fit(width)));
+    }
+}
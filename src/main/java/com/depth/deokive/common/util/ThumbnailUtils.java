@@ -1,5 +1,10 @@
 package com.depth.deokive.common.util;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
 public final class ThumbnailUtils {
     private static final String THUMBNAIL = "thumbnail";
     private static final String MEDIUM = "medium";
@@ -9,6 +14,45 @@ public final class ThumbnailUtils {
 
     private ThumbnailUtils() {}
 
+    /**
+     * 이미지 썸네일 Variant (ThumbnailGenerator가 width 기준으로 생성, 원본보다 크게 늘리지 않음)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Variant {
+        SMALL("thumbnail", 320),
+        MEDIUM("medium", 800),
+        LARGE("large", 1600);
+
+        private final String size;
+        private final int width;
+
+        /** 요청 너비를 채우는 가장 작은 Variant (없으면 LARGE) */
+        public static Variant fit(int width) {
+            for (Variant variant : values()) {
+                if (variant.width >= width) return variant;
+            }
+            return LARGE;
+        }
+    }
+
+    /**
+     * 이미지 썸네일 출력 포맷 (원본 확장자 기준)
+     * - 투명도를 가질 수 있는 형식(png/gif/webp)은 png, 그 외는 jpg
+     * - 파생 키의 확장자와 ThumbnailGenerator가 쓰는 포맷이 같은 규칙을 따름 (webp 원본 -> .png 썸네일)
+     */
+    public static String thumbnailFormatOf(String originalKey) {
+        String extension = extensionOf(originalKey);
+        return switch (extension) {
+            case "png", "gif", "webp" -> "png";
+            default -> "jpg";
+        };
+    }
+
+    public static String getThumbnailKey(String originalKey, Variant variant) {
+        return generateThumbnailKey(originalKey, variant.getSize());
+    }
+
     public static String getSmallThumbnailKey(String originalKey) {
         // 동영상은 small thumbnail 미지원 (이미지만 처리)
         return generateThumbnailKey(originalKey, THUMBNAIL);
@@ -36,11 +80,26 @@ public final class ThumbnailUtils {
                 ? originalKey
                 : originalKey.substring(lastSlashIndex + 1);
 
-        // 2. 썸네일 경로 조립
+        // 2. 확장자를 실제 출력 포맷에 맞춤 (jpg/jpeg/png 원본은 그대로)
+        // ex: "sticker.webp" -> "sticker.png"
+        String format = thumbnailFormatOf(fileName);
+        String extension = extensionOf(fileName);
+        boolean matches = extension.equals(format) || (format.equals("jpg") && extension.equals("jpeg"));
+        if (!matches) fileName = replaceExtension(fileName, format);
+
+        // 3. 썸네일 경로 조립
         // ex: "files/thumbnails/" + "medium" + "/" + "my-pic.jpg"
         return THUMBNAIL_ROOT_PATH + size + "/" + fileName;
     }
 
+    private static String extensionOf(String key) {
+        if (key == null) return "";
+        int lastSlashIndex = key.lastIndexOf("/");
+        int lastDotIndex = key.lastIndexOf(".");
+        if (lastDotIndex <= lastSlashIndex + 1 || lastDotIndex == key.length() - 1) return "";
+        return key.substring(lastDotIndex + 1).toLowerCase(Locale.ROOT);
+    }
+
     // -------- Video Thumbnail 처리 ---------
 
     private static String generateVideoThumbnailKey(String originalKey, String size) {
@@ -53,7 +112,7 @@ public final class ThumbnailUtils {
                 ? originalKey
                 : originalKey.substring(lastSlashIndex + 1);
 
-        String jpgFileName = replaceExtensionToJpg(fileName);
+        String jpgFileName = replaceExtension(fileName, "jpg");
 
         return VIDEO_THUMBNAIL_ROOT_PATH + size + "/" + jpgFileName;
     }
@@ -62,11 +121,11 @@ public final class ThumbnailUtils {
         return originalKey != null && originalKey.startsWith("videos/");
     }
 
-    private static String replaceExtensionToJpg(String fileName) {
+    private static String replaceExtension(String fileName, String extension) {
         int lastDotIndex = fileName.lastIndexOf(".");
         if (lastDotIndex <= 0 || lastDotIndex == fileName.length() - 1) {
-            return fileName + ".jpg";
+            return fileName + "." + extension;
         }
-        return fileName.substring(0, lastDotIndex) + ".jpg";
+        return fileName.substring(0, lastDotIndex) + "." + extension;
     }
 }
\ No newline at end of file
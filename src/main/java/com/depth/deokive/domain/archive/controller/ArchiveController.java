@@ -2,7 +2,10 @@ package com.depth.deokive.domain.archive.controller;
 
 import com.depth.deokive.common.dto.PageDto;
 import com.depth.deokive.domain.archive.dto.ArchiveDto;
+import com.depth.deokive.domain.archive.dto.ArchiveHomeDto;
+import com.depth.deokive.domain.archive.service.ArchiveHomeService;
 import com.depth.deokive.domain.archive.service.ArchiveService;
+import com.depth.deokive.domain.calendar.service.CalendarService;
 import com.depth.deokive.system.ratelimit.annotation.RateLimit;
 import com.depth.deokive.system.ratelimit.annotation.RateLimitType;
 import com.depth.deokive.system.security.model.UserPrincipal;
@@ -17,12 +20,16 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import com.depth.deokive.system.exception.dto.ErrorResponse;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.YearMonth;
 
 @RestController
 @RequestMapping("/api/v1/archives")
@@ -31,6 +38,7 @@ import org.springframework.web.bind.annotation.*;
 public class ArchiveController {
 
     private final ArchiveService archiveService;
+    private final ArchiveHomeService archiveHomeService;
 
     @PostMapping
     @RateLimit(type = RateLimitType.USER, capacity = 20, refillTokens = 20, refillPeriodSeconds = 3600)
@@ -58,9 +66,50 @@ public class ArchiveController {
 
     @GetMapping("/{archiveId}")
     @RateLimit(type = RateLimitType.AUTO, capacity = 120, refillTokens = 120, refillPeriodSeconds = 60)
-    @Operation(summary = "아카이브 상세 조회", description = "아카이브의 기본 정보(제목, 배너, 카운트 등)를 조회합니다. (공개 범위 권한 체크 포함)")
+    @Operation(summary = "아카이브 상세 조회", description = "아카이브의 기본 정보(제목, 배너, 뱃지 등)를 조회합니다. (공개 범위 권한 체크 포함) If-None-Match가 현재 ETag와 같으면 본문 없이 304를 반환합니다. (조회수/좋아요 수/좋아요 여부는 /stats)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (ETag 일치)"),
+            @ApiResponse(responseCode = "403", description = "조회 권한 없음 (비공개 또는 친구 공개)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"FORBIDDEN\", \"error\": \"AUTH FORBIDDEN\", \"message\": \"접근 권한이 없습니다.\"}")
+                    )),
+            @ApiResponse(responseCode = "404", description = "아카이브 없음",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"NOT_FOUND\", \"error\": \"ARCHIVE_NOT_FOUND\", \"message\": \"존재하지 않는 아카이브입니다.\"}")
+                    ))
+    })
+    public ResponseEntity<ArchiveDto.DetailResponse> getArchiveDetail(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal user,
+            @Parameter(description = "조회할 아카이브 ID", example = "1") @PathVariable Long archiveId,
+            HttpServletRequest request,
+            WebRequest webRequest
+    ) {
+        // 권한 체크 후 콘텐츠 버전이 같으면 본문 조회 없이 304 (조회수는 집계)
+        String etag = archiveService.getArchiveEtag(user, archiveId);
+        if (webRequest.checkNotModified(etag)) {
+            archiveService.increaseViewCount(user, archiveId, request);
+            return null;
+        }
+
+        // ETag 헤더는 checkNotModified에서 이미 설정됨
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(archiveService.getArchiveContent(user, archiveId, request));
+    }
+
+    @GetMapping("/{archiveId}/home")
+    @RateLimit(type = RateLimitType.AUTO, capacity = 120, refillTokens = 120, refillPeriodSeconds = 60)
+    @Operation(summary = "아카이브 홈 조회", description = "아카이브 상세와 갤러리/티켓/다이어리/리포스트(첫 번째 탭) 첫 페이지, 월별 캘린더를 한 번에 조회합니다. 시간 안에 조회하지 못한 섹션은 null이며 degradedSections에 담깁니다. (해당 섹션은 개별 API로 다시 조회)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공 (일부 섹션 누락 가능)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 연월",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"BAD_REQUEST\", \"error\": \"GLOBAL BAD REQUEST\", \"message\": \"잘못된 요청입니다.\"}")
+                    )),
             @ApiResponse(responseCode = "403", description = "조회 권한 없음 (비공개 또는 친구 공개)",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ErrorResponse.class),
@@ -72,12 +121,40 @@ public class ArchiveController {
                             examples = @ExampleObject(value = "{\"status\": \"NOT_FOUND\", \"error\": \"ARCHIVE_NOT_FOUND\", \"message\": \"존재하지 않는 아카이브입니다.\"}")
                     ))
     })
-    public ResponseEntity<ArchiveDto.Response> getArchiveDetail(
+    public ResponseEntity<ArchiveHomeDto.Response> getArchiveHome(
             @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal user,
             @Parameter(description = "조회할 아카이브 ID", example = "1") @PathVariable Long archiveId,
+            @Parameter(description = "캘린더 연도 (생략 시 이번 달)", example = "2025") @RequestParam(required = false) Integer year,
+            @Parameter(description = "캘린더 월 (1~12, 생략 시 이번 달)", example = "5") @RequestParam(required = false) Integer month,
             HttpServletRequest request
     ) {
-        return ResponseEntity.ok(archiveService.getArchiveDetail(user, archiveId, request));
+        YearMonth yearMonth = (year != null && month != null)
+                ? CalendarService.toYearMonth(year, month)
+                : YearMonth.now();
+        return ResponseEntity.ok(archiveHomeService.getArchiveHome(user, archiveId, yearMonth, request));
+    }
+
+    @GetMapping("/{archiveId}/stats")
+    @RateLimit(type = RateLimitType.AUTO, capacity = 300, refillTokens = 300, refillPeriodSeconds = 60)
+    @Operation(summary = "아카이브 실시간 통계 조회", description = "조회수, 좋아요 수, 좋아요 여부를 조회합니다. (상세 ETag에 포함되지 않는 값)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "조회 권한 없음 (비공개 또는 친구 공개)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"FORBIDDEN\", \"error\": \"AUTH FORBIDDEN\", \"message\": \"접근 권한이 없습니다.\"}")
+                    )),
+            @ApiResponse(responseCode = "404", description = "아카이브 없음",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"NOT_FOUND\", \"error\": \"ARCHIVE_NOT_FOUND\", \"message\": \"존재하지 않는 아카이브입니다.\"}")
+                    ))
+    })
+    public ResponseEntity<ArchiveDto.StatsResponse> getArchiveStats(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal user,
+            @Parameter(description = "조회할 아카이브 ID", example = "1") @PathVariable Long archiveId
+    ) {
+        return ResponseEntity.ok(archiveService.getArchiveStats(user, archiveId));
     }
 
     @PatchMapping("/{archiveId}")
@@ -115,6 +115,81 @@ public class ArchiveDto {
                     .isOwner(isOwner)
                     .build();
         }
+
+        // 상세(DetailResponse) + 통계(StatsResponse)를 한 응답으로 (아카이브 홈)
+        public static Response of(DetailResponse detail, StatsResponse stats) {
+            return Response.builder()
+                    .id(detail.getId())
+                    .title(detail.getTitle())
+                    .visibility(detail.getVisibility())
+                    .badge(detail.getBadge())
+                    .bannerUrl(detail.getBannerUrl())
+                    .viewCount(stats.getViewCount())
+                    .likeCount(stats.getLikeCount())
+                    .ownerNickname(detail.getOwnerNickname())
+                    .createdBy(detail.getCreatedBy())
+                    .lastModifiedBy(detail.getLastModifiedBy())
+                    .createdAt(detail.getCreatedAt())
+                    .isLiked(stats.getIsLiked())
+                    .isOwner(detail.getIsOwner())
+                    .build();
+        }
+    }
+
+    /**
+     * GET /archives/{id} 응답
+     * - 콘텐츠 버전(제목/공개범위/배너/뱃지) + 작성자 닉네임 + isOwner로만 결정 -> 상세 ETag가 모두 반영
+     * - 조회수/좋아요 수/좋아요 여부는 StatsResponse (/stats)
+     */
+    @Data @Builder @AllArgsConstructor
+    @Schema(name = "ArchiveDetailResponse", description = "아카이브 상세 응답 (실시간 통계는 /stats)")
+    public static class DetailResponse {
+        @Schema(description = "아카이브 아이디", example = "1")
+        private Long id;
+
+        @Schema(description = "아카이브 제목", example = "나의 첫 아카이브")
+        private String title;
+
+        @Schema(description = "공개 범위", example = "PUBLIC | RESTRICTED | PRIVATE")
+        private Visibility visibility;
+
+        @Schema(description = "아카이브 뱃지", example = "NEWBIE | FANS | SUPPORTER | STAN | MASTER")
+        private Badge badge;
+
+        @Schema(description = "배너 이미지 URL", example = "https://cdn.example.com/files/banner.jpg")
+        private String bannerUrl;
+
+        @Schema(description = "작성자 닉네임", example = "홍길동")
+        private String ownerNickname;
+
+        @Schema(description = "작성자 ID", example = "1")
+        private Long createdBy;
+
+        @Schema(description = "수정자 ID", example = "1")
+        private Long lastModifiedBy;
+
+        @Schema(description = "생성 시간", example = "KST Datetime")
+        private LocalDateTime createdAt;
+
+        @Builder.Default
+        @JsonProperty("isOwner")
+        @Schema(description = "내가 주인인지 여부", example = "true")
+        private Boolean isOwner = false;
+
+        public static DetailResponse of(Archive archive, String bannerUrl, boolean isOwner) {
+            return DetailResponse.builder()
+                    .id(archive.getId())
+                    .title(archive.getTitle())
+                    .visibility(archive.getVisibility())
+                    .badge(archive.getBadge())
+                    .bannerUrl(bannerUrl)
+                    .ownerNickname(archive.getUser().getNickname())
+                    .createdBy(archive.getCreatedBy())
+                    .lastModifiedBy(archive.getLastModifiedBy())
+                    .createdAt(archive.getCreatedAt())
+                    .isOwner(isOwner)
+                    .build();
+        }
     }
 
     @Data @NoArgsConstructor
@@ -210,4 +285,22 @@ public class ArchiveDto {
         @Schema(description = "실시간 좋아요 개수")
         private Long likeCount;
     }
-}
\ No newline at end of file
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    @Schema(name = "ArchiveStatsResponse", description = "아카이브 실시간 통계 (상세 ETag와 분리된 동적 값)")
+    public static class StatsResponse {
+        @Schema(description = "아카이브 ID", example = "1")
+        private Long archiveId;
+
+        @Schema(description = "조회수", example = "150")
+        private Long viewCount;
+
+        @Schema(description = "실시간 좋아요 수", example = "42")
+        private Long likeCount;
+
+        @Builder.Default
+        @JsonProperty("isLiked")
+        @Schema(description = "내가 좋아요 눌렀는지 여부", example = "true")
+        private Boolean isLiked = false;
+    }
+}
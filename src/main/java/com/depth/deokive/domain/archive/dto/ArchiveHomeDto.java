@@ -0,0 +1,47 @@
+package com.depth.deokive.domain.archive.dto;
+
+import com.depth.deokive.common.dto.PageDto;
+import com.depth.deokive.domain.calendar.dto.CalendarDto;
+import com.depth.deokive.domain.diary.dto.DiaryDto;
+import com.depth.deokive.domain.gallery.dto.GalleryDto;
+import com.depth.deokive.domain.post.dto.RepostDto;
+import com.depth.deokive.domain.ticket.dto.TicketDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class ArchiveHomeDto {
+
+    public enum Section {
+        GALLERY, TICKET, DIARY, REPOST, CALENDAR
+    }
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    @Schema(name = "ArchiveHomeResponse", description = "아카이브 홈 응답 (상세 + 섹션별 첫 페이지)")
+    public static class Response {
+        @Schema(description = "아카이브 상세")
+        private ArchiveDto.Response archive;
+
+        @Schema(description = "갤러리 첫 페이지 (시간 초과/실패 시 null)")
+        private PageDto.PageListResponse<GalleryDto.Response> galleries;
+
+        @Schema(description = "티켓 첫 페이지 (시간 초과/실패 시 null)")
+        private PageDto.PageListResponse<TicketDto.TicketPageResponse> tickets;
+
+        @Schema(description = "다이어리 첫 페이지 (시간 초과/실패 시 null)")
+        private PageDto.PageListResponse<DiaryDto.DiaryPageResponse> diaries;
+
+        @Schema(description = "리포스트 첫 번째 탭 첫 페이지 (시간 초과/실패 시 null)")
+        private RepostDto.RepostListResponse reposts;
+
+        @Schema(description = "월별 캘린더 (시간 초과/실패 시 null)")
+        private CalendarDto.MonthlyResponse calendar;
+
+        @Schema(description = "응답에서 빠진 섹션 -> 클라이언트가 개별 API로 다시 조회", example = "[\"REPOST\"]")
+        private List<Section> degradedSections;
+    }
+}
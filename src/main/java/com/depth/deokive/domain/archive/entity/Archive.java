@@ -19,6 +19,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import java.time.LocalDateTime;
+
 @Entity
 @SuperBuilder
 @NoArgsConstructor
@@ -28,6 +30,8 @@ import lombok.experimental.SuperBuilder;
         // 1. 마이/친구 아카이브용 (유저별 + 생성/수정일 정렬)
         @Index(name = "idx_archive_user_created", columnList = "user_id, created_at DESC, id DESC, visibility"),
         @Index(name = "idx_archive_user_modified", columnList = "user_id, last_modified_at DESC, id DESC, visibility"),
+        // 2. 삭제 대기(Tombstone) 아카이브 정리 Job 대상 조회용
+        @Index(name = "idx_archive_deleted_at", columnList = "deleted_at"),
 })
 public class Archive extends UserBaseEntity {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -68,6 +72,16 @@ public class Archive extends UserBaseEntity {
     @Column(name = "thumbnail_key")
     private String thumbnailKey;
 
+    // Tombstone: 값이 있으면 삭제된 아카이브 (조회 불가, 하위 데이터는 ArchivePurgeBatchConfig가 정리)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    // 상세 조회 ETag용 콘텐츠 버전 (제목/공개범위/배너/뱃지 변경 시 증가)
+    // SQL로만 증가 (ArchiveRepository.bumpContentVersion, 뱃지 스케줄러) -> Dirty Checking이 읽어 둔 값을 다시 쓰지 않음
+    @Builder.Default
+    @Column(name = "content_version", nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long contentVersion = 0L;
+
     public void update(ArchiveDto.UpdateRequest request) {
         if (request == null) return;
 
@@ -87,6 +101,14 @@ public class Archive extends UserBaseEntity {
         }
     }
 
+    public void markDeleted() {
+        if (this.deletedAt == null) this.deletedAt = LocalDateTime.now();
+    }
+
+    public boolean isDeleted() {
+        return this.deletedAt != null;
+    }
+
     // CascadeType.ALL 로 인해 연관된 북들도 함께 저장/삭제됨
     public void setBooks(DiaryBook diary, TicketBook ticket, GalleryBook gallery, RepostBook repost) {
         this.diaryBook = diary;
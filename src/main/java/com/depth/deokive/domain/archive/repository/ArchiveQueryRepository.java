@@ -50,6 +50,7 @@ public class ArchiveQueryRepository {
                     .from(archive)
                     .where(
                             archive.user.id.eq(filterUserId),
+                            archive.deletedAt.isNull(), // Tombstone 제외 (전체 피드는 archive_stats 삭제로 제외됨)
                             inVisibilitiesForArchive(allowedVisibilities) // Archive 엔티티 조건 사용
                     )
                     .orderBy(getArchiveOrderSpecifiers(pageable)) // Archive 컬럼 기준 정렬
@@ -62,6 +63,7 @@ public class ArchiveQueryRepository {
                     .from(archive)
                     .where(
                             archive.user.id.eq(filterUserId),
+                            archive.deletedAt.isNull(), // Tombstone 제외 (전체 피드는 archive_stats 삭제로 제외됨)
                             inVisibilitiesForArchive(allowedVisibilities)
                     );
         } else {
@@ -1,15 +1,13 @@
 package com.depth.deokive.domain.archive.repository;
 
+import com.depth.deokive.common.dto.ContentVersion;
 import com.depth.deokive.domain.archive.entity.Archive;
-import com.depth.deokive.domain.archive.entity.enums.Badge;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 
 public interface ArchiveRepository extends JpaRepository<Archive, Long> {
@@ -17,54 +15,18 @@ public interface ArchiveRepository extends JpaRepository<Archive, Long> {
     @Query("SELECT a FROM Archive a JOIN FETCH a.user WHERE a.id = :id")
     Optional<Archive> findByIdWithUser(@Param("id") Long id);
 
-    // 1. 일반 핫스코어 업데이트 (최근 7일 이내)
-    // 수정: TIMESTAMPDIFF(HOUR, ...) -> TIMESTAMPDIFF(MINUTE, ...) / 60.0
-    @Modifying(clearAutomatically = true)
-    @Query(value = """
-        UPDATE archive_stats
-        SET hot_score = (
-            ( :w1 * LN(1 + like_count) + :w2 * LN(1 + view_count) )
-            * EXP(-:lambda * (TIMESTAMPDIFF(MINUTE, created_at, NOW()) / 60.0))
-        )
-        WHERE visibility = 'PUBLIC'
-          AND created_at > DATE_SUB(NOW(), INTERVAL 7 DAY)
-    """, nativeQuery = true)
-    int updateHotScoreStandard(
-            @Param("w1") double w1,
-            @Param("w2") double w2,
-            @Param("lambda") double lambda
-    );
-
-    // 2. 게이트키퍼 패널티 적용 (7일 ~ 7일+1시간)
-    @Modifying(clearAutomatically = true)
-    @Query(value = """
-        UPDATE archive_stats
-        SET hot_score = (
-            (
-                ( :w1 * LN(1 + like_count) + :w2 * LN(1 + view_count) )
-                * EXP(-:lambda * (TIMESTAMPDIFF(MINUTE, created_at, NOW()) / 60.0))
-            ) * 0.5
-        )
-        WHERE visibility = 'PUBLIC'
-          AND created_at BETWEEN DATE_SUB(NOW(), INTERVAL 169 HOUR) 
-                             AND DATE_SUB(NOW(), INTERVAL 168 HOUR)
-    """, nativeQuery = true)
-    int applyHotScorePenalty(
-            @Param("w1") double w1,
-            @Param("w2") double w2,
-            @Param("lambda") double lambda
-    );
+    // 상세 ETag / 접근 권한 확인용: 콘텐츠 버전 + 소유자 + 공개범위 (Tombstone 제외)
+    @Query("""
+        SELECT new com.depth.deokive.common.dto.ContentVersion(a.contentVersion, u.id, a.visibility, u.nickname)
+        FROM Archive a JOIN a.user u
+        WHERE a.id = :id AND a.deletedAt IS NULL
+    """)
+    Optional<ContentVersion> findContentVersionById(@Param("id") Long id);
 
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Archive a SET a.badge = :targetBadge " +
-            "WHERE FUNCTION('DATE', a.createdAt) <= FUNCTION('DATE', :cutOffDate) " +
-            "AND a.badge IN :targetBadges"
-    ) // 타겟보다 낮은 등급들만 골라서 업데이트 (일수만 비교)
-    int updateBadgesBulk(
-        @Param("targetBadge") Badge targetBadge,
-        @Param("cutOffDate") LocalDateTime cutOffDate,
-        @Param("targetBadges") List<Badge> targetBadges
-    );
+    // 콘텐츠 버전 증가: DB에서 원자적으로 +1 (뱃지 스케줄러와 동시에 커밋돼도 버전이 겹치지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE archive SET content_version = content_version + 1 WHERE id = :id", nativeQuery = true)
+    int bumpContentVersion(@Param("id") Long id);
 
     @Transactional
     @Modifying(clearAutomatically = true)
@@ -2,7 +2,6 @@ package com.depth.deokive.domain.archive.repository;
 
 import com.depth.deokive.common.enums.Visibility;
 import com.depth.deokive.domain.archive.entity.ArchiveStats;
-import com.depth.deokive.domain.archive.entity.enums.Badge;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,32 +9,13 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.List;
-
 public interface ArchiveStatsRepository extends JpaRepository<ArchiveStats, Long> {
 
-    // 1. 조회수 증가 (Atomic Update)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE ArchiveStats s SET s.viewCount = s.viewCount + :count WHERE s.id = :id")
-    void incrementViewCountForWriteBack(@Param("id") Long id, @Param("count") Long count);
-
     // 2. 반정규화 필드 동기화 (Visibility)
     @Modifying
     @Query("UPDATE ArchiveStats s SET s.visibility = :visibility WHERE s.id = :id")
     void syncVisibility(@Param("id") Long id, @Param("visibility") Visibility visibility);
 
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE ArchiveStats s SET s.badge = :targetBadge " +
-            "WHERE FUNCTION('DATE', s.createdAt) <= FUNCTION('DATE', :cutOffDate) " +
-            "AND s.badge IN :targetBadges") // 일수만 비교
-    int updateBadgesBulkInStats(
-            @Param("targetBadge") Badge targetBadge,
-            @Param("cutOffDate") LocalDateTime cutOffDate,
-            @Param("targetBadges") List<Badge> targetBadges
-    );
-
     // Scheduler Sync -> 좋아요 수 업데이트
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     @Modifying(clearAutomatically = true)
@@ -0,0 +1,45 @@
+package com.depth.deokive.domain.archive.service;
+
+import com.depth.deokive.domain.archive.dto.ArchiveHomeDto;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "archive.home")
+public class ArchiveHomeProperties {
+
+    /** 노드 전체에서 홈 섹션 조회가 동시에 잡을 수 있는 DB 커넥션 수 (요청 풀의 일부만 사용) */
+    private int maxConcurrentQueries = 3;
+
+    /** 섹션 기본 페이지 크기 */
+    private int size = 10;
+
+    /** 섹션 기본 시간 예산 (permit 대기 포함, 초과 시 해당 섹션만 제외) */
+    private Duration timeout = Duration.ofMillis(800);
+
+    /** 섹션별 덮어쓰기 */
+    private Map<ArchiveHomeDto.Section, SectionLimit> sections = new EnumMap<>(ArchiveHomeDto.Section.class);
+
+    @Getter
+    @Setter
+    public static class SectionLimit {
+        private Integer size;
+        private Duration timeout;
+    }
+
+    public int sizeOf(ArchiveHomeDto.Section section) {
+        SectionLimit limit = sections.get(section);
+        return (limit != null && limit.getSize() != null) ? limit.getSize() : size;
+    }
+
+    public Duration timeoutOf(ArchiveHomeDto.Section section) {
+        SectionLimit limit = sections.get(section);
+        return (limit != null && limit.getTimeout() != null) ? limit.getTimeout() : timeout;
+    }
+}
@@ -0,0 +1,187 @@
+package com.depth.deokive.domain.archive.service;
+
+import com.depth.deokive.common.dto.PageDto;
+import com.depth.deokive.domain.archive.dto.ArchiveDto;
+import com.depth.deokive.domain.archive.dto.ArchiveHomeDto;
+import com.depth.deokive.domain.archive.dto.ArchiveHomeDto.Section;
+import com.depth.deokive.domain.calendar.dto.CalendarDto;
+import com.depth.deokive.domain.calendar.service.CalendarService;
+import com.depth.deokive.domain.diary.service.DiaryService;
+import com.depth.deokive.domain.gallery.service.GalleryService;
+import com.depth.deokive.domain.post.dto.RepostDto;
+import com.depth.deokive.domain.post.service.RepostService;
+import com.depth.deokive.domain.ticket.service.TicketService;
+import com.depth.deokive.system.config.datasource.ReadYourWritesTracker;
+import com.depth.deokive.system.security.model.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 아카이브 홈 (상세 + 갤러리/티켓/다이어리/리포스트/캘린더 첫 페이지를 한 번에)
+ *
+ * [배경]
+ * - 아카이브 진입 시 클라이언트가 섹션별 API를 따로 호출 -> 매번 아카이브 조회 + ArchiveGuard 권한 검증 반복
+ *
+ * [흐름]
+ * 1. 요청 스레드에서 아카이브 상세/통계 조회 + 권한 검증 (한 번만, 실패하면 섹션 조회 없이 예외)
+ *    - 읽기 전용 경로만 사용 -> 쓰기 트랜잭션이 Read-Your-Writes 고정/마커를 남겨 섹션까지 Primary로 보내지 않음
+ * 2. 섹션 조회를 가상 스레드로 동시 실행 (섹션마다 readOnly 트랜잭션 -> Replica)
+ *    - 요청 스레드의 Read-Your-Writes 고정을 섹션 스레드로 전파 -> 방금 쓴 사용자는 섹션도 Primary에서 조회
+ * 3. 섹션별 시간 예산 안에 끝난 것만 응답에 담고, 나머지는 degradedSections로 알림
+ *
+ * [커넥션 보호]
+ * - 가상 스레드는 수가 제한되지 않으므로 노드 전체 Semaphore로 동시 DB 조회 수를 제한 (요청 풀 일부만 사용)
+ * - permit 대기도 섹션 예산에 포함 -> 혼잡 시 기다리지 않고 해당 섹션만 제외
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@EnableConfigurationProperties(ArchiveHomeProperties.class)
+public class ArchiveHomeService {
+
+    private final ArchiveService archiveService;
+    private final GalleryService galleryService;
+    private final TicketService ticketService;
+    private final DiaryService diaryService;
+    private final RepostService repostService;
+    private final CalendarService calendarService;
+    private final ArchiveHomeProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<ReadYourWritesTracker> readYourWritesTracker; // Replica 미사용 시 없음
+
+    private ExecutorService executor;
+    private Semaphore queryPermits;
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        queryPermits = new Semaphore(properties.getMaxConcurrentQueries(), true);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (executor != null) executor.shutdownNow();
+    }
+
+    public ArchiveHomeDto.Response getArchiveHome(
+            UserPrincipal userPrincipal, Long archiveId, YearMonth yearMonth, HttpServletRequest request) {
+        // SEQ 1. 상세 + 권한 검증 (조회수 집계 포함) + 통계
+        ArchiveDto.DetailResponse detail = archiveService.getArchiveContent(userPrincipal, archiveId, request);
+        ArchiveDto.StatsResponse stats = archiveService.getArchiveStats(userPrincipal, archiveId);
+        ArchiveDto.Response archive = ArchiveDto.Response.of(detail, stats);
+
+        // SEQ 2. 섹션 Fan-out
+        long startedAt = System.nanoTime();
+        Map<Section, Future<?>> futures = new EnumMap<>(Section.class);
+        futures.put(Section.GALLERY, submit(Section.GALLERY, startedAt, () -> galleryService.getGallerySection(
+                archiveId, pageOf(Section.GALLERY, "createdAt"))));
+        futures.put(Section.TICKET, submit(Section.TICKET, startedAt, () -> ticketService.getTicketSection(
+                archiveId, pageOf(Section.TICKET, "createdAt"))));
+        futures.put(Section.DIARY, submit(Section.DIARY, startedAt, () -> diaryService.getDiarySection(
+                userPrincipal, archiveId, pageOf(Section.DIARY, "recordedAt"))));
+        futures.put(Section.REPOST, submit(Section.REPOST, startedAt, () -> repostService.getRepostSection(
+                archiveId, pageOf(Section.REPOST, "createdAt"))));
+        futures.put(Section.CALENDAR, submit(Section.CALENDAR, startedAt,
+                () -> calendarService.getMonthlyCalendarSection(archiveId, yearMonth)));
+
+        // SEQ 3. 섹션별 예산 안에서 수집 (모두 같은 시점에 시작 -> 남은 시간만 대기)
+        List<Section> degraded = new ArrayList<>();
+        Map<Section, Object> results = new EnumMap<>(Section.class);
+        futures.forEach((section, future) -> {
+            Object result = await(section, future, startedAt, archiveId);
+            if (result == null) degraded.add(section);
+            else results.put(section, result);
+        });
+
+        // SEQ 4. Return
+        return ArchiveHomeDto.Response.builder()
+                .archive(archive)
+                .galleries(cast(results.get(Section.GALLERY)))
+                .tickets(cast(results.get(Section.TICKET)))
+                .diaries(cast(results.get(Section.DIARY)))
+                .reposts((RepostDto.RepostListResponse) results.get(Section.REPOST))
+                .calendar((CalendarDto.MonthlyResponse) results.get(Section.CALENDAR))
+                .degradedSections(degraded)
+                .build();
+    }
+
+    // --- Helper Methods ---
+
+    private <T> Future<T> submit(Section section, long startedAt, Supplier<T> query) {
+        Callable<T> task = () -> {
+            // 남은 예산만큼만 permit 대기 -> 못 받으면 커넥션을 잡지 않고 포기
+            long remaining = deadlineOf(section, startedAt) - System.nanoTime();
+            if (!queryPermits.tryAcquire(Math.max(remaining, 0), TimeUnit.NANOSECONDS)) {
+                throw new TimeoutException("DB permit not acquired");
+            }
+            try {
+                return query.get();
+            } finally {
+                queryPermits.release();
+            }
+        };
+        ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+        return executor.submit(tracker == null ? task : tracker.propagate(task));
+    }
+
+    private Object await(Section section, Future<?> future, long startedAt, Long archiveId) {
+        String outcome = "ok";
+        try {
+            long remaining = deadlineOf(section, startedAt) - System.nanoTime();
+            return future.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            outcome = "timeout";
+            future.cancel(true);
+            log.warn("⚠️ [ArchiveHome] Section timed out: archiveId={}, section={}", archiveId, section);
+        } catch (ExecutionException e) {
+            outcome = (e.getCause() instanceof TimeoutException) ? "rejected" : "error";
+            log.warn("⚠️ [ArchiveHome] Section failed: archiveId={}, section={}, error={}",
+                    archiveId, section, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            outcome = "interrupted";
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        } finally {
+            meterRegistry.counter("archive.home.section", "section", section.name(), "outcome", outcome).increment();
+        }
+        return null;
+    }
+
+    private long deadlineOf(Section section, long startedAt) {
+        return startedAt + properties.timeoutOf(section).toNanos();
+    }
+
+    private Pageable pageOf(Section section, String sort) {
+        return PageRequest.of(0, properties.sizeOf(section), Sort.Direction.DESC, sort);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> PageDto.PageListResponse<T> cast(Object result) {
+        return (PageDto.PageListResponse<T>) result;
+    }
+}
@@ -0,0 +1,171 @@
+package com.depth.deokive.domain.archive.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 삭제된(Tombstone) 아카이브의 하위 데이터 정리
+ *
+ * [배경]
+ * - 기존: 요청 트랜잭션 안에서 Bulk DELETE 십여 개 -> 큰 아카이브는 수 초간 Row Lock + 커넥션 점유
+ * - 변경: 요청은 deleted_at만 기록 (즉시 조회 불가), 실제 삭제는 ArchivePurgeBatchConfig(Job)가 수행
+ *
+ * [Chunk 삭제]
+ * - 테이블마다 "ID 조회(LIMIT) -> ID IN 삭제"를 반복 (MySQL은 JOIN DELETE에 LIMIT 불가)
+ * - 호출 1회 = 트랜잭션 1개 -> Lock 보유 시간이 chunk 크기로 제한됨
+ * - 모든 쿼리는 멱등 -> 중간 실패 후 재실행해도 남은 행만 삭제
+ *
+ * [순서]
+ * - FK 제약조건을 고려하여 자식 -> 부모 순서 (PurgeTarget 선언 순서 = Step 순서)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArchivePurgeService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum PurgeTarget {
+        // 1️⃣ Event Domain
+        EVENT_HASHTAG_MAP("event_hashtag_map", """
+                SELECT ehm.id FROM event_hashtag_map ehm
+                JOIN event e ON ehm.event_id = e.id
+                WHERE e.archive_id = ? LIMIT ?
+                """, "DELETE FROM event_hashtag_map WHERE id IN (:ids)"),
+        SPORT_RECORD("sport_record", """
+                SELECT sr.event_id FROM sport_record sr
+                JOIN event e ON sr.event_id = e.id
+                WHERE e.archive_id = ? LIMIT ?
+                """, "DELETE FROM sport_record WHERE event_id IN (:ids)"),
+        EVENT("event",
+                "SELECT id FROM event WHERE archive_id = ? LIMIT ?",
+                "DELETE FROM event WHERE id IN (:ids)"),
+
+        // 2️⃣ Diary Domain (BookId == ArchiveId)
+        DIARY_FILE_MAP("diary_file_map", """
+                SELECT dfm.id FROM diary_file_map dfm
+                JOIN diary d ON dfm.diary_id = d.id
+                WHERE d.diary_book_id = ? LIMIT ?
+                """, "DELETE FROM diary_file_map WHERE id IN (:ids)"),
+        DIARY("diary",
+                "SELECT id FROM diary WHERE diary_book_id = ? LIMIT ?",
+                "DELETE FROM diary WHERE id IN (:ids)"),
+
+        // 3️⃣ Ticket Domain
+        TICKET("ticket",
+                "SELECT id FROM ticket WHERE ticket_book_id = ? LIMIT ?",
+                "DELETE FROM ticket WHERE id IN (:ids)"),
+
+        // 4️⃣ Gallery Domain (archive_id 역정규화 컬럼)
+        GALLERY("gallery",
+                "SELECT id FROM gallery WHERE archive_id = ? LIMIT ?",
+                "DELETE FROM gallery WHERE id IN (:ids)"),
+
+        // 5️⃣ Repost Domain
+        REPOST("repost", """
+                SELECT r.id FROM repost r
+                JOIN repost_tab rt ON r.repost_tab_id = rt.id
+                WHERE rt.repost_book_id = ? LIMIT ?
+                """, "DELETE FROM repost WHERE id IN (:ids)"),
+        REPOST_TAB("repost_tab",
+                "SELECT id FROM repost_tab WHERE repost_book_id = ? LIMIT ?",
+                "DELETE FROM repost_tab WHERE id IN (:ids)"),
+
+        // 6️⃣ Sticker Domain
+        STICKER("sticker",
+                "SELECT id FROM sticker WHERE archive_id = ? LIMIT ?",
+                "DELETE FROM sticker WHERE id IN (:ids)"),
+
+        // 7️⃣ 좋아요
+        ARCHIVE_LIKE("archive_like",
+                "SELECT id FROM archive_like WHERE archive_id = ? LIMIT ?",
+                "DELETE FROM archive_like WHERE id IN (:ids)");
+
+        private final String table;
+        private final String selectIdsSql;
+        private final String deleteByIdsSql;
+    }
+
+    /**
+     * 삭제 대기 중인 아카이브 ID (오래된 순)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findTombstonedIds(int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM archive WHERE deleted_at IS NOT NULL ORDER BY deleted_at, id LIMIT ?",
+                Long.class, limit);
+    }
+
+    /**
+     * 대상 테이블에서 최대 chunkSize 행 삭제
+     * @return 삭제한 행 수 (chunkSize 미만이면 해당 테이블 정리 완료)
+     */
+    @Transactional
+    public int purgeChunk(PurgeTarget target, Long archiveId, int chunkSize) {
+        List<Long> ids = selectChunkIds(target.getSelectIdsSql(), archiveId, chunkSize);
+        if (ids.isEmpty()) return 0;
+
+        return applyToIds(ids, List.of(target.getDeleteByIdsSql()));
+    }
+
+    /**
+     * Chunk 1단계: 소유자 기준 ID 조회 (selectIdsSql 파라미터 = ownerId, limit)
+     * - UserPurgeService도 같은 Chunk 방식으로 사용 (호출자 트랜잭션에 참여)
+     */
+    public List<Long> selectChunkIds(String selectIdsSql, Long ownerId, int chunkSize) {
+        return jdbcTemplate.queryForList(selectIdsSql, Long.class, ownerId, chunkSize);
+    }
+
+    /**
+     * Chunk 2단계: 조회한 ID로 쿼리를 순서대로 실행 (:ids)
+     * @return 마지막 쿼리의 처리 행 수
+     */
+    public int applyToIds(List<Long> ids, List<String> sqls) {
+        Map<String, List<Long>> params = Map.of("ids", ids);
+        int affected = 0;
+        for (String sql : sqls) {
+            affected = namedParameterJdbcTemplate.update(sql, params);
+        }
+        return affected;
+    }
+
+    /**
+     * 하위 데이터 정리 후 Root 삭제 (Book 4종 + 통계 + 아카이브)
+     * - Tombstone 상태인 경우에만 삭제 (복구/오조작 방어)
+     * - 아카이브 행 Lock 후 전 테이블 마지막 Sweep -> 앞선 Step 이후 늦게 들어온 행(비동기 좋아요 반영 등) 제거
+     */
+    @Transactional
+    public boolean purgeRoot(Long archiveId, int chunkSize) {
+        Boolean tombstoned = jdbcTemplate.query(
+                "SELECT deleted_at IS NOT NULL FROM archive WHERE id = ? FOR UPDATE",
+                rs -> rs.next() ? rs.getBoolean(1) : null, archiveId);
+        if (!Boolean.TRUE.equals(tombstoned)) return false;
+
+        for (PurgeTarget target : PurgeTarget.values()) {
+            while (purgeChunk(target, archiveId, chunkSize) >= chunkSize) {
+                log.info("[Archive Purge] Late rows swept: table={}, archiveId={}", target.getTable(), archiveId);
+            }
+        }
+
+        jdbcTemplate.update("DELETE FROM diary_book WHERE archive_id = ?", archiveId);
+        jdbcTemplate.update("DELETE FROM ticket_book WHERE archive_id = ?", archiveId);
+        jdbcTemplate.update("DELETE FROM gallery_book WHERE archive_id = ?", archiveId);
+        jdbcTemplate.update("DELETE FROM repost_book WHERE archive_id = ?", archiveId);
+        jdbcTemplate.update("DELETE FROM archive_stats WHERE archive_id = ?", archiveId);
+        jdbcTemplate.update("DELETE FROM archive WHERE id = ?", archiveId);
+
+        log.info("🟢 [Archive Purge] Root deleted: archiveId={}", archiveId);
+        return true;
+    }
+}
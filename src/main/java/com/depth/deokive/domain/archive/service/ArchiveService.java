@@ -1,8 +1,12 @@
 package com.depth.deokive.domain.archive.service;
 
+import com.depth.deokive.common.dto.ContentVersion;
 import com.depth.deokive.common.dto.PageDto;
 import com.depth.deokive.common.enums.ViewLikeDomain;
+import com.depth.deokive.common.event.ContentChangedEvent;
 import com.depth.deokive.common.service.ArchiveGuard;
+import com.depth.deokive.common.service.ContentVersionCache;
+import com.depth.deokive.common.service.FeedCache;
 import com.depth.deokive.common.service.LikeRedisService;
 import com.depth.deokive.common.service.RedisViewService;
 import com.depth.deokive.common.util.ClientUtils;
@@ -14,35 +18,30 @@ import com.depth.deokive.domain.user.repository.UserRepository;
 import com.depth.deokive.system.config.aop.ExecutionTime;
 import com.depth.deokive.system.exception.model.ErrorCode;
 import com.depth.deokive.system.exception.model.RestException;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.depth.deokive.domain.archive.entity.*;
 import com.depth.deokive.domain.archive.entity.enums.Badge;
 import com.depth.deokive.common.enums.Visibility;
 import com.depth.deokive.domain.archive.repository.*;
 import com.depth.deokive.domain.diary.entity.DiaryBook;
-import com.depth.deokive.domain.diary.repository.DiaryFileMapRepository;
-import com.depth.deokive.domain.diary.repository.DiaryRepository;
-import com.depth.deokive.domain.event.repository.EventHashtagMapRepository;
-import com.depth.deokive.domain.event.repository.EventRepository;
-import com.depth.deokive.domain.event.repository.SportRecordRepository;
 import com.depth.deokive.domain.file.entity.File;
 import com.depth.deokive.domain.gallery.entity.GalleryBook;
-import com.depth.deokive.domain.gallery.repository.GalleryRepository;
 import com.depth.deokive.domain.post.entity.RepostBook;
-import com.depth.deokive.domain.post.repository.RepostRepository;
-import com.depth.deokive.domain.post.repository.RepostTabRepository;
-import com.depth.deokive.domain.sticker.repository.StickerRepository;
 import com.depth.deokive.domain.ticket.entity.TicketBook;
-import com.depth.deokive.domain.ticket.repository.TicketRepository;
 import com.depth.deokive.domain.user.entity.User;
 import com.depth.deokive.system.security.model.UserPrincipal;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -60,21 +59,18 @@ public class ArchiveService {
     private final ArchiveStatsRepository archiveStatsRepository;
     private final ArchiveQueryRepository archiveQueryRepository;
     private final LikeRedisService likeRedisService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContentVersionCache contentVersionCache;
+    private final FeedCache feedCache;
+    private final PlatformTransactionManager transactionManager;
 
-    // --- Sub-Domain Content Repositories (For Bulk Delete) ---
-    private final EventRepository eventRepository;
-    private final EventHashtagMapRepository eventHashtagMapRepository;
-    private final SportRecordRepository sportRecordRepository;
+    private TransactionTemplate readOnlyTransaction;
 
-    private final DiaryRepository diaryRepository;
-    private final DiaryFileMapRepository diaryFileMapRepository;
-
-    private final TicketRepository ticketRepository;
-    private final GalleryRepository galleryRepository;
-
-    private final RepostRepository repostRepository;
-    private final RepostTabRepository repostTabRepository;
-    private final StickerRepository stickerRepository;
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
 
     @Transactional
     public ArchiveDto.Response createArchive(UserPrincipal userPrincipal, ArchiveDto.CreateRequest request) {
@@ -115,6 +111,38 @@ public class ArchiveService {
         return ArchiveDto.Response.of(archive, bannerUrl, 0, 0, false, true);
     }
 
+    /**
+     * 아카이브 상세 (GET /archives/{id}, ETag 대상)
+     * - 상세 ETag가 반영하는 값만 반환 (조회수/좋아요는 getArchiveStats)
+     */
+    @Transactional(readOnly = true)
+    public ArchiveDto.DetailResponse getArchiveContent(
+            UserPrincipal userPrincipal,
+            Long archiveId,
+            HttpServletRequest request
+    ) {
+        // SEQ 1. Archive + User 조회
+        Archive archive = archiveRepository.findByIdWithUser(archiveId)
+                .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
+
+        // SEQ 2. 권한 체크
+        archiveGuard.checkArchiveReadPermission(archive, userPrincipal);
+
+        // SEQ 3. 조회수 증가 (Redis Write Back)
+        increaseViewCount(userPrincipal, archiveId, request);
+
+        // SEQ 4. Response
+        Long viewerId = (userPrincipal != null) ? userPrincipal.getUserId() : null;
+        String bannerUrl = (archive.getBannerFile() != null)
+                ? FileUrlUtils.buildCdnUrl(archive.getBannerFile().getS3ObjectKey())
+                : null;
+
+        return ArchiveDto.DetailResponse.of(archive, bannerUrl, archive.getUser().getId().equals(viewerId));
+    }
+
+    /**
+     * 아카이브 상세 + 통계 (아카이브 홈 등 한 응답에 모두 담는 경우, ETag 없음)
+     */
     @Transactional // viewCount 바꿔서 readOnly가 아닌거임
     public ArchiveDto.Response getArchiveDetail(
             UserPrincipal userPrincipal,
@@ -171,6 +199,57 @@ public class ArchiveService {
         );
     }
 
+    /**
+     * 상세 ETag (콘텐츠 버전 캐시만 조회 -> Hit이면 DB 조회 없음)
+     * - 캐시된 소유자/공개범위로 읽기 권한을 먼저 확인 (304도 권한이 있는 경우에만)
+     * - 응답(DetailResponse)의 모든 값을 반영: 콘텐츠 버전 + 닉네임 + isOwner(요청자마다 다름)
+     */
+    public String getArchiveEtag(UserPrincipal userPrincipal, Long archiveId) {
+        ContentVersion version = getReadableContentVersion(userPrincipal, archiveId);
+
+        Long viewerId = (userPrincipal != null) ? userPrincipal.getUserId() : null;
+        boolean isOwner = version.ownerId().equals(viewerId);
+
+        // 닉네임은 아카이브 수정 없이도 바뀌므로 해시로 반영 (캐시 TTL 이내 지연)
+        return "\"a" + archiveId + "." + version.version()
+                + "." + Integer.toHexString(Objects.hashCode(version.ownerNickname()))
+                + (isOwner ? ".o" : "") + "\"";
+    }
+
+    @Transactional(readOnly = true)
+    public ArchiveDto.StatsResponse getArchiveStats(UserPrincipal userPrincipal, Long archiveId) {
+        // SEQ 1. 권한 체크 (콘텐츠 버전 캐시의 소유자/공개범위 사용)
+        getReadableContentVersion(userPrincipal, archiveId);
+
+        // SEQ 2. 통계 조회
+        ArchiveStats stats = archiveStatsRepository.findById(archiveId)
+                .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
+
+        // SEQ 3. 실시간 좋아요 수 / 좋아요 여부 조회
+        Long realTimeLikeCount = likeRedisService.getCount(
+                ViewLikeDomain.ARCHIVE,
+                archiveId,
+                () -> likeRepository.findAllUserIdsByArchiveId(archiveId),
+                () -> {}
+        );
+
+        Long viewerId = (userPrincipal != null) ? userPrincipal.getUserId() : null;
+        boolean isLiked = (viewerId != null) && likeRedisService.isLiked(
+                ViewLikeDomain.ARCHIVE,
+                archiveId,
+                viewerId,
+                () -> likeRepository.findAllUserIdsByArchiveId(archiveId),
+                () -> {}
+        );
+
+        return ArchiveDto.StatsResponse.builder()
+                .archiveId(archiveId)
+                .viewCount(stats.getViewCount())
+                .likeCount(realTimeLikeCount)
+                .isLiked(isLiked)
+                .build();
+    }
+
     @Transactional
     public ArchiveDto.Response updateArchive(UserPrincipal user, Long archiveId, ArchiveDto.UpdateRequest request) {
         // SEQ 1. Archive 조회
@@ -178,20 +257,24 @@ public class ArchiveService {
                 .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
 
         // SEQ 2. 소유자 검증
-        archiveGuard.checkOwner(archive.getUser().getId(), user);
+        archiveGuard.checkOwner(archive, user);
 
         // SEQ 3. 기본 정보 수정
         archive.update(request); // 여기서 bannerUrl 은 처리하지 않음
 
-        // SEQ 4. 배너 수정
+        // SEQ 4. 배너 수정 + 콘텐츠 버전 증가
         String bannerUrl = updateBannerImage(archive, request.getBannerImageId(), user.getUserId());
+        archiveRepository.bumpContentVersion(archiveId);
 
         // SEQ 5. 공개 범위(Visibility) 변경 시 Stats 테이블 동기화
         if (request.getVisibility() != null) {
             archiveStatsRepository.syncVisibility(archive.getId(), request.getVisibility());
         }
 
-        // SEQ 6. 리턴용 조회
+        // SEQ 6. 콘텐츠 버전 / 공유 페이지 캐시 무효화 (커밋 후)
+        eventPublisher.publishEvent(ContentChangedEvent.archive(archiveId));
+
+        // SEQ 7. 리턴용 조회
         ArchiveStats stats = archiveStatsRepository.findById(archiveId)
                 .orElse(ArchiveStats.create(archive));
 
@@ -222,53 +305,46 @@ public class ArchiveService {
                 .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
 
         // SEQ 2. 소유자 검증
-        archiveGuard.checkOwner(archive.getUser().getId(), user);
-
-        // SEQ 3. 명시적 Bulk & Cascade 삭제
-        // JPA Cascade는 N+1 문제가 발생하므로, JPQL Bulk Delete로 성능 최적화
-        // FK 제약조건을 고려하여 자식 -> 부모 순서로 삭제
-        log.info("➡️ Archive Delete Start deleting contents of archiveId: {}", archiveId);
-
-        // Step 1. Sub Domain Contents 삭제
-        // 1️⃣ Event Domain Cleanup
-        eventHashtagMapRepository.deleteByArchiveId(archiveId); // Level 3
-        sportRecordRepository.deleteByArchiveId(archiveId);     // Level 3
-        eventRepository.deleteByArchiveId(archiveId);           // Level 2
+        archiveGuard.checkOwner(archive, user);
 
-        // 2️⃣ Diary Domain Cleanup (BookId == ArchiveId)
-        diaryFileMapRepository.deleteFileMapsByBookId(archiveId); // Level 3
-        diaryRepository.deleteByBookId(archiveId);                // Level 2
+        // SEQ 3. Tombstone 기록 -> 이 시점부터 조회/수정 불가 (ArchiveGuard가 ARCHIVE_NOT_FOUND 처리)
+        // 하위 데이터(이벤트/다이어리/티켓/갤러리/리포스트/스티커/좋아요)는 ArchivePurgeBatchConfig Job이 Chunk 단위로 정리
+        archive.markDeleted();
 
-        // 3️⃣. Ticket Domain Cleanup
-        ticketRepository.deleteByBookId(archiveId);
-
-        // 4️⃣. Gallery Domain Cleanup
-        galleryRepository.deleteByArchiveId(archiveId); // Gallery는 archiveId 컬럼이 역정규화되어 있어 Book 조인 없이 바로 삭제 가능
-
-        // 5️⃣ Repost Domain Cleanup
-        repostRepository.deleteByBookId(archiveId);     // Level 3 (Repost)
-        repostTabRepository.deleteByBookId(archiveId);  // Level 2 (Tab)
-
-        // 6️⃣ Sticker Domain Cleanup
-        stickerRepository.deleteByArchiveId(archiveId); // Level 2
-
-        // Step 2. 명시적 삭제 - 통계 데이터
-        likeRepository.deleteByArchiveId(archiveId);
+        // SEQ 4. 피드 노출 즉시 제거 -> 전체 피드는 archive_stats 기반이므로 통계 행만 먼저 삭제 (PK 1건)
         archiveStatsRepository.deleteById(archiveId);
 
-        // Step 3. Root 삭제
-        // Cascade -> Sub Domain 삭제: DiaryBook, GalleryBook, TicketBook, RepostBook, Banner
-        archiveRepository.delete(archive);
-
-        // Step 4. Redis 캐시 삭제
+        // SEQ 5. Redis 캐시 삭제
         likeRedisService.deleteLikeData(ViewLikeDomain.ARCHIVE, archiveId);
 
-        log.info("🟢 Archive Delete Completed.");
+        // SEQ 6. 콘텐츠 버전 / 공유 페이지 캐시 무효화 (커밋 후)
+        eventPublisher.publishEvent(ContentChangedEvent.archive(archiveId));
+
+        log.info("🟢 Archive marked as deleted: archiveId={}", archiveId);
     }
 
+    /**
+     * 전역 피드
+     * - 기본 크기의 첫 페이지는 FeedCache (뷰어와 무관한 PUBLIC 결과, Hit이면 DB 조회 없음)
+     */
     @ExecutionTime
-    @Transactional(readOnly = true)
     public PageDto.PageListResponse<ArchiveDto.ArchivePageResponse> getGlobalFeed(ArchiveDto.ArchivePageRequest request) {
+        if (!FeedCache.isCacheable(request.getPage(), request.getSize())) {
+            return readOnlyTransaction.execute(status -> searchGlobalFeed(request));
+        }
+        return feedCache.get(feedKeyOf(request), () -> readOnlyTransaction.execute(status -> searchGlobalFeed(request)));
+    }
+
+    /**
+     * 전역 피드 첫 페이지 다시 적재 (웜업)
+     */
+    public void refreshGlobalFeedFirstPage(String sort) {
+        ArchiveDto.ArchivePageRequest request = new ArchiveDto.ArchivePageRequest();
+        request.setSort(sort);
+        feedCache.refresh(feedKeyOf(request), () -> readOnlyTransaction.execute(status -> searchGlobalFeed(request)));
+    }
+
+    private PageDto.PageListResponse<ArchiveDto.ArchivePageResponse> searchGlobalFeed(ArchiveDto.ArchivePageRequest request) {
         // 무조건 PUBLIC & 전체 유저 대상
         Page<ArchiveDto.ArchivePageResponse> page = archiveQueryRepository.searchArchiveFeed(
                 null, // filterUserId
@@ -283,6 +359,10 @@ public class ArchiveService {
         return PageDto.PageListResponse.of(title, page);
     }
 
+    private static String feedKeyOf(ArchiveDto.ArchivePageRequest request) {
+        return FeedCache.keyOf(ViewLikeDomain.ARCHIVE, request.getSort() + ":" + request.getDirection().toUpperCase());
+    }
+
     @ExecutionTime
     @Transactional(readOnly = true)
     public PageDto.PageListResponse<ArchiveDto.ArchivePageResponse> getUserArchives(
@@ -399,7 +479,18 @@ public class ArchiveService {
         }
     }
 
-    private void increaseViewCount(UserPrincipal userPrincipal, Long archiveId, HttpServletRequest request) {
+    // 캐시된 콘텐츠 버전 조회 + 읽기 권한 체크 (Tombstone은 조회 단계에서 ARCHIVE_NOT_FOUND)
+    private ContentVersion getReadableContentVersion(UserPrincipal userPrincipal, Long archiveId) {
+        ContentVersion version = contentVersionCache.get(ViewLikeDomain.ARCHIVE, archiveId,
+                () -> archiveRepository.findContentVersionById(archiveId)
+                        .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND)));
+
+        archiveGuard.checkVisibility(version.ownerId(), userPrincipal, version.visibility());
+        return version;
+    }
+
+    // 304 응답(본문 조회 생략)에서도 조회수는 집계하므로 public
+    public void increaseViewCount(UserPrincipal userPrincipal, Long archiveId, HttpServletRequest request) {
         if (request == null) return;
 
         Long userId = (userPrincipal != null) ? userPrincipal.getUserId() : null;
@@ -110,7 +110,7 @@ public class AuthService {
 
         tokenService.clearTokensByAtkWithValidation(accessToken, refreshToken);
 
-        // Soft Delete 처리
+        // Soft Delete 처리 (withdrawn_at 기록 -> 작성 콘텐츠는 유예 기간 후 UserPurgeBatchConfig가 정리)
         foundUser.softDelete(AuthDto.SoftDeleteDto.of(foundUser));
 
         // 연관된 소셜 계정은 Hard Delete (Soft Delete는 Cascade 기대하기 힘드므로, Bulk 연산으로 명시적으로 한번에 지운다.)
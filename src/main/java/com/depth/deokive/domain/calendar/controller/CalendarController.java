@@ -0,0 +1,57 @@
+package com.depth.deokive.domain.calendar.controller;
+
+import com.depth.deokive.domain.calendar.dto.CalendarDto;
+import com.depth.deokive.domain.calendar.service.CalendarService;
+import com.depth.deokive.system.exception.dto.ErrorResponse;
+import com.depth.deokive.system.ratelimit.annotation.RateLimit;
+import com.depth.deokive.system.ratelimit.annotation.RateLimitType;
+import com.depth.deokive.system.security.model.UserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/calendar")
+@Tag(name = "Calendar", description = "월별 캘린더 통합 조회 API")
+public class CalendarController {
+
+    private final CalendarService calendarService;
+
+    @GetMapping("/monthly/{archiveId}")
+    @RateLimit(type = RateLimitType.AUTO, capacity = 60, refillTokens = 60, refillPeriodSeconds = 60)
+    @Operation(summary = "월별 캘린더 조회", description = "특정 연/월의 일정과 스티커를 한 번에 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "월별 캘린더 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 연/월",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"BAD_REQUEST\", \"error\": \"GLOBAL_BAD_REQUEST\", \"message\": \"잘못된 요청입니다.\"}"))),
+            @ApiResponse(responseCode = "403", description = "조회 권한 없음 (비공개 캘린더)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"FORBIDDEN\", \"error\": \"AUTH_FORBIDDEN\", \"message\": \"접근 권한이 없습니다.\"}"))),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 아카이브입니다.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"NOT_FOUND\", \"error\": \"ARCHIVE_NOT_FOUND\", \"message\": \"존재하지 않는 아카이브입니다.\"}")))
+    })
+    public ResponseEntity<CalendarDto.MonthlyResponse> getMonthlyCalendar(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal user,
+            @Parameter(description = "아카이브 ID", example = "1") @PathVariable Long archiveId,
+            @Parameter(description = "조회할 연도", example = "2025") @RequestParam int year,
+            @Parameter(description = "조회할 월 (1~12)", example = "5") @RequestParam int month
+    ) {
+        return ResponseEntity.ok(calendarService.getMonthlyCalendar(user, archiveId, year, month));
+    }
+}
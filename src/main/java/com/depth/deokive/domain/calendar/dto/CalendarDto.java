@@ -0,0 +1,33 @@
+package com.depth.deokive.domain.calendar.dto;
+
+import com.depth.deokive.domain.event.dto.EventDto;
+import com.depth.deokive.domain.sticker.dto.StickerDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class CalendarDto {
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    @Schema(name = "CalendarMonthlyResponse", description = "월별 캘린더 응답 (일정 + 스티커)")
+    public static class MonthlyResponse {
+        @Schema(description = "아카이브 ID", example = "1")
+        private Long archiveId;
+
+        @Schema(description = "연도", example = "2025")
+        private int year;
+
+        @Schema(description = "월 (1~12)", example = "5")
+        private int month;
+
+        @Schema(description = "해당 월에 걸친 일정 목록 (시작일 오름차순)")
+        private List<EventDto.Response> events;
+
+        @Schema(description = "해당 월의 스티커 목록 (날짜 오름차순)")
+        private List<StickerDto.Response> stickers;
+    }
+}
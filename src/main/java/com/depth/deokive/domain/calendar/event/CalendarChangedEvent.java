@@ -0,0 +1,39 @@
+package com.depth.deokive.domain.calendar.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 월별 캘린더 Read Model 변경 이벤트 (커밋 후 해당 월만 무효화)
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class CalendarChangedEvent {
+    private final Long archiveId;
+    private final Set<YearMonth> months;
+
+    /**
+     * 일정이 걸친 모든 월
+     * - 월별 일정 조회 조건(startDate <= 다음 달 1일 00:00)상 1일 00:00에 시작하는 일정은 전월 목록에도 포함됨
+     */
+    public static Set<YearMonth> monthsOf(LocalDateTime startDate, LocalDateTime endDate) {
+        YearMonth first = YearMonth.from(startDate);
+        if (startDate.equals(first.atDay(1).atStartOfDay())) first = first.minusMonths(1);
+
+        Set<YearMonth> months = new TreeSet<>();
+        for (YearMonth ym = first; !ym.isAfter(YearMonth.from(endDate)); ym = ym.plusMonths(1)) {
+            months.add(ym);
+        }
+        return months;
+    }
+
+    public static Set<YearMonth> monthsOf(LocalDate date) {
+        return Set.of(YearMonth.from(date));
+    }
+}
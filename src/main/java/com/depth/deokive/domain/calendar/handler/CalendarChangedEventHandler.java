@@ -0,0 +1,28 @@
+package com.depth.deokive.domain.calendar.handler;
+
+import com.depth.deokive.domain.calendar.event.CalendarChangedEvent;
+import com.depth.deokive.domain.calendar.service.CalendarCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CalendarChangedEventHandler {
+
+    private final CalendarCache calendarCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCalendarChanged(CalendarChangedEvent event) {
+        try {
+            calendarCache.evict(event.getArchiveId(), event.getMonths());
+        } catch (Exception e) {
+            // Soft Fail: Redis 장애 시 TTL 만료로 수렴
+            log.warn("[Calendar] Evict failed -> ArchiveId: {}, Months: {}, Error: {}",
+                    event.getArchiveId(), event.getMonths(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.depth.deokive.domain.calendar.service;
+
+import com.depth.deokive.domain.calendar.dto.CalendarDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 월별 캘린더 Read Model 캐시 (아카이브 + 연월 단위)
+ *
+ * [배경]
+ * - 캘린더 화면은 월 이동마다 일정/스티커 API 2회 + 해시태그 조회 -> 같은 월을 반복 조회하는 패턴이 대부분
+ *
+ * [구조]
+ * - L1(Caffeine): 노드 로컬 Near-Cache, 짧은 TTL
+ * - L2(Redis): calendar:{archiveId}:{yyyy-MM} (JSON), TTL
+ * - 버전: calendar:{archiveId}:{yyyy-MM}:ver -> 무효화마다 INCR
+ *
+ * [무효화]
+ * - 일정/스티커 쓰기 커밋 후 해당 월만 삭제 (CalendarChangedEvent)
+ * - L2 삭제 + 버전 증가 후 calendar:invalidate 채널로 PUBLISH -> 모든 노드가 L1에서 제거
+ * - 적재는 조회 시작 시점의 버전이 그대로일 때만 SET (조회 도중 무효화된 오래된 값이 다시 들어가지 않음)
+ *
+ * [Prefetch]
+ * - prefetch-adjacent=true면 Cache Miss 시 전/다음 달을 가상 스레드에서 미리 적재 (L2에 없을 때만)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CalendarCache implements MessageListener {
+
+    public static final String CHANNEL = "calendar:invalidate";
+    private static final String KEY_PREFIX = "calendar:";
+
+    // 버전이 조회 시작 시점과 같을 때만 적재
+    private static final DefaultRedisScript<Long> SET_IF_VERSION = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+                    "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+                    "return 1",
+            Long.class);
+
+    // KEYS = [data1, ver1, data2, ver2, ...]
+    private static final DefaultRedisScript<Long> EVICT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS, 2 do " +
+                    "redis.call('DEL', KEYS[i]) " +
+                    "redis.call('INCR', KEYS[i + 1]) " +
+                    "redis.call('EXPIRE', KEYS[i + 1], ARGV[1]) " +
+                    "end " +
+                    "return #KEYS / 2",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${calendar.cache.ttl:10m}")
+    private Duration ttl;
+
+    @Value("${calendar.cache.local-ttl:30s}")
+    private Duration localTtl;
+
+    @Value("${calendar.cache.local-max-size:5000}")
+    private long localMaxSize;
+
+    @Value("${calendar.prefetch-adjacent:true}")
+    private boolean prefetchAdjacent;
+
+    @FunctionalInterface
+    public interface MonthLoader {
+        CalendarDto.MonthlyResponse load(Long archiveId, YearMonth yearMonth);
+    }
+
+    private Cache<String, CalendarDto.MonthlyResponse> local;
+    private ExecutorService prefetcher;
+    private final Set<String> prefetching = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "calendar");
+
+        prefetcher = Executors.newVirtualThreadPerTaskExecutor();
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (prefetcher != null) prefetcher.shutdownNow();
+    }
+
+    /**
+     * L1 -> L2 -> loader 순으로 조회
+     * - Redis 장애 시 loader 결과를 그대로 반환 (Soft Fail)
+     */
+    public CalendarDto.MonthlyResponse get(Long archiveId, YearMonth yearMonth, MonthLoader loader) {
+        String key = keyOf(archiveId, yearMonth);
+
+        // SEQ 1. L1
+        CalendarDto.MonthlyResponse cached = local.getIfPresent(key);
+        if (cached != null) return cached;
+
+        // SEQ 2. L2 (값 + 현재 버전을 한 번에 조회)
+        String version;
+        try {
+            List<Object> values = redisTemplate.opsForValue().multiGet(List.of(key, versionKeyOf(key)));
+            CalendarDto.MonthlyResponse hit = parse(values.get(0));
+            if (hit != null) {
+                local.put(key, hit);
+                return hit;
+            }
+            version = values.get(1) != null ? values.get(1).toString() : "0";
+        } catch (Exception e) {
+            log.warn("[Calendar] Lookup failed: key={}", key, e);
+            return loader.load(archiveId, yearMonth);
+        }
+
+        // SEQ 3. DB 조회 후 버전이 그대로일 때만 적재
+        CalendarDto.MonthlyResponse loaded = loader.load(archiveId, yearMonth);
+        if (store(key, version, loaded)) local.put(key, loaded);
+
+        // SEQ 4. 인접 월 미리 적재
+        if (prefetchAdjacent) {
+            prefetch(archiveId, yearMonth.minusMonths(1), loader);
+            prefetch(archiveId, yearMonth.plusMonths(1), loader);
+        }
+        return loaded;
+    }
+
+    /**
+     * 해당 월 무효화 (커밋 후 호출)
+     */
+    public void evict(Long archiveId, Collection<YearMonth> months) {
+        if (months.isEmpty()) return;
+
+        List<String> keys = months.stream().map(ym -> keyOf(archiveId, ym)).toList();
+        keys.forEach(local::invalidate);
+
+        List<String> scriptKeys = new ArrayList<>(keys.size() * 2);
+        for (String key : keys) {
+            scriptKeys.add(key);
+            scriptKeys.add(versionKeyOf(key));
+        }
+        redisTemplate.execute(EVICT, scriptKeys, String.valueOf(ttl.toSeconds()));
+        redisTemplate.convertAndSend(CHANNEL, String.join(",", keys));
+    }
+
+    /**
+     * 다른 노드의 무효화 -> L1 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String key : body.split(",")) {
+            local.invalidate(key);
+        }
+    }
+
+    private void prefetch(Long archiveId, YearMonth yearMonth, MonthLoader loader) {
+        String key = keyOf(archiveId, yearMonth);
+        if (!prefetching.add(key)) return;
+
+        prefetcher.execute(() -> {
+            try {
+                List<Object> values = redisTemplate.opsForValue().multiGet(List.of(key, versionKeyOf(key)));
+                if (values.get(0) != null) return;
+                String version = values.get(1) != null ? values.get(1).toString() : "0";
+                store(key, version, loader.load(archiveId, yearMonth));
+            } catch (Exception e) {
+                log.debug("[Calendar] Prefetch failed: key={}, error={}", key, e.getMessage());
+            } finally {
+                prefetching.remove(key);
+            }
+        });
+    }
+
+    private boolean store(String key, String version, CalendarDto.MonthlyResponse value) {
+        try {
+            Long stored = redisTemplate.execute(SET_IF_VERSION, List.of(key, versionKeyOf(key)),
+                    version, objectMapper.writeValueAsString(value), String.valueOf(ttl.toSeconds()));
+            return Long.valueOf(1L).equals(stored);
+        } catch (Exception e) {
+            log.warn("[Calendar] Store failed: key={}", key, e);
+            return false;
+        }
+    }
+
+    private CalendarDto.MonthlyResponse parse(Object value) {
+        if (value == null) return null;
+        try {
+            return objectMapper.readValue(value.toString(), CalendarDto.MonthlyResponse.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    static String keyOf(Long archiveId, YearMonth yearMonth) {
+        return KEY_PREFIX + archiveId + ":" + yearMonth;
+    }
+
+    private static String versionKeyOf(String key) {
+        return key + ":ver";
+    }
+}
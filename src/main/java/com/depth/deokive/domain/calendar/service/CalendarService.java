@@ -0,0 +1,75 @@
+package com.depth.deokive.domain.calendar.service;
+
+import com.depth.deokive.common.service.ArchiveGuard;
+import com.depth.deokive.domain.archive.entity.Archive;
+import com.depth.deokive.domain.archive.repository.ArchiveRepository;
+import com.depth.deokive.domain.calendar.dto.CalendarDto;
+import com.depth.deokive.domain.event.service.EventService;
+import com.depth.deokive.domain.sticker.service.StickerService;
+import com.depth.deokive.system.exception.model.ErrorCode;
+import com.depth.deokive.system.exception.model.RestException;
+import com.depth.deokive.system.security.model.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.DateTimeException;
+import java.time.YearMonth;
+
+/**
+ * 월별 캘린더 조회 (일정 + 스티커 통합)
+ * - 권한 검증은 매 요청 수행, 데이터는 CalendarCache(아카이브 + 연월 Read Model)에서 조회
+ * - 캐시 데이터는 뷰어와 무관 (아카이브 단위 공개 범위만 존재) -> 모든 뷰어가 같은 Read Model 공유
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarService {
+
+    private final ArchiveRepository archiveRepository;
+    private final ArchiveGuard archiveGuard;
+    private final EventService eventService;
+    private final StickerService stickerService;
+    private final CalendarCache calendarCache;
+
+    public CalendarDto.MonthlyResponse getMonthlyCalendar(UserPrincipal user, Long archiveId, int year, int month) {
+        // SEQ 1. 연월 검증
+        YearMonth yearMonth = toYearMonth(year, month);
+
+        // SEQ 2. 아카이브 조회
+        Archive archive = archiveRepository.findById(archiveId)
+                .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
+
+        // SEQ 3. 아카이브 접근 권한 확인 (주인인지, 공개인지 등)
+        archiveGuard.checkArchiveReadPermission(archive, user);
+
+        // SEQ 4. Read Model 조회 (Miss 시 DB 적재)
+        return calendarCache.get(archiveId, yearMonth, this::load);
+    }
+
+    /**
+     * 아카이브 홈 섹션용 (권한 검증은 ArchiveHomeService에서 한 번만 수행)
+     */
+    public CalendarDto.MonthlyResponse getMonthlyCalendarSection(Long archiveId, YearMonth yearMonth) {
+        return calendarCache.get(archiveId, yearMonth, this::load);
+    }
+
+    /**
+     * DB에서 월별 Read Model 생성 (일정/스티커 각각 읽기 전용 트랜잭션)
+     */
+    CalendarDto.MonthlyResponse load(Long archiveId, YearMonth yearMonth) {
+        return CalendarDto.MonthlyResponse.builder()
+                .archiveId(archiveId)
+                .year(yearMonth.getYear())
+                .month(yearMonth.getMonthValue())
+                .events(eventService.loadMonthlyEvents(archiveId, yearMonth))
+                .stickers(stickerService.loadMonthlyStickers(archiveId, yearMonth))
+                .build();
+    }
+
+    public static YearMonth toYearMonth(int year, int month) {
+        try {
+            return YearMonth.of(year, month);
+        } catch (DateTimeException e) {
+            throw new RestException(ErrorCode.GLOBAL_BAD_REQUEST);
+        }
+    }
+}
@@ -6,6 +6,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -59,4 +61,18 @@ public class CommentCountRedisService {
             log.warn("[Comment Count] Cache delete failed -> PostId: {}, Error: {}", postId, e.getMessage());
         }
     }
+
+    /**
+     * 여러 게시글의 캐시 일괄 정리 (탈퇴 유저 댓글 정리 등)
+     */
+    public void deleteCache(Collection<Long> postIds) {
+        if (postIds.isEmpty()) return;
+        try {
+            longRedisTemplate.delete(postIds.stream().map(postId -> KEY_PREFIX + postId).toList());
+            log.info("[Comment Count] Cache deleted -> Posts: {}", postIds.size());
+        } catch (Exception e) {
+            // Soft Fail
+            log.warn("[Comment Count] Cache delete failed -> Posts: {}, Error: {}", postIds.size(), e.getMessage());
+        }
+    }
 }
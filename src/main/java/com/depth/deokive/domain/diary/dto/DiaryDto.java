@@ -1,6 +1,7 @@
 package com.depth.deokive.domain.diary.dto;
 
 import com.depth.deokive.common.util.FileUrlUtils;
+import com.depth.deokive.common.util.ThumbnailUtils;
 import com.depth.deokive.common.enums.Visibility;
 import com.depth.deokive.domain.diary.entity.Diary;
 import com.depth.deokive.domain.diary.entity.DiaryBook;
@@ -140,6 +141,7 @@ public class DiaryDto {
                         .fileId(file.getId())
                         .filename(file.getFilename())
                         .cdnUrl(FileUrlUtils.buildCdnUrl(file.getS3ObjectKey()))
+                        .thumbnailUrl(FileUrlUtils.buildThumbnailUrl(file, ThumbnailUtils.Variant.MEDIUM.getWidth()))
                         .fileSize(file.getFileSize())
                         .mediaType(file.getMediaType().name())
                         .mediaRole(map.getMediaRole())
@@ -21,6 +21,7 @@ import com.depth.deokive.system.exception.model.RestException;
 import com.depth.deokive.system.security.model.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -46,7 +47,7 @@ public class DiaryService {
                 .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
 
         // SEQ 2. 소유권 확인
-        archiveGuard.checkOwner(diaryBook.getArchive().getUser().getId(), userPrincipal);
+        archiveGuard.checkOwner(diaryBook.getArchive(), userPrincipal);
 
         // SEQ 3. 저장
         Diary diary = request.toEntity(diaryBook);
@@ -86,8 +87,9 @@ public class DiaryService {
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new RestException(ErrorCode.DIARY_NOT_FOUND));
 
-        // SEQ 2. 소유권 확인
+        // SEQ 2. 소유권 확인 (삭제 대기 중인 아카이브에는 파일 매핑을 새로 만들지 않음)
         archiveGuard.checkOwner(diary.getCreatedBy(), userPrincipal);
+        archiveGuard.checkNotDeleted(diary.getDiaryBook().getArchive());
 
         // SEQ 3. 업데이트 (Dirty Checking 기반)
         diary.update(request);
@@ -126,7 +128,7 @@ public class DiaryService {
                 .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
 
         // SEQ 2. 소유권 확인
-        archiveGuard.checkOwner(diaryBook.getArchive().getUser().getId(), userPrincipal);
+        archiveGuard.checkOwner(diaryBook.getArchive(), userPrincipal);
 
         // SEQ 3. 제목 업데이트 (Dirty Checking)
         diaryBook.updateTitle(request.getTitle());
@@ -152,27 +154,49 @@ public class DiaryService {
         archiveGuard.checkArchiveReadPermission(diaryBook.getArchive(), userPrincipal);
 
         // SEQ 3. Diary Level Security (Layer 2) - 필터링 조건 계산
-        List<Visibility> allowedVisibilities;
+        List<Visibility> allowedVisibilities = allowedVisibilities(viewerId, ownerId);
 
+        // SEQ 4. QueryDSL Pagination 실행
+        return readDiaries(diaryBook, allowedVisibilities, request.toPageable());
+    }
+
+    /**
+     * 아카이브 홈 섹션용 (아카이브 권한 검증은 ArchiveHomeService에서 한 번만 수행, 다이어리 공개 범위 필터는 그대로 적용)
+     */
+    @Transactional(readOnly = true)
+    public PageDto.PageListResponse<DiaryDto.DiaryPageResponse> getDiarySection(
+            UserPrincipal userPrincipal, Long archiveId, Pageable pageable) {
+        DiaryBook diaryBook = diaryBookRepository.findById(archiveId)
+                .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
+
+        Long viewerId = (userPrincipal != null) ? userPrincipal.getUserId() : null;
+        Long ownerId = diaryBook.getArchive().getUser().getId();
+
+        return readDiaries(diaryBook, allowedVisibilities(viewerId, ownerId), pageable);
+    }
+
+    // Diary Level Security (Layer 2) - 뷰어가 볼 수 있는 다이어리 공개 범위
+    private List<Visibility> allowedVisibilities(Long viewerId, Long ownerId) {
         if (Objects.equals(viewerId, ownerId)) { // 본인: 다 봄
-            allowedVisibilities = List.of(Visibility.PUBLIC, Visibility.RESTRICTED, Visibility.PRIVATE);
-        } else { // 친구 여부 확인
-            boolean isFriend = archiveGuard.isFriend(viewerId, ownerId);
-            if (isFriend) { // 친구: 전체 + 친구공개
-                allowedVisibilities = List.of(Visibility.PUBLIC, Visibility.RESTRICTED);
-            } else { // 타인: 전체공개만
-                allowedVisibilities = List.of(Visibility.PUBLIC);
-            }
+            return List.of(Visibility.PUBLIC, Visibility.RESTRICTED, Visibility.PRIVATE);
         }
 
-        // SEQ 4. QueryDSL Pagination 실행
+        // 친구 여부 확인
+        if (archiveGuard.isFriend(viewerId, ownerId)) { // 친구: 전체 + 친구공개
+            return List.of(Visibility.PUBLIC, Visibility.RESTRICTED);
+        }
+        return List.of(Visibility.PUBLIC); // 타인: 전체공개만
+    }
+
+    private PageDto.PageListResponse<DiaryDto.DiaryPageResponse> readDiaries(
+            DiaryBook diaryBook, List<Visibility> allowedVisibilities, Pageable pageable) {
         Page<DiaryDto.DiaryPageResponse> page = diaryQueryRepository.findDiaries(
-                archiveId,
+                diaryBook.getId(),
                 allowedVisibilities,
-                request.toPageable()
+                pageable
         );
 
-        // SEQ 5. Page Validation
+        // Page Validation
         PageUtils.validatePageRange(page);
 
         return PageDto.PageListResponse.of(diaryBook.getTitle(), page);
@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -63,7 +64,7 @@ public class EventDto {
         private SportRequest sportInfo; // isSportType = true 일 때만 유효
 
         @Schema(description = "해시태그 리스트", example = "[\"콘서트\", \"라이브\"]")
-        private List<String> hashtags;
+        private List<@Size(max = 255, message = "해시태그는 255자 이하여야 합니다.") String> hashtags;
 
         public Event toEntity(Archive archive, LocalDateTime startDateTime, LocalDateTime endDateTime) {
             return Event.builder()
@@ -112,7 +113,7 @@ public class EventDto {
         private SportRequest sportInfo;
 
         @Schema(description = "해시태그 변경 (빈 리스트일 경우 삭제)", example = "해시태그 변경")
-        private List<String> hashtags;
+        private List<@Size(max = 255, message = "해시태그는 255자 이하여야 합니다.") String> hashtags;
     }
 
     @Data @Builder @NoArgsConstructor @AllArgsConstructor
@@ -141,7 +142,7 @@ public class EventDto {
         }
     }
 
-    @Data @Builder @AllArgsConstructor
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
     @Schema(name = "EventResponse", description = "이벤트 상세 응답")
     public static class Response {
         @Schema(description = "이벤트 아이디", example = "1")
@@ -182,7 +183,7 @@ public class EventDto {
         private SportResponse sportInfo;
         
         @Schema(description = "해시태그 리스트", example = "[\"콘서트\", \"라이브\"]")
-        private List<String> hashtags;
+        private List<@Size(max = 255, message = "해시태그는 255자 이하여야 합니다.") String> hashtags;
 
         public static Response of(Event event, SportRecord sportRecord, List<String> hashtags) {
             return Response.builder()
@@ -201,7 +202,7 @@ public class EventDto {
         }
     }
 
-    @Data @Builder @AllArgsConstructor
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
     @Schema(name = "EventSportResponse", description = "스포츠 경기 정보 응답 DTO")
     public static class SportResponse {
         @Schema(description = "팀 1 이름", example = "한화 이글스")
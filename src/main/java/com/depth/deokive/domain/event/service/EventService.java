@@ -3,6 +3,7 @@ package com.depth.deokive.domain.event.service;
 import com.depth.deokive.common.service.ArchiveGuard;
 import com.depth.deokive.domain.archive.entity.Archive;
 import com.depth.deokive.domain.archive.repository.ArchiveRepository;
+import com.depth.deokive.domain.calendar.event.CalendarChangedEvent;
 import com.depth.deokive.domain.event.dto.EventDto;
 import com.depth.deokive.domain.event.entity.*;
 import com.depth.deokive.domain.event.repository.*;
@@ -10,15 +11,20 @@ import com.depth.deokive.system.exception.model.ErrorCode;
 import com.depth.deokive.system.exception.model.RestException;
 import com.depth.deokive.system.security.model.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,12 +34,17 @@ public class EventService {
     private final ArchiveGuard archiveGuard;
     private final EventRepository eventRepository;
     private final SportRecordRepository sportRecordRepository;
-    private final HashtagRepository hashtagRepository;
     private final EventHashtagMapRepository eventHashtagMapRepository;
     private final ArchiveRepository archiveRepository;
+    private final HashtagResolver hashtagResolver;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int MAX_EVENT_COUNT_PER_DAY = 4;
 
+    private static final String INSERT_HASHTAG_MAP_SQL =
+            "INSERT INTO event_hashtag_map (event_id, hashtag_id) VALUES (?, ?)";
+
     @Transactional
     public EventDto.Response createEvent(UserPrincipal user, Long archiveId, EventDto.CreateRequest request) {
         // SEQ 1. 아카이브 조회
@@ -41,7 +52,7 @@ public class EventService {
                 .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
 
         // SEQ 2. 소유권 검증
-        archiveGuard.checkOwner(archive.getUser().getId(), user);
+        archiveGuard.checkOwner(archive, user);
 
         // SEQ 3. 개수 제한 검증
         validateEventCount(archiveId, request.getStartDate());
@@ -64,6 +75,10 @@ public class EventService {
         // SEQ 7. 해시태그 저장
         saveHashtags(event, request.getHashtags());
 
+        // SEQ 8. 월별 캘린더 무효화 (커밋 후)
+        eventPublisher.publishEvent(CalendarChangedEvent.of(archiveId,
+                CalendarChangedEvent.monthsOf(event.getStartDate(), event.getEndDate())));
+
         return EventDto.Response.of(event, sportRecord, request.getHashtags());
     }
 
@@ -95,7 +110,7 @@ public class EventService {
                 .orElseThrow(() -> new RestException(ErrorCode.EVENT_NOT_FOUND));
 
         // SEQ 2. 소유권 검증
-        archiveGuard.checkOwner(event.getArchive().getUser().getId(), user);
+        archiveGuard.checkOwner(event.getArchive(), user);
 
         // SEQ 3. 날짜가 변경되는 경우에만 개수 제한 검증
         if (request.getStartDate() != null && !request.getStartDate().equals(event.getStartDate().toLocalDate())) {
@@ -117,8 +132,10 @@ public class EventService {
                 event.isHasTime() ? event.getEndDate().toLocalTime() : null
         );
 
-        // SEQ 5. 업데이트
+        // SEQ 5. 업데이트 (변경 전/후 기간의 월 모두 무효화 대상)
+        Set<YearMonth> changedMonths = new TreeSet<>(CalendarChangedEvent.monthsOf(event.getStartDate(), event.getEndDate()));
         event.update(request, startDateTime, endDateTime); // Dirty Checking
+        changedMonths.addAll(CalendarChangedEvent.monthsOf(event.getStartDate(), event.getEndDate()));
 
         // SEQ 6. 스포츠 기록 처리
         SportRecord sportRecord = handleSportRecordUpdate(event, request);
@@ -134,6 +151,9 @@ public class EventService {
                 ? request.getHashtags()
                 : eventHashtagMapRepository.findHashtagNamesByEventId(eventId);
 
+        // SEQ 9. 월별 캘린더 무효화 (커밋 후, 스포츠 기록/해시태그 변경 포함)
+        eventPublisher.publishEvent(CalendarChangedEvent.of(event.getArchive().getId(), changedMonths));
+
         return EventDto.Response.of(event, sportRecord, currentHashtags);
     }
 
@@ -144,7 +164,7 @@ public class EventService {
                 .orElseThrow(() -> new RestException(ErrorCode.EVENT_NOT_FOUND));
 
         // SEQ 2. 소유권 검증
-        archiveGuard.checkOwner(event.getArchive().getUser().getId(), user);
+        archiveGuard.checkOwner(event.getArchive(), user);
 
         // SEQ 3. Event 삭제
         eventHashtagMapRepository.deleteByEventId(eventId); // 1:N에 대해서 명시적으로 연관 데이터 삭제 패턴 권장하는 중
@@ -153,6 +173,10 @@ public class EventService {
         }
 
         eventRepository.delete(event);
+
+        // SEQ 4. 월별 캘린더 무효화 (커밋 후)
+        eventPublisher.publishEvent(CalendarChangedEvent.of(event.getArchive().getId(),
+                CalendarChangedEvent.monthsOf(event.getStartDate(), event.getEndDate())));
     }
 
     @Transactional(readOnly = true)
@@ -164,23 +188,33 @@ public class EventService {
         // SEQ 2. 아카이브 자체의 접근 권한 확인 (주인인지, 공개인지 등)
         archiveGuard.checkArchiveReadPermission(archive, user);
 
-        // SEQ 3. 날짜 범위 계산 (해당 월의 1일 00:00 ~ 말일 23:59)
-        LocalDateTime rangeStart = LocalDateTime.of(year, month, 1, 0, 0);
+        // SEQ 3. 이벤트 + 해시태그 조회
+        return loadMonthlyEvents(archiveId, YearMonth.of(year, month));
+    }
+
+    /**
+     * 월별 이벤트 조회 (권한 검증 없음 -> 호출 측에서 검증)
+     * - getMonthlyEvents / CalendarService(월별 캘린더 Read Model 적재)에서 공용
+     */
+    @Transactional(readOnly = true)
+    public List<EventDto.Response> loadMonthlyEvents(Long archiveId, YearMonth yearMonth) {
+        // SEQ 1. 날짜 범위 계산 (해당 월의 1일 00:00 ~ 말일 23:59)
+        LocalDateTime rangeStart = yearMonth.atDay(1).atStartOfDay();
         LocalDateTime rangeEnd = rangeStart.plusMonths(1);
 
-        // SEQ 4. 이벤트 조회
+        // SEQ 2. 이벤트 조회
         List<Event> events = eventRepository.findAllByArchiveAndDateRange(archiveId, rangeStart, rangeEnd);
 
         if (events.isEmpty()) { return Collections.emptyList(); }
 
-        // SEQ 4. 해시태그 최적화 조회 (N+1 방지)
-        // 4-1. 조회된 이벤트들의 ID 리스트 추출
+        // SEQ 3. 해시태그 최적화 조회 (N+1 방지)
+        // 3-1. 조회된 이벤트들의 ID 리스트 추출
         List<Long> eventIds = events.stream().map(Event::getId).toList();
 
-        // 4-2. 해당 이벤트들에 속한 모든 해시태그 매핑을 한 번에 조회 (bulk)
+        // 3-2. 해당 이벤트들에 속한 모든 해시태그 매핑을 한 번에 조회 (bulk)
         Map<Long, List<String>> hashtagMap = getHashtagMap(eventIds);
 
-        // SEQ 5. DTO 변환 및 반환
+        // SEQ 4. DTO 변환 및 반환
         return events.stream()
                 .map(event -> EventDto.Response.of(
                         event,
@@ -262,24 +296,28 @@ public class EventService {
         }
     }
 
+    /**
+     * 해시태그 일괄 저장: 이름 -> ID 변환(HashtagResolver) + 매핑 Batch INSERT
+     * - 기존: 태그마다 findByName + save + 매핑 save -> 태그 8개 = 왕복 16회 이상
+     * - 변경: L1 Hit 시 매핑 INSERT 1회, Miss 시에도 조회/생성/재조회 포함 최대 4회
+     */
     private void saveHashtags(Event event, List<String> tagNames) {
         if (tagNames == null || tagNames.isEmpty()) return;
 
         // 중복 제거 (Set) 처리
         List<String> uniqueNames = tagNames.stream().distinct().toList();
 
-        for (String name : uniqueNames) {
-            // 태그가 존재하면 찾고, 없으면 생성 (Find or Create)
-            Hashtag hashtag = hashtagRepository.findByName(name)
-                    .orElseGet(() -> hashtagRepository.save(Hashtag.builder().name(name).build()));
-
-            // 매핑 테이블 저장
-            EventHashtagMap map = EventHashtagMap.builder()
-                    .event(event)
-                    .hashtag(hashtag)
-                    .build();
-            eventHashtagMapRepository.save(map);
-        }
+        // 태그가 존재하면 찾고, 없으면 생성 (Bulk Find or Create)
+        Map<String, Long> hashtagIds = hashtagResolver.resolveIds(uniqueNames);
+
+        // 대소문자만 다른 태그는 같은 ID -> 매핑 Unique 제약 위반 방지
+        List<Long> distinctIds = hashtagIds.values().stream().distinct().toList();
+
+        // 매핑 테이블 저장 (rewriteBatchedStatements -> multi-row INSERT 1회)
+        jdbcTemplate.batchUpdate(INSERT_HASHTAG_MAP_SQL, distinctIds, distinctIds.size(), (ps, hashtagId) -> {
+            ps.setLong(1, event.getId());
+            ps.setLong(2, hashtagId);
+        });
     }
 
     private Map<Long, List<String>> getHashtagMap(List<Long> eventIds) {
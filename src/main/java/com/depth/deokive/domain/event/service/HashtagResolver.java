@@ -0,0 +1,152 @@
+package com.depth.deokive.domain.event.service;
+
+import com.depth.deokive.system.exception.model.ErrorCode;
+import com.depth.deokive.system.exception.model.RestException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 해시태그 이름 -> ID 일괄 변환 (없으면 생성)
+ *
+ * [배경]
+ * - 기존: 태그마다 findByName + save -> 태그 8개 이벤트 = 왕복 16회 이상
+ *
+ * [동작]
+ * 1. L1(Caffeine): 자주 쓰이는 태그 name -> id (태그는 삭제/변경되지 않으므로 무효화 불필요)
+ * 2. Miss 태그를 IN 쿼리 1회로 조회
+ * 3. 없는 태그는 multi-row INSERT IGNORE 1회 -> 동시 생성 경합은 Unique 제약(name)이 흡수
+ * 4. 생성분만 IN 쿼리로 재조회 (타 트랜잭션이 먼저 만든 행 포함)
+ * 5. 커밋 후에만 L1 적재 (롤백된 ID가 캐시에 남으면 이후 매핑 INSERT가 FK 위반)
+ *
+ * [주의]
+ * - hashtag.name은 MySQL 기본 Collation(utf8mb4_0900_ai_ci: 대소문자, 악센트, 전각/반각 무시)
+ *   -> 요청 이름과 DB 이름의 동등 비교는 Java가 아닌 DB가 판단 (요청 이름별로 name = ? 조회)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HashtagResolver {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${event.hashtag.cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${event.hashtag.cache.expire-after-access:1h}")
+    private Duration expireAfterAccess;
+
+    private Cache<String, Long> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "hashtag");
+    }
+
+    /**
+     * @param names 중복 제거된 태그 이름
+     * @return 요청 이름 -> 해시태그 ID (요청 순서 유지)
+     */
+    public Map<String, Long> resolveIds(Collection<String> names) {
+        if (names.isEmpty()) return Map.of();
+
+        // SEQ 1. L1 조회
+        Map<String, Long> resolved = new HashMap<>(cache.getAllPresent(names));
+        List<String> missing = names.stream().filter(name -> !resolved.containsKey(name)).toList();
+        if (missing.isEmpty()) return ordered(names, resolved);
+
+        // SEQ 2. 기존 태그 일괄 조회
+        Map<String, Long> loaded = findIds(missing);
+
+        // SEQ 3. 없는 태그 일괄 생성 후 재조회
+        List<String> absent = missing.stream().filter(name -> !loaded.containsKey(name)).toList();
+        if (!absent.isEmpty()) {
+            insertIgnore(absent);
+            loaded.putAll(findIds(absent));
+        }
+
+        // SEQ 4. 요청 이름 기준으로 매칭 (Collation상 같은 태그는 같은 ID)
+        Map<String, Long> fetched = new HashMap<>();
+        for (String name : missing) {
+            Long id = loaded.get(name);
+            if (id == null) throw new RestException(ErrorCode.GLOBAL_INTERNAL_SERVER_ERROR);
+            fetched.put(name, id);
+        }
+        resolved.putAll(fetched);
+
+        // SEQ 5. 커밋 후 L1 적재
+        putAfterCommit(fetched);
+        return ordered(names, resolved);
+    }
+
+    // 요청 이름마다 "name = :n" 조회를 UNION ALL -> 요청 이름 그대로 돌려받아 매핑 (Unique 인덱스 조회 N회, 왕복 1회)
+    private Map<String, Long> findIds(List<String> names) {
+        StringBuilder sql = new StringBuilder();
+        Map<String, Object> params = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0) sql.append(" UNION ALL ");
+            sql.append("SELECT :n").append(i).append(" AS requested, id FROM hashtag WHERE name = :n").append(i);
+            params.put("n" + i, names.get(i));
+        }
+
+        Map<String, Long> ids = new HashMap<>();
+        namedParameterJdbcTemplate.query(sql.toString(), params,
+                rs -> { ids.put(rs.getString("requested"), rs.getLong("id")); });
+        return ids;
+    }
+
+    private void insertIgnore(List<String> names) {
+        StringBuilder sql = new StringBuilder("INSERT IGNORE INTO hashtag (name) VALUES ");
+        Map<String, Object> params = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append("(:n").append(i).append(')');
+            params.put("n" + i, names.get(i));
+        }
+        int inserted = namedParameterJdbcTemplate.update(sql.toString(), params);
+        log.debug("[Hashtag] Created {}/{} hashtags", inserted, names.size());
+    }
+
+    private void putAfterCommit(Map<String, Long> entries) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.putAll(entries);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.putAll(entries);
+            }
+        });
+    }
+
+    private static Map<String, Long> ordered(Collection<String> names, Map<String, Long> resolved) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (String name : names) {
+            result.put(name, resolved.get(name));
+        }
+        return result;
+    }
+}
@@ -3,9 +3,12 @@ package com.depth.deokive.domain.file.controller;
 import com.depth.deokive.domain.file.dto.FileDto;
 import com.depth.deokive.domain.file.entity.File;
 import com.depth.deokive.domain.file.service.FileService;
+import com.depth.deokive.domain.file.service.UploadSessionService;
 import com.depth.deokive.system.ratelimit.annotation.RateLimit;
 import com.depth.deokive.system.ratelimit.annotation.RateLimitType;
+import com.depth.deokive.system.security.model.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -16,6 +19,7 @@ import org.springframework.http.MediaType;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import com.depth.deokive.system.exception.dto.ErrorResponse;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,6 +30,7 @@ import org.springframework.web.bind.annotation.*;
 public class FileController {
 
     private final FileService fileService;
+    private final UploadSessionService uploadSessionService;
 
     /**
      * 1. 멀티파트 업로드 초기화
@@ -51,6 +56,144 @@ public class FileController {
         return ResponseEntity.ok(fileService.initiateMultipartUpload(request));
     }
 
+    /**
+     * 1-1. Part Presigned URL 추가 발급
+     * 초기화 응답에 포함되지 않은 Part 구간의 Presigned URL을 업로드 진행에 맞춰 발급합니다.
+     */
+    @PostMapping("/multipart/presign")
+    @RateLimit(type = RateLimitType.USER, capacity = 500, refillTokens = 500, refillPeriodSeconds = 3600, failClosed = true)
+    @Operation(summary = "Part Presigned URL 추가 발급", description = "fromPartNumber ~ toPartNumber 구간의 Presigned URL 발급 (최대 100개)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "발급 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (Part 구간 오류, 최대 개수 초과)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"BAD_REQUEST\", \"error\": \"GLOBAL_BAD_REQUEST\", \"message\": \"잘못된 요청입니다.\"}"))),
+            @ApiResponse(responseCode = "403", description = "본인 업로드가 아님",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"FORBIDDEN\", \"error\": \"FILE_ACCESS_DENIED\", \"message\": \"파일에 접근할 수 있는 권한이 없습니다.\"}"))),
+            @ApiResponse(responseCode = "404", description = "업로드 세션 없음",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"NOT_FOUND\", \"error\": \"UPLOAD_SESSION_NOT_FOUND\", \"message\": \"업로드 세션을 찾을 수 없습니다.\"}"))),
+            @ApiResponse(responseCode = "409", description = "이미 완료/취소된 업로드",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"CONFLICT\", \"error\": \"UPLOAD_SESSION_CLOSED\", \"message\": \"이미 완료되었거나 취소된 업로드입니다.\"}")))
+    })
+    public ResponseEntity<FileDto.PartPresignResponse> presignParts(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal user,
+            @Valid @RequestBody FileDto.PartPresignRequest request
+    ) {
+        return ResponseEntity.ok(uploadSessionService.presignParts(user.getUserId(), request));
+    }
+
+    /**
+     * 1-2. 업로드한 Part 확인
+     * Part 업로드가 끝날 때마다 ETag를 기록합니다. (Resume 시 확인된 Part 복원용)
+     */
+    @PostMapping("/multipart/ack")
+    @RateLimit(type = RateLimitType.USER, capacity = 2000, refillTokens = 2000, refillPeriodSeconds = 3600)
+    @Operation(summary = "업로드한 Part 확인", description = "Part 번호와 ETag 기록 (같은 Part 재확인 시 덮어씀)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "기록 성공"),
+            @ApiResponse(responseCode = "404", description = "업로드 세션 없음",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"NOT_FOUND\", \"error\": \"UPLOAD_SESSION_NOT_FOUND\", \"message\": \"업로드 세션을 찾을 수 없습니다.\"}"))),
+            @ApiResponse(responseCode = "409", description = "이미 완료/취소된 업로드",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"CONFLICT\", \"error\": \"UPLOAD_SESSION_CLOSED\", \"message\": \"이미 완료되었거나 취소된 업로드입니다.\"}")))
+    })
+    public ResponseEntity<Void> acknowledgeParts(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal user,
+            @Valid @RequestBody FileDto.PartAckRequest request
+    ) {
+        uploadSessionService.acknowledge(user.getUserId(), request.getUploadId(), request.getParts());
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 1-3. 업로드 재개
+     * 연결이 끊긴 뒤 S3에 이미 올라간 Part를 확인하고, 누락된 Part만 새 Presigned URL로 발급합니다.
+     */
+    @PostMapping("/multipart/resume")
+    @RateLimit(type = RateLimitType.USER, capacity = 100, refillTokens = 100, refillPeriodSeconds = 3600, failClosed = true)
+    @Operation(summary = "업로드 재개", description = "S3 ListParts 기준 확인된 Part + 누락 Part 번호/Presigned URL 반환")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재개 정보 조회 성공"),
+            @ApiResponse(responseCode = "403", description = "본인 업로드가 아님",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"FORBIDDEN\", \"error\": \"FILE_ACCESS_DENIED\", \"message\": \"파일에 접근할 수 있는 권한이 없습니다.\"}"))),
+            @ApiResponse(responseCode = "409", description = "이미 완료/취소된 업로드",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"CONFLICT\", \"error\": \"UPLOAD_SESSION_CLOSED\", \"message\": \"이미 완료되었거나 취소된 업로드입니다.\"}")))
+    })
+    public ResponseEntity<FileDto.UploadResumeResponse> resumeUpload(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal user,
+            @Valid @RequestBody FileDto.UploadResumeRequest request
+    ) {
+        return ResponseEntity.ok(uploadSessionService.resume(user.getUserId(), request.getUploadId()));
+    }
+
+    /**
+     * 1-4. 소용량 파일 단일 업로드 URL 발급
+     * 아바타/스티커 등 작은 파일은 멀티파트 없이 PUT 한 번으로 업로드합니다. (Content-Type/크기 서명)
+     */
+    @PostMapping("/simple/initiate")
+    @RateLimit(type = RateLimitType.USER, capacity = 200, refillTokens = 200, refillPeriodSeconds = 3600, failClosed = true)
+    @Operation(summary = "소용량 파일 업로드 URL 발급", description = "크기 제한(기본 10MB) 이하 파일의 PUT Presigned URL 발급, 업로드 시 응답의 contentType을 Content-Type 헤더로 사용")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "발급 성공"),
+            @ApiResponse(responseCode = "413", description = "크기 제한 초과 (멀티파트 업로드 사용)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"PAYLOAD_TOO_LARGE\", \"error\": \"FILE_SIZE_EXCEEDED\", \"message\": \"파일 크기가 허용된 한도를 초과했습니다.\"}")))
+    })
+    public ResponseEntity<FileDto.SimpleUploadInitiateResponse> initiateSimpleUpload(
+            @Valid @RequestBody FileDto.SimpleUploadInitiateRequest request
+    ) {
+        return ResponseEntity.ok(fileService.initiateSimpleUpload(request));
+    }
+
+    /**
+     * 1-5. 소용량 파일 업로드 확인
+     * PUT 업로드가 끝난 후 호출. S3에 올라간 객체를 확인하고 DB에 파일 정보를 저장합니다.
+     */
+    @PostMapping("/simple/confirm")
+    @RateLimit(type = RateLimitType.USER, capacity = 200, refillTokens = 200, refillPeriodSeconds = 3600, failClosed = true)
+    @Operation(summary = "소용량 파일 업로드 확인", description = "발급받은 키의 S3 객체 확인 후 DB 메타데이터 저장 (같은 키 재요청 시 기존 파일 반환)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "확인 및 메타데이터 저장 성공"),
+            @ApiResponse(responseCode = "400", description = "업로드된 크기 불일치",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"BAD_REQUEST\", \"error\": \"GLOBAL_BAD_REQUEST\", \"message\": \"잘못된 요청입니다.\"}"))),
+            @ApiResponse(responseCode = "403", description = "다른 사용자에게 발급된 키",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"FORBIDDEN\", \"error\": \"FILE_ACCESS_DENIED\", \"message\": \"파일에 접근할 수 있는 권한이 없습니다.\"}"))),
+            @ApiResponse(responseCode = "404", description = "발급하지 않은 키 (UPLOAD_SESSION_NOT_FOUND) 또는 S3에 업로드된 객체 없음 (FILE_NOT_FOUND)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"NOT_FOUND\", \"error\": \"FILE_NOT_FOUND\", \"message\": \"파일을 찾을 수 없습니다.\"}"))),
+            @ApiResponse(responseCode = "409", description = "확인 기한이 지나 정리된 업로드",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"CONFLICT\", \"error\": \"UPLOAD_SESSION_CLOSED\", \"message\": \"이미 완료되었거나 취소된 업로드입니다.\"}")))
+    })
+    public ResponseEntity<FileDto.UploadFileResponse> confirmSimpleUpload(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal user,
+            @Valid @RequestBody FileDto.SimpleUploadConfirmRequest request
+    ) {
+        File savedFile = fileService.confirmSimpleUpload(user.getUserId(), request);
+        return ResponseEntity.ok(FileDto.UploadFileResponse.of(savedFile, request));
+    }
+
     /**
      * 2. 멀티파트 업로드 완료
      * S3에 모든 Part 업로드가 끝난 후 호출. 서버가 S3에 병합 요청을 보내고 DB에 파일 정보를 저장합니다.
@@ -5,11 +5,17 @@ import com.depth.deokive.common.util.ThumbnailUtils;
 import com.depth.deokive.domain.file.entity.File;
 import com.depth.deokive.domain.file.entity.enums.MediaRole;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.util.List;
 
 public class FileDto {
@@ -25,6 +31,9 @@ public class FileDto {
         @Schema(description = "CDN URL (파일 경로)", example = "https://cdn.example.com/files/uuid_filename.jpg")
         private String cdnUrl;
 
+        @Schema(description = "썸네일 CDN URL (생성 전/이미지 외에는 원본 URL)", example = "https://cdn.example.com/files/thumbnails/medium/uuid_filename.jpg")
+        private String thumbnailUrl;
+
         @Schema(description = "파일 크기 (bytes)", example = "102400")
         private Long fileSize;
         
@@ -41,14 +50,26 @@ public class FileDto {
                 File file,
                 FileDto.CompleteMultipartUploadRequest request
         ) {
+            return of(file, request.getMediaRole(), request.getSequence());
+        }
+
+        public static FileDto.UploadFileResponse of (
+                File file,
+                FileDto.SimpleUploadConfirmRequest request
+        ) {
+            return of(file, request.getMediaRole(), request.getSequence());
+        }
+
+        private static FileDto.UploadFileResponse of (File file, MediaRole mediaRole, Integer sequence) {
             return FileDto.UploadFileResponse.builder()
                     .fileId(file.getId())
                     .filename(file.getFilename())
                     .cdnUrl(FileUrlUtils.buildCdnUrl(file.getS3ObjectKey()))
+                    .thumbnailUrl(FileUrlUtils.buildThumbnailUrl(file, ThumbnailUtils.Variant.MEDIUM.getWidth()))
                     .fileSize(file.getFileSize())
                     .mediaType(file.getMediaType().name())
-                    .mediaRole(request.getMediaRole())
-                    .sequence(request.getSequence())
+                    .mediaRole(mediaRole)
+                    .sequence(sequence)
                     .build();
         }
     }
@@ -84,7 +105,41 @@ public class FileDto {
         @Schema(description = "Part 개수", example = "5")
         private Integer partCount;
         
-        @Schema(description = "Part별 Presigned URL 리스트")
+        @Schema(description = "Part별 Presigned URL 리스트 (앞쪽 presign-window개만 포함, 나머지는 /multipart/presign으로 발급)")
+        private List<PartPresignedUrl> partPresignedUrls;
+    }
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    @Schema(description = "Part Presigned URL 추가 발급 요청 DTO")
+    public static class PartPresignRequest {
+        @NotBlank(message = "업로드 ID는 필수입니다.")
+        @Schema(description = "업로드 ID (키/파일 크기는 업로드 세션 기준)", example = "upload-id-12345")
+        private String uploadId;
+
+        @NotNull(message = "시작 Part 번호는 필수입니다.")
+        @Positive
+        @Schema(description = "시작 Part 번호", example = "17")
+        private Integer fromPartNumber;
+
+        @NotNull(message = "끝 Part 번호는 필수입니다.")
+        @Positive
+        @Schema(description = "끝 Part 번호 (포함)", example = "32")
+        private Integer toPartNumber;
+    }
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    @Schema(description = "Part Presigned URL 추가 발급 응답 DTO")
+    public static class PartPresignResponse {
+        @Schema(description = "S3 객체 키", example = "videos/uuid__large_video.mp4")
+        private String key;
+
+        @Schema(description = "업로드 ID", example = "upload-id-12345")
+        private String uploadId;
+
+        @Schema(description = "전체 Part 개수", example = "32")
+        private Integer partCount;
+
+        @Schema(description = "요청 구간의 Part별 Presigned URL 리스트")
         private List<PartPresignedUrl> partPresignedUrls;
     }
 
@@ -101,6 +156,49 @@ public class FileDto {
         private Long contentLength;  // Part 크기 (프론트엔드 검증용)
     }
 
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    @Schema(description = "업로드한 Part 확인 요청 DTO")
+    public static class PartAckRequest {
+        @NotBlank(message = "업로드 ID는 필수입니다.")
+        @Schema(description = "업로드 ID", example = "upload-id-12345")
+        private String uploadId;
+
+        @NotEmpty(message = "Part 목록은 필수입니다.")
+        @Size(max = 1000)
+        @Schema(description = "업로드를 마친 Part 리스트 (partNumber + ETag)")
+        private List<Part> parts;
+    }
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    @Schema(description = "업로드 재개 요청 DTO")
+    public static class UploadResumeRequest {
+        @NotBlank(message = "업로드 ID는 필수입니다.")
+        @Schema(description = "업로드 ID", example = "upload-id-12345")
+        private String uploadId;
+    }
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    @Schema(description = "업로드 재개 응답 DTO")
+    public static class UploadResumeResponse {
+        @Schema(description = "S3 객체 키", example = "videos/uuid__large_video.mp4")
+        private String key;
+
+        @Schema(description = "업로드 ID", example = "upload-id-12345")
+        private String uploadId;
+
+        @Schema(description = "전체 Part 개수", example = "32")
+        private Integer partCount;
+
+        @Schema(description = "S3에 업로드가 확인된 Part (완료 요청에 그대로 사용)")
+        private List<Part> confirmedParts;
+
+        @Schema(description = "다시 업로드해야 하는 Part 번호")
+        private List<Integer> missingPartNumbers;
+
+        @Schema(description = "누락 Part의 Presigned URL (앞쪽 최대 100개, 나머지는 /multipart/presign으로 발급)")
+        private List<PartPresignedUrl> partPresignedUrls;
+    }
+
     @Data @Builder @NoArgsConstructor @AllArgsConstructor
     @Schema(description = "멀티파트 업로드 완료 요청 DTO")
     public static class CompleteMultipartUploadRequest {
@@ -173,4 +271,49 @@ public class FileDto {
         @Schema(description = "업로드 ID")
         private String uploadId;
     }
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    @Schema(description = "소용량 파일 단일 업로드 요청 DTO")
+    public static class SimpleUploadInitiateRequest {
+        @Schema(description = "원본 파일명", example = "avatar.png")
+        private String originalFileName;
+
+        @Schema(description = "MIME 타입", example = "image/png")
+        private String mimeType;
+
+        @NotNull(message = "파일 크기는 필수입니다.")
+        @Positive
+        @Schema(description = "파일 크기 (bytes, Presigned URL에 서명됨)", example = "204800")
+        private Long fileSize;
+    }
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    @Schema(description = "소용량 파일 단일 업로드 응답 DTO")
+    public static class SimpleUploadInitiateResponse {
+        @Schema(description = "S3 객체 키", example = "files/uuid__avatar.png")
+        private String key;
+
+        @Schema(description = "Content-Type (PUT 요청 헤더에 그대로 사용)", example = "image/png")
+        private String contentType;
+
+        @Schema(description = "PUT Presigned URL", example = "https://s3.amazonaws.com/...")
+        private String presignedUrl;
+
+        @Schema(description = "Presigned URL 만료 시각")
+        private Instant expiresAt;
+    }
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    @Schema(description = "소용량 파일 업로드 확인 요청 DTO")
+    public static class SimpleUploadConfirmRequest {
+        @NotBlank(message = "S3 객체 키는 필수입니다.")
+        @Schema(description = "S3 객체 키 (발급 응답의 key, 파일명/크기/타입은 발급 시 값 사용)", example = "files/uuid__avatar.png")
+        private String key;
+
+        @Schema(description = "미디어 역할", example = "PREVIEW")
+        private MediaRole mediaRole;
+
+        @Schema(description = "정렬 순서", example = "0")
+        private Integer sequence;
+    }
 }
@@ -0,0 +1,15 @@
+package com.depth.deokive.domain.file.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * RabbitMQ 메시지: 이미지 썸네일 생성 요청
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThumbnailRequestMessage {
+    private Long fileId;
+}
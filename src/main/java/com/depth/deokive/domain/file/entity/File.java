@@ -3,6 +3,7 @@ package com.depth.deokive.domain.file.entity;
 import com.depth.deokive.common.auditor.TimeBaseEntity;
 import com.depth.deokive.common.auditor.UserBaseEntity;
 import com.depth.deokive.domain.file.entity.enums.MediaType;
+import com.depth.deokive.domain.file.entity.enums.ThumbnailStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,7 +16,10 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
-@Table(name = "files")
+@Table(name = "files", indexes = {
+        // 탈퇴 유저 파일 정리용 (작성자 기준 Keyset 조회)
+        @Index(name = "idx_files_created_by", columnList = "created_by, id")
+})
 public class File extends UserBaseEntity {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -40,4 +44,15 @@ public class File extends UserBaseEntity {
     @Column(nullable = false)
     @Builder.Default
     private Boolean isThumbnail = false; // 썸네일 여부
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private ThumbnailStatus thumbnailStatus; // 이미지 썸네일 생성 상태 (null: 생성 대상 아님/이전 파일)
+
+    @Column(name = "thumbnail_attempts")
+    private Integer thumbnailAttempts; // FAILED로 끝난 생성 시도 수 (ThumbnailRetryScheduler 재시도 상한)
+
+    public boolean isThumbnailReady() {
+        return thumbnailStatus == ThumbnailStatus.READY;
+    }
 }
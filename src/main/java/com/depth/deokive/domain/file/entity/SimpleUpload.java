@@ -0,0 +1,52 @@
+package com.depth.deokive.domain.file.entity;
+
+import com.depth.deokive.common.auditor.UserBaseEntity;
+import com.depth.deokive.domain.file.entity.enums.UploadSessionStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 소용량 단일 PUT 업로드 발급 기록
+ * - 발급한 키만 확인(confirm) 가능 -> 임의 키로 다른 객체를 File로 등록하지 못하도록
+ * - 확인되지 않은 채 오래 남은 발급은 UploadSessionSweepScheduler가 ABORTED 후 S3 객체 삭제
+ */
+@Entity
+@SuperBuilder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Table(name = "simple_upload", indexes = {
+        @Index(name = "idx_simple_upload_status_created", columnList = "status, created_at")
+})
+public class SimpleUpload extends UserBaseEntity {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 512)
+    private String s3ObjectKey;
+
+    @Column(nullable = false, length = 1024)
+    private String originalFileName;
+
+    private String mimeType; // 서명된 Content-Type
+
+    @Column(nullable = false)
+    private Long fileSize; // 서명된 Content-Length
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private UploadSessionStatus status = UploadSessionStatus.IN_PROGRESS;
+
+    public boolean isInProgress() {
+        return status == UploadSessionStatus.IN_PROGRESS;
+    }
+
+    public void complete() {
+        this.status = UploadSessionStatus.COMPLETED;
+    }
+}
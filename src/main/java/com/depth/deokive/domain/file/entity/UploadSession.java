@@ -0,0 +1,73 @@
+package com.depth.deokive.domain.file.entity;
+
+import com.depth.deokive.common.auditor.UserBaseEntity;
+import com.depth.deokive.domain.file.entity.enums.UploadSessionStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멀티파트 업로드 세션 (Resume 용)
+ * - uploadId 당 1행, 확인된 Part는 UploadSessionPart
+ * - lastActivityAt: 초기화/Part 확인/Resume 시 갱신 -> 오래 멈춘 세션은 스케줄러가 S3 업로드 중단
+ */
+@Entity
+@SuperBuilder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Table(name = "upload_session", indexes = {
+        @Index(name = "idx_upload_session_status_activity", columnList = "status, last_activity_at")
+})
+public class UploadSession extends UserBaseEntity {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 512)
+    private String uploadId;
+
+    @Column(nullable = false, length = 1024)
+    private String s3ObjectKey;
+
+    @Column(nullable = false, length = 1024)
+    private String originalFileName;
+
+    private String mimeType;
+
+    @Column(nullable = false)
+    private Long fileSize;
+
+    @Column(nullable = false)
+    private Integer partCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private UploadSessionStatus status = UploadSessionStatus.IN_PROGRESS;
+
+    @Column(nullable = false)
+    private LocalDateTime lastActivityAt;
+
+    public boolean isInProgress() {
+        return status == UploadSessionStatus.IN_PROGRESS;
+    }
+
+    public void touch() {
+        this.lastActivityAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = UploadSessionStatus.COMPLETED;
+        touch();
+    }
+
+    public void abort() {
+        this.status = UploadSessionStatus.ABORTED;
+        touch();
+    }
+}
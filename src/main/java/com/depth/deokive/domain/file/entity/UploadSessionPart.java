@@ -0,0 +1,33 @@
+package com.depth.deokive.domain.file.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업로드 세션의 확인된 Part (클라이언트 확인 + S3 ListParts 동기화)
+ * - 클라이언트가 ETag를 잃어버려도 Resume 응답으로 복원 -> 완료 요청에 사용
+ */
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Table(name = "upload_session_part", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_upload_session_part", columnNames = {"session_id", "part_number"})
+})
+public class UploadSessionPart {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "session_id", nullable = false)
+    private Long sessionId;
+
+    @Column(name = "part_number", nullable = false)
+    private Integer partNumber;
+
+    @Column(nullable = false)
+    private String etag;
+}
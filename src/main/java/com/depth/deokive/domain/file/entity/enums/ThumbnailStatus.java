@@ -0,0 +1,15 @@
+package com.depth.deokive.domain.file.entity.enums;
+
+/**
+ * 이미지 썸네일 생성 상태 (ThumbnailConsumer)
+ * - PENDING: 생성 요청 적재됨
+ * - READY: 모든 Variant가 S3에 존재
+ * - SKIPPED: 디코딩 불가 형식/과대 해상도 -> 원본 사용
+ * - FAILED: 생성 실패(일시 장애) -> 원본 사용, ThumbnailRetryScheduler가 상한까지 PENDING으로 되돌려 재요청
+ */
+public enum ThumbnailStatus {
+    PENDING,
+    READY,
+    SKIPPED,
+    FAILED
+}
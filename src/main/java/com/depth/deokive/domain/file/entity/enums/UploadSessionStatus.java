@@ -0,0 +1,13 @@
+package com.depth.deokive.domain.file.entity.enums;
+
+/**
+ * 멀티파트 업로드 세션 상태
+ * - IN_PROGRESS: 업로드 중 (Resume 가능)
+ * - COMPLETED: S3 병합 완료
+ * - ABORTED: 사용자 취소 또는 장기 미활동으로 S3 업로드 중단
+ */
+public enum UploadSessionStatus {
+    IN_PROGRESS,
+    COMPLETED,
+    ABORTED
+}
@@ -7,4 +7,5 @@ import java.util.List;
 import java.util.Optional;
 
 public interface FileRepository extends JpaRepository<File, Long> {
+    Optional<File> findByS3ObjectKey(String s3ObjectKey);
 }
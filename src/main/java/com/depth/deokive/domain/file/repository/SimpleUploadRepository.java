@@ -0,0 +1,35 @@
+package com.depth.deokive.domain.file.repository;
+
+import com.depth.deokive.domain.file.entity.SimpleUpload;
+import com.depth.deokive.domain.file.entity.enums.UploadSessionStatus;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface SimpleUploadRepository extends JpaRepository<SimpleUpload, Long> {
+
+    // 확인(confirm)과 Sweep의 종료가 같은 발급을 동시에 처리하지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SimpleUpload s WHERE s.s3ObjectKey = :key")
+    Optional<SimpleUpload> findForUpdateByS3ObjectKey(@Param("key") String key);
+
+    // 아직 확인되지 않은 발급만 종료 (그 사이 확인된 발급은 0 반환 -> 객체 유지)
+    @Modifying
+    @Query(value = "UPDATE simple_upload SET status = 'ABORTED', last_modified_at = :now WHERE id = :id AND status = 'IN_PROGRESS'", nativeQuery = true)
+    int abortIfInProgress(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    List<SimpleUpload> findByStatusAndCreatedAtBeforeOrderByCreatedAtAsc(
+            UploadSessionStatus status, LocalDateTime before, Pageable pageable);
+
+    List<SimpleUpload> findByStatusInAndLastModifiedAtBefore(
+            Collection<UploadSessionStatus> statuses, LocalDateTime before, Pageable pageable);
+}
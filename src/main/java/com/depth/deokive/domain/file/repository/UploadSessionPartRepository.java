@@ -0,0 +1,19 @@
+package com.depth.deokive.domain.file.repository;
+
+import com.depth.deokive.domain.file.entity.UploadSessionPart;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UploadSessionPartRepository extends JpaRepository<UploadSessionPart, Long> {
+
+    List<UploadSessionPart> findAllBySessionIdOrderByPartNumberAsc(Long sessionId);
+
+    @Modifying
+    @Query("DELETE FROM UploadSessionPart p WHERE p.sessionId IN :sessionIds")
+    void deleteAllBySessionIdIn(@Param("sessionIds") Collection<Long> sessionIds);
+}
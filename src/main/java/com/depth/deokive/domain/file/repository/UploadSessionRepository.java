@@ -0,0 +1,24 @@
+package com.depth.deokive.domain.file.repository;
+
+import com.depth.deokive.domain.file.entity.UploadSession;
+import com.depth.deokive.domain.file.entity.enums.UploadSessionStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSession, Long> {
+
+    Optional<UploadSession> findByUploadId(String uploadId);
+
+    List<UploadSession> findByStatusAndLastActivityAtBeforeOrderByLastActivityAtAsc(
+            UploadSessionStatus status, LocalDateTime before, Pageable pageable);
+
+    List<UploadSession> findByStatusInAndLastActivityAtBefore(
+            Collection<UploadSessionStatus> statuses, LocalDateTime before, Pageable pageable);
+
+    List<UploadSession> findByStatusAndUploadIdIn(UploadSessionStatus status, Collection<String> uploadIds);
+}
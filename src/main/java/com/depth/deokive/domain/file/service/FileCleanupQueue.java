@@ -0,0 +1,48 @@
+package com.depth.deokive.domain.file.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 정리 대상 파일 ID 대기열 (Redis Set)
+ *
+ * [배경]
+ * - 고아 파일 스캔(FileCleanupBatchConfig)은 files 전체를 5개 테이블과 Anti-Join -> 대상이 많을수록 느려짐
+ * - 연결 해제 시점을 이미 아는 경우(탈퇴 유저 정리 등)는 ID를 직접 적재 -> 스캔 없이 바로 삭제
+ *
+ * [동작]
+ * - enqueue: SADD (중복 적재 무해)
+ * - poll: SPOP count -> 꺼낸 ID는 소비자가 재검증(아직 참조 중이면 건너뜀) 후 S3 + DB 삭제
+ * - S3 삭제 실패 건은 다시 enqueue (다음 실행에서 재시도)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileCleanupQueue {
+
+    public static final String QUEUE_KEY = "file:cleanup:queue";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public void enqueue(Collection<Long> fileIds) {
+        if (fileIds.isEmpty()) return;
+        redisTemplate.opsForSet().add(QUEUE_KEY, fileIds.stream().map(String::valueOf).toArray());
+        log.debug("[File Cleanup Queue] Enqueued {} files", fileIds.size());
+    }
+
+    public List<Long> poll(int count) {
+        List<Object> popped = redisTemplate.opsForSet().pop(QUEUE_KEY, count);
+        if (popped == null) return List.of();
+        return popped.stream().map(id -> Long.parseLong(id.toString())).toList();
+    }
+
+    public long size() {
+        Long size = redisTemplate.opsForSet().size(QUEUE_KEY);
+        return size != null ? size : 0L;
+    }
+}
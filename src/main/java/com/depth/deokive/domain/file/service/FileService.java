@@ -2,8 +2,11 @@ package com.depth.deokive.domain.file.service;
 
 import com.depth.deokive.domain.file.dto.FileDto;
 import com.depth.deokive.domain.file.entity.File;
+import com.depth.deokive.domain.file.entity.SimpleUpload;
 import com.depth.deokive.domain.file.entity.enums.MediaRole;
 import com.depth.deokive.domain.file.entity.enums.MediaType;
+import com.depth.deokive.domain.file.entity.enums.ThumbnailStatus;
+import com.depth.deokive.domain.file.entity.enums.UploadSessionStatus;
 import com.depth.deokive.domain.file.repository.FileRepository;
 import com.depth.deokive.domain.s3.dto.S3ServiceDto;
 import com.depth.deokive.domain.s3.service.S3Service;
@@ -16,8 +19,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -37,8 +42,13 @@ import java.util.stream.Collectors;
 public class FileService {
     private final S3Service s3Service;
     private final FileRepository fileRepository;
+    private final UploadSessionService uploadSessionService;
+    private final ThumbnailProducer thumbnailProducer;
 
     @Value("${cdn.base-url:#{null}}") private String cdnBaseUrl;
+    @Value("${file.multipart.presign-window:16}") private int presignWindow;
+    @Value("${file.simple-upload.max-size:10485760}") private long simpleUploadMaxSize;
+    @Value("${file.simple-upload.presign-ttl:5m}") private Duration simpleUploadPresignTtl;
 
     /** 멀티파트 업로드 초기화 (모든 파일 타입: 이미지, 동영상 등) */
     public FileDto.MultipartUploadInitiateResponse initiateMultipartUpload(
@@ -62,24 +72,13 @@ public class FileService {
         Integer partCount = s3Service.calculatePartCount(request.getFileSize());
         log.info("3️⃣ [FileService] Part 개수 계산 완료 - partCount: {}", partCount);
 
-        // 각 Part에 대한 Presigned URL 생성
-        S3ServiceDto.PartPresignedUrlRequest partRequest = S3ServiceDto.PartPresignedUrlRequest.builder()
-                .key(s3Response.getKey())
-                .uploadId(s3Response.getUploadId())
-                .fileSize(request.getFileSize())
-                .build();
-
-        List<S3ServiceDto.PartPresignedUrlResponse> partPresignedUrls = s3Service.generatePartPresignedUrls(partRequest);
-        log.info("4️⃣ [FileService] Presigned URL 생성 완료 - 총 {}개", partPresignedUrls.size());
+        // 앞쪽 Window만 Presigned URL 생성 (나머지는 UploadSessionService.presignParts로 필요할 때 발급 -> 만료 전에 사용)
+        List<FileDto.PartPresignedUrl> partPresignedUrlList = presign(
+                s3Response.getKey(), s3Response.getUploadId(), request.getFileSize(), 1, Math.min(partCount, presignWindow));
+        log.info("4️⃣ [FileService] Presigned URL 생성 완료 - {}/{}개", partPresignedUrlList.size(), partCount);
 
-        // DTO 변환
-        List<FileDto.PartPresignedUrl> partPresignedUrlList = partPresignedUrls.stream()
-                .map(p -> FileDto.PartPresignedUrl.builder()
-                        .partNumber(p.getPartNumber())
-                        .presignedUrl(p.getPresignedUrl())
-                        .contentLength(p.getContentLength())
-                        .build())
-                .collect(Collectors.toList());
+        // 업로드 세션 생성 (연결이 끊겨도 /multipart/resume으로 이어서 업로드)
+        uploadSessionService.open(s3Response, request, partCount);
 
         log.info("🟢 [FileService] 멀티파트 업로드 초기화 응답 준비 완료 - key: {}, uploadId: {}, partCount: {}",
                 s3Response.getKey(), s3Response.getUploadId(), partCount);
@@ -127,28 +126,72 @@ public class FileService {
         CompleteMultipartUploadResponse s3Response = s3Service.completeUpload(s3Request);
         log.info("1️⃣ [FileService] S3 멀티파트 업로드 완료 - location: {}, etag: {}",
                 s3Response.location(), s3Response.eTag());
+        uploadSessionService.close(request.getUploadId(), UploadSessionStatus.COMPLETED);
 
-        // MediaType 결정
-        MediaType mediaType = determineMediaType(request.getMimeType(), request.getOriginalFileName());
+        File fileEntity = saveFile(request.getKey(), request.getOriginalFileName(), request.getFileSize(),
+                request.getMimeType(), request.getMediaRole());
 
-        // MediaRole.PREVIEW인 경우 isThumbnail = true로 설정 (대표 이미지로 지정)
-        boolean isThumbnail = (request.getMediaRole() == MediaRole.PREVIEW);
+        log.info("🟢 [FileService] 멀티파트 업로드 완료 - fileId: {}", fileEntity.getId());
 
-        // File 엔티티 저장 (원본 파일만 저장, 썸네일은 DB에 저장하지 않음 - 패턴 4)
-        // 단, MediaRole.PREVIEW인 경우 isThumbnail = true로 설정하여 대표 이미지임을 표시
-        File fileEntity = File.builder()
-                .s3ObjectKey(request.getKey())
-                .filename(request.getOriginalFileName())
-                .fileSize(request.getFileSize())
-                .mediaType(mediaType)
-                .isThumbnail(isThumbnail)
+        return fileEntity;
+    }
+
+    /**
+     * 소용량 파일 단일 업로드 Presigned URL 발급 (simple-upload.max-size 이하)
+     * - 멀티파트(초기화 -> Part 업로드 -> 완료 + S3 Multipart 관리 비용) 대신 PUT 1회 + 확인 1회
+     * - Content-Type / Content-Length가 서명에 포함되어 다른 타입/크기로는 업로드 불가
+     * - 발급 기록(SimpleUpload)을 남겨 확인은 발급한 키만 허용, 확인되지 않은 객체는 Sweep에서 삭제
+     */
+    public FileDto.SimpleUploadInitiateResponse initiateSimpleUpload(FileDto.SimpleUploadInitiateRequest request) {
+        if (request.getFileSize() > simpleUploadMaxSize) {
+            throw new RestException(ErrorCode.FILE_SIZE_EXCEEDED);
+        }
+
+        S3ServiceDto.SimpleUploadResponse s3Response = s3Service.generateSimpleUploadUrl(
+                S3ServiceDto.UploadInitiateRequest.builder()
+                        .originFileName(request.getOriginalFileName())
+                        .mimeType(request.getMimeType())
+                        .fileSize(request.getFileSize())
+                        .build(),
+                simpleUploadPresignTtl);
+        uploadSessionService.openSimple(s3Response, request);
+
+        return FileDto.SimpleUploadInitiateResponse.builder()
+                .key(s3Response.getKey())
+                .contentType(s3Response.getContentType())
+                .presignedUrl(s3Response.getPresignedUrl())
+                .expiresAt(s3Response.getExpiresAt())
                 .build();
+    }
 
-        fileEntity = fileRepository.save(fileEntity);
-        log.info("2️⃣ [FileService] File 엔티티 저장 완료 - fileId: {}, filename: {}",
-                fileEntity.getId(), fileEntity.getFilename());
+    /**
+     * 소용량 파일 업로드 확인 및 DB 저장
+     * - 이 사용자에게 발급한 키만 확인 가능 (발급 기록 기준)
+     * - S3 HeadObject로 실제 업로드 여부/크기 확인 후 File 등록
+     * - 같은 키 재확인(네트워크 재시도)은 기존 File 반환
+     */
+    public File confirmSimpleUpload(Long userId, FileDto.SimpleUploadConfirmRequest request) {
+        // SEQ 1. 발급 기록 조회 + 소유권 확인, 이미 확인된 키는 기존 File 반환 (멱등)
+        SimpleUpload upload = uploadSessionService.getSimpleForConfirm(userId, request.getKey());
+        if (!upload.isInProgress()) {
+            return fileRepository.findByS3ObjectKey(upload.getS3ObjectKey())
+                    .orElseThrow(() -> new RestException(ErrorCode.FILE_NOT_FOUND));
+        }
 
-        log.info("🟢 [FileService] 멀티파트 업로드 완료 - fileId: {}", fileEntity.getId());
+        // SEQ 2. S3 업로드 확인 (크기는 서명값과 같아야 함)
+        S3ServiceDto.ObjectMetadata metadata = s3Service.headObject(upload.getS3ObjectKey())
+                .orElseThrow(() -> new RestException(ErrorCode.FILE_NOT_FOUND));
+        if (!Objects.equals(metadata.getSize(), upload.getFileSize())) {
+            throw new RestException(ErrorCode.GLOBAL_BAD_REQUEST);
+        }
+
+        // SEQ 3. 저장 (Content-Type은 서명된 S3 값 우선)
+        String mimeType = metadata.getContentType() != null ? metadata.getContentType() : upload.getMimeType();
+        File fileEntity = saveFile(upload.getS3ObjectKey(), upload.getOriginalFileName(), metadata.getSize(),
+                mimeType, request.getMediaRole());
+        upload.complete();
+
+        log.info("🟢 [FileService] 단일 업로드 확인 완료 - fileId: {}, size: {} bytes", fileEntity.getId(), metadata.getSize());
 
         return fileEntity;
     }
@@ -161,6 +204,7 @@ public class FileService {
                 .uploadId(uploadId)
                 .build();
         s3Service.abortUpload(request);
+        uploadSessionService.close(uploadId, UploadSessionStatus.ABORTED);
         log.info("🟢 [FileService] 멀티파트 업로드 취소 완료 - key: {}, uploadId: {}", key, uploadId);
     }
 
@@ -205,6 +249,53 @@ public class FileService {
 
     // -------- Helper Methods --------
 
+    /** File 엔티티 저장 (원본 파일만 저장, 썸네일은 DB에 저장하지 않음 - 패턴 4) */
+    private File saveFile(String key, String originalFileName, Long fileSize, String mimeType, MediaRole mediaRole) {
+        // MediaType 결정
+        MediaType mediaType = determineMediaType(mimeType, originalFileName);
+
+        // MediaRole.PREVIEW인 경우 isThumbnail = true로 설정 (대표 이미지로 지정)
+        boolean isThumbnail = (mediaRole == MediaRole.PREVIEW);
+
+        // 이미지는 썸네일 생성 대상 (PENDING -> ThumbnailConsumer가 READY/SKIPPED/FAILED로 갱신)
+        boolean needsThumbnail = (mediaType == MediaType.IMAGE);
+
+        File fileEntity = fileRepository.save(File.builder()
+                .s3ObjectKey(key)
+                .filename(originalFileName)
+                .fileSize(fileSize)
+                .mediaType(mediaType)
+                .isThumbnail(isThumbnail)
+                .thumbnailStatus(needsThumbnail ? ThumbnailStatus.PENDING : null)
+                .build());
+        log.info("💾 [FileService] File 엔티티 저장 완료 - fileId: {}, filename: {}",
+                fileEntity.getId(), fileEntity.getFilename());
+
+        // 썸네일 생성 요청 (같은 트랜잭션의 Outbox -> 커밋 후 Relay가 발행)
+        if (needsThumbnail) thumbnailProducer.requestThumbnail(fileEntity.getId());
+
+        return fileEntity;
+    }
+
+    /** Part 구간 Presigned URL 생성 */
+    private List<FileDto.PartPresignedUrl> presign(String key, String uploadId, Long fileSize, int from, int to) {
+        S3ServiceDto.PartPresignedUrlRequest partRequest = S3ServiceDto.PartPresignedUrlRequest.builder()
+                .key(key)
+                .uploadId(uploadId)
+                .fileSize(fileSize)
+                .fromPartNumber(from)
+                .toPartNumber(to)
+                .build();
+
+        return s3Service.generatePartPresignedUrls(partRequest).stream()
+                .map(p -> FileDto.PartPresignedUrl.builder()
+                        .partNumber(p.getPartNumber())
+                        .presignedUrl(p.getPresignedUrl())
+                        .contentLength(p.getContentLength())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     /** MediaType 결정 */
     private MediaType determineMediaType(String mimeType, String fileName) {
         if (mimeType == null && fileName == null) {
@@ -0,0 +1,34 @@
+package com.depth.deokive.domain.file.service;
+
+import com.depth.deokive.domain.file.dto.ThumbnailRequestMessage;
+import com.depth.deokive.system.config.rabbitmq.RabbitMQConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 썸네일 생성 Consumer
+ * - 리사이즈는 CPU/메모리 작업 -> OG Consumer(I/O)와 달리 동시 처리 수를 작게 유지 (thumbnailContainerFactory)
+ * - 실패는 상태(FAILED)로 남기고 재큐잉하지 않음 (조회 시 원본으로 Fallback)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThumbnailConsumer {
+
+    private final ThumbnailService thumbnailService;
+
+    @RabbitListener(
+            queues = RabbitMQConfig.THUMBNAIL_QUEUE,
+            containerFactory = "thumbnailContainerFactory",
+            concurrency = "${thumbnail.concurrency:2}"
+    )
+    public void generate(ThumbnailRequestMessage message) {
+        try {
+            thumbnailService.generate(message.getFileId());
+        } catch (Exception e) {
+            log.error("🔴 [Thumbnail Consumer] fileId={} 처리 중 오류", message.getFileId(), e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.depth.deokive.domain.file.service;
+
+import com.depth.deokive.common.util.ThumbnailUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.coobird.thumbnailator.Thumbnails;
+import net.coobird.thumbnailator.util.exif.ExifFilterUtils;
+import net.coobird.thumbnailator.util.exif.ExifUtils;
+import net.coobird.thumbnailator.util.exif.Orientation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 이미지 썸네일 생성 (Pure JVM: ImageIO + Thumbnailator, WebP 입력은 TwelveMonkeys 플러그인)
+ *
+ * [출력]
+ * - Variant(SMALL/MEDIUM/LARGE) 너비로 비율 유지 축소, 원본보다 작으면 원본 크기 유지 (확대 안 함)
+ * - 포맷은 ThumbnailUtils.thumbnailFormatOf(원본 키) -> 파생 키 확장자와 항상 일치 (JVM 표준 ImageIO에는 WebP 인코더가 없음)
+ * - JPEG 출력인데 투명도가 있으면 흰 배경에 합성 (JPEG 인코더는 알파 채널을 받지 않음)
+ * - EXIF Orientation을 반영해 회전 (휴대폰 세로 사진이 눕지 않도록)
+ *
+ * [보호]
+ * - 디코딩 전에 헤더의 가로/세로만 읽어 max-pixels 초과 시 거부 (Decompression Bomb 방어)
+ */
+@Component
+public class ThumbnailGenerator {
+
+    @Value("${thumbnail.max-pixels:40000000}")
+    private long maxPixels;
+
+    @Value("${thumbnail.jpeg-quality:0.82}")
+    private double jpegQuality;
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Output {
+        private final byte[] content;
+        private final String contentType;
+    }
+
+    /**
+     * @param format "png" 또는 "jpg" (ThumbnailUtils.thumbnailFormatOf)
+     */
+    public Map<ThumbnailUtils.Variant, Output> generate(InputStream original, String format) throws IOException {
+        boolean png = "png".equals(format);
+        BufferedImage source = read(original);
+        if (!png && source.getColorModel().hasAlpha()) source = flatten(source);
+        String contentType = png ? "image/png" : "image/jpeg";
+
+        Map<ThumbnailUtils.Variant, Output> outputs = new EnumMap<>(ThumbnailUtils.Variant.class);
+        for (ThumbnailUtils.Variant variant : ThumbnailUtils.Variant.values()) {
+            int width = Math.min(variant.getWidth(), source.getWidth());
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Thumbnails.Builder<BufferedImage> builder = Thumbnails.of(source).width(width).outputFormat(format);
+            if (!png) builder.outputQuality(jpegQuality);
+            builder.toOutputStream(out);
+
+            outputs.put(variant, new Output(out.toByteArray(), contentType));
+        }
+        return outputs;
+    }
+
+    private BufferedImage read(InputStream original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original)) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new UnsupportedImageException("No image reader for source");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, false); // EXIF Orientation을 읽기 위해 메타데이터 유지
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new UnsupportedImageException("Image too large: " + reader.getWidth(0) + "x" + reader.getHeight(0));
+                }
+
+                BufferedImage image = reader.read(0);
+                if (image == null) throw new UnsupportedImageException("Empty image");
+                return orient(image, reader);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Thumbnailator가 InputStream 입력에 적용하는 것과 같은 EXIF 회전/반전 (JPEG 외 형식이나 태그가 없으면 그대로)
+    private BufferedImage orient(BufferedImage image, ImageReader reader) {
+        Orientation orientation;
+        try {
+            orientation = ExifUtils.getExifOrientation(reader, 0);
+        } catch (Exception e) {
+            return image;
+        }
+        if (orientation == null || orientation == Orientation.TOP_LEFT) return image;
+        return ExifFilterUtils.getFilterForOrientation(orientation).apply(image);
+    }
+
+    private BufferedImage flatten(BufferedImage image) {
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, image.getWidth(), image.getHeight());
+            g.drawImage(image, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+}
@@ -0,0 +1,29 @@
+package com.depth.deokive.domain.file.service;
+
+import com.depth.deokive.domain.file.dto.ThumbnailRequestMessage;
+import com.depth.deokive.system.config.rabbitmq.RabbitMQConfig;
+import com.depth.deokive.system.outbox.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 썸네일 생성 요청을 Outbox에 적재
+ * - File INSERT와 같은 트랜잭션 -> 롤백 시 요청도 사라지고, 커밋되면 유실되지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThumbnailProducer {
+
+    private final OutboxService outboxService;
+
+    public void requestThumbnail(Long fileId) {
+        outboxService.enqueue(
+                RabbitMQConfig.THUMBNAIL_EXCHANGE,
+                RabbitMQConfig.THUMBNAIL_ROUTING_KEY,
+                new ThumbnailRequestMessage(fileId)
+        );
+        log.debug("[Thumbnail Producer] fileId={} 생성 요청 Outbox 적재", fileId);
+    }
+}
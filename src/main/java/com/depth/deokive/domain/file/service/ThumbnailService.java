@@ -0,0 +1,144 @@
+package com.depth.deokive.domain.file.service;
+
+import com.depth.deokive.common.enums.ViewLikeDomain;
+import com.depth.deokive.common.event.ContentChangedEvent;
+import com.depth.deokive.common.util.ThumbnailUtils;
+import com.depth.deokive.domain.file.entity.File;
+import com.depth.deokive.domain.file.entity.enums.ThumbnailStatus;
+import com.depth.deokive.domain.file.repository.FileRepository;
+import com.depth.deokive.domain.s3.service.S3Service;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이미지 썸네일 생성 (ThumbnailConsumer에서 호출)
+ *
+ * [흐름]
+ * 1. File 조회 (이미 READY면 skip -> 중복 메시지 멱등)
+ * 2. S3 원본 스트리밍 -> ThumbnailGenerator로 Variant 생성
+ * 3. ThumbnailUtils 파생 키(files/thumbnails/{size}/...)에 업로드
+ * 4. files.thumbnail_status 갱신 -> FileUrlUtils.buildThumbnailUrl이 Variant URL 사용
+ *    READY면 이 파일을 쓰는 게시글의 content_version도 올림 -> 캐시된 상세(PostDetailCache)/ETag 무효화
+ *
+ * [트랜잭션]
+ * - S3 I/O + 리사이즈 동안 DB 커넥션을 잡지 않음, 상태 갱신만 짧은 트랜잭션
+ *
+ * [재시도]
+ * - 디코딩 불가/과대 해상도(SKIPPED)는 다시 해도 같으므로 재시도하지 않음
+ * - FAILED(S3/네트워크 등)는 시도 수를 기록하고 retryFailed가 상한까지 재요청
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThumbnailService {
+
+    private final FileRepository fileRepository;
+    private final S3Service s3Service;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final ThumbnailProducer thumbnailProducer;
+
+    private TransactionTemplate transaction;
+
+    @PostConstruct
+    void init() {
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    public ThumbnailStatus generate(Long fileId) {
+        // SEQ 1. 대상 확인
+        File file = fileRepository.findById(fileId).orElse(null);
+        if (file == null) {
+            log.info("[Thumbnail] File already deleted: fileId={}", fileId);
+            return null;
+        }
+        if (file.isThumbnailReady()) return ThumbnailStatus.READY;
+
+        String originalKey = file.getS3ObjectKey();
+        ThumbnailStatus status;
+        try {
+            // SEQ 2. 원본 스트리밍 + 리사이즈
+            Map<ThumbnailUtils.Variant, ThumbnailGenerator.Output> outputs;
+            try (ResponseInputStream<GetObjectResponse> original = s3Service.openObject(originalKey)) {
+                outputs = thumbnailGenerator.generate(original, ThumbnailUtils.thumbnailFormatOf(originalKey));
+            }
+
+            // SEQ 3. 파생 키에 업로드
+            outputs.forEach((variant, output) -> s3Service.putObject(
+                    ThumbnailUtils.getThumbnailKey(originalKey, variant), output.getContent(), output.getContentType()));
+            status = ThumbnailStatus.READY;
+            log.info("🟢 [Thumbnail] Generated: fileId={}, variants={}", fileId, outputs.size());
+
+        } catch (UnsupportedImageException | NoSuchKeyException e) {
+            status = ThumbnailStatus.SKIPPED;
+            log.warn("⚠️ [Thumbnail] Skipped: fileId={}, reason={}", fileId, e.getMessage());
+        } catch (Exception e) {
+            status = ThumbnailStatus.FAILED;
+            log.error("🔴 [Thumbnail] Failed: fileId={}, key={}", fileId, originalKey, e);
+        }
+
+        // SEQ 4. 상태 반영
+        ThumbnailStatus result = status;
+        transaction.executeWithoutResult(tx -> {
+            if (result == ThumbnailStatus.FAILED) {
+                jdbcTemplate.update("UPDATE files SET thumbnail_status = ?, thumbnail_attempts = COALESCE(thumbnail_attempts, 0) + 1 " +
+                        "WHERE id = ?", result.name(), fileId);
+            } else {
+                jdbcTemplate.update("UPDATE files SET thumbnail_status = ? WHERE id = ?", result.name(), fileId);
+            }
+            if (result == ThumbnailStatus.READY) bumpPostVersions(fileId);
+        });
+        meterRegistry.counter("thumbnail.generated", "status", status.name()).increment();
+        return status;
+    }
+
+    /**
+     * FAILED 썸네일 재요청 (ThumbnailRetryScheduler)
+     * - PENDING 전환 + Outbox 적재를 한 트랜잭션으로 (조건부 UPDATE라 여러 노드가 동시에 돌아도 1번만 적재)
+     * @return 재요청한 파일 수
+     */
+    public int retryFailed(int maxAttempts, int limit) {
+        Integer requeued = transaction.execute(tx -> {
+            List<Long> fileIds = jdbcTemplate.queryForList(
+                    "SELECT id FROM files WHERE thumbnail_status = 'FAILED' AND COALESCE(thumbnail_attempts, 0) < ? " +
+                            "ORDER BY id LIMIT ?", Long.class, maxAttempts, limit);
+            int count = 0;
+            for (Long fileId : fileIds) {
+                if (jdbcTemplate.update("UPDATE files SET thumbnail_status = 'PENDING' " +
+                        "WHERE id = ? AND thumbnail_status = 'FAILED'", fileId) > 0) {
+                    thumbnailProducer.requestThumbnail(fileId);
+                    count++;
+                }
+            }
+            return count;
+        });
+        return requeued != null ? requeued : 0;
+    }
+
+    // 게시글 상세의 파일 썸네일 URL이 바뀌므로 콘텐츠 버전을 올리고 커밋 후 캐시 무효화
+    private void bumpPostVersions(Long fileId) {
+        List<Long> postIds = jdbcTemplate.queryForList(
+                "SELECT post_id FROM post_file_map WHERE file_id = ?", Long.class, fileId);
+        if (postIds.isEmpty()) return;
+
+        jdbcTemplate.update("UPDATE post SET content_version = content_version + 1 " +
+                "WHERE id IN (SELECT post_id FROM post_file_map WHERE file_id = ?)", fileId);
+        eventPublisher.publishEvent(ContentChangedEvent.of(ViewLikeDomain.POST, postIds));
+    }
+}
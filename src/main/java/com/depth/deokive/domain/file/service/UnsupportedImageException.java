@@ -0,0 +1,12 @@
+package com.depth.deokive.domain.file.service;
+
+/**
+ * 썸네일을 만들 수 없는 원본 (디코딩 불가 형식 / 해상도 한도 초과)
+ * - 재시도해도 결과가 같으므로 SKIPPED 처리
+ */
+public class UnsupportedImageException extends RuntimeException {
+
+    public UnsupportedImageException(String message) {
+        super(message);
+    }
+}
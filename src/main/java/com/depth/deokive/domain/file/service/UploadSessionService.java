@@ -0,0 +1,341 @@
+package com.depth.deokive.domain.file.service;
+
+import com.depth.deokive.domain.file.dto.FileDto;
+import com.depth.deokive.domain.file.entity.SimpleUpload;
+import com.depth.deokive.domain.file.entity.UploadSession;
+import com.depth.deokive.domain.file.entity.enums.UploadSessionStatus;
+import com.depth.deokive.domain.file.repository.SimpleUploadRepository;
+import com.depth.deokive.domain.file.repository.UploadSessionPartRepository;
+import com.depth.deokive.domain.file.repository.UploadSessionRepository;
+import com.depth.deokive.domain.s3.dto.S3ServiceDto;
+import com.depth.deokive.domain.s3.service.S3Service;
+import com.depth.deokive.system.exception.model.ErrorCode;
+import com.depth.deokive.system.exception.model.RestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 멀티파트 업로드 세션 (Resume)
+ *
+ * [배경]
+ * - 기존: 업로드 도중 연결이 끊기면 어떤 Part가 올라갔는지 알 수 없음 -> 처음부터 재업로드 + S3에 고아 업로드 잔존
+ *
+ * [동작]
+ * 1. 초기화 시 세션 생성 (uploadId, 파일 크기, Part 수)
+ * 2. 클라이언트는 Part 업로드마다 ETag를 확인(ack) -> upload_session_part에 기록
+ * 3. Resume: S3 ListParts를 기준으로 확인된 Part 동기화 -> 누락 Part 번호 + 새 Presigned URL 반환
+ *    - 크기가 다른 Part는 누락으로 간주 (재업로드하면 S3가 같은 번호를 덮어씀)
+ * 4. 완료/취소 시 세션 종료, 장기 미활동 세션은 UploadSessionSweepScheduler가 S3 업로드 중단
+ *
+ * [단일 PUT 업로드]
+ * - 발급 시 SimpleUpload 기록 -> 확인은 발급한 키만, 발급자만 가능
+ * - 확인되지 않은 발급은 UploadSessionSweepScheduler가 S3 객체 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadSessionService {
+
+    private static final String UPSERT_PART_SQL = """
+            INSERT INTO upload_session_part (session_id, part_number, etag) VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE etag = VALUES(etag)
+            """;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadSessionPartRepository uploadSessionPartRepository;
+    private final SimpleUploadRepository simpleUploadRepository;
+    private final S3Service s3Service;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${file.multipart.max-presign-batch:100}")
+    private int maxPresignBatch;
+
+    /**
+     * 세션 생성 (초기화 트랜잭션에 참여, 생성자는 Auditing으로 기록)
+     */
+    @Transactional
+    public void open(S3ServiceDto.UploadInitiateResponse s3Response,
+                     FileDto.MultipartUploadInitiateRequest request, int partCount) {
+        uploadSessionRepository.save(UploadSession.builder()
+                .uploadId(s3Response.getUploadId())
+                .s3ObjectKey(s3Response.getKey())
+                .originalFileName(request.getOriginalFileName() != null ? request.getOriginalFileName() : "unknown")
+                .mimeType(s3Response.getContentType())
+                .fileSize(request.getFileSize())
+                .partCount(partCount)
+                .lastActivityAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 업로드 완료한 Part 확인 (ETag 기록, 같은 Part 재확인 시 덮어씀)
+     */
+    @Transactional
+    public void acknowledge(Long userId, String uploadId, List<FileDto.Part> parts) {
+        // SEQ 1. 세션 조회 + 소유권/상태 확인
+        UploadSession session = getOpenSession(userId, uploadId);
+
+        // SEQ 2. Part 검증
+        for (FileDto.Part part : parts) {
+            if (part.getPartNumber() == null || part.getPartNumber() < 1 || part.getPartNumber() > session.getPartCount()
+                    || part.getEtag() == null || part.getEtag().isBlank()) {
+                throw new RestException(ErrorCode.GLOBAL_BAD_REQUEST);
+            }
+        }
+
+        // SEQ 3. Upsert (Batch)
+        jdbcTemplate.batchUpdate(UPSERT_PART_SQL, parts, parts.size(), (ps, part) -> {
+            ps.setLong(1, session.getId());
+            ps.setInt(2, part.getPartNumber());
+            ps.setString(3, part.getEtag());
+        });
+        session.touch();
+    }
+
+    /**
+     * 업로드 재개: S3 기준으로 확인된 Part 동기화 후 누락 Part와 새 Presigned URL 반환
+     */
+    @Transactional
+    public FileDto.UploadResumeResponse resume(Long userId, String uploadId) {
+        // SEQ 1. 세션 조회 + 소유권/상태 확인
+        UploadSession session = getOpenSession(userId, uploadId);
+
+        // SEQ 2. S3에 실제로 올라간 Part 조회 (크기가 맞는 Part만 확인된 것으로 간주)
+        List<S3ServiceDto.UploadedPart> uploaded;
+        try {
+            uploaded = s3Service.listUploadedParts(session.getS3ObjectKey(), uploadId);
+        } catch (NoSuchUploadException e) {
+            log.warn("⚠️ [UploadSession] S3 upload already gone: uploadId={}", uploadId);
+            throw new RestException(ErrorCode.UPLOAD_SESSION_CLOSED);
+        }
+
+        Map<Integer, String> confirmed = new TreeMap<>();
+        for (S3ServiceDto.UploadedPart part : uploaded) {
+            if (part.getPartNumber() > session.getPartCount()) continue;
+            long expected = s3Service.calculatePartSize(session.getFileSize(), part.getPartNumber(), session.getPartCount());
+            if (part.getSize() != null && part.getSize() == expected) {
+                confirmed.put(part.getPartNumber(), part.getEtag());
+            }
+        }
+
+        // SEQ 3. 확인된 Part 동기화 (S3에 없는 ack는 제거)
+        jdbcTemplate.update("DELETE FROM upload_session_part WHERE session_id = ?", session.getId());
+        List<Map.Entry<Integer, String>> entries = new ArrayList<>(confirmed.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_PART_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, session.getId());
+            ps.setInt(2, entry.getKey());
+            ps.setString(3, entry.getValue());
+        });
+
+        // SEQ 4. 누락 Part 계산 + 앞쪽 max-presign-batch개 Presigned URL 발급 (나머지는 /multipart/presign)
+        List<Integer> missing = new ArrayList<>();
+        for (int part = 1; part <= session.getPartCount(); part++) {
+            if (!confirmed.containsKey(part)) missing.add(part);
+        }
+
+        List<FileDto.PartPresignedUrl> partPresignedUrls = missing.isEmpty() ? List.of() :
+                s3Service.generatePartPresignedUrls(S3ServiceDto.PartPresignedUrlRequest.builder()
+                                .key(session.getS3ObjectKey())
+                                .uploadId(uploadId)
+                                .fileSize(session.getFileSize())
+                                .partNumbers(missing.subList(0, Math.min(missing.size(), maxPresignBatch)))
+                                .build())
+                        .stream()
+                        .map(p -> FileDto.PartPresignedUrl.builder()
+                                .partNumber(p.getPartNumber())
+                                .presignedUrl(p.getPresignedUrl())
+                                .contentLength(p.getContentLength())
+                                .build())
+                        .collect(Collectors.toList());
+
+        session.touch();
+        log.info("🟢 [UploadSession] Resume - uploadId: {}, confirmed: {}, missing: {}", uploadId, confirmed.size(), missing.size());
+
+        return FileDto.UploadResumeResponse.builder()
+                .key(session.getS3ObjectKey())
+                .uploadId(uploadId)
+                .partCount(session.getPartCount())
+                .confirmedParts(confirmed.entrySet().stream()
+                        .map(e -> FileDto.Part.builder().partNumber(e.getKey()).etag(e.getValue()).build())
+                        .toList())
+                .missingPartNumbers(missing)
+                .partPresignedUrls(partPresignedUrls)
+                .build();
+    }
+
+    /**
+     * Part Presigned URL 추가 발급 (초기화 응답 이후 구간)
+     * - 키/파일 크기는 세션 기준 (요청 값으로 다른 업로드에 서명하지 않도록)
+     * - 한 번에 max-presign-batch개까지 -> 클라이언트는 업로드 진행에 맞춰 다음 구간을 요청
+     */
+    @Transactional
+    public FileDto.PartPresignResponse presignParts(Long userId, FileDto.PartPresignRequest request) {
+        // SEQ 1. 세션 조회 + 소유권/상태 확인
+        UploadSession session = getOpenSession(userId, request.getUploadId());
+
+        // SEQ 2. 구간 검증
+        int from = request.getFromPartNumber();
+        int to = request.getToPartNumber();
+        if (from > to || to > session.getPartCount() || to - from + 1 > maxPresignBatch) {
+            throw new RestException(ErrorCode.GLOBAL_BAD_REQUEST);
+        }
+
+        // SEQ 3. 구간 서명
+        List<FileDto.PartPresignedUrl> partPresignedUrls = s3Service.generatePartPresignedUrls(
+                        S3ServiceDto.PartPresignedUrlRequest.builder()
+                                .key(session.getS3ObjectKey())
+                                .uploadId(session.getUploadId())
+                                .fileSize(session.getFileSize())
+                                .fromPartNumber(from)
+                                .toPartNumber(to)
+                                .build())
+                .stream()
+                .map(p -> FileDto.PartPresignedUrl.builder()
+                        .partNumber(p.getPartNumber())
+                        .presignedUrl(p.getPresignedUrl())
+                        .contentLength(p.getContentLength())
+                        .build())
+                .collect(Collectors.toList());
+
+        // SEQ 4. 활동 시각 갱신 (진행 중인 업로드가 Sweep 대상이 되지 않도록)
+        session.touch();
+
+        return FileDto.PartPresignResponse.builder()
+                .key(session.getS3ObjectKey())
+                .uploadId(session.getUploadId())
+                .partCount(session.getPartCount())
+                .partPresignedUrls(partPresignedUrls)
+                .build();
+    }
+
+    /**
+     * 세션 종료 (완료/취소, 세션이 없는 이전 업로드는 무시)
+     */
+    @Transactional
+    public void close(String uploadId, UploadSessionStatus status) {
+        uploadSessionRepository.findByUploadId(uploadId).ifPresent(session -> {
+            if (status == UploadSessionStatus.COMPLETED) session.complete();
+            else session.abort();
+            uploadSessionPartRepository.deleteAllBySessionIdIn(List.of(session.getId()));
+        });
+    }
+
+    // --- 단일 PUT 업로드 ---
+
+    /**
+     * 단일 업로드 발급 기록 (발급 트랜잭션에 참여, 생성자는 Auditing으로 기록)
+     */
+    @Transactional
+    public void openSimple(S3ServiceDto.SimpleUploadResponse s3Response, FileDto.SimpleUploadInitiateRequest request) {
+        simpleUploadRepository.save(SimpleUpload.builder()
+                .s3ObjectKey(s3Response.getKey())
+                .originalFileName(request.getOriginalFileName() != null ? request.getOriginalFileName() : "unknown")
+                .mimeType(s3Response.getContentType())
+                .fileSize(request.getFileSize())
+                .build());
+    }
+
+    /**
+     * 확인 대상 발급 조회 (발급하지 않은 키 / 다른 사용자의 발급은 거부, 완료된 발급은 재확인용으로 반환)
+     * - 행 잠금은 확인 트랜잭션 끝까지 유지 -> Sweep이 확인 중인 객체를 삭제하지 않음
+     */
+    @Transactional
+    public SimpleUpload getSimpleForConfirm(Long userId, String key) {
+        SimpleUpload upload = simpleUploadRepository.findForUpdateByS3ObjectKey(key)
+                .orElseThrow(() -> new RestException(ErrorCode.UPLOAD_SESSION_NOT_FOUND));
+
+        if (!Objects.equals(upload.getCreatedBy(), userId)) {
+            log.warn("⚠️ IDOR Attempt Detected! Key: {}, RequestUser: {}, Owner: {}",
+                    key, userId, upload.getCreatedBy());
+            throw new RestException(ErrorCode.FILE_ACCESS_DENIED);
+        }
+        if (upload.getStatus() == UploadSessionStatus.ABORTED) {
+            throw new RestException(ErrorCode.UPLOAD_SESSION_CLOSED);
+        }
+        return upload;
+    }
+
+    // --- Sweep (UploadSessionSweepScheduler) ---
+
+    @Transactional(readOnly = true)
+    public List<UploadSession> findStale(LocalDateTime inactiveBefore, int limit) {
+        return uploadSessionRepository.findByStatusAndLastActivityAtBeforeOrderByLastActivityAtAsc(
+                UploadSessionStatus.IN_PROGRESS, inactiveBefore, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 아직 활동 중인 세션의 uploadId (고아 업로드 판별용)
+     */
+    @Transactional(readOnly = true)
+    public Set<String> findActiveUploadIds(Collection<String> uploadIds, LocalDateTime inactiveBefore) {
+        if (uploadIds.isEmpty()) return Set.of();
+        return uploadSessionRepository.findByStatusAndUploadIdIn(UploadSessionStatus.IN_PROGRESS, uploadIds).stream()
+                .filter(session -> session.getLastActivityAt().isAfter(inactiveBefore))
+                .map(UploadSession::getUploadId)
+                .collect(Collectors.toSet());
+    }
+
+    @Transactional(readOnly = true)
+    public List<SimpleUpload> findStaleSimple(LocalDateTime issuedBefore, int limit) {
+        return simpleUploadRepository.findByStatusAndCreatedAtBeforeOrderByCreatedAtAsc(
+                UploadSessionStatus.IN_PROGRESS, issuedBefore, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 확인되지 않은 단일 업로드 종료 (S3 객체 삭제 전에 호출)
+     * @return 종료했으면 true, 그 사이 확인되었으면 false (객체 삭제 금지)
+     */
+    @Transactional
+    public boolean abortSimple(Long id) {
+        return simpleUploadRepository.abortIfInProgress(id, LocalDateTime.now()) > 0;
+    }
+
+    /**
+     * 종료 후 보관 기간이 지난 세션(멀티파트 + 단일 업로드 발급) 삭제
+     * @return 삭제한 행 수
+     */
+    @Transactional
+    public int purgeClosed(LocalDateTime closedBefore, int limit) {
+        List<UploadSessionStatus> closedStatuses = List.of(UploadSessionStatus.COMPLETED, UploadSessionStatus.ABORTED);
+
+        List<UploadSession> closed = uploadSessionRepository.findByStatusInAndLastActivityAtBefore(
+                closedStatuses, closedBefore, PageRequest.of(0, limit));
+        if (!closed.isEmpty()) {
+            uploadSessionPartRepository.deleteAllBySessionIdIn(closed.stream().map(UploadSession::getId).toList());
+            uploadSessionRepository.deleteAllInBatch(closed);
+        }
+
+        List<SimpleUpload> closedSimple = simpleUploadRepository.findByStatusInAndLastModifiedAtBefore(
+                closedStatuses, closedBefore, PageRequest.of(0, limit));
+        if (!closedSimple.isEmpty()) simpleUploadRepository.deleteAllInBatch(closedSimple);
+
+        return closed.size() + closedSimple.size();
+    }
+
+    // --- Helper Methods ---
+
+    private UploadSession getOpenSession(Long userId, String uploadId) {
+        UploadSession session = uploadSessionRepository.findByUploadId(uploadId)
+                .orElseThrow(() -> new RestException(ErrorCode.UPLOAD_SESSION_NOT_FOUND));
+
+        if (!Objects.equals(session.getCreatedBy(), userId)) {
+            log.warn("⚠️ IDOR Attempt Detected! UploadId: {}, RequestUser: {}, Owner: {}",
+                    uploadId, userId, session.getCreatedBy());
+            throw new RestException(ErrorCode.FILE_ACCESS_DENIED);
+        }
+        if (!session.isInProgress()) {
+            throw new RestException(ErrorCode.UPLOAD_SESSION_CLOSED);
+        }
+        return session;
+    }
+}
@@ -46,7 +46,22 @@ public class GalleryService {
 
         archiveGuard.checkArchiveReadPermission(galleryBook.getArchive(), userPrincipal);
 
-        Page<GalleryDto.Response> page = galleryQueryRepository.searchGalleriesByArchive(archiveId, pageable);
+        return readGalleries(galleryBook, pageable);
+    }
+
+    /**
+     * 아카이브 홈 섹션용 (권한 검증은 ArchiveHomeService에서 한 번만 수행)
+     */
+    @Transactional(readOnly = true)
+    public PageDto.PageListResponse<GalleryDto.Response> getGallerySection(Long archiveId, Pageable pageable) {
+        GalleryBook galleryBook = galleryBookRepository.findById(archiveId)
+                .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
+
+        return readGalleries(galleryBook, pageable);
+    }
+
+    private PageDto.PageListResponse<GalleryDto.Response> readGalleries(GalleryBook galleryBook, Pageable pageable) {
+        Page<GalleryDto.Response> page = galleryQueryRepository.searchGalleriesByArchive(galleryBook.getId(), pageable);
 
         PageUtils.validatePageRange(page);
 
@@ -62,7 +77,7 @@ public class GalleryService {
         GalleryBook galleryBook = galleryBookRepository.findById(archiveId)
                 .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
 
-        archiveGuard.checkOwner(galleryBook.getArchive().getUser().getId(), userPrincipal);
+        archiveGuard.checkOwner(galleryBook.getArchive(), userPrincipal);
 
         List<File> files = fileService.validateFileOwners(request.getFileIds(), userPrincipal.getUserId());
 
@@ -96,7 +111,7 @@ public class GalleryService {
         GalleryBook galleryBook = galleryBookRepository.findById(archiveId)
                 .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
 
-        archiveGuard.checkOwner(galleryBook.getArchive().getUser().getId(), userPrincipal);
+        archiveGuard.checkOwner(galleryBook.getArchive(), userPrincipal);
 
         galleryBook.updateTitle(request.getTitle());
 
@@ -111,7 +126,7 @@ public class GalleryService {
         Archive archive = archiveRepository.findById(archiveId)
                 .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
 
-        archiveGuard.checkOwner(archive.getUser().getId(), userPrincipal);
+        archiveGuard.checkOwner(archive, userPrincipal);
         galleryRepository.deleteByIdsAndArchiveId(request.getGalleryIds(), archiveId);
     }
 }
\ No newline at end of file
@@ -1,20 +1,31 @@
 package com.depth.deokive.domain.notification.controller;
 
+import com.depth.deokive.domain.notification.dto.NotificationDto;
 import com.depth.deokive.domain.notification.dto.event.NotificationEvent;
+import com.depth.deokive.domain.notification.service.NotificationInboxService;
 import com.depth.deokive.domain.notification.service.NotificationService;
 import com.depth.deokive.system.security.model.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import com.depth.deokive.system.exception.dto.ErrorResponse;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -24,8 +35,10 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationInboxService notificationInboxService;
 
-    @Operation(summary = "알림 구독", description = "로그인한 유저가 알림을 받기 위해 SSE에 연결합니다.")
+    @Operation(summary = "알림 구독", description = "로그인한 유저가 알림을 받기 위해 SSE에 연결합니다. " +
+            "재연결 시 브라우저가 보내는 Last-Event-ID 이후의 알림을 Inbox에서 Replay합니다.")
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     @ApiResponses(value = {
             @ApiResponse(
@@ -45,7 +58,48 @@ public class NotificationController {
                             examples = @ExampleObject(value = "{\"status\": \"UNAUTHORIZED\", \"error\": \"JWT_MISSING\", \"message\": \"토큰이 누락되었습니다.\"}"))
             )
     })
-    public SseEmitter subscribe(@AuthenticationPrincipal UserPrincipal userPrincipal) {
-        return notificationService.subscribe(userPrincipal.getUserId());
+    public SseEmitter subscribe(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "마지막으로 수신한 알림 ID (EventSource가 재연결 시 자동 전송)")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return notificationService.subscribe(userPrincipal.getUserId(), lastEventId);
+    }
+
+    @Operation(summary = "알림 Inbox 조회", description = "최신순 무한 스크롤. 다음 페이지는 응답의 nextCursor를 lastNotificationId로 전달합니다.")
+    @GetMapping
+    public ResponseEntity<NotificationDto.SliceResponse> getInbox(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) Long lastNotificationId,
+            @PageableDefault(size = 20) Pageable pageable
+    ) {
+        int size = Math.min(pageable.getPageSize(), 100);
+        return ResponseEntity.ok(notificationInboxService.getInbox(userPrincipal.getUserId(), lastNotificationId, size));
+    }
+
+    @Operation(summary = "읽지 않은 알림 수 조회")
+    @GetMapping("/unread-count")
+    public ResponseEntity<NotificationDto.UnreadCountResponse> getUnreadCount(
+            @AuthenticationPrincipal UserPrincipal userPrincipal
+    ) {
+        return ResponseEntity.ok(new NotificationDto.UnreadCountResponse(
+                notificationInboxService.getUnreadCount(userPrincipal.getUserId())));
+    }
+
+    @Operation(summary = "알림 일괄 읽음 처리", description = "본인 알림만 처리되며, 처리 후 남은 읽지 않은 알림 수를 반환합니다.")
+    @PatchMapping("/read")
+    public ResponseEntity<NotificationDto.UnreadCountResponse> markAsRead(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody NotificationDto.ReadRequest request
+    ) {
+        return ResponseEntity.ok(new NotificationDto.UnreadCountResponse(
+                notificationInboxService.markAsRead(userPrincipal.getUserId(), request.getNotificationIds())));
+    }
+
+    @Operation(summary = "알림 전체 읽음 처리")
+    @PatchMapping("/read-all")
+    public ResponseEntity<Void> markAllAsRead(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+        notificationInboxService.markAllAsRead(userPrincipal.getUserId());
+        return ResponseEntity.ok().build();
     }
 }
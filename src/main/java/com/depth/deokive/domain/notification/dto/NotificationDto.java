@@ -0,0 +1,96 @@
+package com.depth.deokive.domain.notification.dto;
+
+import com.depth.deokive.domain.notification.entity.Notification;
+import com.depth.deokive.domain.notification.entity.enums.NotificationType;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class NotificationDto {
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @Schema(name = "NotificationSliceResponse", description = "알림 Inbox 목록 응답 (Keyset Pagination)")
+    public static class SliceResponse {
+        @Schema(description = "알림 목록 (최신순)")
+        private List<Response> content;
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        private boolean hasNext;
+
+        @Schema(description = "다음 페이지 요청 시 lastNotificationId로 전달할 값 (없으면 null)", example = "120")
+        private Long nextCursor;
+
+        @Schema(description = "읽지 않은 알림 수", example = "3")
+        private long unreadCount;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @Schema(name = "NotificationResponse", description = "알림 응답 DTO")
+    public static class Response {
+        @Schema(description = "알림 ID (SSE event id와 동일)", example = "128")
+        private Long notificationId;
+
+        @Schema(description = "알림 발신자 ID", example = "5")
+        private Long senderId;
+
+        @Schema(description = "알림 유형", example = "FRIEND_REQUEST")
+        private NotificationType type;
+
+        @Schema(description = "알림 메시지 내용", example = "홍길동님이 친구 요청을 보냈습니다.")
+        private String content;
+
+        @Schema(description = "관련 리소스 URL")
+        private String relatedUrl;
+
+        @JsonProperty("isRead")
+        @Schema(description = "읽음 여부", example = "false")
+        private boolean isRead;
+
+        @Schema(description = "생성 일시")
+        private LocalDateTime createdAt;
+
+        public static Response from(Notification notification) {
+            return Response.builder()
+                    .notificationId(notification.getId())
+                    .senderId(notification.getSenderId())
+                    .type(notification.getType())
+                    .content(notification.getContent())
+                    .relatedUrl(notification.getRelatedUrl())
+                    .isRead(notification.isRead())
+                    .createdAt(notification.getCreatedAt())
+                    .build();
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @Schema(description = "알림 일괄 읽음 처리 요청")
+    public static class ReadRequest {
+        @NotEmpty
+        @Size(max = 500)
+        @Schema(description = "읽음 처리할 알림 ID 목록", example = "[120, 121, 128]")
+        private List<Long> notificationIds;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Schema(description = "읽지 않은 알림 수 응답")
+    public static class UnreadCountResponse {
+        @Schema(description = "읽지 않은 알림 수", example = "3")
+        private long unreadCount;
+    }
+}
@@ -1,6 +1,7 @@
 package com.depth.deokive.domain.notification.dto.event;
 
 
+import com.depth.deokive.domain.notification.entity.Notification;
 import com.depth.deokive.domain.notification.entity.enums.NotificationType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -10,6 +11,9 @@ import lombok.Getter;
 @Builder
 @Schema(description = "실시간 알림 데이터 페이로드")
 public class NotificationEvent {
+    @Schema(description = "알림 Inbox ID (SSE event id, Last-Event-ID로 재연결 시 이후 알림 Replay)", example = "128")
+    private Long notificationId;
+
     @Schema(description = "알림 수신자 ID", example = "10")
     private Long receiverId;
 
@@ -34,4 +38,20 @@ public class NotificationEvent {
                 .relatedUrl(relatedUrl)
                 .build();
     }
+
+    public static NotificationEvent from(Notification notification) {
+        return NotificationEvent.builder()
+                .notificationId(notification.getId())
+                .receiverId(notification.getReceiverId())
+                .senderId(notification.getSenderId())
+                .type(notification.getType())
+                .content(notification.getContent())
+                .relatedUrl(notification.getRelatedUrl())
+                .build();
+    }
+
+    // Inbox 저장(BEFORE_COMMIT) 후 발급된 ID를 AFTER_COMMIT 발송 단계로 전달
+    public void assignNotificationId(Long notificationId) {
+        this.notificationId = notificationId;
+    }
 }
@@ -0,0 +1,51 @@
+package com.depth.deokive.domain.notification.entity;
+
+import com.depth.deokive.common.auditor.TimeBaseEntity;
+import com.depth.deokive.domain.notification.entity.enums.NotificationType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 알림 Inbox
+ * - id(AUTO_INCREMENT)가 유저별로도 단조 증가 -> SSE Last-Event-ID 및 Keyset Pagination 커서로 사용
+ * - 이력성 데이터이므로 User FK 없이 id만 보관 (발신자 탈퇴 후에도 알림 유지)
+ */
+@Entity
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Table(
+    name = "notification",
+    indexes = {
+        // Inbox 조회 (receiver + id DESC) / Replay (receiver + id > lastEventId)
+        @Index(name = "idx_notification_receiver_id", columnList = "receiver_id, id"),
+        @Index(name = "idx_notification_receiver_unread", columnList = "receiver_id, is_read")
+    }
+)
+public class Notification extends TimeBaseEntity {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "receiver_id", nullable = false)
+    private Long receiverId;
+
+    @Column(name = "sender_id")
+    private Long senderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private NotificationType type;
+
+    @Column(nullable = false)
+    private String content;
+
+    @Column(name = "related_url", length = 2048)
+    private String relatedUrl;
+
+    @Column(name = "is_read", nullable = false)
+    private boolean isRead;
+}
@@ -1,7 +1,8 @@
 package com.depth.deokive.domain.notification.handler;
 
 import com.depth.deokive.domain.notification.dto.event.NotificationEvent;
-import com.depth.deokive.domain.notification.service.NotificationService;
+import com.depth.deokive.domain.notification.service.NotificationFanoutHub;
+import com.depth.deokive.domain.notification.service.NotificationInboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -13,16 +14,29 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @Component
 @RequiredArgsConstructor
 public class NotificationEventHandler {
-    private final NotificationService notificationService;
+    private final NotificationFanoutHub notificationFanoutHub;
+    private final NotificationInboxService notificationInboxService;
 
+    // SEQ 1. 알림을 발생시킨 트랜잭션 안에서 Inbox 저장 (함께 커밋/롤백)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void saveToInbox(NotificationEvent event) {
+        event.assignNotificationId(notificationInboxService.append(event));
+    }
+
+    // SEQ 2. 커밋 후 실시간 발송 (오프라인/재연결 유저는 Inbox Replay로 수신)
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleNotificationEvent(NotificationEvent event) {
-        log.info("[Notification] 발송 요청 감지 -> Type: {}, Target: {}", event.getType(), event.getReceiverId());
+        log.info("[Notification] 발송 요청 감지 -> Type: {}, Target: {}, Id: {}",
+                event.getType(), event.getReceiverId(), event.getNotificationId());
+
+        notificationInboxService.incrementUnread(event.getReceiverId());
 
-        notificationService.send(
+        // 수신자가 연결된 노드가 어디든 전달되도록 Redis Pub/Sub으로 Fan-out
+        notificationFanoutHub.publish(
                 event.getReceiverId(),
                 event.getType().name(),
+                event.getNotificationId(),
                 event
         );
     }
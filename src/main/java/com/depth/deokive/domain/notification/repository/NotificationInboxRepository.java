@@ -0,0 +1,37 @@
+package com.depth.deokive.domain.notification.repository;
+
+import com.depth.deokive.domain.notification.entity.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface NotificationInboxRepository extends JpaRepository<Notification, Long> {
+
+    // Keyset Pagination (최신순) - lastNotificationId 미만
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.receiverId = :receiverId AND (:lastId IS NULL OR n.id < :lastId) " +
+            "ORDER BY n.id DESC")
+    List<Notification> findInbox(@Param("receiverId") Long receiverId, @Param("lastId") Long lastId, Pageable pageable);
+
+    // SSE Replay (오래된 순) - Last-Event-ID 초과
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.receiverId = :receiverId AND n.id > :lastId " +
+            "ORDER BY n.id ASC")
+    List<Notification> findAfter(@Param("receiverId") Long receiverId, @Param("lastId") Long lastId, Pageable pageable);
+
+    long countByReceiverIdAndIsReadFalse(Long receiverId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true " +
+            "WHERE n.receiverId = :receiverId AND n.id IN :ids AND n.isRead = false")
+    int markAsRead(@Param("receiverId") Long receiverId, @Param("ids") List<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true " +
+            "WHERE n.receiverId = :receiverId AND n.isRead = false")
+    int markAllAsRead(@Param("receiverId") Long receiverId);
+}
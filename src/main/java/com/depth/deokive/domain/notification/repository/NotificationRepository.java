@@ -1,31 +1,50 @@
 package com.depth.deokive.domain.notification.repository;
 
+import com.depth.deokive.system.config.sse.SseConnection;
+import com.depth.deokive.system.config.sse.SseConnectionManager;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Collection;
 
+/**
+ * 알림 SSE 연결 저장소
+ * - 실제 보관/Heartbeat는 SseConnectionManager(공용)가 담당, 여기서는 알림 채널로 한정
+ * - 한 유저가 여러 탭/기기에서 동시에 접속 가능
+ */
 @Repository
+@RequiredArgsConstructor
 public class NotificationRepository {
-   private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    public static final String CHANNEL = "notification";
+    private static final String HEARTBEAT_EVENT = "ping";
 
-    // SEQ 1. Emitter 저장
-    public void save(Long userId, SseEmitter emitter) {
-        emitters.put(userId, emitter);
+    private final SseConnectionManager sseConnectionManager;
+
+    // SEQ 1. Emitter 저장 (종료/타임아웃/에러 시 자동 삭제)
+    public SseConnection save(Long userId, SseEmitter emitter) {
+        return sseConnectionManager.register(CHANNEL, userId, emitter, HEARTBEAT_EVENT);
+    }
+
+    // SEQ 2. Emitter 삭제 (마지막 연결이면 유저 엔트리까지 제거)
+    public void delete(Long userId, SseEmitter emitter) {
+        sseConnectionManager.unregister(CHANNEL, userId, emitter);
+    }
+
+    // SEQ 3. 연결 조회
+    public Collection<SseConnection> get(Long userId) {
+        return sseConnectionManager.getConnections(CHANNEL, userId);
     }
 
-    // SEQ 2. Emitter 삭제
-    public void deleteById(Long userId) {
-        emitters.remove(userId);
+    public boolean contains(Long userId) {
+        return sseConnectionManager.isConnected(CHANNEL, userId);
     }
 
-    // SEQ 3. Emitter 조회
-    public SseEmitter get(Long userId) {
-        return emitters.get(userId);
+    public int countUsers() {
+        return sseConnectionManager.countUsers(CHANNEL);
     }
 
-    public Map<Long, SseEmitter> findAll() {
-        return emitters;
+    public int countConnections() {
+        return sseConnectionManager.countConnections(CHANNEL);
     }
 }
@@ -0,0 +1,202 @@
+package com.depth.deokive.domain.notification.service;
+
+import com.depth.deokive.domain.notification.repository.NotificationRepository;
+import com.depth.deokive.system.config.sse.SseConnection;
+import com.depth.deokive.system.config.sse.SseConnectionListener;
+import com.depth.deokive.system.config.sse.SseConnectionManager;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 SSE Cross-Node Fan-out Hub
+ *
+ * [배경]
+ * - Emitter는 노드 로컬 메모리에 있음 -> 요청을 처리한 노드에 연결된 유저에게만 전달되던 문제
+ *
+ * [동작]
+ * 1. publish: receiverId 기준 샤드 채널(notification:shard:{n})로 PUBLISH
+ * 2. 구독: 이 노드에 연결된 유저가 있는 샤드만 동적으로 SUBSCRIBE (RepostSseSubscriber와 동일)
+ *    - 샤드의 첫 유저 연결 시 SUBSCRIBE, 마지막 유저 해제 시 UNSUBSCRIBE (SseConnectionListener)
+ *    - 구독 직전에 발행된 알림은 Inbox에 남아 있으므로 Last-Event-ID Replay / Inbox 조회로 보정
+ * 3. onMessage: 헤더의 userId만 먼저 읽고, 같은 샤드의 다른 유저 메시지면 본문은 건드리지 않고 버림
+ * 4. 연결이 있으면 JSON 본문을 역직렬화 없이 그대로 SSE로 전달
+ *
+ * [메시지 포맷]
+ * - "{userId} {eventName} {eventId} {publishedAtMillis}\n{json}" (eventId = Inbox ID, 없으면 "-")
+ *
+ * [Metrics]
+ * - notification.sse.connections / notification.sse.users: 노드별 연결 수
+ * - notification.fanout.subscribed.shards: 이 노드가 구독 중인 샤드 수
+ * - notification.delivery.latency: PUBLISH -> 로컬 전송 완료까지 지연
+ * - notification.fanout.messages{result=delivered|skipped|malformed}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationFanoutHub implements MessageListener, SseConnectionListener {
+
+    public static final String CHANNEL_PREFIX = "notification:shard:";
+
+    private final NotificationService notificationService;
+    private final NotificationRepository notificationRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final SseConnectionManager sseConnectionManager;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.fanout.shard-count:16}")
+    private int shardCount;
+
+    private int[] shardUsers; // 샤드별 연결 유저 수 (shardLocks로 보호)
+    private Object[] shardLocks;
+    private final AtomicInteger subscribedShards = new AtomicInteger();
+
+    private Timer deliveryLatency;
+    private Counter delivered;
+    private Counter skipped;
+    private Counter malformed;
+
+    @PostConstruct
+    void init() {
+        shardUsers = new int[shardCount];
+        shardLocks = new Object[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shardLocks[i] = new Object();
+        }
+
+        Gauge.builder("notification.fanout.subscribed.shards", subscribedShards, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("notification.sse.connections", notificationRepository, NotificationRepository::countConnections)
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.users", notificationRepository, NotificationRepository::countUsers)
+                .register(meterRegistry);
+
+        deliveryLatency = Timer.builder("notification.delivery.latency")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        delivered = meterRegistry.counter("notification.fanout.messages", "result", "delivered");
+        skipped = meterRegistry.counter("notification.fanout.messages", "result", "skipped");
+        malformed = meterRegistry.counter("notification.fanout.messages", "result", "malformed");
+
+        sseConnectionManager.addListener(NotificationRepository.CHANNEL, this);
+    }
+
+    @Override
+    public void onConnected(SseConnection connection, boolean firstForUser) {
+        if (firstForUser) acquireShard(connection.getUserId());
+    }
+
+    @Override
+    public void onDisconnected(SseConnection connection, boolean lastForUser) {
+        if (lastForUser) releaseShard(connection.getUserId());
+    }
+
+    /**
+     * 클러스터 전체로 알림 발행 (수신자가 어느 노드에 연결되어 있든 전달)
+     */
+    public void publish(Long receiverId, String eventName, Long eventId, Object data) {
+        try {
+            String json = objectMapper.writeValueAsString(data);
+            String message = receiverId + " " + eventName + " " + (eventId != null ? eventId : "-")
+                    + " " + System.currentTimeMillis() + "\n" + json;
+            redisTemplate.convertAndSend(channelOf(receiverId), message);
+        } catch (JsonProcessingException e) {
+            log.error("[Notification Hub] Failed to serialize event: receiverId={}", receiverId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        byte[] body = message.getBody();
+        int newline = indexOf(body, (byte) '\n');
+        if (newline < 0) {
+            malformed.increment();
+            return;
+        }
+
+        String[] header = new String(body, 0, newline, StandardCharsets.US_ASCII).split(" ");
+        if (header.length != 4) {
+            malformed.increment();
+            return;
+        }
+
+        try {
+            Long userId = Long.parseLong(header[0]);
+
+            // 같은 샤드의 다른 유저 -> 본문 디코딩 없이 버림
+            if (!notificationRepository.contains(userId)) {
+                skipped.increment();
+                return;
+            }
+
+            String json = new String(body, newline + 1, body.length - newline - 1, StandardCharsets.UTF_8);
+            Long eventId = "-".equals(header[2]) ? null : Long.parseLong(header[2]);
+            if (notificationService.sendToClient(userId, header[1], eventId, json) > 0) {
+                delivered.increment();
+                long publishedAt = Long.parseLong(header[3]);
+                deliveryLatency.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - publishedAt)));
+            }
+        } catch (NumberFormatException e) {
+            malformed.increment();
+        }
+    }
+
+    String channelOf(Long userId) {
+        return CHANNEL_PREFIX + shardOf(userId);
+    }
+
+    int subscribedShardCount() {
+        return subscribedShards.get();
+    }
+
+    private void acquireShard(Long userId) {
+        int shard = shardOf(userId);
+        synchronized (shardLocks[shard]) {
+            if (shardUsers[shard]++ == 0) {
+                redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + shard));
+                subscribedShards.incrementAndGet();
+                log.debug("[Notification Hub] Subscribed shard={}", shard);
+            }
+        }
+    }
+
+    private void releaseShard(Long userId) {
+        int shard = shardOf(userId);
+        synchronized (shardLocks[shard]) {
+            if (shardUsers[shard] > 0 && --shardUsers[shard] == 0) {
+                redisMessageListenerContainer.removeMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + shard));
+                subscribedShards.decrementAndGet();
+                log.debug("[Notification Hub] Unsubscribed shard={}", shard);
+            }
+        }
+    }
+
+    private int shardOf(Long userId) {
+        return (int) Math.floorMod(userId, (long) shardCount);
+    }
+
+    private static int indexOf(byte[] bytes, byte target) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == target) return i;
+        }
+        return -1;
+    }
+}
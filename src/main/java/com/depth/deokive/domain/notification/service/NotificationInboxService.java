@@ -0,0 +1,168 @@
+package com.depth.deokive.domain.notification.service;
+
+import com.depth.deokive.domain.notification.dto.NotificationDto;
+import com.depth.deokive.domain.notification.dto.event.NotificationEvent;
+import com.depth.deokive.domain.notification.entity.Notification;
+import com.depth.deokive.domain.notification.repository.NotificationInboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 알림 Inbox 서비스
+ *
+ * [저장]
+ * - 알림을 발생시킨 트랜잭션 안에서 저장 (BEFORE_COMMIT) -> 친구 요청과 알림이 함께 커밋/롤백
+ *
+ * [읽지 않은 알림 수]
+ * - Redis notification:unread:{userId} (Cache-Aside)
+ * - 키가 있을 때만 증감 (없으면 다음 조회 시 DB COUNT로 재적재) -> 유실된 증감이 누적되지 않음
+ * - 키는 UNREAD_TTL 후 만료 -> 재적재 직전에 끼어든 증감으로 어긋난 값도 최대 TTL까지만 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationInboxService {
+
+    private final NotificationInboxRepository notificationInboxRepository;
+    private final RedisTemplate<String, Long> longRedisTemplate;
+
+    private static final String UNREAD_KEY_PREFIX = "notification:unread:";
+    private static final Duration UNREAD_TTL = Duration.ofHours(1);
+    public static final int REPLAY_LIMIT = 100;
+
+    // 키가 존재할 때만 INCRBY, 0 미만으로 내려가지 않도록 보정 (INCRBY/KEEPTTL은 기존 TTL 유지)
+    private static final DefaultRedisScript<Long> INCR_IF_EXISTS = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end " +
+                    "local v = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+                    "if v < 0 then redis.call('SET', KEYS[1], 0, 'KEEPTTL') v = 0 end " +
+                    "return v",
+            Long.class);
+
+    /**
+     * Inbox 저장 (호출자 트랜잭션에 참여)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Long append(NotificationEvent event) {
+        Notification saved = notificationInboxRepository.save(Notification.builder()
+                .receiverId(event.getReceiverId())
+                .senderId(event.getSenderId())
+                .type(event.getType())
+                .content(event.getContent())
+                .relatedUrl(event.getRelatedUrl())
+                .isRead(false)
+                .build());
+        return saved.getId();
+    }
+
+    /**
+     * Inbox 목록 조회 (Keyset Pagination, 최신순)
+     */
+    @Transactional(readOnly = true)
+    public NotificationDto.SliceResponse getInbox(Long userId, Long lastNotificationId, int size) {
+        List<Notification> rows = notificationInboxRepository.findInbox(userId, lastNotificationId, PageRequest.of(0, size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<Notification> page = hasNext ? rows.subList(0, size) : rows;
+
+        return NotificationDto.SliceResponse.builder()
+                .content(page.stream().map(NotificationDto.Response::from).toList())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+                .unreadCount(getUnreadCount(userId))
+                .build();
+    }
+
+    /**
+     * SSE 재연결 시 Replay 대상 (Last-Event-ID 이후, 오래된 순)
+     */
+    @Transactional(readOnly = true)
+    public List<NotificationEvent> findAfter(Long userId, Long lastEventId) {
+        if (lastEventId == null) return Collections.emptyList();
+        return notificationInboxRepository.findAfter(userId, lastEventId, PageRequest.of(0, REPLAY_LIMIT)).stream()
+                .map(NotificationEvent::from)
+                .toList();
+    }
+
+    /**
+     * 일괄 읽음 처리
+     */
+    @Transactional
+    public long markAsRead(Long userId, List<Long> notificationIds) {
+        int updated = notificationInboxRepository.markAsRead(userId, notificationIds);
+        if (updated > 0) adjustUnread(userId, -updated);
+        return getUnreadCount(userId);
+    }
+
+    /**
+     * 전체 읽음 처리
+     */
+    @Transactional
+    public void markAllAsRead(Long userId) {
+        notificationInboxRepository.markAllAsRead(userId);
+        try {
+            longRedisTemplate.opsForValue().set(UNREAD_KEY_PREFIX + userId, 0L, UNREAD_TTL);
+        } catch (Exception e) {
+            log.warn("[Notification Inbox] Unread reset failed -> userId: {}, Error: {}", userId, e.getMessage());
+            evictUnread(userId);
+        }
+    }
+
+    /**
+     * 읽지 않은 알림 수 (Cache-Aside)
+     */
+    public long getUnreadCount(Long userId) {
+        String key = UNREAD_KEY_PREFIX + userId;
+        try {
+            Object cached = longRedisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached.toString());
+            }
+
+            long count = notificationInboxRepository.countByReceiverIdAndIsReadFalse(userId);
+            longRedisTemplate.opsForValue().setIfAbsent(key, count, UNREAD_TTL);
+            return count;
+        } catch (Exception e) {
+            // Redis 장애 시 DB fallback
+            log.warn("[Notification Inbox] Redis error, falling back to DB -> userId: {}, Error: {}", userId, e.getMessage());
+            return notificationInboxRepository.countByReceiverIdAndIsReadFalse(userId);
+        }
+    }
+
+    /**
+     * 새 알림 커밋 후 호출 (AFTER_COMMIT)
+     */
+    public void incrementUnread(Long userId) {
+        adjustUnread(userId, 1);
+    }
+
+    private void adjustUnread(Long userId, long delta) {
+        try {
+            longRedisTemplate.execute(INCR_IF_EXISTS, List.of(UNREAD_KEY_PREFIX + userId), delta);
+        } catch (Exception e) {
+            // 증감 실패 시 키 제거 -> 다음 조회에서 DB 기준으로 재적재
+            log.warn("[Notification Inbox] Unread adjust failed -> userId: {}, Error: {}", userId, e.getMessage());
+            evictUnread(userId);
+        }
+    }
+
+    /**
+     * 안 읽은 개수 캐시 제거 (다음 조회에서 DB 기준으로 재적재)
+     */
+    public void evictUnread(Long userId) {
+        try {
+            longRedisTemplate.delete(UNREAD_KEY_PREFIX + userId);
+        } catch (Exception ignored) {
+            // Soft Fail
+        }
+    }
+}
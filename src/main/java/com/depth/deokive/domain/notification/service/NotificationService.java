@@ -1,83 +1,90 @@
 package com.depth.deokive.domain.notification.service;
 
+import com.depth.deokive.domain.notification.dto.event.NotificationEvent;
 import com.depth.deokive.domain.notification.repository.NotificationRepository;
+import com.depth.deokive.system.config.sse.SseConnection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationInboxService notificationInboxService;
 
     // SSE 연결 시간(1시간)
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60;
 
     /**
      * 클라이언트 로그인 시 연결 요청
+     * - 같은 유저의 기존 연결은 유지 (탭/기기별로 각각 수신)
+     * - Last-Event-ID가 있으면 그 이후 Inbox 알림을 Replay (최대 REPLAY_LIMIT건, 나머지는 Inbox API로 조회)
+     * - Emitter 등록 후 Replay하므로 경계 시점 알림은 중복될 수 있음 -> 클라이언트는 event id로 중복 제거
      */
-    public SseEmitter subscribe(Long userId) {
+    public SseEmitter subscribe(Long userId, String lastEventId) {
         // Emitter 생성
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
 
-        notificationRepository.save(userId, emitter);
-
-        // SEQ 1. 연결 -> 만료시 삭제
-        emitter.onCompletion(() -> notificationRepository.deleteById(userId));
-        emitter.onTimeout(() -> notificationRepository.deleteById(userId));
-        emitter.onError((e) -> notificationRepository.deleteById(userId));
+        // SEQ 1. 연결 등록 (만료/에러 시 해당 연결만 자동 삭제, Heartbeat는 SseConnectionManager가 분산 전송)
+        SseConnection connection = notificationRepository.save(userId, emitter);
 
+        // SEQ 2. 연결 직후 더미 데이터 전송 (id 미지정 -> 브라우저의 Last-Event-ID를 덮어쓰지 않음)
+        send(connection, SseEmitter.event()
+                .name("connect")
+                .data("connected! [userId=" + userId + "]"));
 
-        // SEQ 2. 연결 직후 더미 데이터 전송
-        sendToClient(userId, "connect", "connected! [userId=" + userId + "]");
+        // SEQ 3. 놓친 알림 Replay
+        for (NotificationEvent missed : notificationInboxService.findAfter(userId, parseEventId(lastEventId))) {
+            boolean sent = send(connection, SseEmitter.event()
+                    .id(String.valueOf(missed.getNotificationId()))
+                    .name(missed.getType().name())
+                    .data(missed, MediaType.APPLICATION_JSON));
+            if (!sent) break;
+        }
 
         return emitter;
     }
 
     /**
-     * 알림 전송
-     */
-    public void send(Long receiverId, String eventName, Object data) {
-        sendToClient(receiverId, eventName, data);
-    }
-
-    /**
-     * 내부 전송 로직
+     * 이 노드에 연결된 유저에게만 전송
+     * - 다른 노드로의 전파는 NotificationFanoutHub(Redis Pub/Sub)가 담당
+     *
+     * @param json 이미 직렬화된 JSON (노드 간 전파 시 역직렬화 없이 그대로 전달)
+     * @return 전송 성공한 연결 수
      */
-    public void sendToClient(Long receiverId, String eventName, Object data) {
-        SseEmitter emitter = notificationRepository.get(receiverId);
+    public int sendToClient(Long receiverId, String eventName, Long eventId, String json) {
+        int delivered = 0;
 
         // 로그인 X -> 전송 X
-        if(emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .id(String.valueOf(System.currentTimeMillis()))
-                        .name(eventName)
-                        .data(data));
-            } catch (IOException e) {
-                notificationRepository.deleteById(receiverId);
-                log.error("SSE 연결 오류 발생: userId={}", receiverId);
-            }
+        for (SseConnection connection : notificationRepository.get(receiverId)) {
+            SseEmitter.SseEventBuilder event = SseEmitter.event();
+            if (eventId != null) event.id(String.valueOf(eventId));
+            event.name(eventName).data(json, MediaType.APPLICATION_JSON);
+
+            boolean sent = send(connection, event);
+            if (sent) delivered++;
         }
+        return delivered;
     }
 
-    /**
-     * heartbeat -> 30초마다 ping 전송
-     */
-    @Scheduled(fixedRate = 30000)
-    public void sendHeartbeat() {
-        notificationRepository.findAll().forEach((userId, emitter) -> {
-            try {
-                emitter.send(SseEmitter.event().name("ping").data(""));
-            } catch (IOException e){
-                notificationRepository.deleteById(userId);
-            }
-        });
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return null;
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null; // 이전 버전의 timestamp id 등 -> Replay 없음
+        }
+    }
+
+    // 실패 시 연결은 SseConnection이 정리
+    private boolean send(SseConnection connection, SseEmitter.SseEventBuilder event) {
+        boolean sent = connection.send(event);
+        if (!sent) log.error("SSE 연결 오류 발생: userId={}", connection.getUserId());
+        return sent;
     }
-}
\ No newline at end of file
+}
@@ -18,11 +18,13 @@ import org.springframework.http.MediaType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import com.depth.deokive.system.exception.dto.ErrorResponse;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -60,21 +62,50 @@ public class PostController {
 
     @GetMapping("/{postId}")
     @RateLimit(type = RateLimitType.AUTO, capacity = 120, refillTokens = 120, refillPeriodSeconds = 60)
-    @Operation(summary = "게시글 상세 조회", description = "게시글 ID로 상세 정보를 조회합니다.")
+    @Operation(summary = "게시글 상세 조회", description = "게시글 본문과 첨부파일을 조회합니다. If-None-Match가 현재 ETag와 같으면 본문 없이 304를 반환합니다. (조회수/좋아요 수/댓글 수/좋아요 여부는 /stats)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "게시글 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (ETag 일치)"),
             @ApiResponse(responseCode = "404", description = "존재하지 않는 게시글입니다.",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ErrorResponse.class),
                             examples = @ExampleObject(value = "{\"status\": \"NOT_FOUND\", \"error\": \"POST_NOT_FOUND\", \"message\": \"존재하지 않는 게시글입니다.\"}")))
     })
-    public ResponseEntity<PostDto.Response> getPost(
+    public ResponseEntity<PostDto.Detail> getPost(
             @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
             @PathVariable Long postId,
-            HttpServletRequest request
+            HttpServletRequest request,
+            WebRequest webRequest
     ) {
-        PostDto.Response response = postService.getPost(userPrincipal, postId, request);
-        return ResponseEntity.ok(response);
+        // 콘텐츠 버전이 같으면 본문 조회 없이 304 (조회수는 집계)
+        String etag = postService.getPostEtag(postId);
+        if (webRequest.checkNotModified(etag)) {
+            postService.increaseViewCount(userPrincipal, postId, request);
+            return null;
+        }
+
+        // ETag 헤더는 checkNotModified에서 이미 설정됨
+        PostDto.Detail response = postService.getPostContent(userPrincipal, postId, request);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(response);
+    }
+
+    @GetMapping("/{postId}/stats")
+    @RateLimit(type = RateLimitType.AUTO, capacity = 300, refillTokens = 300, refillPeriodSeconds = 60)
+    @Operation(summary = "게시글 실시간 통계 조회", description = "조회수, 좋아요 수, 댓글 수, 좋아요 여부를 조회합니다. (상세 ETag에 포함되지 않는 값)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 게시글입니다.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"status\": \"NOT_FOUND\", \"error\": \"POST_NOT_FOUND\", \"message\": \"존재하지 않는 게시글입니다.\"}")))
+    })
+    public ResponseEntity<PostDto.StatsResponse> getPostStats(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long postId
+    ) {
+        return ResponseEntity.ok(postService.getPostStats(userPrincipal, postId));
     }
 
     @PatchMapping("/{postId}")
@@ -3,4 +3,7 @@ package com.depth.deokive.domain.post.dto;
 public interface MetadataProvider {
     boolean supports(String url); // 해당 전략이 지원하는 도메인인지 확인
     OgMetadata extract(String url); // 메타데이터 추출
+
+    // 외부 호스트로 네트워크 요청을 보내는지 여부 (true면 HostGuard 보호 대상)
+    default boolean isRemote() { return true; }
 }
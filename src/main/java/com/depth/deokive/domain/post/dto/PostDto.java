@@ -2,6 +2,7 @@ package com.depth.deokive.domain.post.dto;
 
 import com.depth.deokive.common.dto.PageDto;
 import com.depth.deokive.common.util.FileUrlUtils;
+import com.depth.deokive.common.util.ThumbnailUtils;
 import com.depth.deokive.domain.file.dto.FileDto;
 import com.depth.deokive.domain.file.entity.File;
 import com.depth.deokive.domain.file.entity.enums.MediaRole;
@@ -114,6 +115,9 @@ public class PostDto {
         @Schema(description = "핫 스코어", example = "50.5")
         private Double hotScore;
 
+        @Schema(description = "댓글 수 (상세 조회에서만 포함)", example = "7")
+        private Long commentCount;
+
         @Schema(description = "첨부 파일 객체 리스트", example = """
             [
               {
@@ -184,7 +188,28 @@ public class PostDto {
                     .build();
         }
 
-        private static List<FileDto.UploadFileResponse> toFileResponses(List<PostFileMap> maps) {
+        // 상세 Read Model + 조회 시점의 카운터
+        public static Response of(Detail detail, long viewCount, long likeCount, long commentCount,
+                                  double hotScore, boolean isLiked) {
+            return Response.builder()
+                    .id(detail.getId())
+                    .title(detail.getTitle())
+                    .content(detail.getContent())
+                    .category(detail.getCategory())
+                    .createdAt(detail.getCreatedAt())
+                    .lastModifiedAt(detail.getLastModifiedAt())
+                    .createdBy(detail.getCreatedBy())
+                    .lastModifiedBy(detail.getLastModifiedBy())
+                    .viewCount(viewCount)
+                    .likeCount(likeCount)
+                    .commentCount(commentCount)
+                    .hotScore(hotScore)
+                    .isLiked(isLiked)
+                    .files(detail.getFiles())
+                    .build();
+        }
+
+        static List<FileDto.UploadFileResponse> toFileResponses(List<PostFileMap> maps) {
             if (maps == null || maps.isEmpty()) { return Collections.emptyList(); }
 
             return maps.stream()
@@ -194,6 +219,7 @@ public class PostDto {
                         .fileId(file.getId())
                         .filename(file.getFilename())
                         .cdnUrl(FileUrlUtils.buildCdnUrl(file.getS3ObjectKey()))
+                        .thumbnailUrl(FileUrlUtils.buildThumbnailUrl(file, ThumbnailUtils.Variant.MEDIUM.getWidth()))
                         .fileSize(file.getFileSize())
                         .mediaType(file.getMediaType().name())
                         .mediaRole(map.getMediaRole())
@@ -204,6 +230,56 @@ public class PostDto {
         }
     }
 
+    /**
+     * 게시글 상세 Read Model (PostDetailCache 저장 단위, GET /posts/{id} 응답)
+     * - 수정 시에만 바뀌는 본문/첨부파일만 보관 -> 콘텐츠 버전이 같으면 응답 바이트도 같음 (강한 ETag 대상)
+     * - 카운터와 좋아요 여부는 StatsResponse (/stats)
+     */
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    @Schema(name = "PostDetailResponse", description = "게시글 상세 응답 DTO (본문/첨부파일, 실시간 통계는 /stats)")
+    public static class Detail {
+        @Schema(description = "게시글 아이디", example = "1")
+        private Long id;
+
+        @Schema(description = "게시글 제목", example = "짱구는 못말려: 어른 제국의 역습 후기")
+        private String title;
+
+        @Schema(description = "게시글 본문", example = "신형만의 회상씬은 정말 최고였다 ... (중략)")
+        private String content;
+
+        @Schema(description = "게시글 카테고리", example = "IDOL | ACTOR | MUSICIAN | SPORT | ARTIST | ANIMATION | ETC")
+        private Category category;
+
+        @Schema(description = "게시글 생성 시간", example = "KST Datetime")
+        private LocalDateTime createdAt;
+
+        @Schema(description = "게시글 수정 시간", example = "KST Datetime")
+        private LocalDateTime lastModifiedAt;
+
+        @Schema(description = "게시글 작성자 아이디", example = "5")
+        private Long createdBy;
+
+        @Schema(description = "게시글 수정자 아이디", example = "5")
+        private Long lastModifiedBy;
+
+        @Schema(description = "첨부 파일 객체 리스트")
+        private List<FileDto.UploadFileResponse> files;
+
+        public static Detail of(Post post, List<PostFileMap> maps) {
+            return Detail.builder()
+                    .id(post.getId())
+                    .title(post.getTitle())
+                    .content(post.getContent())
+                    .category(post.getCategory())
+                    .createdAt(post.getCreatedAt())
+                    .lastModifiedAt(post.getLastModifiedAt())
+                    .createdBy(post.getCreatedBy())
+                    .lastModifiedBy(post.getLastModifiedBy())
+                    .files(Response.toFileResponses(maps))
+                    .build();
+        }
+    }
+
     @Data @Builder @NoArgsConstructor @AllArgsConstructor
     public static class AttachedFileRequest {
         @NotNull(message = "파일 ID는 필수입니다.")
@@ -321,4 +397,28 @@ public class PostDto {
         @Schema(description = "실시간 좋아요 개수")
         private Long likeCount;
     }
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    @Schema(name = "PostStatsResponse", description = "게시글 실시간 통계 (상세 ETag와 분리된 동적 값)")
+    public static class StatsResponse {
+        @Schema(description = "게시글 ID", example = "1")
+        private Long postId;
+
+        @Schema(description = "조회수", example = "150")
+        private Long viewCount;
+
+        @Schema(description = "실시간 좋아요 수", example = "25")
+        private Long likeCount;
+
+        @Schema(description = "댓글 수", example = "7")
+        private Long commentCount;
+
+        @Schema(description = "핫 스코어", example = "50.5")
+        private Double hotScore;
+
+        @Builder.Default
+        @JsonProperty("isLiked")
+        @Schema(description = "내가 좋아요 눌렀는지 여부", example = "true")
+        private Boolean isLiked = false;
+    }
 }
@@ -47,6 +47,12 @@ public class Post extends UserBaseEntity {
     @Column(name = "thumbnail_key")
     private String thumbnailKey; // Denormalization Fields for Pagination Performance
 
+    // 상세 조회 ETag용 콘텐츠 버전 (본문/첨부파일 변경 시 증가, 조회수/좋아요와 무관)
+    // SQL로만 증가 (PostRepository.bumpContentVersion) -> Dirty Checking이 읽어 둔 값을 다시 쓰지 않음
+    @Builder.Default
+    @Column(name = "content_version", nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long contentVersion = 0L;
+
     public void update(PostDto.UpdateRequest request) {
         if (request == null) return;
 
@@ -7,42 +7,17 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 public interface PostRepository extends JpaRepository<Post, Long> {
-    // 1. 일반 핫스코어 업데이트 (최근 7일 이내)
-    // 수정: TIMESTAMPDIFF(HOUR, ...) -> TIMESTAMPDIFF(MINUTE, ...) / 60.0 (정밀도 향상)
-    @Modifying(clearAutomatically = true)
-    @Query(value = """
-        UPDATE post_stats
-        SET hot_score = (
-            ( :w1 * LN(1 + like_count) + :w2 * LN(1 + view_count) )
-            * EXP(-:lambda * (TIMESTAMPDIFF(MINUTE, created_at, NOW()) / 60.0))
-        )
-        WHERE created_at > DATE_SUB(NOW(), INTERVAL 7 DAY)
-    """, nativeQuery = true)
-    int updateHotScoreStandard(
-            @Param("w1") double w1,
-            @Param("w2") double w2,
-            @Param("lambda") double lambda
-    );
+    // 상세 ETag용: 콘텐츠 버전만 조회
+    @Query("SELECT p.contentVersion FROM Post p WHERE p.id = :id")
+    Optional<Long> findContentVersionById(@Param("id") Long id);
 
-    // 2. 게이트키퍼 패널티 적용 (7일 ~ 7일+1시간)
-    @Modifying(clearAutomatically = true)
-    @Query(value = """
-        UPDATE post_stats
-        SET hot_score = (
-            (
-                ( :w1 * LN(1 + like_count) + :w2 * LN(1 + view_count) )
-                * EXP(-:lambda * (TIMESTAMPDIFF(MINUTE, created_at, NOW()) / 60.0))
-            ) * 0.5
-        )
-        WHERE created_at BETWEEN DATE_SUB(NOW(), INTERVAL 169 HOUR) 
-                             AND DATE_SUB(NOW(), INTERVAL 168 HOUR)
-    """, nativeQuery = true)
-    int applyHotScorePenalty(
-            @Param("w1") double w1,
-            @Param("w2") double w2,
-            @Param("lambda") double lambda
-    );
+    // 콘텐츠 버전 증가: DB에서 원자적으로 +1 (썸네일 완료와 동시에 커밋돼도 버전이 겹치지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE post SET content_version = content_version + 1 WHERE id = :id", nativeQuery = true)
+    int bumpContentVersion(@Param("id") Long id);
 
     @Transactional
     @Modifying(clearAutomatically = true)
@@ -0,0 +1,73 @@
+package com.depth.deokive.domain.post.service;
+
+import com.depth.deokive.common.service.VersionedHashCache;
+import com.depth.deokive.domain.post.dto.PostDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 Read Model 캐시
+ *
+ * [배경]
+ * - 상세 조회마다 게시글 + 통계 + 파일 매핑 조회 -> 본문/첨부파일은 거의 바뀌지 않는데 매번 MySQL에서 재조립
+ *
+ * [구조]
+ * - 본문/첨부파일 (PostDto.Detail): VersionedHashCache (L1 Caffeine + L2 Redis, post-detail:post:{id})
+ *   -> 수정·삭제 커밋 후 무효화 (ContentChangedEvent), 썸네일 생성 완료 시에도 무효화
+ * - 조회수 / 핫스코어 스냅샷: 노드 로컬 Caffeine, 짧은 TTL
+ *   -> 스케줄러가 주기적으로 DB에 반영하는 값이라 무효화 없이 TTL로만 갱신
+ * - 좋아요 수 / 댓글 수 / 좋아요 여부는 캐시하지 않고 조회 시점에 Redis에서 덮어씀 (PostService)
+ */
+@Component
+public class PostDetailCache extends VersionedHashCache<PostDto.Detail> {
+
+    private static final String VARIANT = "v";
+
+    private final Cache<Long, StatsSnapshot> statsSnapshots;
+
+    public PostDetailCache(RedisTemplate<String, Object> redisTemplate,
+                           RedisMessageListenerContainer redisMessageListenerContainer,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${post.detail-cache.ttl:30m}") Duration ttl,
+                           @Value("${post.detail-cache.local-ttl:5m}") Duration localTtl,
+                           @Value("${post.detail-cache.local-max-size:10000}") long localMaxSize,
+                           @Value("${post.detail-cache.stats-ttl:10s}") Duration statsTtl) {
+        super("post-detail", PostDto.Detail.class, ttl, localTtl, localMaxSize,
+                redisTemplate, redisMessageListenerContainer, objectMapper, meterRegistry);
+
+        this.statsSnapshots = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(statsTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, statsSnapshots, "post-detail-stats");
+    }
+
+    public PostDto.Detail get(Long postId, Supplier<PostDto.Detail> loader) {
+        return get("post:" + postId, VARIANT, version -> loader.get());
+    }
+
+    public StatsSnapshot getStats(Long postId, Supplier<StatsSnapshot> loader) {
+        return statsSnapshots.get(postId, id -> loader.get());
+    }
+
+    public void evict(Collection<Long> postIds) {
+        evictSubjects(postIds.stream().map(id -> "post:" + id).toList());
+        statsSnapshots.invalidateAll(postIds);
+    }
+
+    public record StatsSnapshot(long viewCount, double hotScore) {
+    }
+}
@@ -1,7 +1,11 @@
 package com.depth.deokive.domain.post.service;
 
+import com.depth.deokive.common.dto.ContentVersion;
 import com.depth.deokive.common.dto.PageDto;
 import com.depth.deokive.common.enums.ViewLikeDomain;
+import com.depth.deokive.common.event.ContentChangedEvent;
+import com.depth.deokive.common.service.ContentVersionCache;
+import com.depth.deokive.common.service.FeedCache;
 import com.depth.deokive.common.service.LikeRedisService;
 import com.depth.deokive.common.service.RedisViewService;
 import com.depth.deokive.common.util.ClientUtils;
@@ -14,6 +18,7 @@ import com.depth.deokive.domain.file.entity.enums.MediaRole;
 import com.depth.deokive.domain.file.service.FileService;
 import com.depth.deokive.domain.post.dto.PostDto;
 import com.depth.deokive.domain.post.entity.*;
+import com.depth.deokive.domain.post.entity.enums.Category;
 import com.depth.deokive.domain.post.repository.*;
 import com.depth.deokive.domain.user.entity.User;
 import com.depth.deokive.domain.user.repository.UserRepository;
@@ -21,12 +26,16 @@ import com.depth.deokive.system.config.aop.ExecutionTime;
 import com.depth.deokive.system.exception.model.ErrorCode;
 import com.depth.deokive.system.exception.model.RestException;
 import com.depth.deokive.system.security.model.UserPrincipal;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Collections;
 import java.util.Comparator;
@@ -50,6 +59,21 @@ public class PostService {
     private final LikeRedisService likeRedisService;
     private final CommentCountRedisService commentCountRedisService;
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContentVersionCache contentVersionCache;
+    private final PostDetailCache postDetailCache;
+    private final FeedCache feedCache;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        transaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
 
     @Transactional
     public PostDto.Response createPost(UserPrincipal userPrincipal, PostDto.CreateRequest request) {
@@ -72,35 +96,43 @@ public class PostService {
         return PostDto.Response.of(post, stats, maps, false);
     }
 
-    @Transactional
+    /**
+     * 게시글 상세 (GET /posts/{id}, ETag 대상)
+     * - 본문/첨부파일만 반환 (PostDetailCache, Cache Hit이면 DB 조회 없음) -> 콘텐츠 버전 ETag와 1:1
+     * - 조회수/좋아요/댓글 수/좋아요 여부는 getPostStats
+     */
+    public PostDto.Detail getPostContent(UserPrincipal userPrincipal, Long postId, HttpServletRequest request) {
+        PostDto.Detail detail = getDetail(postId);
+        increaseViewCount(userPrincipal, postId, request);
+        return detail;
+    }
+
+    /**
+     * 게시글 상세 + 통계 (한 응답에 모두 담는 경우, ETag 없음)
+     * - 본문/첨부파일: PostDetailCache (Cache Hit이면 DB 조회 없음)
+     * - 좋아요 수 / 댓글 수 / 좋아요 여부: 조회 시점에 Redis에서 덮어씀
+     * - 메서드 단위 @Transactional을 쓰지 않음: Cache Hit에서 커넥션을 잡지 않도록 Miss일 때만 트랜잭션
+     */
     public PostDto.Response getPost(UserPrincipal userPrincipal, Long postId, HttpServletRequest request) {
-        // SEQ 1. 게시글 조회
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new RestException(ErrorCode.POST_NOT_FOUND));
+        // SEQ 1. 상세 Read Model 조회 (Miss면 게시글 + 파일 매핑 조회)
+        PostDto.Detail detail = getDetail(postId);
 
-        // SEQ 2. 통계 정보 조회 - ViewCount, HotScore용
-        PostStats stats = postStatsRepository.findById(postId)
-                .orElseGet(() -> {
-                    PostStats newStats = PostStats.create(post);
-                    postStatsRepository.save(newStats);
-                    return newStats;
-                });
+        // SEQ 2. 조회수 / 핫스코어 스냅샷 (노드 로컬, 짧은 TTL)
+        PostDetailCache.StatsSnapshot stats = postDetailCache.getStats(postId, () -> loadStatsSnapshot(postId));
 
-        // SEQ 3. 실시간 좋아요 수 조회
+        // SEQ 3. 실시간 좋아요 수 / 댓글 수 조회
         Long realTimeLikeCount = likeRedisService.getCount(
                 ViewLikeDomain.POST,
                 postId,
                 () -> postLikeRepository.findAllUserIdsByPostId(postId),
                 () -> {}
         );
+        long commentCount = commentCountRedisService.getCommentCount(postId);
 
-        // SEQ 4. 해당 게시글의 파일 매핑 조회
-        List<PostFileMap> maps = postFileMapRepository.findAllByPostIdOrderBySequenceAsc(postId);
-
-        // SEQ 5. Redis 조회수 증가 (Write Back)
+        // SEQ 4. Redis 조회수 증가 (Write Back)
         increaseViewCount(userPrincipal, postId, request);
 
-        // SEQ 6. 좋아요 여부 조회
+        // SEQ 5. 좋아요 여부 조회
         Long viewerId = (userPrincipal != null) ? userPrincipal.getUserId() : null;
         boolean isLiked = (viewerId != null) && likeRedisService.isLiked(
                 ViewLikeDomain.POST,
@@ -110,8 +142,57 @@ public class PostService {
                 () -> {}
         );
 
-        // SEQ 7. Return
-        return PostDto.Response.of(post, stats.getViewCount(), realTimeLikeCount, stats.getHotScore(), maps, isLiked);
+        // SEQ 6. Return
+        return PostDto.Response.of(detail, stats.viewCount(), realTimeLikeCount, commentCount, stats.hotScore(), isLiked);
+    }
+
+    /**
+     * 상세 ETag (콘텐츠 버전 캐시만 조회 -> Hit이면 DB 조회 없음)
+     * - getPostContent 응답은 요청자와 무관하고 콘텐츠 버전이 같으면 같음
+     */
+    public String getPostEtag(Long postId) {
+        ContentVersion version = contentVersionCache.get(ViewLikeDomain.POST, postId,
+                () -> postRepository.findContentVersionById(postId)
+                        .map(ContentVersion::of)
+                        .orElseThrow(() -> new RestException(ErrorCode.POST_NOT_FOUND)));
+
+        return "\"p" + postId + "." + version.version() + "\"";
+    }
+
+    @Transactional(readOnly = true)
+    public PostDto.StatsResponse getPostStats(UserPrincipal userPrincipal, Long postId) {
+        // SEQ 1. 통계 조회 (게시글과 함께 생성/삭제 -> 존재 확인 겸용)
+        PostStats stats = postStatsRepository.findById(postId)
+                .orElseThrow(() -> new RestException(ErrorCode.POST_NOT_FOUND));
+
+        // SEQ 2. 실시간 좋아요 수 / 댓글 수 조회
+        Long realTimeLikeCount = likeRedisService.getCount(
+                ViewLikeDomain.POST,
+                postId,
+                () -> postLikeRepository.findAllUserIdsByPostId(postId),
+                () -> {}
+        );
+        long commentCount = commentCountRedisService.getCommentCount(postId);
+
+        // SEQ 3. 좋아요 여부 조회
+        Long viewerId = (userPrincipal != null) ? userPrincipal.getUserId() : null;
+        boolean isLiked = (viewerId != null) && likeRedisService.isLiked(
+                ViewLikeDomain.POST,
+                postId,
+                viewerId,
+                () -> postLikeRepository.findAllUserIdsByPostId(postId),
+                () -> {}
+        );
+
+        // SEQ 4. Return
+        return PostDto.StatsResponse.builder()
+                .postId(postId)
+                .viewCount(stats.getViewCount())
+                .likeCount(realTimeLikeCount)
+                .commentCount(commentCount)
+                .hotScore(stats.getHotScore())
+                .isLiked(isLiked)
+                .build();
     }
 
     @Transactional
@@ -123,8 +204,9 @@ public class PostService {
         // SEQ 2. 작성자 검증
         validateOwner(post, userPrincipal);
 
-        // SEQ 3. 게시글 정보 업데이트 (Dirty Checking)
+        // SEQ 3. 게시글 정보 업데이트 (Dirty Checking) + 콘텐츠 버전 증가 (본문/첨부파일 변경 모두 포함)
         post.update(request);
+        postRepository.bumpContentVersion(postId);
 
         // SEQ 4. 카테고리가 변경되었다면 PostStats도 동기화 (커버링 인덱스용)
         if (request.getCategory() != null) {
@@ -148,7 +230,10 @@ public class PostService {
         PostStats stats = postStatsRepository.findById(postId).orElse(PostStats.create(post));
         boolean isLiked = postLikeRepository.existsByPostIdAndUserId(postId, userPrincipal.getUserId());
 
-        // SEQ 7. Return
+        // SEQ 7. 상세(콘텐츠 버전, Read Model) / 공유 페이지 캐시 무효화 (커밋 후)
+        eventPublisher.publishEvent(ContentChangedEvent.post(postId));
+
+        // SEQ 8. Return
         return PostDto.Response.of(post, stats, maps, isLiked);
     }
 
@@ -182,11 +267,41 @@ public class PostService {
         // SEQ 8. 캐시 삭제 (좋아요 + 댓글 수)
         likeRedisService.deleteLikeData(ViewLikeDomain.POST, postId);
         commentCountRedisService.deleteCache(postId);
+
+        // SEQ 9. 상세(콘텐츠 버전, Read Model) / 공유 페이지 캐시 무효화 (커밋 후)
+        eventPublisher.publishEvent(ContentChangedEvent.post(postId));
     }
 
+    /**
+     * 게시글 피드
+     * - 기본 크기의 첫 페이지는 FeedCache (Hit이면 DB 조회 없음), 그 외는 바로 조회
+     */
     @ExecutionTime
-    @Transactional(readOnly = true)
     public PageDto.PageListResponse<PostDto.PostPageResponse> getPosts(PostDto.PostPageRequest request) {
+        if (!FeedCache.isCacheable(request.getPage(), request.getSize())) {
+            return readOnlyTransaction.execute(status -> searchPosts(request));
+        }
+        return feedCache.get(feedKeyOf(request), () -> readOnlyTransaction.execute(status -> searchPosts(request)));
+    }
+
+    /**
+     * 피드 첫 페이지 다시 적재 (웜업)
+     */
+    public void refreshFeedFirstPage(Category category, String sort) {
+        PostDto.PostPageRequest request = new PostDto.PostPageRequest();
+        request.setCategory(category);
+        request.setSort(sort);
+        feedCache.refresh(feedKeyOf(request), () -> readOnlyTransaction.execute(status -> searchPosts(request)));
+    }
+
+    /**
+     * 상세 Read Model 적재 (웜업, 조회수 집계 없음)
+     */
+    public void warmDetail(Long postId) {
+        getDetail(postId);
+    }
+
+    private PageDto.PageListResponse<PostDto.PostPageResponse> searchPosts(PostDto.PostPageRequest request) {
         Page<PostDto.PostPageResponse> page = postQueryRepository.searchPostFeed(
                 request.getCategory(),
                 request.toPageable()
@@ -202,6 +317,10 @@ public class PostService {
         return PageDto.PageListResponse.of(title, page);
     }
 
+    private static String feedKeyOf(PostDto.PostPageRequest request) {
+        return FeedCache.keyOf(ViewLikeDomain.POST, request.getCategory() + ":" + request.getSort() + ":" + request.getDirection().toUpperCase());
+    }
+
     @Transactional
     public PostDto.LikeResponse toggleLike(UserPrincipal userPrincipal, Long postId) {
         boolean isLiked = likeRedisService.toggleLike(
@@ -236,6 +355,30 @@ public class PostService {
 
     // ------ Helper Methods -------
 
+    private PostDto.Detail getDetail(Long postId) {
+        return postDetailCache.get(postId, () -> readOnlyTransaction.execute(status -> loadDetail(postId)));
+    }
+
+    private PostDto.Detail loadDetail(Long postId) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new RestException(ErrorCode.POST_NOT_FOUND));
+
+        List<PostFileMap> maps = postFileMapRepository.findAllByPostIdOrderBySequenceAsc(postId);
+        return PostDto.Detail.of(post, maps);
+    }
+
+    // 통계 행이 없으면 생성 (방어 로직)
+    private PostDetailCache.StatsSnapshot loadStatsSnapshot(Long postId) {
+        PostStats stats = postStatsRepository.findById(postId)
+                .orElseGet(() -> transaction.execute(status -> {
+                    Post post = postRepository.findById(postId)
+                            .orElseThrow(() -> new RestException(ErrorCode.POST_NOT_FOUND));
+                    return postStatsRepository.save(PostStats.create(post));
+                }));
+
+        return new PostDetailCache.StatsSnapshot(stats.getViewCount(), stats.getHotScore());
+    }
+
     // 파일 목록을 한 번에 조회하고 매핑 엔티티를 생성해서 일괄 저장 -> Repost 시 썸네일 추출을 위해 MediaRole(PREVIEW) 저장이 필수임
     private List<PostFileMap> connectFilesToPost(
             Post post,
@@ -310,7 +453,8 @@ public class PostService {
         }
     }
 
-    private void increaseViewCount(UserPrincipal userPrincipal, Long postId, HttpServletRequest request) {
+    // 304 응답(본문 조회 생략)에서도 조회수는 집계하므로 public
+    public void increaseViewCount(UserPrincipal userPrincipal, Long postId, HttpServletRequest request) {
         if (request == null) return; // Soft Fail
 
         Long viewerId = (userPrincipal != null) ? userPrincipal.getUserId() : null;
@@ -0,0 +1,213 @@
+package com.depth.deokive.domain.post.service;
+
+import com.depth.deokive.domain.post.dto.RepostCompletedEvent;
+import com.depth.deokive.domain.post.entity.enums.RepostStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Repost OG 추출 결과 Aggregator
+ *
+ * [배경]
+ * - Consumer 120개가 각자 트랜잭션 1개 + Redis PUBLISH 1회 -> Hikari(6개) 경합 + 잦은 왕복
+ *
+ * [동작]
+ * 1. Consumer는 결과를 submit 후 Future로 반영 완료를 대기 (Virtual Thread이므로 블로킹 비용 낮음)
+ * 2. Flusher 스레드가 flush-interval-ms 동안(또는 max-batch-size까지) 결과를 모음
+ * 3. RepostOgUpdateService.applyBatch -> JDBC Batch UPDATE 1 트랜잭션
+ *    - Batch 실패 시 건별 재시도 -> 다른 건 때문에 정상 건까지 실패하지 않도록 격리
+ *    - 완료 반영이 실패한 건은 FAILED로 기록, 그마저 실패한 건만 Consumer에 예외 전달 (메시지 재전달)
+ * 4. 실제 반영된 건만 Redis Pipeline으로 한 번에 완료 캐시 기록 + 유저 샤드 채널로 PUBLISH
+ *
+ * [Ack 보장]
+ * - Consumer가 DB 반영 완료까지 대기하므로, 메시지 Ack 전에 결과가 커밋됨 (유실 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RepostCompletionAggregator {
+
+    private final RepostOgUpdateService repostOgUpdateService;
+    private final RepostCompletionCache repostCompletionCache;
+    private final RepostSseSubscriber repostSseSubscriber;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${repost.completion.flush-interval-ms:10}")
+    private long flushIntervalMs;
+
+    @Value("${repost.completion.max-batch-size:200}")
+    private int maxBatchSize;
+
+    @Value("${repost.completion.wait-timeout-ms:10000}")
+    private long waitTimeoutMs;
+
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private volatile boolean running;
+    private Thread flusher;
+
+    private record Pending(RepostCompletedEvent event, CompletableFuture<Boolean> future) {}
+
+    @PostConstruct
+    void start() {
+        running = true;
+        flusher = Thread.ofPlatform()
+                .name("repost-completion-flusher")
+                .daemon(true)
+                .start(this::runLoop);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+
+        // 종료 시점에 남은 결과는 호출 스레드에서 반영
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) flush(remaining);
+    }
+
+    /**
+     * 결과 제출 후 DB 반영까지 대기
+     * @return true면 반영됨, false면 이미 처리되었거나 삭제된 Repost
+     */
+    public boolean submitAndWait(RepostCompletedEvent event) {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        queue.add(new Pending(event, future));
+        return future.orTimeout(waitTimeoutMs, TimeUnit.MILLISECONDS).join();
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                Pending first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+
+                List<Pending> batch = new ArrayList<>();
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("🔴 [OG Aggregator] Flusher loop error", e);
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        List<RepostCompletedEvent> events = batch.stream().map(Pending::event).toList();
+        meterRegistry.summary("repost.completion.batch.size").record(events.size());
+
+        List<RepostCompletedEvent> applied;
+        try {
+            applied = repostOgUpdateService.applyBatch(events);
+        } catch (Exception e) {
+            log.warn("⚠️ [OG Aggregator] Batch update failed, retrying row by row: size={}", events.size(), e);
+            applied = applyRowByRow(batch);
+        }
+
+        // DB 커밋 이후 발행 (발행 실패는 SSE 알림 누락일 뿐, 데이터는 이미 반영됨)
+        publishAll(applied);
+
+        Set<Long> appliedIds = applied.stream().map(RepostCompletedEvent::getRepostId).collect(Collectors.toSet());
+        batch.forEach(p -> p.future().complete(appliedIds.contains(p.event().getRepostId()))); // 예외로 끝난 건은 무시됨
+        log.debug("[OG Aggregator] Flushed: size={}, applied={}", events.size(), applied.size());
+    }
+
+    private List<RepostCompletedEvent> applyRowByRow(List<Pending> batch) {
+        List<RepostCompletedEvent> applied = new ArrayList<>();
+        for (Pending pending : batch) {
+            try {
+                applyRow(pending.event()).ifPresent(applied::add);
+            } catch (Exception e) {
+                log.error("🔴 [OG Aggregator] Row update failed: repostId={}", pending.event().getRepostId(), e);
+                pending.future().completeExceptionally(e);
+            }
+        }
+        return applied;
+    }
+
+    private Optional<RepostCompletedEvent> applyRow(RepostCompletedEvent event) {
+        try {
+            return repostOgUpdateService.applyOne(event);
+        } catch (Exception e) {
+            if (event.getStatus() != RepostStatus.COMPLETED) throw e;
+            // 추출 결과를 저장할 수 없는 건은 PENDING으로 남기지 않고 실패 처리
+            log.warn("⚠️ [OG Aggregator] Completion rejected, marking FAILED: repostId={}, cause={}",
+                    event.getRepostId(), e.getMessage());
+            return repostOgUpdateService.applyOne(RepostCompletedEvent.failed(event.getUserId(), event.getRepostId()));
+        }
+    }
+
+    /**
+     * SSE 이벤트를 Redis Pipeline으로 일괄 PUBLISH
+     * - 스케일아웃 시 여러 인스턴스에 이벤트 전파 (유저 샤드 채널 -> 해당 샤드를 구독한 노드만 수신)
+     * - 완료 캐시를 PUBLISH보다 먼저 기록 -> 구독 직전 완료 건은 Replay로 보정
+     */
+    private void publishAll(List<RepostCompletedEvent> events) {
+        if (events.isEmpty()) return;
+
+        List<Outgoing> outgoing = new ArrayList<>(events.size());
+        for (RepostCompletedEvent event : events) {
+            try {
+                byte[] json = objectMapper.writeValueAsBytes(event);
+                byte[] channel = repostSseSubscriber.channelOf(event.getUserId()).getBytes(StandardCharsets.UTF_8);
+                outgoing.add(new Outgoing(event, json, channel));
+            } catch (JsonProcessingException e) {
+                log.error("[OG Aggregator] Failed to serialize SSE event: repostId={}", event.getRepostId(), e);
+            }
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                publishEach(connection, outgoing);
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("[OG Aggregator] Failed to publish SSE events: size={}", outgoing.size(), e);
+        }
+    }
+
+    private void publishEach(RedisConnection connection, List<Outgoing> outgoing) {
+        for (Outgoing o : outgoing) {
+            repostCompletionCache.record(connection, o.event(), o.json());
+            connection.publish(o.channel(), RepostSseSubscriber.encode(o.event().getUserId(), o.json()));
+        }
+    }
+
+    private record Outgoing(RepostCompletedEvent event, byte[] json, byte[] channel) {}
+}
@@ -0,0 +1,113 @@
+package com.depth.deokive.domain.post.service;
+
+import com.depth.deokive.domain.post.dto.RepostCompletedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repost OG 추출 완료 단기 캐시
+ *
+ * [배경]
+ * - SSE 구독 전에 완료된 Repost는 이벤트를 놓침 (생성 직후 구독 / 재연결 / 샤드 구독 직전)
+ * - 목록 조회는 아직 PENDING으로 보일 수 있음 (복제 지연 등)
+ *
+ * [구조]
+ * - Key: repost:completion:{userId} (Hash, field = repostId, value = 이벤트 JSON)
+ * - TTL: ttl-seconds (마지막 완료 기준으로 갱신) -> 짧은 구간의 Fallback 용도
+ *
+ * [사용처]
+ * - RepostCompletionAggregator: PUBLISH와 같은 Pipeline에서 기록 (PUBLISH보다 먼저)
+ * - RepostSseSubscriber: 새 연결에 최근 완료 건 Replay
+ * - RepostService.getReposts: PENDING 항목에 완료 결과 Overlay
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RepostCompletionCache {
+
+    private static final String KEY_PREFIX = "repost:completion:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${repost.completion.cache-ttl-seconds:120}")
+    private long ttlSeconds;
+
+    /**
+     * Pipeline 안에서 기록 (Aggregator 전용)
+     */
+    void record(RedisConnection connection, RepostCompletedEvent event, byte[] json) {
+        byte[] key = keyOf(event.getUserId()).getBytes(StandardCharsets.UTF_8);
+        connection.hashCommands().hSet(key, String.valueOf(event.getRepostId()).getBytes(StandardCharsets.UTF_8), json);
+        connection.keyCommands().expire(key, ttlSeconds);
+    }
+
+    /**
+     * 특정 Repost들의 완료 결과 조회 (HMGET 1회)
+     */
+    public Map<Long, RepostCompletedEvent> find(Long userId, Collection<Long> repostIds) {
+        if (repostIds.isEmpty()) return Map.of();
+
+        List<Object> fields = repostIds.stream().map(id -> (Object) String.valueOf(id)).toList();
+        List<Object> values;
+        try {
+            values = redisTemplate.opsForHash().multiGet(keyOf(userId), fields);
+        } catch (Exception e) {
+            log.warn("[Repost Cache] Lookup failed: userId={}", userId, e);
+            return Map.of();
+        }
+
+        Map<Long, RepostCompletedEvent> result = new HashMap<>();
+        for (Object value : values) {
+            RepostCompletedEvent event = parse(value);
+            if (event != null) result.put(event.getRepostId(), event);
+        }
+        return result;
+    }
+
+    /**
+     * 유저의 최근 완료 결과 전체 (새 SSE 연결 Replay용)
+     */
+    public List<RepostCompletedEvent> findRecent(Long userId) {
+        List<Object> values;
+        try {
+            values = redisTemplate.opsForHash().values(keyOf(userId));
+        } catch (Exception e) {
+            log.warn("[Repost Cache] Lookup failed: userId={}", userId, e);
+            return List.of();
+        }
+
+        List<RepostCompletedEvent> result = new ArrayList<>(values.size());
+        for (Object value : values) {
+            RepostCompletedEvent event = parse(value);
+            if (event != null) result.add(event);
+        }
+        return result;
+    }
+
+    private RepostCompletedEvent parse(Object value) {
+        if (value == null) return null;
+        try {
+            return objectMapper.readValue(value.toString(), RepostCompletedEvent.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static String keyOf(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -1,18 +1,15 @@
 package com.depth.deokive.domain.post.service;
 
-import com.depth.deokive.domain.post.dto.MetadataProvider;
 import com.depth.deokive.domain.post.dto.OgMetadata;
 import com.depth.deokive.domain.post.dto.RepostCompletedEvent;
 import com.depth.deokive.domain.post.dto.RepostOgExtractionMessage;
+import com.depth.deokive.system.metadata.guard.HostGuardRejectedException;
 import com.depth.deokive.system.metadata.strategy.MetadataProviderFactory;
 import com.depth.deokive.system.config.aop.ExecutionTime;
 import com.depth.deokive.system.config.rabbitmq.RabbitMQConfig;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.net.MalformedURLException;
@@ -40,12 +37,8 @@ import java.net.URISyntaxException;
 @RequiredArgsConstructor
 public class RepostOgConsumer {
 
-    // DB 업데이트는 별도 서비스로 분리 (트랜잭션 프록시 적용을 위해)
-    private final RepostOgUpdateService repostOgUpdateService;
-
-    // SSE 알림용 Redis Pub/Sub
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    // DB 업데이트 + SSE 알림은 Aggregator가 모아서 일괄 처리 (JDBC Batch + Redis Pipeline)
+    private final RepostCompletionAggregator repostCompletionAggregator;
 
     // Factory 주입
     private final MetadataProviderFactory metadataProviderFactory;
@@ -75,51 +68,38 @@ public class RepostOgConsumer {
 
         log.info("[OG Consumer] Repost ID={} 처리 시작", repostId);
 
+        // SEQ 1. 메타데이터 추출 (추출 실패만 FAILED 처리)
+        RepostCompletedEvent completed;
         try {
-            // 1️⃣ Factory를 통해 적절한 Provider 선택 (Strategy Pattern)
-            MetadataProvider provider = metadataProviderFactory.getProvider(url);
-            log.info("👉 Selected Strategy: {}", provider.getClass().getSimpleName());
-
-            // 2️⃣ 메타데이터 추출 실행
-            OgMetadata metadata = provider.extract(url);
+            // Factory를 통해 적절한 Provider 선택 (Strategy Pattern) + 메타데이터 추출
+            // 외부 호스트는 HostGuard를 거치며, Circuit OPEN 호스트는 네트워크 요청 없이 즉시 실패 -> 아래 catch에서 FAILED 처리
+            OgMetadata metadata = metadataProviderFactory.extract(url);
 
             String title = metadata.getTitle();
-            String thumbnailUrl = metadata.getImageUrl();
 
             // Fallback: 제목 없으면 도메인 이름 사용
             if (title == null || title.isBlank()) {
                 title = extractDomainName(url);
             }
+            completed = RepostCompletedEvent.completed(userId, repostId, title, metadata.getImageUrl());
 
-            // SEQ 2. DB 업데이트 (별도 서비스 + 트랜잭션, ~50ms)
-            // 이 시점에만 DB 커넥션 사용
-            repostOgUpdateService.completeMetadata(repostId, title, thumbnailUrl);
-
-            // SEQ 3. SSE 알림 발행 (Redis Pub/Sub)
-            publishSseEvent(RepostCompletedEvent.completed(userId, repostId, title, thumbnailUrl));
-
-            log.info("[OG Consumer] Repost ID={} 완료 (title={}, thumbnail={})",
-                    repostId, title != null, thumbnailUrl != null);
-
+        } catch (HostGuardRejectedException e) {
+            log.warn("[OG Consumer] Host 보호로 즉시 실패: repostId={}, host={}, reason={}", repostId, e.getHost(), e.getReason());
+            completed = RepostCompletedEvent.failed(userId, repostId);
         } catch (Exception e) {
-            log.error("[OG Consumer] 실패: {}", e.getMessage());
-            repostOgUpdateService.markAsFailed(repostId, "OG 추출 실패: " + e.getMessage());
-            publishSseEvent(RepostCompletedEvent.failed(userId, repostId));
+            log.error("[OG Consumer] 실패: repostId={}, {}", repostId, e.getMessage());
+            completed = RepostCompletedEvent.failed(userId, repostId);
         }
-    }
 
-    /**
-     * SSE 이벤트를 Redis Pub/Sub으로 발행
-     * - 스케일아웃 시 여러 인스턴스에 이벤트 전파
-     */
-    private void publishSseEvent(RepostCompletedEvent event) {
-        try {
-            String json = objectMapper.writeValueAsString(event);
-            redisTemplate.convertAndSend(RepostSseSubscriber.CHANNEL, json);
-            log.debug("[OG Consumer] SSE event published: repostId={}", event.getRepostId());
-        } catch (JsonProcessingException e) {
-            log.error("[OG Consumer] Failed to serialize SSE event", e);
+        // SEQ 2. DB 업데이트 + SSE 알림 (Aggregator가 수 ms 단위로 모아 Batch UPDATE -> Pipeline PUBLISH)
+        // 반영 완료까지 대기 후 리턴 -> 메시지 Ack 이전에 커밋 보장
+        // 반영 실패/대기 시간 초과는 잡지 않고 전파 -> Nack 후 재전달 (추출 결과를 FAILED로 덮거나 PENDING으로 남기지 않음)
+        if (!repostCompletionAggregator.submitAndWait(completed)) {
+            log.info("[OG Consumer] Repost ID={} 이미 처리되었거나 삭제됨 (skip)", repostId);
+            return;
         }
+
+        log.info("[OG Consumer] Repost ID={} 완료 (status={})", repostId, completed.getStatus());
     }
 
     /**
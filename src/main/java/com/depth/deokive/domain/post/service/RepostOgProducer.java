@@ -2,35 +2,36 @@ package com.depth.deokive.domain.post.service;
 
 import com.depth.deokive.domain.post.dto.RepostOgExtractionMessage;
 import com.depth.deokive.system.config.rabbitmq.RabbitMQConfig;
+import com.depth.deokive.system.outbox.service.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
 /**
- * Repost OG 메타데이터 추출 요청을 RabbitMQ에 발행
+ * Repost OG 메타데이터 추출 요청을 Outbox에 적재
+ * - 실제 RabbitMQ 발행은 OutboxRelay가 배치로 수행 (Publisher Confirm)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RepostOgProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxService outboxService;
 
     /**
-     * OG 추출 메시지를 큐에 발행
-     * - 비동기 처리: Consumer가 백그라운드에서 처리
+     * OG 추출 메시지를 Outbox에 적재
+     * - Repost INSERT와 같은 트랜잭션 -> 롤백 시 메시지도 사라지고, 커밋되면 유실되지 않음
      * - userId: SSE 알림 전송에 사용
      */
     public void requestOgExtraction(Long repostId, Long userId, String url) {
         RepostOgExtractionMessage message = new RepostOgExtractionMessage(repostId, userId, url);
 
-        rabbitTemplate.convertAndSend(
+        outboxService.enqueue(
                 RabbitMQConfig.REPOST_OG_EXCHANGE,
                 RabbitMQConfig.REPOST_OG_ROUTING_KEY,
                 message
         );
 
-        log.info("[OG Producer] Repost ID={}, userId={}, URL={} 추출 요청 발행", repostId, userId, url);
+        log.info("[OG Producer] Repost ID={}, userId={}, URL={} 추출 요청 Outbox 적재", repostId, userId, url);
     }
 }
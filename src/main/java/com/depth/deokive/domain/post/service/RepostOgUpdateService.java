@@ -1,13 +1,21 @@
 package com.depth.deokive.domain.post.service;
 
 import com.depth.deokive.common.util.TextUtils;
-import com.depth.deokive.domain.post.entity.Repost;
-import com.depth.deokive.domain.post.repository.RepostRepository;
+import com.depth.deokive.domain.post.dto.RepostCompletedEvent;
+import com.depth.deokive.domain.post.entity.enums.RepostStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repost OG 메타데이터 DB 업데이트 서비스
  *
@@ -16,50 +24,111 @@ import org.springframework.transaction.annotation.Transactional;
  * - 별도 빈으로 분리해야 트랜잭션이 정상 적용됨
  *
  * [트랜잭션 범위]
- * - DB 조회 + 업데이트만 (~50ms)
- * - OG 추출(1.5초)은 Consumer에서 트랜잭션 없이 처리
+ * - RepostCompletionAggregator가 모은 결과를 1 트랜잭션 + JDBC Batch UPDATE로 반영
+ * - 기존: 건당 findById + Dirty Checking (120 consumer -> 120개 트랜잭션이 Hikari 6개를 두고 경합)
+ * - 변경: findById 없이 id 기준 UPDATE, status = 'PENDING' 조건으로 중복/역행 반영 방지
+ * - Batch가 실패하면 Aggregator가 applyOne으로 건별 재시도 (건당 트랜잭션 1개, 실패한 건만 격리)
+ *
+ * [값 보정]
+ * - 제목은 컬럼 길이에 맞춰 자르고, 컬럼 길이를 넘는 썸네일 URL은 버림 (잘린 URL은 깨진 링크)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RepostOgUpdateService {
 
-    private final RepostRepository repostRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     private static final int TITLE_LIMIT = 255;
+    private static final int THUMBNAIL_URL_LIMIT = 2048; // Repost.thumbnailUrl 컬럼 길이
+
+    private static final String COMPLETE_SQL = """
+            UPDATE repost
+            SET title = ?, thumbnail_url = ?, status = 'COMPLETED', last_modified_at = ?
+            WHERE id = ? AND status = 'PENDING'
+            """;
+
+    private static final String FAIL_SQL = """
+            UPDATE repost
+            SET status = 'FAILED', last_modified_at = ?
+            WHERE id = ? AND status = 'PENDING'
+            """;
 
     /**
-     * Repost 메타데이터 완료 처리
-     * - 트랜잭션 범위: DB 조회 + Dirty Checking (~50ms)
+     * 완료/실패 결과 일괄 반영
+     * - rewriteBatchedStatements=true 이므로 batchUpdate가 네트워크 왕복 1회로 전송됨
+     * @return 실제로 반영된(PENDING 이었던) 이벤트 목록 -> 이것만 SSE 발행 대상
      */
     @Transactional
-    public void completeMetadata(Long repostId, String title, String thumbnailUrl) {
-        Repost repost = repostRepository.findById(repostId).orElse(null);
-        if (repost == null) {
-            log.warn("[OG UpdateService] Repost ID={} 존재하지 않음 (이미 삭제됨?)", repostId);
-            return;
+    public List<RepostCompletedEvent> applyBatch(List<RepostCompletedEvent> events) {
+        List<RepostCompletedEvent> completed = new ArrayList<>();
+        List<RepostCompletedEvent> failed = new ArrayList<>();
+        for (RepostCompletedEvent event : events) {
+            if (event.getStatus() == RepostStatus.COMPLETED) completed.add(sanitize(event));
+            else failed.add(event);
         }
 
-        // 유튜브, 틱톡, 인스타 등 어디서 왔든 무조건 안전하게 자르고 저장
-        String safeTitle = TextUtils.truncate(title, TITLE_LIMIT);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<RepostCompletedEvent> applied = new ArrayList<>(events.size());
+
+        if (!completed.isEmpty()) {
+            int[] counts = jdbcTemplate.batchUpdate(COMPLETE_SQL, completed, completed.size(), (ps, event) -> {
+                ps.setString(1, event.getTitle());
+                ps.setString(2, event.getThumbnailUrl());
+                ps.setTimestamp(3, now);
+                ps.setLong(4, event.getRepostId());
+            })[0];
+            collectApplied(completed, counts, applied);
+        }
+
+        if (!failed.isEmpty()) {
+            int[] counts = jdbcTemplate.batchUpdate(FAIL_SQL, failed, failed.size(), (ps, event) -> {
+                ps.setTimestamp(1, now);
+                ps.setLong(2, event.getRepostId());
+            })[0];
+            collectApplied(failed, counts, applied);
+        }
 
-        repost.completeMetadata(safeTitle, thumbnailUrl);
+        if (applied.size() < events.size()) {
+            log.warn("[OG UpdateService] {}건 중 {}건만 반영 (삭제되었거나 이미 처리된 Repost)", events.size(), applied.size());
+        }
+        return applied;
     }
 
     /**
-     * Repost 실패 처리
-     * - 트랜잭션 범위: DB 조회 + Dirty Checking (~50ms)
+     * 결과 1건 반영 (Batch 실패 시 건별 재시도용)
+     * @return 반영된 이벤트 (이미 처리되었거나 삭제된 Repost면 empty)
      */
     @Transactional
-    public void markAsFailed(Long repostId, String reason) {
-        try {
-            Repost repost = repostRepository.findById(repostId).orElse(null);
-            if (repost != null) {
-                repost.markAsFailed();
-                log.warn("[OG UpdateService] Repost ID={} 실패 처리: {}", repostId, reason);
+    public Optional<RepostCompletedEvent> applyOne(RepostCompletedEvent event) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (event.getStatus() == RepostStatus.COMPLETED) {
+            RepostCompletedEvent sanitized = sanitize(event);
+            int updated = jdbcTemplate.update(COMPLETE_SQL,
+                    sanitized.getTitle(), sanitized.getThumbnailUrl(), now, sanitized.getRepostId());
+            return updated > 0 ? Optional.of(sanitized) : Optional.empty();
+        }
+        int updated = jdbcTemplate.update(FAIL_SQL, now, event.getRepostId());
+        return updated > 0 ? Optional.of(event) : Optional.empty();
+    }
+
+    // 유튜브, 틱톡, 인스타 등 어디서 왔든 컬럼에 들어가는 값으로 보정 (SSE로도 보정된 값을 전송)
+    private RepostCompletedEvent sanitize(RepostCompletedEvent event) {
+        String thumbnailUrl = event.getThumbnailUrl();
+        if (thumbnailUrl != null && (thumbnailUrl.isBlank() || thumbnailUrl.length() > THUMBNAIL_URL_LIMIT)) {
+            log.warn("⚠️ [OG UpdateService] Thumbnail URL dropped: repostId={}, length={}", event.getRepostId(), thumbnailUrl.length());
+            thumbnailUrl = null;
+        }
+        return RepostCompletedEvent.completed(event.getUserId(), event.getRepostId(),
+                TextUtils.truncate(event.getTitle(), TITLE_LIMIT), thumbnailUrl);
+    }
+
+    private void collectApplied(List<RepostCompletedEvent> events, int[] counts, List<RepostCompletedEvent> applied) {
+        for (int i = 0; i < events.size(); i++) {
+            // 드라이버가 건별 결과를 주지 않는 경우(SUCCESS_NO_INFO)는 반영된 것으로 간주
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                applied.add(events.get(i));
             }
-        } catch (Exception e) {
-            log.error("[OG UpdateService] Repost ID={} 실패 처리 중 오류", repostId, e);
         }
     }
 }
@@ -5,6 +5,7 @@ import com.depth.deokive.common.util.PageUtils;
 import com.depth.deokive.common.util.TextUtils;
 import com.depth.deokive.domain.archive.entity.Archive;
 import com.depth.deokive.domain.archive.repository.ArchiveRepository;
+import com.depth.deokive.domain.post.dto.RepostCompletedEvent;
 import com.depth.deokive.domain.post.dto.RepostDto;
 import com.depth.deokive.domain.post.entity.*;
 import com.depth.deokive.domain.post.entity.enums.RepostStatus;
@@ -29,6 +30,7 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -44,6 +46,7 @@ public class RepostService {
     private final ArchiveRepository archiveRepository;
 
     private final RepostOgProducer repostOgProducer;
+    private final RepostCompletionCache repostCompletionCache;
 
     /**
      * Repost 생성 - 비동기 OG 추출 (RabbitMQ)
@@ -63,7 +66,7 @@ public class RepostService {
                 .orElseThrow(() -> new RestException(ErrorCode.REPOST_TAB_NOT_FOUND));
 
         // SEQ 2. 소유권 확인
-        archiveGuard.checkOwner(tab.getRepostBook().getArchive().getUser().getId(), userPrincipal);
+        archiveGuard.checkOwner(tab.getRepostBook().getArchive(), userPrincipal);
 
         // SEQ 3. URL 유효성 검증 (SSRF 방어 포함)
         String url = request.getUrl();
@@ -92,7 +95,7 @@ public class RepostService {
             throw new RestException(ErrorCode.REPOST_URL_DUPLICATED);
         }
 
-        // SEQ 5. RabbitMQ 발행 (트랜잭션 커밋 후 실제 전송, SSE 알림용 userId 포함)
+        // SEQ 5. Outbox 적재 (같은 트랜잭션, 커밋 후 OutboxRelay가 RabbitMQ로 발행, SSE 알림용 userId 포함)
         repostOgProducer.requestOgExtraction(repost.getId(), userPrincipal.getUserId(), url);
 
         // SEQ 6. 즉시 201 Created 응답
@@ -106,7 +109,7 @@ public class RepostService {
                 .orElseThrow(() -> new RestException(ErrorCode.REPOST_NOT_FOUND));
 
         // SEQ 2. 소유권 점검
-        archiveGuard.checkOwner(repost.getRepostTab().getRepostBook().getArchive().getUser().getId(), userPrincipal);
+        archiveGuard.checkOwner(repost.getRepostTab().getRepostBook().getArchive(), userPrincipal);
 
         // SEQ 3. 타이틀 수정 (Repost 자체는 편집의 대상이 아님)
         repost.updateTitle(request.getTitle()); // Dirty Checking
@@ -120,7 +123,7 @@ public class RepostService {
                 .orElseThrow(() -> new RestException(ErrorCode.REPOST_NOT_FOUND));
 
         // SEQ 2. 소유권 검증
-        archiveGuard.checkOwner(repost.getRepostTab().getRepostBook().getArchive().getUser().getId(), userPrincipal);
+        archiveGuard.checkOwner(repost.getRepostTab().getRepostBook().getArchive(), userPrincipal);
 
         // SEQ 3. Repost 삭제
         repostRepository.delete(repost);
@@ -133,7 +136,7 @@ public class RepostService {
                 .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
 
         // SEQ 2. 소유권 검증
-        archiveGuard.checkOwner(book.getArchive().getUser().getId(), userPrincipal);
+        archiveGuard.checkOwner(book.getArchive(), userPrincipal);
 
         // SEQ 3. 10개 제한 체크
         long count = repostTabRepository.countByRepostBookId(archiveId);
@@ -159,7 +162,7 @@ public class RepostService {
                 .orElseThrow(() -> new RestException(ErrorCode.REPOST_TAB_NOT_FOUND));
 
         // SEQ 2. 소유권 검증
-        archiveGuard.checkOwner(tab.getRepostBook().getArchive().getUser().getId(), userPrincipal);
+        archiveGuard.checkOwner(tab.getRepostBook().getArchive(), userPrincipal);
 
         // SEQ 3. 리포스트 탭 타이틀 수정
         tab.updateTitle(request.getTitle());
@@ -174,7 +177,7 @@ public class RepostService {
                 .orElseThrow(() -> new RestException(ErrorCode.REPOST_TAB_NOT_FOUND));
 
         // SEQ 2. 소유권 검증
-        archiveGuard.checkOwner(tab.getRepostBook().getArchive().getUser().getId(), userPrincipal);
+        archiveGuard.checkOwner(tab.getRepostBook().getArchive(), userPrincipal);
 
         // SEQ 3. 리포스트 탭 제거
         repostRepository.deleteAllByRepostTabId(tabId); // Bulk로 Repost 명시적 삭제 (성능을 위해)
@@ -191,6 +194,23 @@ public class RepostService {
         // SEQ 2. 공개 범위 검증
         archiveGuard.checkArchiveReadPermission(book.getArchive(), userPrincipal);
 
+        return readReposts(book, tabId, pageable);
+    }
+
+    /**
+     * 아카이브 홈 섹션용: 첫 번째 탭 (권한 검증은 ArchiveHomeService에서 한 번만 수행)
+     */
+    @Transactional(readOnly = true)
+    public RepostDto.RepostListResponse getRepostSection(Long archiveId, Pageable pageable) {
+        RepostBook book = repostBookRepository.findById(archiveId)
+                .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
+
+        return readReposts(book, null, pageable);
+    }
+
+    private RepostDto.RepostListResponse readReposts(RepostBook book, Long tabId, Pageable pageable) {
+        Long archiveId = book.getId();
+
         // SEQ 3. 전체 탭 목록 조회
         List<RepostTab> tabs = repostTabRepository.findAllByRepostBookIdOrderByIdAsc(archiveId);
 
@@ -218,6 +238,9 @@ public class RepostService {
 
         PageUtils.validatePageRange(page);
 
+        // SEQ 5-1. 아직 PENDING으로 보이는 항목은 완료 캐시로 보정 (SSE 구독 전 완료 / 복제 지연)
+        overlayCompletions(book.getArchive().getUser().getId(), page.getContent());
+
         List<RepostDto.TabResponse> tabDtos = tabs.stream()
                 .map(RepostDto.TabResponse::of)
                 .toList();
@@ -233,7 +256,7 @@ public class RepostService {
                 .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
 
         // SEQ 2. 소유권 검증
-        archiveGuard.checkOwner(archive.getUser().getId(), userPrincipal);
+        archiveGuard.checkOwner(archive, userPrincipal);
 
         // SEQ 3. 리포스트 북 타이틀 수정
         RepostBook repostBook = archive.getRepostBook();
@@ -244,6 +267,29 @@ public class RepostService {
 
     // Helper methods
 
+    /**
+     * PENDING 항목에 완료 캐시 결과 반영 (HMGET 1회)
+     */
+    private void overlayCompletions(Long ownerId, List<RepostDto.RepostElementResponse> content) {
+        List<Long> pendingIds = content.stream()
+                .filter(r -> RepostStatus.PENDING.name().equals(r.getStatus()))
+                .map(RepostDto.RepostElementResponse::getId)
+                .toList();
+        if (pendingIds.isEmpty()) return;
+
+        Map<Long, RepostCompletedEvent> completed = repostCompletionCache.find(ownerId, pendingIds);
+        for (RepostDto.RepostElementResponse element : content) {
+            RepostCompletedEvent event = completed.get(element.getId());
+            if (event == null) continue;
+
+            element.setStatus(event.getStatus().name());
+            if (event.getStatus() == RepostStatus.COMPLETED) {
+                element.setTitle(TextUtils.truncate(event.getTitle(), 255));
+                element.setThumbnailUrl(event.getThumbnailUrl());
+            }
+        }
+    }
+
     /**
      * SSRF 방어를 포함한 URL 검증
      * - 프로토콜: http/https만 허용
@@ -1,43 +1,177 @@
 package com.depth.deokive.domain.post.service;
 
 import com.depth.deokive.domain.post.dto.RepostCompletedEvent;
+import com.depth.deokive.system.config.sse.SseConnection;
+import com.depth.deokive.system.config.sse.SseConnectionListener;
+import com.depth.deokive.system.config.sse.SseConnectionManager;
 import com.depth.deokive.system.config.sse.SseEmitterRegistry;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Repost 완료 이벤트 Redis Subscriber
- * - Redis Pub/Sub 메시지 수신
- * - SSE로 클라이언트에게 전파
+ * Repost 완료 이벤트 Redis Subscriber (샤드 라우팅)
+ *
+ * [배경]
+ * - 기존: 단일 채널(repost:completed) -> 모든 노드가 클러스터 전체 이벤트를 역직렬화 후 대부분 버림
+ *
+ * [동작]
+ * 1. 발행: userId 기준 샤드 채널(repost:completed:shard:{n})로 PUBLISH (RepostCompletionAggregator)
+ * 2. 구독: 이 노드에 연결된 유저가 있는 샤드만 동적으로 SUBSCRIBE
+ *    - 샤드의 첫 유저 연결 시 SUBSCRIBE, 마지막 유저 해제 시 UNSUBSCRIBE (SseConnectionListener)
+ * 3. 수신: 헤더의 userId만 먼저 읽고, 연결이 없으면 본문은 건드리지 않고 버림
+ * 4. 새 연결에는 RepostCompletionCache의 최근 완료 건을 Replay (구독 전에 완료된 이벤트 보정)
+ *
+ * [메시지 포맷]
+ * - "{userId}\n{json}" -> JSON 본문은 역직렬화 없이 그대로 SSE로 전달
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class RepostSseSubscriber implements MessageListener {
+public class RepostSseSubscriber implements MessageListener, SseConnectionListener {
 
-    public static final String CHANNEL = "repost:completed";
+    public static final String CHANNEL_PREFIX = "repost:completed:shard:";
+    public static final String EVENT_NAME = "repost-completed";
 
     private final SseEmitterRegistry sseEmitterRegistry;
-    private final ObjectMapper objectMapper;
+    private final SseConnectionManager sseConnectionManager;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final RepostCompletionCache repostCompletionCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${repost.completion.shard-count:64}")
+    private int shardCount;
+
+    private int[] shardUsers; // 샤드별 연결 유저 수 (shardLocks로 보호)
+    private Object[] shardLocks;
+    private final AtomicInteger subscribedShards = new AtomicInteger();
+
+    private Counter delivered;
+    private Counter skipped;
+    private Counter malformed;
+
+    @PostConstruct
+    void init() {
+        shardUsers = new int[shardCount];
+        shardLocks = new Object[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shardLocks[i] = new Object();
+        }
+
+        Gauge.builder("repost.sse.subscribed.shards", subscribedShards, AtomicInteger::get).register(meterRegistry);
+        delivered = meterRegistry.counter("repost.sse.messages", "result", "delivered");
+        skipped = meterRegistry.counter("repost.sse.messages", "result", "skipped");
+        malformed = meterRegistry.counter("repost.sse.messages", "result", "malformed");
+
+        sseConnectionManager.addListener(SseEmitterRegistry.CHANNEL, this);
+    }
+
+    @Override
+    public void onConnected(SseConnection connection, boolean firstForUser) {
+        // SEQ 1. 샤드 구독을 먼저 보장 -> 이후 완료 건은 Pub/Sub으로 수신
+        if (firstForUser) acquireShard(connection.getUserId());
+
+        // SEQ 2. 구독 이전에 완료된 건은 캐시에서 Replay (중복 수신은 클라이언트에서 멱등 처리)
+        for (RepostCompletedEvent event : repostCompletionCache.findRecent(connection.getUserId())) {
+            connection.send(SseEmitter.event().name(EVENT_NAME).data(event));
+        }
+    }
+
+    @Override
+    public void onDisconnected(SseConnection connection, boolean lastForUser) {
+        if (lastForUser) releaseShard(connection.getUserId());
+    }
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
+        byte[] body = message.getBody();
+        int newline = indexOf(body, (byte) '\n');
+        if (newline <= 0) {
+            malformed.increment();
+            return;
+        }
+
+        Long userId;
         try {
-            String body = new String(message.getBody());
-            RepostCompletedEvent event = objectMapper.readValue(body, RepostCompletedEvent.class);
+            userId = Long.parseLong(new String(body, 0, newline, StandardCharsets.US_ASCII));
+        } catch (NumberFormatException e) {
+            malformed.increment();
+            return;
+        }
+
+        // 같은 샤드의 다른 유저 -> 본문 디코딩 없이 버림
+        if (!sseEmitterRegistry.isConnected(userId)) {
+            skipped.increment();
+            return;
+        }
+
+        String json = new String(body, newline + 1, body.length - newline - 1, StandardCharsets.UTF_8);
+        sseEmitterRegistry.send(userId, EVENT_NAME, json);
+        delivered.increment();
+    }
+
+    public String channelOf(Long userId) {
+        return CHANNEL_PREFIX + shardOf(userId);
+    }
+
+    /**
+     * PUBLISH 페이로드 생성: "{userId}\n{json}"
+     */
+    public static byte[] encode(Long userId, byte[] json) {
+        byte[] header = (userId + "\n").getBytes(StandardCharsets.US_ASCII);
+        byte[] payload = new byte[header.length + json.length];
+        System.arraycopy(header, 0, payload, 0, header.length);
+        System.arraycopy(json, 0, payload, header.length, json.length);
+        return payload;
+    }
+
+    int subscribedShardCount() {
+        return subscribedShards.get();
+    }
 
-            log.info("[SSE Subscriber] Received event: userId={}, repostId={}, status={}",
-                    event.getUserId(), event.getRepostId(), event.getStatus());
+    private void acquireShard(Long userId) {
+        int shard = shardOf(userId);
+        synchronized (shardLocks[shard]) {
+            if (shardUsers[shard]++ == 0) {
+                redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + shard));
+                subscribedShards.incrementAndGet();
+                log.debug("[SSE Subscriber] Subscribed shard={}", shard);
+            }
+        }
+    }
 
-            // SSE로 클라이언트에게 전송
-            sseEmitterRegistry.send(event.getUserId(), "repost-completed", event);
+    private void releaseShard(Long userId) {
+        int shard = shardOf(userId);
+        synchronized (shardLocks[shard]) {
+            if (shardUsers[shard] > 0 && --shardUsers[shard] == 0) {
+                redisMessageListenerContainer.removeMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + shard));
+                subscribedShards.decrementAndGet();
+                log.debug("[SSE Subscriber] Unsubscribed shard={}", shard);
+            }
+        }
+    }
+
+    private int shardOf(Long userId) {
+        return (int) Math.floorMod(userId, (long) shardCount);
+    }
 
-        } catch (Exception e) {
-            log.error("[SSE Subscriber] Failed to process message: {}", e.getMessage(), e);
+    private static int indexOf(byte[] bytes, byte target) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == target) return i;
         }
+        return -1;
     }
 }
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.time.Duration;
+import java.time.Instant;
 
 import java.util.List;
 
@@ -65,6 +66,9 @@ public class S3ServiceDto {
         private String uploadId;
         private Duration duration;
         private Long fileSize;
+        private Integer fromPartNumber; // 서명 시작 Part (null이면 1)
+        private Integer toPartNumber;   // 서명 끝 Part, 포함 (null이면 마지막 Part)
+        private List<Integer> partNumbers; // 서명할 Part 목록 (있으면 구간 대신 사용, Resume 용)
     }
 
     @Data @Builder @NoArgsConstructor @AllArgsConstructor
@@ -74,6 +78,34 @@ public class S3ServiceDto {
         private Long contentLength;  // Part 크기 (프론트엔드 검증용)
     }
 
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class UploadedPart {
+        private int partNumber;
+        private String etag;
+        private Long size;
+    }
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class MultipartUploadSummary {
+        private String key;
+        private String uploadId;
+        private Instant initiated;
+    }
+
     public enum FileType { IMAGE, VIDEO, AUDIO, PDF, OTHER }
-}
 
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class SimpleUploadResponse {
+        private String key;
+        private String contentType;
+        private String presignedUrl;
+        private Instant expiresAt;
+    }
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    public static class ObjectMetadata {
+        private String key;
+        private Long size;
+        private String contentType;
+    }
+}
@@ -5,19 +5,30 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedUploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.UploadPartPresignRequest;
 
 import java.net.URL;
 import java.net.URLConnection;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
@@ -26,6 +37,9 @@ public class S3Service {
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
 
+    // 이 개수 이상의 Part 구간은 가상 스레드로 병렬 서명
+    private static final int PARALLEL_PRESIGN_THRESHOLD = 8;
+
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucketName;
 
@@ -103,42 +117,29 @@ public class S3Service {
     }
 
     // 4️⃣ Part 별 Presigned URL 발급
+    // - partNumbers가 있으면 해당 Part만, 없으면 fromPartNumber ~ toPartNumber 구간만 서명 (null이면 전체)
+    //   -> 초기화 응답은 앞쪽 구간만, 나머지/누락 Part는 요청 시 발급
+    // - 서명은 네트워크 없이 CPU(HMAC)만 사용 -> Part가 많으면 가상 스레드로 병렬 서명
     public List<S3ServiceDto.PartPresignedUrlResponse> generatePartPresignedUrls(
             S3ServiceDto.PartPresignedUrlRequest request
     ) {
-        log.info("🔑 [S3Service] Part별 Presigned URL 생성 시작 - key: {}, uploadId: {}, fileSize: {}",
-                request.getKey(), request.getUploadId(), request.getFileSize());
-
         // Part Count 계산
-        var partCount = calculatePartCount(request.getFileSize());
-        log.info("📊 [S3Service] Part 개수 계산 - partCount: {}", partCount);
-
-        List<S3ServiceDto.PartPresignedUrlResponse> partPresignedUrlResponses = new ArrayList<>();
-        for (int part = 1; part <= partCount; part++) {
-            // 각 Part의 정확한 크기 계산
-            long partSize = calculatePartSize(request.getFileSize(), part, partCount);
-            log.debug("📏 [S3Service] Part {} 크기 계산 - {} bytes", part, partSize);
-
-            // 1) Presigned URL 발급 요청 DTO 생성 (contentLength 포함)
-            S3ServiceDto.PresignedUrlRequest presignedUrlRequest =
-                    S3ServiceDto.PresignedUrlRequest.builder()
-                            .key(request.getKey())
-                            .uploadId(request.getUploadId())
-                            .partNumber(part)
-                            .contentLength(partSize)
-                            .build();
-
-            // 2) Presigned URL 생성
-            URL presignedUrl = generatePresignedUrl(presignedUrlRequest);
-
-            // 3) 응답 리스트에 추가 (contentLength 포함)
-            partPresignedUrlResponses.add(
-                    S3ServiceDto.PartPresignedUrlResponse.builder()
-                            .partNumber(part)
-                            .presignedUrl(presignedUrl.toString())
-                            .contentLength(partSize)
-                            .build()
-            );
+        int partCount = calculatePartCount(request.getFileSize());
+        List<Integer> parts = resolvePartNumbers(request, partCount);
+
+        log.info("🔑 [S3Service] Part별 Presigned URL 생성 시작 - key: {}, uploadId: {}, fileSize: {}, parts: {}/{}",
+                request.getKey(), request.getUploadId(), request.getFileSize(), parts.size(), partCount);
+
+        if (parts.isEmpty()) return List.of();
+
+        List<S3ServiceDto.PartPresignedUrlResponse> partPresignedUrlResponses;
+        if (parts.size() < PARALLEL_PRESIGN_THRESHOLD) {
+            partPresignedUrlResponses = new ArrayList<>(parts.size());
+            for (int part : parts) {
+                partPresignedUrlResponses.add(presignPart(request, part, partCount));
+            }
+        } else {
+            partPresignedUrlResponses = presignPartsInParallel(request, parts, partCount);
         }
 
         log.info("✅ [S3Service] Part별 Presigned URL 생성 완료 - 총 {}개", partPresignedUrlResponses.size());
@@ -199,6 +200,122 @@ public class S3Service {
                 request.getKey(), request.getUploadId());
     }
 
+    // 6️⃣ 업로드된 Part 조회 (Resume 용, 1000개 단위 페이지네이션)
+    public List<S3ServiceDto.UploadedPart> listUploadedParts(String key, String uploadId) {
+        ListPartsRequest listRequest = ListPartsRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .build();
+
+        List<S3ServiceDto.UploadedPart> parts = s3Client.listPartsPaginator(listRequest).parts().stream()
+                .map(part -> S3ServiceDto.UploadedPart.builder()
+                        .partNumber(part.partNumber())
+                        .etag(part.eTag())
+                        .size(part.size())
+                        .build())
+                .toList();
+
+        log.info("📋 [S3Service] 업로드된 Part 조회 - key: {}, uploadId: {}, parts: {}", key, uploadId, parts.size());
+        return parts;
+    }
+
+    // 7️⃣ 진행 중인 멀티파트 업로드 조회 (initiatedBefore 이전에 시작된 것만)
+    public List<S3ServiceDto.MultipartUploadSummary> listMultipartUploads(Instant initiatedBefore) {
+        ListMultipartUploadsRequest listRequest = ListMultipartUploadsRequest.builder()
+                .bucket(bucketName)
+                .build();
+
+        return s3Client.listMultipartUploadsPaginator(listRequest).uploads().stream()
+                .filter(upload -> upload.initiated() != null && upload.initiated().isBefore(initiatedBefore))
+                .map(upload -> S3ServiceDto.MultipartUploadSummary.builder()
+                        .key(upload.key())
+                        .uploadId(upload.uploadId())
+                        .initiated(upload.initiated())
+                        .build())
+                .toList();
+    }
+
+    // -------- 단일 PUT 업로드 (소용량 파일) ---------
+    // 8️⃣ 단일 PUT Presigned URL 발급
+    // - Content-Type / Content-Length를 서명에 포함 -> 다른 타입/크기로 업로드하면 S3가 서명 불일치로 거부
+    public S3ServiceDto.SimpleUploadResponse generateSimpleUploadUrl(S3ServiceDto.UploadInitiateRequest request, Duration duration) {
+        String subFolder = determineSubFolder(request.getMimeType(), request.getOriginFileName());
+        String key = generateKey(subFolder, request.getOriginFileName());
+        String contentType = guessContentType(request.getMimeType(), request.getOriginFileName());
+
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(request.getFileSize())
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(duration)
+                .putObjectRequest(putRequest)
+                .build());
+
+        log.info("✅ [S3Service] 단일 PUT Presigned URL 생성 - key: {}, contentType: {}, size: {} bytes",
+                key, contentType, request.getFileSize());
+
+        return S3ServiceDto.SimpleUploadResponse.builder()
+                .key(key)
+                .contentType(contentType)
+                .presignedUrl(presigned.url().toString())
+                .expiresAt(presigned.expiration())
+                .build();
+    }
+
+    // 9️⃣ 객체 메타데이터 조회 (업로드 확인용, 없으면 empty)
+    public Optional<S3ServiceDto.ObjectMetadata> headObject(String key) {
+        try {
+            HeadObjectResponse response = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+
+            return Optional.of(S3ServiceDto.ObjectMetadata.builder()
+                    .key(key)
+                    .size(response.contentLength())
+                    .contentType(response.contentType())
+                    .build());
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    // -------- 썸네일 생성 (ThumbnailService) ---------
+    // 🔟 객체 스트림 조회 (호출자가 close)
+    public ResponseInputStream<GetObjectResponse> openObject(String key) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
+    // 1️⃣1️⃣ 생성물 업로드 (썸네일 등 서버 생성 객체, 키가 바뀌지 않으므로 장기 캐시)
+    public void putObject(String key, byte[] content, String contentType) {
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength((long) content.length)
+                        .cacheControl("public, max-age=31536000, immutable")
+                        .build(),
+                RequestBody.fromBytes(content));
+        log.debug("✅ [S3Service] 객체 업로드 - key: {}, size: {} bytes", key, content.length);
+    }
+
+    // 1️⃣2️⃣ 객체 삭제 (확인되지 않은 단일 업로드 정리, 없는 키도 성공 -> 멱등)
+    public void deleteObject(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+        log.debug("✅ [S3Service] 객체 삭제 - key: {}", key);
+    }
+
     // MultipartCountCalculator
     public Integer calculatePartCount(Long fileSize) {
         final long MIN_PART_SIZE = 5L * 1024 * 1024; // 5MB
@@ -236,6 +353,66 @@ public class S3Service {
 
     // -------- Helper Methods --------
 
+    /** 단일 Part 서명 (contentLength 포함) */
+    private S3ServiceDto.PartPresignedUrlResponse presignPart(
+            S3ServiceDto.PartPresignedUrlRequest request, int part, int partCount
+    ) {
+        // 각 Part의 정확한 크기 계산
+        long partSize = calculatePartSize(request.getFileSize(), part, partCount);
+
+        URL presignedUrl = generatePresignedUrl(S3ServiceDto.PresignedUrlRequest.builder()
+                .key(request.getKey())
+                .uploadId(request.getUploadId())
+                .partNumber(part)
+                .contentLength(partSize)
+                .build());
+
+        return S3ServiceDto.PartPresignedUrlResponse.builder()
+                .partNumber(part)
+                .presignedUrl(presignedUrl.toString())
+                .contentLength(partSize)
+                .build();
+    }
+
+    /** 서명 대상 Part 번호 (오름차순, 1 ~ partCount 범위만) */
+    private List<Integer> resolvePartNumbers(S3ServiceDto.PartPresignedUrlRequest request, int partCount) {
+        if (request.getPartNumbers() != null) {
+            return request.getPartNumbers().stream()
+                    .filter(part -> part != null && part >= 1 && part <= partCount)
+                    .distinct()
+                    .sorted()
+                    .toList();
+        }
+
+        int from = request.getFromPartNumber() != null ? Math.max(1, request.getFromPartNumber()) : 1;
+        int to = request.getToPartNumber() != null ? Math.min(partCount, request.getToPartNumber()) : partCount;
+        return IntStream.rangeClosed(from, to).boxed().toList();
+    }
+
+    /** 병렬 서명 (Part 번호 순서 유지) */
+    private List<S3ServiceDto.PartPresignedUrlResponse> presignPartsInParallel(
+            S3ServiceDto.PartPresignedUrlRequest request, List<Integer> parts, int partCount
+    ) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<S3ServiceDto.PartPresignedUrlResponse>> futures = new ArrayList<>(parts.size());
+            for (int part : parts) {
+                futures.add(executor.submit(() -> presignPart(request, part, partCount)));
+            }
+
+            List<S3ServiceDto.PartPresignedUrlResponse> responses = new ArrayList<>(futures.size());
+            for (Future<S3ServiceDto.PartPresignedUrlResponse> future : futures) {
+                responses.add(future.get());
+            }
+            return responses;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException("Part presign failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Part presign interrupted", e);
+        }
+    }
+
     /** Key 생성 (폴더명 + UUID + 원본파일명) */
     private String generateKey(String subFolder, String originalFileName) {
         String safeName = (originalFileName == null || originalFileName.isBlank()) ? "unknown" : originalFileName;
@@ -271,7 +448,7 @@ public class S3Service {
      * @param totalParts 전체 Part 개수
      * @return 해당 Part의 크기 (bytes)
      */
-    private long calculatePartSize(Long fileSize, int partNumber, int totalParts) {
+    public long calculatePartSize(Long fileSize, int partNumber, int totalParts) {
         if (totalParts == 1) {
             return fileSize;
         }
@@ -44,7 +44,7 @@ public class StickerDto {
         private StickerType stickerType;
     }
 
-    @Data @Builder @AllArgsConstructor
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
     @Schema(name = "StickerResponse", description = "스티커 응답")
     public static class Response {
         @Schema(description = "스티커 ID", example = "1")
@@ -3,6 +3,7 @@ package com.depth.deokive.domain.sticker.service;
 import com.depth.deokive.common.service.ArchiveGuard;
 import com.depth.deokive.domain.archive.entity.Archive;
 import com.depth.deokive.domain.archive.repository.ArchiveRepository;
+import com.depth.deokive.domain.calendar.event.CalendarChangedEvent;
 import com.depth.deokive.domain.sticker.dto.StickerDto;
 import com.depth.deokive.domain.sticker.entity.Sticker;
 import com.depth.deokive.domain.sticker.repository.StickerRepository;
@@ -10,11 +11,15 @@ import com.depth.deokive.system.exception.model.ErrorCode;
 import com.depth.deokive.system.exception.model.RestException;
 import com.depth.deokive.system.security.model.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,6 +29,7 @@ public class StickerService {
     private final StickerRepository stickerRepository;
     private final ArchiveRepository archiveRepository;
     private final ArchiveGuard archiveGuard;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public StickerDto.Response createSticker(UserPrincipal user, Long archiveId, StickerDto.CreateRequest request) {
@@ -32,7 +38,7 @@ public class StickerService {
                 .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
 
         // SEQ 2. 소유권 확인
-        archiveGuard.checkOwner(archive.getUser().getId(), user);
+        archiveGuard.checkOwner(archive, user);
 
         // SEQ 3. 중복 날짜 확인
         if (stickerRepository.existsByArchiveIdAndDate(archiveId, request.getDate())) {
@@ -43,6 +49,9 @@ public class StickerService {
         Sticker sticker = request.toEntity(archive);
         stickerRepository.save(sticker);
 
+        // SEQ 5. 월별 캘린더 무효화 (커밋 후)
+        eventPublisher.publishEvent(CalendarChangedEvent.of(archiveId, CalendarChangedEvent.monthsOf(sticker.getDate())));
+
         return StickerDto.Response.from(sticker);
     }
 
@@ -53,7 +62,7 @@ public class StickerService {
                 .orElseThrow(() -> new RestException(ErrorCode.STICKER_NOT_FOUND));
 
         // SEQ 2. 소유권 확인
-        archiveGuard.checkOwner(sticker.getArchive().getUser().getId(), user);
+        archiveGuard.checkOwner(sticker.getArchive(), user);
 
         // SEQ 3. 날짜 변경 시 중복 체크
         if (request.getDate() != null && !request.getDate().equals(sticker.getDate())) {
@@ -62,8 +71,13 @@ public class StickerService {
             }
         }
 
-        // SEQ 4. 업데이트
+        // SEQ 4. 업데이트 (변경 전/후 월 모두 무효화 대상)
+        Set<YearMonth> changedMonths = new TreeSet<>(CalendarChangedEvent.monthsOf(sticker.getDate()));
         sticker.update(request.getStickerType(), request.getDate());
+        changedMonths.addAll(CalendarChangedEvent.monthsOf(sticker.getDate()));
+
+        // SEQ 5. 월별 캘린더 무효화 (커밋 후)
+        eventPublisher.publishEvent(CalendarChangedEvent.of(sticker.getArchive().getId(), changedMonths));
 
         return StickerDto.Response.from(sticker);
     }
@@ -73,9 +87,11 @@ public class StickerService {
         Sticker sticker = stickerRepository.findById(stickerId)
                 .orElseThrow(() -> new RestException(ErrorCode.STICKER_NOT_FOUND));
 
-        archiveGuard.checkOwner(sticker.getArchive().getUser().getId(), user);
+        archiveGuard.checkOwner(sticker.getArchive(), user);
 
         stickerRepository.delete(sticker);
+
+        eventPublisher.publishEvent(CalendarChangedEvent.of(sticker.getArchive().getId(), CalendarChangedEvent.monthsOf(sticker.getDate())));
     }
 
     @Transactional(readOnly = true)
@@ -87,14 +103,19 @@ public class StickerService {
         // SEQ 2. 조회 권한 확인 (친구/공개 등)
         archiveGuard.checkArchiveReadPermission(archive, user);
 
-        // SEQ 3. 날짜 계산
-        LocalDate startDate = LocalDate.of(year, month, 1);
-        LocalDate endDate = startDate.plusMonths(1).minusDays(1);
+        // SEQ 3. 조회
+        return loadMonthlyStickers(archiveId, YearMonth.of(year, month));
+    }
 
-        // SEQ 4. 조회
-        return stickerRepository.findAllByArchiveIdAndDateBetweenOrderByDateAsc(archiveId, startDate, endDate)
+    /**
+     * 월별 스티커 조회 (권한 검증 없음 -> 호출 측에서 검증)
+     * - getMonthlyStickers / CalendarService(월별 캘린더 Read Model 적재)에서 공용
+     */
+    @Transactional(readOnly = true)
+    public List<StickerDto.Response> loadMonthlyStickers(Long archiveId, YearMonth yearMonth) {
+        return stickerRepository.findAllByArchiveIdAndDateBetweenOrderByDateAsc(archiveId, yearMonth.atDay(1), yearMonth.atEndOfMonth())
                 .stream()
                 .map(StickerDto.Response::from)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
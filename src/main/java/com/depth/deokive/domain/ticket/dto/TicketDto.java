@@ -157,6 +157,7 @@ public class TicketDto {
                     .fileId(file.getId())
                     .filename(file.getFilename())
                     .cdnUrl(FileUrlUtils.buildCdnUrl(file.getS3ObjectKey()))
+                    .thumbnailUrl(FileUrlUtils.buildThumbnailUrl(file, ThumbnailUtils.Variant.MEDIUM.getWidth()))
                     .fileSize(file.getFileSize())
                     .mediaType(file.getMediaType().name())
                     .mediaRole(com.depth.deokive.domain.file.entity.enums.MediaRole.PREVIEW)
@@ -38,7 +38,7 @@ public class TicketService {
         TicketBook ticketBook = ticketBookRepository.findById(archiveId)
                 .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
 
-        archiveGuard.checkOwner(ticketBook.getArchive().getUser().getId(), userPrincipal);
+        archiveGuard.checkOwner(ticketBook.getArchive(), userPrincipal);
 
         // SEQ 2. 파일 조회 (있으면 찾고, 없으면 null)
         File file = (request.getFileId() != null)
@@ -72,9 +72,24 @@ public class TicketService {
         archiveGuard.checkArchiveReadPermission(ticketBook.getArchive(), userPrincipal);
 
         // SEQ 3. 페이지네이션 조회
-        Page<TicketDto.TicketPageResponse> ticketPage = ticketQueryRepository.searchTicketsByBook(archiveId, pageable);
+        return readTickets(ticketBook, pageable);
+    }
+
+    /**
+     * 아카이브 홈 섹션용 (권한 검증은 ArchiveHomeService에서 한 번만 수행)
+     */
+    @Transactional(readOnly = true)
+    public PageDto.PageListResponse<TicketDto.TicketPageResponse> getTicketSection(Long archiveId, Pageable pageable) {
+        TicketBook ticketBook = ticketBookRepository.findById(archiveId)
+                .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
+
+        return readTickets(ticketBook, pageable);
+    }
+
+    private PageDto.PageListResponse<TicketDto.TicketPageResponse> readTickets(TicketBook ticketBook, Pageable pageable) {
+        Page<TicketDto.TicketPageResponse> ticketPage = ticketQueryRepository.searchTicketsByBook(ticketBook.getId(), pageable);
 
-        // SEQ 4. Page Range Validation
+        // Page Range Validation
         PageUtils.validatePageRange(ticketPage);
 
         return PageDto.PageListResponse.of(ticketBook.getTitle(), ticketPage);
@@ -87,7 +102,7 @@ public class TicketService {
                 .orElseThrow(() -> new RestException(ErrorCode.TICKET_NOT_FOUND));
 
         // SEQ 2. 소유자 검증
-        archiveGuard.checkOwner(ticket.getTicketBook().getArchive().getUser().getId(), userPrincipal);
+        archiveGuard.checkOwner(ticket.getTicketBook().getArchive(), userPrincipal);
 
         // SEQ 3. 파일 조회 및 결정
         File finalFile = resolveUpdatedFile(ticket.getFile(), request, userPrincipal.getUserId());
@@ -103,7 +118,7 @@ public class TicketService {
         Ticket ticket = ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new RestException(ErrorCode.TICKET_NOT_FOUND));
 
-        archiveGuard.checkOwner(ticket.getTicketBook().getArchive().getUser().getId(), userPrincipal);
+        archiveGuard.checkOwner(ticket.getTicketBook().getArchive(), userPrincipal);
 
         ticketRepository.delete(ticket);
     }
@@ -113,7 +128,7 @@ public class TicketService {
         TicketBook ticketBook = ticketBookRepository.findById(archiveId)
                 .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
 
-        archiveGuard.checkOwner(ticketBook.getArchive().getUser().getId(), userPrincipal);
+        archiveGuard.checkOwner(ticketBook.getArchive(), userPrincipal);
 
         ticketBook.updateTitle(request.getTitle());
 
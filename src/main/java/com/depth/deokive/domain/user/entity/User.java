@@ -12,6 +12,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import java.time.LocalDateTime;
 import java.util.Locale;
 
 @SuperBuilder
@@ -22,6 +23,9 @@ import java.util.Locale;
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(name = "USER_USERNAME", columnNames = "username"),
         @UniqueConstraint(name = "USER_EMAIL", columnNames = "email")
+}, indexes = {
+        // 탈퇴 유저 콘텐츠 정리 Job 대상 조회용 (유예 기간 경과 + 미정리)
+        @Index(name = "idx_users_withdrawn", columnList = "content_purged_at, withdrawn_at")
 })
 public class User extends TimeBaseEntity {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -53,6 +57,14 @@ public class User extends TimeBaseEntity {
     @Builder.Default
     private boolean isEmailVerified = false;
 
+    // 탈퇴 시각: 값이 있으면 탈퇴 유저 (유예 기간 후 UserPurgeBatchConfig가 콘텐츠 정리)
+    @Column(name = "withdrawn_at")
+    private LocalDateTime withdrawnAt;
+
+    // 콘텐츠 정리 완료 시각 (정리 Job 재실행 대상에서 제외)
+    @Column(name = "content_purged_at")
+    private LocalDateTime contentPurgedAt;
+
     @PrePersist // INSERT 되기 전 실행 (새로운 User 저장 시)
     @PreUpdate  // UPDATE 되기 전 실행 (기존 User 수정 시)
     private void normalize() {
@@ -80,6 +92,7 @@ public class User extends TimeBaseEntity {
         this.email = dto.getEmail();
         this.nickname = dto.getNickname();
         this.password = dto.getPassword(); // Validation 에서 막힘
+        if (this.withdrawnAt == null) this.withdrawnAt = LocalDateTime.now();
     }
 
     // OAuth2 사용자 정보 업데이트
@@ -0,0 +1,23 @@
+package com.depth.deokive.domain.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 탈퇴 유저 콘텐츠 정리 Chunk 커밋 후 무효화할 캐시 대상
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class UserContentPurgedEvent {
+    private final Cache cache;
+    private final List<Long> targetIds;
+
+    public enum Cache {
+        POST,           // 게시글 삭제: 좋아요 + 댓글 수
+        POST_LIKE,      // 게시글 좋아요 차감
+        ARCHIVE_LIKE,   // 아카이브 좋아요 차감 / 아카이브 삭제
+        COMMENT_COUNT   // 댓글 수 차감
+    }
+}
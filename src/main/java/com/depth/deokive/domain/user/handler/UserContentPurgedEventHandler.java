@@ -0,0 +1,44 @@
+package com.depth.deokive.domain.user.handler;
+
+import com.depth.deokive.common.enums.ViewLikeDomain;
+import com.depth.deokive.common.service.LikeRedisService;
+import com.depth.deokive.domain.comment.service.CommentCountRedisService;
+import com.depth.deokive.domain.user.event.UserContentPurgedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 정리 Chunk 커밋 후 카운터 캐시 무효화
+ * - 커밋 전에 지우면 동시 조회가 삭제 전 DB 상태로 다시 Warming 할 수 있으므로 AFTER_COMMIT
+ * - 차감 대신 삭제 -> 다음 조회에서 DB 기준으로 재적재 (LikeCountScheduler가 DB 차감분을 덮어쓰지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserContentPurgedEventHandler {
+
+    private final LikeRedisService likeRedisService;
+    private final CommentCountRedisService commentCountRedisService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(UserContentPurgedEvent event) {
+        try {
+            switch (event.getCache()) {
+                case POST -> {
+                    likeRedisService.deleteLikeData(ViewLikeDomain.POST, event.getTargetIds());
+                    commentCountRedisService.deleteCache(event.getTargetIds());
+                }
+                case POST_LIKE -> likeRedisService.deleteLikeData(ViewLikeDomain.POST, event.getTargetIds());
+                case ARCHIVE_LIKE -> likeRedisService.deleteLikeData(ViewLikeDomain.ARCHIVE, event.getTargetIds());
+                case COMMENT_COUNT -> commentCountRedisService.deleteCache(event.getTargetIds());
+            }
+        } catch (Exception e) {
+            // Soft Fail: 정리 Job은 계속 진행 (좋아요 캐시는 TTL로 만료)
+            log.warn("⚠️ [User Purge] Cache evict failed -> cache: {}, targets: {}, Error: {}",
+                    event.getCache(), event.getTargetIds().size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.depth.deokive.domain.user.service;
+
+import com.depth.deokive.common.enums.ViewLikeDomain;
+import com.depth.deokive.common.event.ContentChangedEvent;
+import com.depth.deokive.domain.archive.service.ArchivePurgeService;
+import com.depth.deokive.domain.file.service.FileCleanupQueue;
+import com.depth.deokive.domain.notification.service.NotificationInboxService;
+import com.depth.deokive.domain.user.event.UserContentPurgedEvent;
+import com.depth.deokive.domain.user.event.UserContentPurgedEvent.Cache;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 탈퇴 유저 콘텐츠 정리
+ *
+ * [배경]
+ * - 탈퇴(AuthService.delete)는 유저 Soft Delete + 소셜 계정 삭제만 수행
+ * - 아카이브/게시글/댓글/좋아요/친구/파일이 그대로 남아 피드, 통계, 고아 파일 스캔(Anti-Join)을 계속 비대하게 만듦
+ * - 변경: 유예 기간(grace-hours) 경과 후 UserPurgeBatchConfig(Job)가 chunk 단위로 삭제/익명화
+ *
+ * [Chunk 처리]
+ * - ArchivePurgeService의 Chunk(selectChunkIds -> applyToIds)를 그대로 사용, 호출 1회 = 트랜잭션 1개, 모든 쿼리 멱등
+ * - 아카이브: 1개씩 Tombstone 후 ArchivePurgeService의 Chunk 삭제를 그대로 사용
+ * - 타인 콘텐츠의 카운터: 삭제 전 GROUP BY + UPDATE JOIN으로 일괄 차감, 커밋 후 Redis 캐시 무효화
+ * - 댓글: 대댓글/자식 없는 댓글은 삭제, 대댓글이 달린 댓글은 익명화 (스레드 유지)
+ * - 파일: 작성 파일 ID를 FileCleanupQueue에 적재 -> 고아 파일 스캔 없이 S3 + DB 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserPurgeService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ArchivePurgeService archivePurgeService;
+    private final FileCleanupQueue fileCleanupQueue;
+    private final NotificationInboxService notificationInboxService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 선언 순서 = Step 순서 (FK 제약조건 고려: 자식 -> 부모)
+     * - selectIdsSql: (userId, limit)
+     * - affectedSql: 캐시 무효화 대상 ID 조회 (null이면 selectIdsSql의 ID 그대로)
+     * - applySqls: 순서대로 실행 (:ids)
+     */
+    @Getter
+    public enum PurgeTarget {
+        // 1️⃣ 작성한 게시글 (타인의 좋아요/댓글 포함)
+        POST_FILE_MAP("post_file_map", """
+                SELECT pfm.id FROM post_file_map pfm
+                JOIN post p ON pfm.post_id = p.id
+                WHERE p.user_id = ? LIMIT ?
+                """, null, null,
+                "DELETE FROM post_file_map WHERE id IN (:ids)"),
+        POST_LIKE_RECEIVED("post_like.received", """
+                SELECT pl.id FROM post_like pl
+                JOIN post p ON pl.post_id = p.id
+                WHERE p.user_id = ? LIMIT ?
+                """, null, null,
+                "DELETE FROM post_like WHERE id IN (:ids)"),
+        POST_COMMENT_REPLY("comment.received.reply", """
+                SELECT c.id FROM comment c
+                JOIN post p ON c.post_id = p.id
+                WHERE p.user_id = ? AND c.parent_id IS NOT NULL LIMIT ?
+                """, null, null,
+                "DELETE FROM comment WHERE id IN (:ids)"),
+        POST_COMMENT("comment.received", """
+                SELECT c.id FROM comment c
+                JOIN post p ON c.post_id = p.id
+                WHERE p.user_id = ? AND c.parent_id IS NULL LIMIT ?
+                """, null, null,
+                "DELETE FROM comment WHERE parent_id IN (:ids)", // 앞선 Step 이후 달린 대댓글
+                "DELETE FROM comment WHERE id IN (:ids)"),
+        // 게시글 Root: 앞선 Step 이후 늦게 들어온 자식 행까지 같은 트랜잭션에서 Sweep
+        POST("post",
+                "SELECT id FROM post WHERE user_id = ? LIMIT ?",
+                Cache.POST, null,
+                "DELETE FROM post_file_map WHERE post_id IN (:ids)",
+                "DELETE FROM post_like WHERE post_id IN (:ids)",
+                "DELETE FROM comment WHERE post_id IN (:ids) AND parent_id IS NOT NULL",
+                "DELETE FROM comment WHERE post_id IN (:ids)",
+                "DELETE FROM post_stats WHERE post_id IN (:ids)",
+                "DELETE FROM post WHERE id IN (:ids)"),
+
+        // 2️⃣ 타인 콘텐츠에 누른 좋아요 (통계 일괄 차감 후 삭제)
+        POST_LIKE("post_like",
+                "SELECT id FROM post_like WHERE user_id = ? LIMIT ?",
+                Cache.POST_LIKE,
+                "SELECT DISTINCT post_id FROM post_like WHERE id IN (:ids)",
+                """
+                UPDATE post_stats ps
+                JOIN (SELECT post_id, COUNT(*) AS cnt FROM post_like WHERE id IN (:ids) GROUP BY post_id) x
+                  ON ps.post_id = x.post_id
+                SET ps.like_count = GREATEST(ps.like_count - x.cnt, 0)
+                """,
+                "DELETE FROM post_like WHERE id IN (:ids)"),
+        ARCHIVE_LIKE("archive_like",
+                "SELECT id FROM archive_like WHERE user_id = ? LIMIT ?",
+                Cache.ARCHIVE_LIKE,
+                "SELECT DISTINCT archive_id FROM archive_like WHERE id IN (:ids)",
+                """
+                UPDATE archive_stats s
+                JOIN (SELECT archive_id, COUNT(*) AS cnt FROM archive_like WHERE id IN (:ids) GROUP BY archive_id) x
+                  ON s.archive_id = x.archive_id
+                SET s.like_count = GREATEST(s.like_count - x.cnt, 0)
+                """,
+                "DELETE FROM archive_like WHERE id IN (:ids)"),
+
+        // 3️⃣ 타인 게시글에 남긴 댓글
+        COMMENT_REPLY("comment.reply",
+                "SELECT id FROM comment WHERE user_id = ? AND parent_id IS NOT NULL LIMIT ?",
+                Cache.COMMENT_COUNT,
+                "SELECT DISTINCT post_id FROM comment WHERE id IN (:ids)",
+                "DELETE FROM comment WHERE id IN (:ids)"),
+        COMMENT("comment", """
+                SELECT c.id FROM comment c
+                WHERE c.user_id = ? AND c.parent_id IS NULL
+                  AND NOT EXISTS (SELECT 1 FROM comment r WHERE r.parent_id = c.id)
+                LIMIT ?
+                """,
+                Cache.COMMENT_COUNT,
+                "SELECT DISTINCT post_id FROM comment WHERE id IN (:ids)",
+                // 조회 이후 대댓글이 달린 댓글은 남김 -> 다음 Step에서 익명화
+                """
+                DELETE c FROM comment c
+                LEFT JOIN comment r ON r.parent_id = c.id
+                WHERE c.id IN (:ids) AND r.id IS NULL
+                """),
+        // 대댓글이 달린 댓글: 삭제 시 스레드가 깨지므로 익명화 (응답에서 "삭제된 댓글입니다."로 노출, 댓글 수 변동 없음)
+        COMMENT_ANONYMIZE("comment.anonymize",
+                "SELECT id FROM comment WHERE user_id = ? AND is_deleted = 0 LIMIT ?",
+                null, null,
+                "UPDATE comment SET is_deleted = 1, content = '' WHERE id IN (:ids)"),
+
+        // 4️⃣ 관계 / 알림
+        FRIEND_MAP_SENT("friend_map.sent",
+                "SELECT id FROM friend_map WHERE user_id = ? LIMIT ?",
+                null, null,
+                "DELETE FROM friend_map WHERE id IN (:ids)"),
+        FRIEND_MAP_RECEIVED("friend_map.received",
+                "SELECT id FROM friend_map WHERE friend_id = ? LIMIT ?",
+                null, null,
+                "DELETE FROM friend_map WHERE id IN (:ids)"),
+        NOTIFICATION("notification",
+                "SELECT id FROM notification WHERE receiver_id = ? LIMIT ?",
+                null, null,
+                "DELETE FROM notification WHERE id IN (:ids)");
+
+        private final String step;
+        private final String selectIdsSql;
+        private final Cache cache;
+        private final String affectedSql;
+        private final List<String> applySqls;
+
+        PurgeTarget(String step, String selectIdsSql, Cache cache, String affectedSql, String... applySqls) {
+            this.step = step;
+            this.selectIdsSql = selectIdsSql;
+            this.cache = cache;
+            this.affectedSql = affectedSql;
+            this.applySqls = List.of(applySqls);
+        }
+    }
+
+    /**
+     * 유예 기간이 지난 미정리 탈퇴 유저 ID (오래된 순)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findPurgeableIds(LocalDateTime withdrawnBefore, int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT id FROM users
+                WHERE content_purged_at IS NULL AND withdrawn_at < ?
+                ORDER BY withdrawn_at, id LIMIT ?
+                """, Long.class, Timestamp.valueOf(withdrawnBefore), limit);
+    }
+
+    /**
+     * 유저의 아카이브를 1개씩 Tombstone 후 하위 데이터 정리 (호출 1회 = chunk 1개)
+     * @return 처리한 행 수, 남은 아카이브가 없으면 -1
+     */
+    @Transactional
+    public int purgeArchiveChunk(Long userId, int chunkSize) {
+        Long archiveId = jdbcTemplate.query(
+                "SELECT id FROM archive WHERE user_id = ? ORDER BY id LIMIT 1",
+                rs -> rs.next() ? rs.getLong(1) : null, userId);
+        if (archiveId == null) return -1;
+
+        // SEQ 1. Tombstone (피드/조회에서 즉시 제외, ArchiveService.deleteArchive와 동일)
+        if (jdbcTemplate.update("UPDATE archive SET deleted_at = NOW() WHERE id = ? AND deleted_at IS NULL", archiveId) > 0) {
+            jdbcTemplate.update("DELETE FROM archive_stats WHERE archive_id = ?", archiveId);
+            eventPublisher.publishEvent(UserContentPurgedEvent.of(Cache.ARCHIVE_LIKE, List.of(archiveId)));
+            eventPublisher.publishEvent(ContentChangedEvent.archive(archiveId));
+        }
+
+        // SEQ 2. 하위 테이블 chunk 1개
+        for (ArchivePurgeService.PurgeTarget target : ArchivePurgeService.PurgeTarget.values()) {
+            int deleted = archivePurgeService.purgeChunk(target, archiveId, chunkSize);
+            if (deleted > 0) return deleted;
+        }
+
+        // SEQ 3. 하위 데이터가 없으면 Root 삭제
+        archivePurgeService.purgeRoot(archiveId, chunkSize);
+        return 1;
+    }
+
+    /**
+     * 대상 테이블에서 최대 chunkSize 행 삭제/익명화
+     * @return 처리한 행 수 (chunkSize 미만이면 해당 대상 정리 완료)
+     */
+    @Transactional
+    public int purgeChunk(PurgeTarget target, Long userId, int chunkSize) {
+        List<Long> ids = archivePurgeService.selectChunkIds(target.getSelectIdsSql(), userId, chunkSize);
+        if (ids.isEmpty()) return 0;
+
+        // 캐시 무효화 대상은 행이 지워지기 전에 조회
+        List<Long> affected = target.getAffectedSql() == null
+                ? ids
+                : namedParameterJdbcTemplate.queryForList(target.getAffectedSql(), Map.of("ids", ids), Long.class);
+
+        archivePurgeService.applyToIds(ids, target.getApplySqls());
+
+        if (target.getCache() != null) {
+            eventPublisher.publishEvent(UserContentPurgedEvent.of(target.getCache(), affected));
+            if (target.getCache() == Cache.POST) {
+                eventPublisher.publishEvent(ContentChangedEvent.of(ViewLikeDomain.POST, affected));
+            }
+        }
+        return ids.size();
+    }
+
+    /**
+     * 작성 파일 ID를 정리 대기열에 적재 (Keyset: afterId 이후 chunkSize개)
+     * - 참조 여부는 소비 시점(FileCleanupBatchConfig)에 재검증
+     * @return 적재한 파일 ID (비어 있으면 완료)
+     */
+    public List<Long> enqueueFiles(Long userId, long afterId, int chunkSize) {
+        List<Long> fileIds = jdbcTemplate.queryForList(
+                "SELECT id FROM files WHERE created_by = ? AND id > ? ORDER BY id LIMIT ?",
+                Long.class, userId, afterId, chunkSize);
+        fileCleanupQueue.enqueue(fileIds);
+        return fileIds;
+    }
+
+    /**
+     * 정리 완료 기록 (재실행 대상에서 제외)
+     */
+    @Transactional
+    public void complete(Long userId) {
+        jdbcTemplate.update("UPDATE users SET content_purged_at = NOW() WHERE id = ?", userId);
+        notificationInboxService.evictUnread(userId);
+        log.info("🟢 [User Purge] Content purged: userId={}", userId);
+    }
+}
@@ -7,8 +7,11 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.net.URI;
+
 @Configuration
 public class S3Config {
     private static final Region REGION = Region.AP_NORTHEAST_2;
@@ -19,6 +22,10 @@ public class S3Config {
     @Value("${spring.cloud.aws.credentials.secret-key:}")
     private String secretKey;
 
+    // S3 호환 스토리지(MinIO/LocalStack) 사용 시에만 설정 -> Path-Style 접근
+    @Value("${spring.cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
     // application.yml에서 읽은 자격 증명이 있으면 명시적으로 설정
     // 자격 증명이 없으면 AWS SDK가 기본 체인(환경 변수, ~/.aws/credentials 등)을 사용
     // 배포 환경에서는 IAM Role을 통해 자동으로 자격 증명이 제공될 수 있음
@@ -27,6 +34,10 @@ public class S3Config {
     public S3Client s3Client() {
         var builder = S3Client.builder().region(REGION);
 
+        if (endpoint != null && !endpoint.isEmpty()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+
         if (accessKey != null && !accessKey.isEmpty() &&
                 secretKey != null && !secretKey.isEmpty()) {
             AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
@@ -40,6 +51,11 @@ public class S3Config {
     public S3Presigner s3Presigner() {
         var builder = S3Presigner.builder().region(REGION);
 
+        if (endpoint != null && !endpoint.isEmpty()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+
         if (accessKey != null && !accessKey.isEmpty() &&
                 secretKey != null && !secretKey.isEmpty()) {
             AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
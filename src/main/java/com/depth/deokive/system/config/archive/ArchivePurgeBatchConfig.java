@@ -0,0 +1,91 @@
+package com.depth.deokive.system.config.archive;
+
+import com.depth.deokive.domain.archive.service.ArchivePurgeService;
+import com.depth.deokive.domain.archive.service.ArchivePurgeService.PurgeTarget;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.builder.SimpleJobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 아카이브 삭제(Tombstone) 후속 정리 Job
+ *
+ * [구성]
+ * - JobParameter: archiveId (identifying) -> 아카이브 1개 = JobInstance 1개
+ * - Step: PurgeTarget 테이블마다 1개 + Root Step (Book/통계/아카이브)
+ * - Tasklet 1회 실행 = chunk-size 행 삭제 + 커밋, 남은 행이 있으면 CONTINUABLE로 반복
+ *
+ * [진행 상황 / 재시작]
+ * - 삭제 행 수는 StepExecution.writeCount, 반복 횟수는 commitCount로 BATCH_STEP_EXECUTION에 기록
+ * - 실패 시 같은 archiveId로 다시 실행하면 완료된 Step은 건너뛰고 실패한 Step부터 재개
+ * - 같은 JobInstance의 동시 실행은 JobRepository가 차단 (멀티 인스턴스 중복 실행 방지)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ArchivePurgeBatchConfig {
+
+    public static final String JOB_NAME = "archivePurgeJob";
+    public static final String ARCHIVE_ID = "archiveId";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ArchivePurgeService archivePurgeService;
+
+    @Value("${scheduler.archive-purge.chunk-size:500}")
+    private int chunkSize;
+
+    @Bean
+    public Job archivePurgeJob() {
+        PurgeTarget[] targets = PurgeTarget.values();
+        SimpleJobBuilder builder = new JobBuilder(JOB_NAME, jobRepository).start(purgeStep(targets[0]));
+        for (int i = 1; i < targets.length; i++) {
+            builder.next(purgeStep(targets[i]));
+        }
+        return builder.next(purgeRootStep()).build();
+    }
+
+    private Step purgeStep(PurgeTarget target) {
+        return new StepBuilder("archivePurge." + target.getTable(), jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    Long archiveId = archiveIdOf(chunkContext);
+                    int deleted = archivePurgeService.purgeChunk(target, archiveId, chunkSize);
+                    contribution.incrementWriteCount(deleted);
+
+                    if (deleted < chunkSize) {
+                        log.debug("[Archive Purge] {} done: archiveId={}", target.getTable(), archiveId);
+                        return RepeatStatus.FINISHED;
+                    }
+                    return RepeatStatus.CONTINUABLE;
+                }, transactionManager)
+                .build();
+    }
+
+    private Step purgeRootStep() {
+        return new StepBuilder("archivePurge.root", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    Long archiveId = archiveIdOf(chunkContext);
+                    if (archivePurgeService.purgeRoot(archiveId, chunkSize)) {
+                        contribution.incrementWriteCount(1);
+                    } else {
+                        log.warn("⚠️ [Archive Purge] Root skipped (not tombstoned): archiveId={}", archiveId);
+                    }
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    private static Long archiveIdOf(ChunkContext chunkContext) {
+        return chunkContext.getStepContext().getStepExecution().getJobParameters().getLong(ARCHIVE_ID);
+    }
+}
@@ -0,0 +1,58 @@
+package com.depth.deokive.system.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 백그라운드 작업(스케줄러, Spring Batch) 전용 커넥션 풀
+ *
+ * [배경]
+ * - ViewCount(최대 5000 트랜잭션), LikeCount, HotScore 전체 UPDATE, Badge, 파일 정리 Batch가
+ *   요청과 같은 6 커넥션 풀을 빌려 씀 -> 스케줄러 실행 시점마다 API p99 급등
+ *
+ * [구성]
+ * - pool: background (기본 3 커넥션, 같은 DB) -> hikaricp.connections.*{pool=background}
+ * - BackgroundThrottle: 초당 DB 시간 예산 + 요청 풀 대기 스레드 증가 시 일시 정지
+ */
+@Configuration
+public class BackgroundDataSourceConfig {
+
+    public static final String POOL_NAME = "background";
+
+    @Bean(destroyMethod = "close")
+    public BackgroundDatabase backgroundDatabase(
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.background.url:${spring.datasource.url}}") String url,
+            @Value("${datasource.background.username:${spring.datasource.username}}") String username,
+            @Value("${datasource.background.password:${spring.datasource.password}}") String password,
+            @Value("${datasource.background.maximum-pool-size:3}") int maximumPoolSize,
+            @Value("${datasource.background.connection-timeout:30000}") long connectionTimeout,
+            @Value("${datasource.background.throttle.db-time-per-second:200ms}") Duration budgetPerSecond,
+            @Value("${datasource.background.throttle.pending-threshold:0}") int pendingThreshold,
+            @Value("${datasource.background.throttle.max-pause:10s}") Duration maxPause
+    ) {
+        // 기본 생성자 -> 첫 getConnection 시점에 풀 초기화 (기동 시 추가 커넥션 생성 없음)
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(POOL_NAME);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMinimumIdle(1);
+        dataSource.setConnectionTimeout(connectionTimeout);
+        dataSource.setMetricRegistry(meterRegistry);
+
+        BackgroundThrottle throttle = new BackgroundThrottle(meterRegistry, POOL_NAME, budgetPerSecond, pendingThreshold, maxPause);
+        String databaseType = DatabaseDriver.fromJdbcUrl(url).getId().toUpperCase(); // Batch DatabaseType 이름 (MYSQL, H2)
+        return new BackgroundDatabase(dataSource, throttle, databaseType);
+    }
+}
@@ -0,0 +1,164 @@
+package com.depth.deokive.system.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.RepeatListener;
+import org.springframework.batch.repeat.RepeatOperations;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.repeat.support.RepeatTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.function.Supplier;
+
+/**
+ * 스케줄러 / Spring Batch 전용 DB 접근 (요청 풀과 분리된 소형 Hikari 풀)
+ *
+ * - DataSource / TransactionManager / JobRepository를 빈으로 노출하지 않음
+ *   -> Boot 자동 설정(DataSource, JPA TransactionManager, Batch)의 @ConditionalOnMissingBean을 건드리지 않음
+ * - 모든 쓰기는 inTransaction 단위로 BackgroundThrottle 적용
+ * - Spring Batch Step은 같은 트랜잭션 매니저의 JobRepository로 실행, 스로틀은 청크 사이에서 적용 (chunkOperations)
+ * - JPA 영속성 컨텍스트를 거치지 않음 (JDBC 전용) -> 요청 풀 커넥션을 전혀 점유하지 않음
+ */
+public class BackgroundDatabase implements AutoCloseable {
+
+    private final HikariDataSource dataSource;
+    private final DataSourceTransactionManager transactionManager;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final BackgroundThrottle throttle;
+    private final JobRepository jobRepository;
+    private final JobLauncher jobLauncher;
+
+    /**
+     * @param databaseType Batch 메타데이터 SQL 방언 (MYSQL, H2 ...) - 지정해야 기동 시 메타데이터 조회용 커넥션을 열지 않음
+     */
+    public BackgroundDatabase(HikariDataSource dataSource, BackgroundThrottle throttle, String databaseType) {
+        this.dataSource = dataSource;
+        this.transactionManager = new DataSourceTransactionManager(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.throttle = throttle;
+        this.jobRepository = createJobRepository(databaseType);
+        this.jobLauncher = createJobLauncher(jobRepository);
+    }
+
+    /**
+     * 스로틀 대기 후 하나의 트랜잭션으로 실행, 소요 시간을 예산에서 차감
+     */
+    public <T> T inTransaction(TransactionCallback<T> action) {
+        return throttled(() -> transactionTemplate.execute(action));
+    }
+
+    /**
+     * Spring Batch Step 반복(stepOperations): 청크 트랜잭션 시작 전 스로틀 대기, 커밋/롤백 후 소요 시간 차감
+     * - 트랜잭션 안에서 대기하면 커넥션과 삭제 행 잠금을 쥔 채 멈추므로 반드시 청크 사이에서 대기
+     */
+    public RepeatOperations chunkOperations() {
+        RepeatTemplate template = new RepeatTemplate();
+        template.registerListener(new RepeatListener() {
+            private long start;
+
+            @Override
+            public void before(RepeatContext context) {
+                throttle.acquire();
+                start = System.nanoTime();
+            }
+
+            @Override
+            public void after(RepeatContext context, RepeatStatus result) {
+                throttle.record(System.nanoTime() - start);
+            }
+
+            @Override
+            public void onError(RepeatContext context, Throwable e) {
+                throttle.record(System.nanoTime() - start);
+            }
+        });
+        return template;
+    }
+
+    private <T> T throttled(Supplier<T> work) {
+        throttle.acquire();
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            throttle.record(System.nanoTime() - start);
+        }
+    }
+
+    public int update(String sql, Object... args) {
+        Integer updated = inTransaction(status -> jdbcTemplate.update(sql, args));
+        return updated != null ? updated : 0;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /** Spring Batch Step 트랜잭션용 (getJobRepository와 같은 트랜잭션 매니저) */
+    public PlatformTransactionManager getTransactionManager() {
+        return transactionManager;
+    }
+
+    /** 백그라운드 풀로 Step을 실행하는 Job/Step Builder용 -> 청크 커밋과 StepExecution 갱신이 한 트랜잭션 */
+    public JobRepository getJobRepository() {
+        return jobRepository;
+    }
+
+    /** getJobRepository로 만든 Job 실행용 (JobExecution 생성도 같은 풀/트랜잭션 매니저) */
+    public JobLauncher getJobLauncher() {
+        return jobLauncher;
+    }
+
+    public JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    public NamedParameterJdbcTemplate getNamedParameterJdbcTemplate() {
+        return namedParameterJdbcTemplate;
+    }
+
+    // --- Helper Methods ---
+
+    private JobRepository createJobRepository(String databaseType) {
+        JobRepositoryFactoryBean factory = new JobRepositoryFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setTransactionManager(transactionManager);
+        factory.setDatabaseType(databaseType);
+        try {
+            factory.afterPropertiesSet();
+            return factory.getObject();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to create background JobRepository", e);
+        }
+    }
+
+    private static JobLauncher createJobLauncher(JobRepository jobRepository) {
+        TaskExecutorJobLauncher launcher = new TaskExecutorJobLauncher(); // 기본 SyncTaskExecutor -> 호출 스레드에서 실행
+        launcher.setJobRepository(jobRepository);
+        try {
+            launcher.afterPropertiesSet();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to create background JobLauncher", e);
+        }
+        return launcher;
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+}
@@ -0,0 +1,138 @@
+package com.depth.deokive.system.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 백그라운드 작업 DB 사용량 제한
+ *
+ * [규칙]
+ * 1. 초당 DB 시간 예산: 1초 구간마다 백그라운드 트랜잭션 소요 시간 합이 budget을 넘으면 다음 구간까지 대기
+ *    (초과분은 다음 구간으로 이월)
+ * 2. 요청 풀 압박: 요청용 Hikari 풀의 대기 스레드(hikaricp.connections.pending)가 threshold 초과 시 대기
+ * 3. 최대 대기(max-pause) 초과 시 진행 (요청 폭주가 길어져도 동기화가 무한정 밀리지 않도록)
+ *
+ * - 트랜잭션 단위로 적용 (BackgroundDatabase.inTransaction, Batch는 청크 사이) -> 한 트랜잭션은 작게 유지해야 효과가 있음
+ */
+@Slf4j
+public class BackgroundThrottle {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long PRESSURE_POLL_MILLIS = 50;
+    private static final String PENDING_GAUGE = "hikaricp.connections.pending";
+
+    private final MeterRegistry meterRegistry;
+    private final String backgroundPoolName;
+    private final long budgetNanos;
+    private final int pendingThreshold;
+    private final long maxPauseNanos;
+
+    private final Timer dbTime;
+    private final Timer budgetPause;
+    private final Timer pressurePause;
+    private final Counter pauseExpired;
+
+    private long windowStart = System.nanoTime();
+    private long usedNanos = 0;
+
+    public BackgroundThrottle(MeterRegistry meterRegistry, String backgroundPoolName,
+                              Duration budgetPerSecond, int pendingThreshold, Duration maxPause) {
+        this.meterRegistry = meterRegistry;
+        this.backgroundPoolName = backgroundPoolName;
+        this.budgetNanos = budgetPerSecond.toNanos();
+        this.pendingThreshold = pendingThreshold;
+        this.maxPauseNanos = maxPause.toNanos();
+
+        this.dbTime = Timer.builder("background.db.time").register(meterRegistry);
+        this.budgetPause = Timer.builder("background.throttle.pause").tag("reason", "budget").register(meterRegistry);
+        this.pressurePause = Timer.builder("background.throttle.pause").tag("reason", "request-pool").register(meterRegistry);
+        this.pauseExpired = meterRegistry.counter("background.throttle.pause.expired");
+        Gauge.builder("background.throttle.request-pool.pending", this, BackgroundThrottle::requestPoolPending)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 트랜잭션 시작 전 호출: 예산이 남고 요청 풀이 한가할 때까지 대기
+     */
+    public void acquire() {
+        long start = System.nanoTime();
+        long deadline = start + maxPauseNanos;
+        boolean pressured = false;
+        boolean overBudget = false;
+
+        while (true) {
+            long now = System.nanoTime();
+            long waitNanos;
+            if (requestPoolPending() > pendingThreshold) {
+                pressured = true;
+                waitNanos = TimeUnit.MILLISECONDS.toNanos(PRESSURE_POLL_MILLIS);
+            } else {
+                waitNanos = budgetWaitNanos(now);
+                if (waitNanos <= 0) break;
+                overBudget = true;
+            }
+
+            if (now >= deadline) {
+                pauseExpired.increment();
+                log.warn("⚠️ [Background] Throttle pause expired after {}ms, proceeding", TimeUnit.NANOSECONDS.toMillis(now - start));
+                break;
+            }
+            if (!sleep(Math.min(waitNanos, deadline - now))) break;
+        }
+
+        long paused = System.nanoTime() - start;
+        if (pressured) pressurePause.record(paused, TimeUnit.NANOSECONDS);
+        else if (overBudget) budgetPause.record(paused, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 트랜잭션 종료 후 호출: 소요 시간을 현재 구간 예산에서 차감
+     */
+    public synchronized void record(long elapsedNanos) {
+        rollWindow(System.nanoTime());
+        usedNanos += elapsedNanos;
+        dbTime.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** 요청용 풀(백그라운드 풀 제외) 중 가장 많은 대기 스레드 수 */
+    double requestPoolPending() {
+        return meterRegistry.find(PENDING_GAUGE).gauges().stream()
+                .filter(gauge -> !backgroundPoolName.equals(gauge.getId().getTag("pool")))
+                .mapToDouble(Gauge::value)
+                .filter(value -> !Double.isNaN(value))
+                .max()
+                .orElse(0);
+    }
+
+    // --- Helper Methods ---
+
+    private synchronized long budgetWaitNanos(long now) {
+        rollWindow(now);
+        return usedNanos < budgetNanos ? 0 : windowStart + WINDOW_NANOS - now;
+    }
+
+    // 구간이 지날 때마다 예산만큼 상환 -> 예산보다 긴 트랜잭션 하나가 끝나면 그만큼 다음 구간들을 쉼
+    private void rollWindow(long now) {
+        long windows = (now - windowStart) / WINDOW_NANOS;
+        if (windows > 0) {
+            windowStart += windows * WINDOW_NANOS;
+            usedNanos = Math.max(0, usedNanos - windows * budgetNanos);
+        }
+    }
+
+    private static boolean sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.depth.deokive.system.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Primary / Replica DataSource 라우팅 (datasource.replica.enabled=true 일 때만)
+ *
+ * [배경]
+ * - 피드/상세/목록 등 readOnly 조회와 쓰기, 스케줄러가 Primary 하나의 6 커넥션 풀을 공유
+ *   -> 읽기 폭주 시 쓰기/스케줄러가 커넥션을 못 얻음
+ *
+ * [구성]
+ * - primary: spring.datasource.* (pool: primary)
+ * - replica: datasource.replica.* (pool: replica, 커넥션 readOnly)
+ * - dataSource(@Primary): LazyConnectionDataSourceProxy(ReplicationRoutingDataSource)
+ * - 풀 메트릭: hikaricp.connections.*{pool=primary|replica} (Boot가 Hikari 빈마다 등록)
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password}}") String password
+    ) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${datasource.replica.max-lag-seconds:2}") long maxLagSeconds,
+            @Value("${datasource.replica.lag-check-interval-ms:1000}") long checkIntervalMs,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLagSeconds, Duration.ofMillis(checkIntervalMs), meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            StringRedisTemplate stringRedisTemplate,
+            AuditorAware<Long> auditorAware,
+            @Value("${datasource.replica.read-your-writes-window:5s}") Duration window
+    ) {
+        return new ReadYourWritesTracker(stringRedisTemplate, auditorAware, window);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry
+    ) {
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(replicaLagMonitor, readYourWritesTracker, meterRegistry);
+        routing.setTargetDataSources(Map.of(
+                ReplicationRoutingDataSource.Route.PRIMARY, primaryDataSource,
+                ReplicationRoutingDataSource.Route.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+
+        // 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 커넥션 획득 -> readOnly 여부가 확정된 뒤 라우팅
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public WebMvcConfigurer readYourWritesWebMvcConfigurer(ReadYourWritesTracker readYourWritesTracker) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new ReadYourWritesInterceptor(readYourWritesTracker));
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.depth.deokive.system.config.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 요청 단위 Read-Your-Writes 고정 로드/정리 (인증 필터 이후 실행)
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private final ReadYourWritesTracker readYourWrites;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        readYourWrites.clear();
+        readYourWrites.load();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        readYourWrites.clear();
+    }
+}
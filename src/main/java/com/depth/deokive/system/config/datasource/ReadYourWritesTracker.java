@@ -0,0 +1,116 @@
+package com.depth.deokive.system.config.datasource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Read-Your-Writes 보장
+ *
+ * [문제]
+ * - 글 작성 직후 상세/목록 조회가 아직 복제되지 않은 Replica로 가면 방금 쓴 글이 안 보임
+ *
+ * [동작]
+ * - 인증 사용자의 쓰기(읽기 전용이 아닌) 트랜잭션 커밋마다 ryw:{userId}를 window만큼 기록 (노드 간 공유)
+ * - 요청 시작 시(ReadYourWritesInterceptor) 마커가 있으면 해당 요청의 읽기를 Primary로 고정
+ * - 같은 요청 안에서 쓰기 이후의 읽기도 즉시 Primary로 고정
+ * - 고정은 만료 시각으로 관리 -> 스레드 재사용 시 정리가 누락돼도 window 후 자동 해제
+ * - 고정 상태는 ThreadLocal -> 요청 중 다른 스레드로 넘기는 조회는 propagate()로 감싸야 함
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReadYourWritesTracker {
+
+    private static final String KEY_PREFIX = "ryw:";
+    private static final ThreadLocal<Long> PINNED_UNTIL = new ThreadLocal<>();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AuditorAware<Long> auditorAware;
+    private final Duration window;
+
+    /** 현재 스레드의 읽기를 Primary로 고정할지 */
+    public boolean isPinned() {
+        Long until = PINNED_UNTIL.get();
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    /** 요청 시작: 최근 쓰기 마커가 있으면 고정 */
+    public void load() {
+        Long userId = auditorAware.getCurrentAuditor().orElse(null);
+        if (userId == null) return;
+
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + userId))) pin();
+        } catch (Exception e) {
+            // Redis 장애 시 Primary 고정 (정합성 우선)
+            log.debug("[RYW] Marker lookup failed, pinning to primary: {}", e.getMessage());
+            pin();
+        }
+    }
+
+    /**
+     * 쓰기 트랜잭션 시작 (커넥션 획득 시점): 커밋 후 마커 기록
+     * - 이미 고정된 요청의 쓰기도 마커를 갱신 (window는 마지막 쓰기 기준)
+     * - 같은 트랜잭션에서 커넥션을 다시 얻어도 한 번만 등록
+     */
+    public void onReadWriteTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        if (TransactionSynchronizationManager.getSynchronizations().stream().anyMatch(WriteMarker.class::isInstance)) return;
+
+        Long userId = auditorAware.getCurrentAuditor().orElse(null);
+        if (userId == null) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new WriteMarker(userId));
+    }
+
+    /**
+     * 현재 스레드의 고정 상태를 다른 스레드에서 실행할 작업에 전파 (요청 스레드에서 호출)
+     * - 같은 만료 시각으로 고정하고, 작업이 끝나면 정리
+     */
+    public <T> Callable<T> propagate(Callable<T> task) {
+        Long until = PINNED_UNTIL.get();
+        if (until == null || until <= System.currentTimeMillis()) return task;
+
+        return () -> {
+            PINNED_UNTIL.set(until);
+            try {
+                return task.call();
+            } finally {
+                PINNED_UNTIL.remove();
+            }
+        };
+    }
+
+    public void pin() {
+        PINNED_UNTIL.set(System.currentTimeMillis() + window.toMillis());
+    }
+
+    public void clear() {
+        PINNED_UNTIL.remove();
+    }
+
+    private class WriteMarker implements TransactionSynchronization {
+
+        private final Long userId;
+
+        WriteMarker(Long userId) {
+            this.userId = userId;
+        }
+
+        @Override
+        public void afterCommit() {
+            pin();
+            try {
+                stringRedisTemplate.opsForValue().set(KEY_PREFIX + userId, "1", window);
+            } catch (Exception e) {
+                log.warn("⚠️ [RYW] Failed to record write marker: userId={}, error={}", userId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.depth.deokive.system.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replica 복제 지연 감시
+ * - 주기적으로 SHOW REPLICA STATUS의 Seconds_Behind_Source 조회 (REPLICATION CLIENT 권한 필요)
+ * - 지연이 max-lag-seconds 초과 / 복제 중단(NULL) / 조회 실패 -> unhealthy -> 읽기 전용 트랜잭션도 Primary로
+ * - 첫 조회 전에는 unhealthy (기동 직후 상태를 모르면 Primary가 안전)
+ * - 복제 설정이 없는 DB(로컬에서 Primary를 Replica로 지정한 경우)는 지연 0으로 간주
+ * - 조회는 전용 스레드에서 실행 (공용 @Scheduled 스레드가 다른 작업에 막히면 상태가 갱신되지 않음)
+ * - 마지막 조회가 STALE_CHECKS 주기 이상 지났으면 unhealthy (갱신이 멈춘 healthy 상태를 믿지 않음)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int STALE_CHECKS = 5;
+
+    private final DataSource replicaDataSource;
+    private final long maxLagSeconds;
+    private final Duration checkInterval;
+
+    private volatile boolean healthy = false;
+    private volatile long checkedAt; // System.nanoTime() 기준
+    private final AtomicLong lagSeconds = new AtomicLong(-1);
+    private ScheduledExecutorService executor;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds, Duration checkInterval, MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkInterval = checkInterval;
+
+        Gauge.builder("datasource.replica.lag.seconds", lagSeconds, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("datasource.replica.healthy", this, m -> m.isHealthy() ? 1 : 0).register(meterRegistry);
+    }
+
+    public boolean isHealthy() {
+        return healthy && System.nanoTime() - checkedAt < checkInterval.toNanos() * STALE_CHECKS;
+    }
+
+    @PostConstruct
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-lag-monitor").daemon(true).factory());
+        executor.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) executor.shutdownNow();
+    }
+
+    public void check() {
+        boolean wasHealthy = healthy;
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+
+            if (!rs.next()) {
+                lagSeconds.set(0);
+                healthy = true;
+            } else {
+                long lag = rs.getLong("Seconds_Behind_Source");
+                boolean stopped = rs.wasNull();
+                lagSeconds.set(stopped ? -1 : lag);
+                healthy = !stopped && lag <= maxLagSeconds;
+            }
+        } catch (SQLException e) {
+            lagSeconds.set(-1);
+            healthy = false;
+            if (wasHealthy) log.warn("🔴 [Replica] Status check failed: {}", e.getMessage());
+        }
+        checkedAt = System.nanoTime();
+
+        if (wasHealthy != healthy) {
+            log.warn("⚠️ [Replica] Routing changed: healthy={}, lag={}s", healthy, lagSeconds.get());
+        }
+    }
+}
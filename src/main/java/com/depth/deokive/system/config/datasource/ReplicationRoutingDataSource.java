@@ -0,0 +1,84 @@
+package com.depth.deokive.system.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션 -> Replica, 그 외 -> Primary
+ *
+ * [전제]
+ * - LazyConnectionDataSourceProxy로 감싸서 사용 -> 트랜잭션의 readOnly 속성이 정해진 뒤 실제 커넥션 획득
+ *
+ * [Primary로 보내는 읽기]
+ * - onPrimary 범위 안의 읽기 (버전과 함께 장기 캐시에 적재할 값 등 지연을 허용할 수 없는 조회)
+ * - Read-Your-Writes 고정 중 (ReadYourWritesTracker)
+ * - Replica 지연 초과/장애 (ReplicaLagMonitor)
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+
+    private final Counter writeRoute;
+    private final Counter replicaRoute;
+    private final Counter forcedPrimary;
+    private final Counter pinnedFallback;
+    private final Counter lagFallback;
+
+    public ReplicationRoutingDataSource(ReplicaLagMonitor lagMonitor, ReadYourWritesTracker readYourWrites, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+
+        this.writeRoute = meterRegistry.counter("datasource.routing", "target", "primary", "reason", "write");
+        this.replicaRoute = meterRegistry.counter("datasource.routing", "target", "replica", "reason", "read-only");
+        this.forcedPrimary = meterRegistry.counter("datasource.routing", "target", "primary", "reason", "forced");
+        this.pinnedFallback = meterRegistry.counter("datasource.routing", "target", "primary", "reason", "read-your-writes");
+        this.lagFallback = meterRegistry.counter("datasource.routing", "target", "primary", "reason", "replica-lag");
+    }
+
+    /**
+     * work 안의 읽기 전용 트랜잭션도 Primary로 보냄 (Replica 미사용 시에는 그대로 실행)
+     * - 커넥션은 첫 쿼리 시점에 얻으므로 트랜잭션 전체를 work 안에서 시작해야 함
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) FORCE_PRIMARY.remove();
+            else FORCE_PRIMARY.set(previous);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writeRoute.increment();
+            readYourWrites.onReadWriteTransaction();
+            return Route.PRIMARY;
+        }
+        if (Boolean.TRUE.equals(FORCE_PRIMARY.get())) {
+            forcedPrimary.increment();
+            return Route.PRIMARY;
+        }
+        if (readYourWrites.isPinned()) {
+            pinnedFallback.increment();
+            return Route.PRIMARY;
+        }
+        if (!lagMonitor.isHealthy()) {
+            lagFallback.increment();
+            return Route.PRIMARY;
+        }
+        replicaRoute.increment();
+        return Route.REPLICA;
+    }
+}
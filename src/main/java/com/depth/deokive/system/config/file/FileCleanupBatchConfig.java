@@ -3,43 +3,42 @@ package com.depth.deokive.system.config.file;
 import com.depth.deokive.common.util.ThumbnailUtils;
 import com.depth.deokive.domain.file.entity.File;
 import com.depth.deokive.domain.file.entity.enums.MediaType;
-import com.depth.deokive.domain.file.repository.FileRepository;
+import com.depth.deokive.domain.file.service.FileCleanupQueue;
+import com.depth.deokive.system.config.datasource.BackgroundDatabase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
-import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JdbcCursorItemReader;
 import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.jdbc.core.RowMapper;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
-import javax.sql.DataSource;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class FileCleanupBatchConfig {
 
-    private final JobRepository jobRepository;
-    private final PlatformTransactionManager transactionManager;
     private final S3Client s3Client;
-    private final FileRepository fileRepository;
-    private final DataSource dataSource;
+    private final BackgroundDatabase backgroundDatabase; // 조회/삭제/Step 트랜잭션/Batch 메타데이터 모두 백그라운드 풀 사용
+    private final FileCleanupQueue fileCleanupQueue;
 
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucketName;
@@ -58,23 +57,95 @@ public class FileCleanupBatchConfig {
 
     private static final int CHUNK_SIZE = 100;
 
+    private static final String DELETE_FILES_SQL = "DELETE FROM files WHERE id IN (:ids)";
+
+    // 참조 여부 판별 (Left Join Anti-Pattern): 스캔 Reader와 대기열 재검증이 같은 조건을 사용
+    private static final String UNREFERENCED_FILE_SQL = """
+            SELECT f.id, f.s3Object_key, f.filename, f.file_size, f.media_type
+            FROM files f
+            -- 1. Archive Banner
+            LEFT JOIN archive a ON f.id = a.banner_file_id
+            -- 2. Ticket Image
+            LEFT JOIN ticket t ON f.id = t.file_id
+            -- 3. Diary Image
+            LEFT JOIN diary_file_map dfm ON f.id = dfm.file_id
+            -- 4. Post Image (Content/Preview in Map)
+            LEFT JOIN post_file_map pfm ON f.id = pfm.file_id
+            -- 5. Gallery Image
+            LEFT JOIN gallery g ON f.id = g.file_id
+            
+            WHERE a.id IS NULL
+              AND t.id IS NULL
+              AND dfm.id IS NULL
+              AND pfm.id IS NULL
+              AND g.id IS NULL
+            """;
+
+    /**
+     * 백그라운드 JobRepository로 구성 -> BackgroundDatabase.getJobLauncher()로 실행
+     * - Step 트랜잭션과 StepExecution 갱신이 같은 트랜잭션 매니저 (커밋된 청크와 재시작 지점이 어긋나지 않음)
+     */
     @Bean
     public Job fileCleanupJob() {
-        return new JobBuilder("fileCleanupJob", jobRepository)
-                .start(fileCleanupStep())
+        return new JobBuilder("fileCleanupJob", backgroundDatabase.getJobRepository())
+                .start(queuedFileCleanupStep())
+                .next(fileCleanupStep())
+                .build();
+    }
+
+    /**
+     * 대기열(FileCleanupQueue)에 적재된 파일 우선 정리 -> Anti-Join 전체 스캔 없이 ID로 바로 처리
+     * - 꺼낸 ID는 참조 여부 재검증 (적재 후 다시 연결된 파일 보호)
+     * - S3 삭제 실패 건은 재적재 후 이번 실행 종료 (장애 시 무한 재시도 방지)
+     * - 커밋 전 실패로 유실된 ID는 아래 고아 파일 스캔이 처리 (Fallback)
+     */
+    @Bean
+    public Step queuedFileCleanupStep() {
+        return new StepBuilder("queuedFileCleanupStep", backgroundDatabase.getJobRepository())
+                .tasklet((contribution, chunkContext) -> {
+                    List<Long> fileIds = fileCleanupQueue.poll(CHUNK_SIZE);
+                    if (fileIds.isEmpty()) return RepeatStatus.FINISHED;
+
+                    List<File> files = backgroundDatabase.getNamedParameterJdbcTemplate().query(
+                            UNREFERENCED_FILE_SQL + " AND f.id IN (:ids)", Map.of("ids", fileIds), fileRowMapper());
+
+                    List<File> deleted = new ArrayList<>();
+                    List<Long> failed = new ArrayList<>();
+                    ItemProcessor<File, File> s3Delete = s3DeleteProcessor();
+                    for (File file : files) {
+                        try {
+                            deleted.add(s3Delete.process(file));
+                        } catch (Exception e) {
+                            failed.add(file.getId());
+                        }
+                    }
+
+                    deleteRecords(deleted);
+                    contribution.incrementWriteCount(deleted.size());
+                    log.info("🟢 [Batch] Queued files cleaned: polled={}, deleted={}, failed={}",
+                            fileIds.size(), deleted.size(), failed.size());
+
+                    if (!failed.isEmpty()) {
+                        fileCleanupQueue.enqueue(failed);
+                        return RepeatStatus.FINISHED;
+                    }
+                    return fileIds.size() < CHUNK_SIZE ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+                }, backgroundDatabase.getTransactionManager())
+                .stepOperations(backgroundDatabase.chunkOperations())
                 .build();
     }
 
     @Bean
     public Step fileCleanupStep() {
-        return new StepBuilder("fileCleanupStep", jobRepository)
-                .<File, File>chunk(CHUNK_SIZE, transactionManager)
+        return new StepBuilder("fileCleanupStep", backgroundDatabase.getJobRepository())
+                .<File, File>chunk(CHUNK_SIZE, backgroundDatabase.getTransactionManager())
                 .reader(orphanedFileCursorReader())
                 .processor(s3DeleteProcessor())
                 .writer(fileDeleteWriter())
                 .faultTolerant()
                 .skip(S3Exception.class)
                 .skipLimit(skipLimit)
+                .stepOperations(backgroundDatabase.chunkOperations()) // 청크 사이에서 스로틀
                 .build();
     }
 
@@ -86,36 +157,9 @@ public class FileCleanupBatchConfig {
         return new JdbcCursorItemReaderBuilder<File>()
                 .name("orphanedFileCursorReader")
                 .fetchSize(CHUNK_SIZE)
-                .dataSource(dataSource)
-                .rowMapper((rs, rowNum) -> File.builder()
-                        .id(rs.getLong("id"))
-                        .s3ObjectKey(rs.getString("s3Object_key"))
-                        .filename(rs.getString("filename"))
-                        .fileSize(rs.getLong("file_size"))
-                        .mediaType(MediaType.valueOf(rs.getString("media_type")))
-                        .build()
-                )
-                .sql("""
-                    SELECT f.id, f.s3Object_key, f.filename, f.file_size, f.media_type
-                    FROM files f
-                    -- 1. Archive Banner
-                    LEFT JOIN archive a ON f.id = a.banner_file_id
-                    -- 2. Ticket Image
-                    LEFT JOIN ticket t ON f.id = t.file_id
-                    -- 3. Diary Image
-                    LEFT JOIN diary_file_map dfm ON f.id = dfm.file_id
-                    -- 4. Post Image (Content/Preview in Map)
-                    LEFT JOIN post_file_map pfm ON f.id = pfm.file_id
-                    -- 5. Gallery Image
-                    LEFT JOIN gallery g ON f.id = g.file_id
-                    
-                    WHERE f.created_at < ?
-                      AND a.id IS NULL
-                      AND t.id IS NULL
-                      AND dfm.id IS NULL
-                      AND pfm.id IS NULL
-                      AND g.id IS NULL
-                """)
+                .dataSource(backgroundDatabase.getDataSource())
+                .rowMapper(fileRowMapper())
+                .sql(UNREFERENCED_FILE_SQL + " AND f.created_at < ?")
                 .queryArguments(Timestamp.valueOf(threshold))
                 .build();
     }
@@ -129,14 +173,13 @@ public class FileCleanupBatchConfig {
             List<ObjectIdentifier> objectsToDelete = new ArrayList<>();
             objectsToDelete.add(ObjectIdentifier.builder().key(file.getS3ObjectKey()).build());
 
-            // 이미지: small + medium 썸네일 삭제
+            // 이미지: 모든 썸네일 Variant 삭제 (small + medium + large)
             if (file.getMediaType() == MediaType.IMAGE) {
                 // S3에 실제로 존재하는지 체크하지 않고 delete 요청 보내도 에러 안 남 (S3 특성) -> 과감하게 삭제 요청 목록에 추가
-                String smallKey = ThumbnailUtils.getSmallThumbnailKey(file.getS3ObjectKey());
-                String mediumKey = ThumbnailUtils.getMediumThumbnailKey(file.getS3ObjectKey());
-
-                if (smallKey != null) objectsToDelete.add(ObjectIdentifier.builder().key(smallKey).build());
-                if (mediumKey != null) objectsToDelete.add(ObjectIdentifier.builder().key(mediumKey).build());
+                for (ThumbnailUtils.Variant variant : ThumbnailUtils.Variant.values()) {
+                    String variantKey = ThumbnailUtils.getThumbnailKey(file.getS3ObjectKey(), variant);
+                    if (variantKey != null) objectsToDelete.add(ObjectIdentifier.builder().key(variantKey).build());
+                }
             }
             // 동영상: medium 썸네일만 삭제 (small은 미지원)
             else if (file.getMediaType() == MediaType.VIDEO) {
@@ -183,7 +226,24 @@ public class FileCleanupBatchConfig {
     public ItemWriter<File> fileDeleteWriter() {
         return files -> {
             log.info("🟢 [Batch] Deleting {} file records from DB", files.size());
-            fileRepository.deleteAll(files);
+            deleteRecords(files.getItems());
         };
     }
-}
\ No newline at end of file
+
+    // Step 트랜잭션 안에서 실행 (예산 차감은 청크 단위로 chunkOperations가 처리)
+    private void deleteRecords(List<? extends File> files) {
+        if (files.isEmpty()) return;
+        List<Long> ids = files.stream().map(File::getId).toList();
+        backgroundDatabase.getNamedParameterJdbcTemplate().update(DELETE_FILES_SQL, Map.of("ids", ids));
+    }
+
+    private static RowMapper<File> fileRowMapper() {
+        return (rs, rowNum) -> File.builder()
+                .id(rs.getLong("id"))
+                .s3ObjectKey(rs.getString("s3Object_key"))
+                .filename(rs.getString("filename"))
+                .fileSize(rs.getLong("file_size"))
+                .mediaType(MediaType.valueOf(rs.getString("media_type")))
+                .build();
+    }
+}
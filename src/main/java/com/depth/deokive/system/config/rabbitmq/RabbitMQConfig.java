@@ -49,6 +49,17 @@ public class RabbitMQConfig {
         return BindingBuilder.bind(repostOgQueue()).to(repostOgExchange()).with(REPOST_OG_ROUTING_KEY);
     }
 
+    // --- Thumbnail Generation (비동기 처리) ---
+    public static final String THUMBNAIL_QUEUE = "file.thumbnail.generation";
+    public static final String THUMBNAIL_EXCHANGE = "file.thumbnail.exchange";
+    public static final String THUMBNAIL_ROUTING_KEY = "file.thumbnail.generate";
+
+    @Bean public Queue thumbnailQueue() { return new Queue(THUMBNAIL_QUEUE, true); }
+    @Bean public DirectExchange thumbnailExchange() { return new DirectExchange(THUMBNAIL_EXCHANGE); }
+    @Bean public Binding thumbnailBinding() {
+        return BindingBuilder.bind(thumbnailQueue()).to(thumbnailExchange()).with(THUMBNAIL_ROUTING_KEY);
+    }
+
     // 4. JSON Converter
     @Bean public MessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
@@ -73,4 +84,17 @@ public class RabbitMQConfig {
 
         return factory;
     }
-}
\ No newline at end of file
+
+    // 썸네일 생성 전용 (CPU/메모리 작업)
+    // - 원본 디코딩 이미지가 수십 MB -> 한 Consumer가 한 번에 하나만 가져가도록 prefetch 1
+    // - 동시 처리 수는 @RabbitListener concurrency(thumbnail.concurrency)로 코어 수에 맞춰 제한
+    @Bean
+    public SimpleRabbitListenerContainerFactory thumbnailContainerFactory(ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(jsonMessageConverter());
+        factory.setPrefetchCount(1);
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
+}
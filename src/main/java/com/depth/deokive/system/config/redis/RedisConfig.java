@@ -1,6 +1,5 @@
 package com.depth.deokive.system.config.redis;
 
-import com.depth.deokive.domain.post.service.RepostSseSubscriber;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -11,7 +10,6 @@ import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactor
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
-import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.GenericToStringSerializer;
@@ -83,6 +81,7 @@ public class RedisConfig {
     @Bean
     public DefaultRedisScript<Long> likeScript() {
         // Lua Script
+        // KEYS[3]: Outbox Stream -> 토글 결과와 MQ 전송 대상 이벤트를 같은 원자 연산 안에서 기록 (OutboxRelay가 배치 발행)
         String script =
                 "local added = redis.call('SADD', KEYS[1], ARGV[1]) " +
                         "if added == 1 then " +
@@ -90,10 +89,12 @@ public class RedisConfig {
                         "  redis.call('SREM', KEYS[1], ARGV[2]) " +
                         "  redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
                         "  redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+                        "  redis.call('XADD', KEYS[3], '*', 'domain', ARGV[4], 'id', ARGV[5], 'userId', ARGV[1], 'liked', '1') " +
                         "  return 1 " +
                         "else " +
                         "  redis.call('SREM', KEYS[1], ARGV[1]) " +
                         "  redis.call('DECR', KEYS[2]) " +
+                        "  redis.call('XADD', KEYS[3], '*', 'domain', ARGV[4], 'id', ARGV[5], 'userId', ARGV[1], 'liked', '0') " +
                         "  return 0 " +
                         "end";
         return new DefaultRedisScript<>(script, Long.class);
@@ -120,18 +121,13 @@ public class RedisConfig {
      * - 스케일아웃 시 여러 인스턴스 간 이벤트 동기화
      */
     @Bean
-    public RedisMessageListenerContainer redisMessageListenerContainer(
-            RedisConnectionFactory connectionFactory,
-            RepostSseSubscriber repostSseSubscriber) {
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
 
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
 
-        // Repost 완료 이벤트 채널 구독
-        container.addMessageListener(repostSseSubscriber,
-                new ChannelTopic(RepostSseSubscriber.CHANNEL));
-
-        log.info("[Redis Pub/Sub] Subscribed to channel: {}", RepostSseSubscriber.CHANNEL);
+        // 샤드 채널(Repost 완료, 알림 Fan-out)은 RepostSseSubscriber / NotificationFanoutHub가
+        // 이 노드에 연결된 유저 기준으로 동적 구독
         return container;
     }
 }
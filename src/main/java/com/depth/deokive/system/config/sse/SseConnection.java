@@ -0,0 +1,54 @@
+package com.depth.deokive.system.config.sse;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * SSE 연결 1건 (Emitter + 마지막 쓰기 시각 + Heartbeat 슬롯)
+ * - 실제 이벤트를 보낸 직후의 연결은 Heartbeat를 생략하기 위해 lastWriteNanos 추적
+ */
+@Getter
+public class SseConnection {
+
+    private final String channel;
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final String heartbeatEventName;
+    private final int slot; // Heartbeat Wheel 버킷 인덱스
+
+    private volatile long lastWriteNanos;
+
+    private final Consumer<SseConnection> onFailure;
+
+    SseConnection(String channel, Long userId, SseEmitter emitter, String heartbeatEventName, int slot,
+                  Consumer<SseConnection> onFailure) {
+        this.channel = channel;
+        this.userId = userId;
+        this.emitter = emitter;
+        this.heartbeatEventName = heartbeatEventName;
+        this.slot = slot;
+        this.onFailure = onFailure;
+        this.lastWriteNanos = System.nanoTime();
+    }
+
+    /**
+     * 이벤트 전송 (실패 시 연결 정리 후 false)
+     */
+    public boolean send(SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            lastWriteNanos = System.nanoTime();
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            onFailure.accept(this);
+            return false;
+        }
+    }
+
+    boolean sendHeartbeat() {
+        return send(SseEmitter.event().name(heartbeatEventName).data(""));
+    }
+}
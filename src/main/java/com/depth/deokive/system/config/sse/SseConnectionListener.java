@@ -0,0 +1,13 @@
+package com.depth.deokive.system.config.sse;
+
+/**
+ * 채널별 연결/해제 콜백
+ * - first/last: 해당 유저의 첫 연결 / 마지막 연결 해제 여부 (유저 단위 구독 관리용)
+ * - 등록/해제를 수행한 스레드에서 동기 호출됨 (등록 시에는 Emitter 반환 전이므로 초기 이벤트 전송 가능)
+ */
+public interface SseConnectionListener {
+
+    default void onConnected(SseConnection connection, boolean firstForUser) {}
+
+    default void onDisconnected(SseConnection connection, boolean lastForUser) {}
+}
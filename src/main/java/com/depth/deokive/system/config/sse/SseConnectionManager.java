@@ -0,0 +1,227 @@
+package com.depth.deokive.system.config.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 연결 공용 관리자 (알림 / Repost 채널 공용)
+ *
+ * [배경]
+ * - 기존: 30초마다 전체 Emitter를 한 번에 순회하며 ping -> 연결 수만큼 쓰기가 한 순간에 몰림
+ * - 기존: CopyOnWriteArrayList -> 연결/해제마다 리스트 전체 복사
+ *
+ * [Hashed Timer Wheel]
+ * - interval / tick 개의 버킷, 연결은 등록 순서대로 버킷에 라운드로빈 배치 (균등 분산)
+ * - 매 tick마다 버킷 1개만 처리 -> 30초 간격 Heartbeat가 100ms 단위로 고르게 퍼짐
+ * - interval의 절반 이내에 실제 이벤트를 보낸 연결은 Heartbeat 생략 (최대 무응답 구간 = 1.5 * interval)
+ * - 쓰기는 Virtual Thread에서 수행 -> 느린 클라이언트가 tick 스레드를 막지 않음
+ *
+ * [자료구조]
+ * - channel -> userId -> (SseEmitter -> SseConnection) : 모두 ConcurrentHashMap (O(1) 등록/해제)
+ * - 채널별 SseConnectionListener: 유저의 첫 연결/마지막 해제 시점을 알려줌 (예: Pub/Sub 샤드 동적 구독)
+ */
+@Slf4j
+@Component
+public class SseConnectionManager {
+
+    private final MeterRegistry meterRegistry;
+    private final long intervalNanos;
+    private final long tickMillis;
+
+    private final Map<String, Map<Long, Map<SseEmitter, SseConnection>>> channels = new ConcurrentHashMap<>();
+    private final Map<String, List<SseConnectionListener>> listeners = new ConcurrentHashMap<>();
+    private final Set<SseConnection>[] wheel;
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    private final AtomicLong tickCursor = new AtomicLong();
+
+    private final Counter heartbeatSent;
+    private final Counter heartbeatSkipped;
+
+    private ScheduledExecutorService ticker;
+    private ExecutorService writer;
+
+    @SuppressWarnings("unchecked")
+    public SseConnectionManager(
+            MeterRegistry meterRegistry,
+            @Value("${sse.heartbeat.interval-ms:30000}") long intervalMillis,
+            @Value("${sse.heartbeat.tick-ms:100}") long tickMillis) {
+        this.meterRegistry = meterRegistry;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        this.tickMillis = tickMillis;
+
+        int slots = (int) Math.max(1, intervalMillis / tickMillis);
+        this.wheel = new Set[slots];
+        for (int i = 0; i < slots; i++) {
+            wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+
+        this.heartbeatSent = meterRegistry.counter("sse.heartbeat", "result", "sent");
+        this.heartbeatSkipped = meterRegistry.counter("sse.heartbeat", "result", "skipped");
+    }
+
+    @PostConstruct
+    void start() {
+        writer = Executors.newVirtualThreadPerTaskExecutor();
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "sse-heartbeat-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(() -> writer.execute(this::runTick), tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        log.info("[SSE] Heartbeat wheel started: slots={}, tick={}ms", wheel.length, tickMillis);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (ticker != null) ticker.shutdownNow();
+        if (writer != null) writer.shutdownNow();
+    }
+
+    public void addListener(String channel, SseConnectionListener listener) {
+        listeners.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * 연결 등록 + Emitter 종료 시 자동 해제
+     */
+    public SseConnection register(String channel, Long userId, SseEmitter emitter, String heartbeatEventName) {
+        int slot = Math.floorMod(nextSlot.getAndIncrement(), wheel.length);
+        SseConnection connection = new SseConnection(channel, userId, emitter, heartbeatEventName, slot, this::unregister);
+
+        boolean[] first = new boolean[1];
+        channels.computeIfAbsent(channel, this::newChannel)
+                .compute(userId, (id, map) -> {
+                    first[0] = map == null;
+                    Map<SseEmitter, SseConnection> target = map != null ? map : new ConcurrentHashMap<>();
+                    target.put(emitter, connection);
+                    return target;
+                });
+        wheel[slot].add(connection);
+
+        emitter.onCompletion(() -> unregister(connection));
+        emitter.onTimeout(() -> unregister(connection));
+        emitter.onError(e -> unregister(connection));
+
+        for (SseConnectionListener listener : listenersOf(channel)) {
+            listener.onConnected(connection, first[0]);
+        }
+        return connection;
+    }
+
+    public void unregister(String channel, Long userId, SseEmitter emitter) {
+        Map<SseEmitter, SseConnection> userConnections = userConnections(channel, userId);
+        SseConnection connection = userConnections.get(emitter);
+        if (connection != null) unregister(connection);
+    }
+
+    public void unregister(SseConnection connection) {
+        wheel[connection.getSlot()].remove(connection);
+
+        Map<Long, Map<SseEmitter, SseConnection>> users = channels.get(connection.getChannel());
+        if (users == null) return;
+
+        // 완료/타임아웃/전송 실패로 여러 번 호출될 수 있음 -> 실제로 제거한 호출만 콜백
+        boolean[] removed = new boolean[2]; // [0]: 제거됨, [1]: 유저의 마지막 연결
+        users.computeIfPresent(connection.getUserId(), (id, map) -> {
+            removed[0] = map.remove(connection.getEmitter(), connection);
+            removed[1] = map.isEmpty();
+            return map.isEmpty() ? null : map;
+        });
+        if (!removed[0]) return;
+
+        for (SseConnectionListener listener : listenersOf(connection.getChannel())) {
+            listener.onDisconnected(connection, removed[1]);
+        }
+    }
+
+    public Collection<SseConnection> getConnections(String channel, Long userId) {
+        return userConnections(channel, userId).values();
+    }
+
+    public boolean isConnected(String channel, Long userId) {
+        Map<Long, Map<SseEmitter, SseConnection>> users = channels.get(channel);
+        return users != null && users.containsKey(userId);
+    }
+
+    public Set<Long> getConnectedUserIds(String channel) {
+        Map<Long, Map<SseEmitter, SseConnection>> users = channels.get(channel);
+        return users != null ? users.keySet() : Collections.emptySet();
+    }
+
+    public int countUsers(String channel) {
+        Map<Long, Map<SseEmitter, SseConnection>> users = channels.get(channel);
+        return users != null ? users.size() : 0;
+    }
+
+    public int countConnections(String channel) {
+        Map<Long, Map<SseEmitter, SseConnection>> users = channels.get(channel);
+        return users != null ? users.values().stream().mapToInt(Map::size).sum() : 0;
+    }
+
+    /**
+     * Wheel의 다음 버킷 1개 처리
+     * @return 실제 Heartbeat를 보낸 연결 수
+     */
+    public int runTick() {
+        Set<SseConnection> bucket = wheel[(int) (tickCursor.getAndIncrement() % wheel.length)];
+        if (bucket.isEmpty()) return 0;
+
+        long now = System.nanoTime();
+        long skipWindow = intervalNanos / 2;
+        int sent = 0;
+        for (SseConnection connection : bucket) {
+            if (now - connection.getLastWriteNanos() < skipWindow) {
+                heartbeatSkipped.increment();
+                continue;
+            }
+            if (connection.sendHeartbeat()) {
+                heartbeatSent.increment();
+                sent++;
+            }
+        }
+        return sent;
+    }
+
+    int slotCount() {
+        return wheel.length;
+    }
+
+    private Map<SseEmitter, SseConnection> userConnections(String channel, Long userId) {
+        Map<Long, Map<SseEmitter, SseConnection>> users = channels.get(channel);
+        if (users == null) return Collections.emptyMap();
+        Map<SseEmitter, SseConnection> map = users.get(userId);
+        return map != null ? map : Collections.emptyMap();
+    }
+
+    private List<SseConnectionListener> listenersOf(String channel) {
+        return listeners.getOrDefault(channel, List.of());
+    }
+
+    private Map<Long, Map<SseEmitter, SseConnection>> newChannel(String channel) {
+        Gauge.builder("sse.connections", this, m -> m.countConnections(channel))
+                .tag("channel", channel)
+                .register(meterRegistry);
+        return new ConcurrentHashMap<>();
+    }
+}
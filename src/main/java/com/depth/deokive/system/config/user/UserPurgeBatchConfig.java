@@ -0,0 +1,122 @@
+package com.depth.deokive.system.config.user;
+
+import com.depth.deokive.domain.user.service.UserPurgeService;
+import com.depth.deokive.domain.user.service.UserPurgeService.PurgeTarget;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.builder.SimpleJobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+/**
+ * 탈퇴 유저 콘텐츠 정리 Job
+ *
+ * [구성]
+ * - JobParameter: userId (identifying) -> 유저 1명 = JobInstance 1개
+ * - Step 순서: 아카이브 -> PurgeTarget(게시글/좋아요/댓글/친구/알림) -> 파일 대기열 적재 -> 완료 기록
+ * - Tasklet 1회 실행 = chunk-size 행 처리 + 커밋, 남은 행이 있으면 CONTINUABLE로 반복
+ *
+ * [진행 상황 / 재시작]
+ * - ArchivePurgeBatchConfig와 동일: writeCount/commitCount 기록, 실패 시 같은 userId로 재실행하면 실패한 Step부터 재개
+ * - 파일 Step은 마지막 적재 ID를 StepExecutionContext에 저장 -> 재시작 시 이어서 적재
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class UserPurgeBatchConfig {
+
+    public static final String JOB_NAME = "userPurgeJob";
+    public static final String USER_ID = "userId";
+
+    private static final String LAST_FILE_ID = "lastFileId";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final UserPurgeService userPurgeService;
+
+    @Value("${scheduler.user-purge.chunk-size:500}")
+    private int chunkSize;
+
+    @Bean
+    public Job userPurgeJob() {
+        SimpleJobBuilder builder = new JobBuilder(JOB_NAME, jobRepository).start(purgeArchiveStep());
+        for (PurgeTarget target : PurgeTarget.values()) {
+            builder.next(purgeStep(target));
+        }
+        return builder.next(enqueueFileStep())
+                .next(completeStep())
+                .build();
+    }
+
+    private Step purgeArchiveStep() {
+        return new StepBuilder("userPurge.archive", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    Long userId = userIdOf(chunkContext);
+                    int processed = userPurgeService.purgeArchiveChunk(userId, chunkSize);
+                    if (processed < 0) {
+                        log.debug("[User Purge] archive done: userId={}", userId);
+                        return RepeatStatus.FINISHED;
+                    }
+                    contribution.incrementWriteCount(processed);
+                    return RepeatStatus.CONTINUABLE;
+                }, transactionManager)
+                .build();
+    }
+
+    private Step purgeStep(PurgeTarget target) {
+        return new StepBuilder("userPurge." + target.getStep(), jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    Long userId = userIdOf(chunkContext);
+                    int processed = userPurgeService.purgeChunk(target, userId, chunkSize);
+                    contribution.incrementWriteCount(processed);
+
+                    if (processed < chunkSize) {
+                        log.debug("[User Purge] {} done: userId={}", target.getStep(), userId);
+                        return RepeatStatus.FINISHED;
+                    }
+                    return RepeatStatus.CONTINUABLE;
+                }, transactionManager)
+                .build();
+    }
+
+    private Step enqueueFileStep() {
+        return new StepBuilder("userPurge.files", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    Long userId = userIdOf(chunkContext);
+                    ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+
+                    List<Long> fileIds = userPurgeService.enqueueFiles(userId, context.getLong(LAST_FILE_ID, 0L), chunkSize);
+                    if (fileIds.isEmpty()) return RepeatStatus.FINISHED;
+
+                    context.putLong(LAST_FILE_ID, fileIds.get(fileIds.size() - 1));
+                    contribution.incrementWriteCount(fileIds.size());
+                    return fileIds.size() < chunkSize ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+                }, transactionManager)
+                .build();
+    }
+
+    private Step completeStep() {
+        return new StepBuilder("userPurge.complete", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    userPurgeService.complete(userIdOf(chunkContext));
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    private static Long userIdOf(ChunkContext chunkContext) {
+        return chunkContext.getStepContext().getStepExecution().getJobParameters().getLong(USER_ID);
+    }
+}
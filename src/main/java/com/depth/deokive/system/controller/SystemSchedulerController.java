@@ -1,23 +1,27 @@
 package com.depth.deokive.system.controller;
 
 import com.depth.deokive.system.config.aop.ExecutionTime;
+import com.depth.deokive.system.config.datasource.BackgroundDatabase;
 import com.depth.deokive.system.ratelimit.annotation.RateLimit;
 import com.depth.deokive.system.ratelimit.annotation.RateLimitType;
 import com.depth.deokive.system.scheduler.*;
+import com.depth.deokive.system.scheduler.cluster.ClusterMembership;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.batch.core.Job;
 
+import java.util.Map;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/system/test/scheduler")
@@ -30,9 +34,13 @@ public class SystemSchedulerController {
     private final HotScoreScheduler hotScoreScheduler;
     private final ViewCountScheduler viewCountScheduler;
     private final LikeCountScheduler likeCountScheduler;
+    private final ArchivePurgeScheduler archivePurgeScheduler;
+    private final UserPurgeScheduler userPurgeScheduler;
+    private final UploadSessionSweepScheduler uploadSessionSweepScheduler;
+    private final ClusterMembership clusterMembership;
 
 
-    private final JobLauncher jobLauncher;
+    private final BackgroundDatabase backgroundDatabase; // fileCleanupJob은 백그라운드 JobRepository로 구성됨 -> 같은 저장소의 JobLauncher로 실행
     private final Job fileCleanupJob; // Bean 이름(FileCleanupBatchConfig의 메서드명)과 일치해야 자동 주입됨
 
     @ExecutionTime
@@ -74,7 +82,7 @@ public class SystemSchedulerController {
                     .addString("type", "manual_trigger") // 구분용 태그
                     .toJobParameters();
 
-            jobLauncher.run(fileCleanupJob, jobParameters);
+            backgroundDatabase.getJobLauncher().run(fileCleanupJob, jobParameters);
 
         } catch (Exception e) {
             log.error("🔴 Batch execution failed", e);
@@ -83,10 +91,40 @@ public class SystemSchedulerController {
         return ResponseEntity.ok("File Cleanup Batch Completed!");
     }
 
+    @ExecutionTime
+    @PostMapping("/batch/archive-purge")
+    @RateLimit(type = RateLimitType.IP, capacity = 10, refillTokens = 10, refillPeriodSeconds = 3600, failClosed = true)
+    @Operation(summary = "삭제된 아카이브 정리 배치 강제 실행", description = "Tombstone 상태의 아카이브 하위 데이터를 Chunk 단위로 삭제 후 Root 삭제")
+    public ResponseEntity<String> triggerArchivePurgeBatch() {
+        log.info("Manual Trigger: Archive Purge Batch");
+        archivePurgeScheduler.purgeDeletedArchives();
+        return ResponseEntity.ok("🟢 Archive Purge Batch Completed!");
+    }
+
+    @ExecutionTime
+    @PostMapping("/batch/user-purge")
+    @RateLimit(type = RateLimitType.IP, capacity = 10, refillTokens = 10, refillPeriodSeconds = 3600, failClosed = true)
+    @Operation(summary = "탈퇴 유저 콘텐츠 정리 배치 강제 실행", description = "유예 기간이 지난 탈퇴 유저의 콘텐츠를 Chunk 단위로 삭제/익명화")
+    public ResponseEntity<String> triggerUserPurgeBatch() {
+        log.info("Manual Trigger: User Purge Batch");
+        userPurgeScheduler.purgeWithdrawnUsers();
+        return ResponseEntity.ok("🟢 User Purge Batch Completed!");
+    }
+
+    @ExecutionTime
+    @PostMapping("/upload-session-sweep")
+    @RateLimit(type = RateLimitType.IP, capacity = 10, refillTokens = 10, refillPeriodSeconds = 3600, failClosed = true)
+    @Operation(summary = "멈춘 멀티파트 업로드 정리 강제 실행", description = "장기 미활동 세션/고아 업로드 S3 Abort + 종료 세션 삭제")
+    public ResponseEntity<String> triggerUploadSessionSweep() {
+        log.info("Manual Trigger: Upload Session Sweep");
+        uploadSessionSweepScheduler.sweep();
+        return ResponseEntity.ok("🟢 Upload Session Sweep Completed!");
+    }
+
     @ExecutionTime
     @PostMapping("/view-count")
     @RateLimit(type = RateLimitType.IP, capacity = 10, refillTokens = 10, refillPeriodSeconds = 3600, failClosed = true)
-    @Operation(summary = "조회수 동기화 강제 실행 (Redis -> DB)", description = "Redis에 캐싱된 조회수를 DB에 일괄 반영하고 Redis에서 차감합니다.")
+    @Operation(summary = "조회수 동기화 강제 실행 (Redis -> DB)", description = "Redis에 캐싱된 조회수를 DB에 일괄 반영하고 Redis에서 차감합니다. (이 노드가 소유한 샤드만 처리)")
     public ResponseEntity<String> triggerViewCountSync() {
         log.info("Manual Trigger: View Count Sync");
 
@@ -99,7 +137,7 @@ public class SystemSchedulerController {
     @ExecutionTime
     @PostMapping("/like-count")
     @RateLimit(type = RateLimitType.IP, capacity = 10, refillTokens = 10, refillPeriodSeconds = 3600, failClosed = true)
-    @Operation(summary = "좋아요 동기화", description = "좋아요: 실시간 테이블 값을 검색용 통계 테이블로 동기화")
+    @Operation(summary = "좋아요 동기화", description = "좋아요: 실시간 테이블 값을 검색용 통계 테이블로 동기화 (이 노드가 소유한 샤드만 처리)")
     public ResponseEntity<String> triggerLikeCountSync() {
         log.info("Manual Trigger: Like Count Sync");
 
@@ -108,4 +146,16 @@ public class SystemSchedulerController {
 
         return ResponseEntity.ok("🟢 Like Count Sync Completed! (PostLikeCount -> PostStats)");
     }
-}
\ No newline at end of file
+
+    @GetMapping("/cluster")
+    @Operation(summary = "스케줄러 클러스터 상태 조회", description = "현재 노드 ID, 멤버 목록, 리더 여부, 소유 샤드")
+    public ResponseEntity<Map<String, Object>> getClusterStatus() {
+        return ResponseEntity.ok(Map.of(
+                "nodeId", clusterMembership.getNodeId(),
+                "members", clusterMembership.getMembers(),
+                "leader", clusterMembership.isLeader(),
+                "shardCount", clusterMembership.getShardCount(),
+                "ownedShards", clusterMembership.getOwnedShards()
+        ));
+    }
+}
@@ -1,16 +1,28 @@
 package com.depth.deokive.system.metadata.controller;
 
+import com.depth.deokive.system.metadata.dto.CachedOEmbed;
+import com.depth.deokive.system.metadata.dto.OEmbedBatchDto;
 import com.depth.deokive.system.metadata.dto.OEmbedDto;
 import com.depth.deokive.system.metadata.service.OEmbedService;
+import com.depth.deokive.system.ratelimit.annotation.RateLimit;
+import com.depth.deokive.system.ratelimit.annotation.RateLimitType;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.util.List;
+
 @RestController
 @RequestMapping("/oembed")
 @RequiredArgsConstructor
@@ -19,12 +31,34 @@ public class OEmbedController {
 
     private final OEmbedService oEmbedService;
 
+    @Value("${oembed.http.max-age:5m}")
+    private Duration maxAge;
+
+    /**
+     * ETag / Last-Modified 포함 -> If-None-Match / If-Modified-Since가 일치하면 304
+     * (HttpEntityMethodProcessor가 처리, 본문 전송 없음)
+     */
     @Operation(summary = "oEmbed 데이터 제공", description = "외부 플랫폼(디스코드 등)에서 Deokive 링크의 메타데이터를 요청할 때 사용합니다.")
     @GetMapping
     public ResponseEntity<OEmbedDto> getOEmbed(
             @RequestParam("url") String url,
-            @RequestParam(value = "format", defaultValue = "json") String format
+            @RequestParam(value = "format", defaultValue = "json") String format,
+            @RequestParam(value = "maxwidth", required = false) Integer maxWidth,
+            @RequestParam(value = "maxheight", required = false) Integer maxHeight
     ) {
-        return ResponseEntity.ok(oEmbedService.getOEmbedData(url));
+        CachedOEmbed oEmbed = oEmbedService.getOEmbedData(url, maxWidth, maxHeight);
+
+        return ResponseEntity.ok()
+                .eTag(oEmbed.etag())
+                .lastModified(oEmbed.lastModified())
+                .cacheControl(CacheControl.maxAge(maxAge).cachePublic())
+                .body(oEmbed.body());
+    }
+
+    @Operation(summary = "oEmbed 데이터 일괄 조회", description = "한 페이지에 포함된 여러 Deokive 링크의 oEmbed를 한 번에 조회합니다. 결과는 요청 URL 순서를 따르며 URL별 성공/실패가 따로 담깁니다.")
+    @PostMapping("/batch")
+    @RateLimit(type = RateLimitType.IP, capacity = 60, refillTokens = 60, refillPeriodSeconds = 60)
+    public ResponseEntity<List<OEmbedBatchDto.Item>> getOEmbedBatch(@Valid @RequestBody OEmbedBatchDto.Request request) {
+        return ResponseEntity.ok(oEmbedService.getOEmbedDataBatch(request));
     }
-}
\ No newline at end of file
+}
@@ -1,58 +1,62 @@
 package com.depth.deokive.system.metadata.controller;
 
-import com.depth.deokive.system.metadata.dto.ShareMetadataDto;
+import com.depth.deokive.system.metadata.dto.SharePage;
 import com.depth.deokive.system.metadata.service.ShareService;
 import io.swagger.v3.oas.annotations.Hidden;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
-import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * 공유 페이지 컨트롤러
  * [봇] OG 태그가 포함된 HTML 파싱
  * [사람] JS를 통해 프론트엔드 상세 페이지로 리다이렉트
+ *
+ * - 미리 렌더링된 HTML(SharePageCache)을 그대로 반환
+ * - ETag 포함 -> If-None-Match가 일치하면 304 (HttpEntityMethodProcessor가 처리, 본문 전송 없음)
  */
 @Slf4j
-@Controller // @RestController 아님 (View 반환)
+@Controller // @RestController 아님 (HTML 반환)
 @RequestMapping("/share")
 @RequiredArgsConstructor
 @Hidden // Swagger 문서 제외 (브라우저/봇 전용)
 public class ShareController {
 
+    private static final MediaType TEXT_HTML_UTF8 = new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8);
+
     private final ShareService shareService;
 
     /**
      * 게시글 공유 페이지
      */
     @GetMapping("/posts/{postId}")
-    public String sharePost(@PathVariable Long postId, Model model, HttpServletRequest request) {
-        ShareMetadataDto metadata = shareService.getPostShareMetadata(postId, request);
-
-        model.addAttribute("ogTitle", metadata.getOgTitle());
-        model.addAttribute("ogDescription", metadata.getOgDescription());
-        model.addAttribute("ogImage", metadata.getOgImage());
-        model.addAttribute("redirectUrl", metadata.getRedirectUrl());
-
-        return "share"; // resources/templates/share.html
+    public ResponseEntity<byte[]> sharePost(@PathVariable Long postId, HttpServletRequest request) {
+        return toResponse(shareService.getPostSharePage(postId, request));
     }
 
     /**
      * 아카이브 공유 페이지
      */
     @GetMapping("/archives/{archiveId}")
-    public String shareArchive(@PathVariable Long archiveId, Model model, HttpServletRequest request) {
-        ShareMetadataDto metadata = shareService.getArchiveShareMetadata(archiveId, request);
-
-        model.addAttribute("ogTitle", metadata.getOgTitle());
-        model.addAttribute("ogDescription", metadata.getOgDescription());
-        model.addAttribute("ogImage", metadata.getOgImage());
-        model.addAttribute("redirectUrl", metadata.getRedirectUrl());
+    public ResponseEntity<byte[]> shareArchive(@PathVariable Long archiveId, HttpServletRequest request) {
+        return toResponse(shareService.getArchiveSharePage(archiveId, request));
+    }
 
-        return "share";
+    // 리다이렉트 URL이 Origin/Referer에 따라 달라지므로 공유 캐시(CDN)는 매번 재검증 (no-cache)
+    private static ResponseEntity<byte[]> toResponse(SharePage page) {
+        return ResponseEntity.ok()
+                .contentType(TEXT_HTML_UTF8)
+                .eTag(page.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(page.body());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,9 @@
+package com.depth.deokive.system.metadata.dto;
+
+/**
+ * oEmbed 응답 + 조건부 요청용 헤더 값 (OEmbedCache 저장 단위)
+ * @param etag 응답 본문(JSON) 해시 -> 캐시가 비워져도 내용이 같으면 같은 ETag
+ * @param lastModified 렌더링 시각 (epoch millis)
+ */
+public record CachedOEmbed(OEmbedDto body, String etag, long lastModified) {
+}
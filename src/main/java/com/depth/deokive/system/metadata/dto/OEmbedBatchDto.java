@@ -0,0 +1,55 @@
+package com.depth.deokive.system.metadata.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class OEmbedBatchDto {
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    @Schema(name = "OEmbedBatchRequest", description = "oEmbed 일괄 조회 요청 DTO")
+    public static class Request {
+        @NotEmpty(message = "조회할 URL은 1개 이상이어야 합니다.")
+        @Schema(description = "조회할 Deokive 링크 목록 (최대 개수는 oembed.batch.max-size)",
+                example = "[\"https://deokive.com/community/1\", \"https://deokive.com/feed/2\"]")
+        private List<String> urls;
+
+        @Positive
+        @Schema(description = "썸네일 최대 너비 (oEmbed maxwidth)", example = "300")
+        private Integer maxwidth;
+
+        @Positive
+        @Schema(description = "썸네일 최대 높이 (oEmbed maxheight)", example = "200")
+        private Integer maxheight;
+    }
+
+    @Data @Builder @NoArgsConstructor @AllArgsConstructor
+    @Schema(name = "OEmbedBatchItem", description = "oEmbed 일괄 조회 결과 (요청 URL 순서 유지)")
+    public static class Item {
+        @Schema(description = "요청 URL", example = "https://deokive.com/community/1")
+        private String url;
+
+        @Schema(description = "URL별 결과 상태 코드", example = "200")
+        private int status;
+
+        @Schema(description = "oEmbed 데이터 (실패 시 null)")
+        private OEmbedDto data;
+
+        @Schema(description = "실패 사유 (성공 시 null)", example = "게시글을 찾을 수 없습니다.")
+        private String error;
+
+        public static Item success(String url, OEmbedDto data) {
+            return Item.builder().url(url).status(200).data(data).build();
+        }
+
+        public static Item failure(String url, int status, String error) {
+            return Item.builder().url(url).status(status).error(error).build();
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.depth.deokive.system.metadata.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor // OEmbedCache(Redis) 역직렬화용
 public class OEmbedDto {
     @Builder.Default private String type = "link"; // 봇이 레이아웃을 결정하는 기준
     @Builder.Default private String version = "1.0"; // OEmbed Protocol Version
@@ -0,0 +1,17 @@
+package com.depth.deokive.system.metadata.dto;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 렌더링이 끝난 공유 페이지 HTML + ETag (SharePageCache 저장 단위)
+ */
+public record SharePage(String etag, byte[] body) {
+
+    public static SharePage of(String html) {
+        byte[] body = html.getBytes(StandardCharsets.UTF_8);
+        // ShallowEtagHeaderFilter와 같은 형식 ("0" + MD5)
+        return new SharePage("\"0" + DigestUtils.md5DigestAsHex(body) + "\"", body);
+    }
+}
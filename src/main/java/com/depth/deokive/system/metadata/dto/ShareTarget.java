@@ -0,0 +1,23 @@
+package com.depth.deokive.system.metadata.dto;
+
+import com.depth.deokive.common.enums.ViewLikeDomain;
+
+/**
+ * 공유 메타데이터(공유 페이지 / oEmbed) 대상
+ */
+public enum ShareTarget {
+    POST,
+    ARCHIVE;
+
+    public static ShareTarget from(ViewLikeDomain domain) {
+        return switch (domain) {
+            case POST -> POST;
+            case ARCHIVE -> ARCHIVE;
+        };
+    }
+
+    /** 캐시 키용 식별자 (예: post:12) */
+    public String subjectOf(Long id) {
+        return name().toLowerCase() + ":" + id;
+    }
+}
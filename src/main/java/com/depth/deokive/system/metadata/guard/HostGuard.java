@@ -0,0 +1,218 @@
+package com.depth.deokive.system.metadata.guard;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 외부 메타데이터 호스트별 동시성 제한 + Circuit Breaker
+ *
+ * [배경]
+ * - RepostOgConsumer는 concurrency 120 (Virtual Threads)
+ * - 느린/죽은 호스트 하나에 120개가 동시에 물리면 (Jsoup timeout 15초) 전체 Repost 처리가 밀림
+ *
+ * [동작]
+ * 1. Circuit: 연속 실패 failureThreshold회 -> OPEN (openDuration 동안 즉시 거절)
+ *    -> 이후 HALF_OPEN에서 probe 1건만 통과, 성공 시 CLOSED / 실패 시 다시 OPEN
+ * 2. Limiter: 호스트당 maxConcurrentPerHost개 permit + maxQueuePerHost개 대기열 (maxWait 초과 시 거절)
+ *
+ * [Metrics]
+ * - metadata.host.inflight{host}: 호스트별 진행 중 요청 수
+ * - metadata.host.circuit.state{host}: 0=CLOSED, 1=HALF_OPEN, 2=OPEN
+ * - metadata.host.rejected{reason}: 거절 횟수
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(HostGuardProperties.class)
+public class HostGuard {
+
+    public enum CircuitState { CLOSED, HALF_OPEN, OPEN }
+
+    private final HostGuardProperties props;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, HostState> hosts;
+
+    public HostGuard(HostGuardProperties props, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+        this.hosts = Caffeine.newBuilder()
+                .maximumSize(props.getMaxTrackedHosts())
+                .expireAfterAccess(props.getIdleEviction())
+                .removalListener((String host, HostState state, RemovalCause cause) -> {
+                    if (state != null) state.unregisterMeters();
+                })
+                .build();
+    }
+
+    /**
+     * 호스트 단위 보호 하에 action 실행
+     * - 거절 시 HostGuardRejectedException (action은 실행되지 않음)
+     * - action이 던진 예외는 실패로 집계 후 그대로 전파
+     */
+    public <T> T execute(String host, Supplier<T> action) {
+        HostState state = hosts.get(host, this::newState);
+
+        boolean probe = state.enterCircuit();
+        try {
+            state.acquirePermit();
+        } catch (HostGuardRejectedException e) {
+            if (probe) state.releaseProbe();
+            throw e;
+        }
+
+        state.inFlight.incrementAndGet();
+        try {
+            T result = action.get();
+            state.onSuccess(probe);
+            return result;
+        } catch (RuntimeException e) {
+            state.onFailure(probe);
+            throw e;
+        } finally {
+            state.inFlight.decrementAndGet();
+            state.permits.release();
+        }
+    }
+
+    public CircuitState getCircuitState(String host) {
+        HostState state = hosts.getIfPresent(host);
+        return state != null ? state.circuit.get() : CircuitState.CLOSED;
+    }
+
+    public int getInFlight(String host) {
+        HostState state = hosts.getIfPresent(host);
+        return state != null ? state.inFlight.get() : 0;
+    }
+
+    public static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : "unknown";
+        } catch (IllegalArgumentException e) {
+            return "unknown";
+        }
+    }
+
+    private HostState newState(String host) {
+        HostState state = new HostState(host);
+        state.meters = List.of(
+                Gauge.builder("metadata.host.inflight", state.inFlight, AtomicInteger::get)
+                        .tag("host", host).register(meterRegistry),
+                Gauge.builder("metadata.host.circuit.state", state.circuit, c -> c.get().ordinal())
+                        .tag("host", host).register(meterRegistry)
+        );
+        return state;
+    }
+
+    private void reject(String host, HostGuardRejectedException.Reason reason) {
+        meterRegistry.counter("metadata.host.rejected", "reason", reason.name()).increment();
+        throw new HostGuardRejectedException(host, reason);
+    }
+
+    private final class HostState {
+        private final String host;
+        private final Semaphore permits = new Semaphore(props.getMaxConcurrentPerHost(), true);
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private final AtomicReference<CircuitState> circuit = new AtomicReference<>(CircuitState.CLOSED);
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicBoolean probeInFlight = new AtomicBoolean(false);
+        private volatile long openedAtNanos;
+
+        private List<Gauge> meters = List.of();
+
+        private HostState(String host) {
+            this.host = host;
+        }
+
+        /** @return true면 HALF_OPEN probe 요청 */
+        private boolean enterCircuit() {
+            CircuitState current = circuit.get();
+            if (current == CircuitState.OPEN) {
+                if (System.nanoTime() - openedAtNanos < props.getOpenDuration().toNanos()) {
+                    reject(host, HostGuardRejectedException.Reason.CIRCUIT_OPEN);
+                }
+                circuit.compareAndSet(CircuitState.OPEN, CircuitState.HALF_OPEN);
+                current = circuit.get();
+            }
+            if (current == CircuitState.HALF_OPEN) {
+                if (!probeInFlight.compareAndSet(false, true)) {
+                    reject(host, HostGuardRejectedException.Reason.CIRCUIT_OPEN);
+                }
+                log.info("🟡 [HostGuard] Half-open probe: host={}", host);
+                return true;
+            }
+            return false;
+        }
+
+        private void acquirePermit() {
+            if (permits.tryAcquire()) return;
+
+            if (waiting.incrementAndGet() > props.getMaxQueuePerHost()) {
+                waiting.decrementAndGet();
+                reject(host, HostGuardRejectedException.Reason.QUEUE_FULL);
+            }
+            try {
+                if (!permits.tryAcquire(props.getMaxWait().toMillis(), TimeUnit.MILLISECONDS)) {
+                    reject(host, HostGuardRejectedException.Reason.WAIT_TIMEOUT);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                reject(host, HostGuardRejectedException.Reason.WAIT_TIMEOUT);
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        private void releaseProbe() {
+            probeInFlight.set(false);
+        }
+
+        private void onSuccess(boolean probe) {
+            consecutiveFailures.set(0);
+            if (probe) {
+                circuit.set(CircuitState.CLOSED);
+                probeInFlight.set(false);
+                log.info("🟢 [HostGuard] Circuit closed: host={}", host);
+            }
+        }
+
+        private void onFailure(boolean probe) {
+            if (probe) {
+                open();
+                probeInFlight.set(false);
+                return;
+            }
+            if (consecutiveFailures.incrementAndGet() >= props.getFailureThreshold()
+                    && circuit.get() == CircuitState.CLOSED) {
+                open();
+            }
+        }
+
+        private void open() {
+            openedAtNanos = System.nanoTime();
+            circuit.set(CircuitState.OPEN);
+            log.warn("🔴 [HostGuard] Circuit opened: host={}, consecutiveFailures={}", host, consecutiveFailures.get());
+        }
+
+        private void unregisterMeters() {
+            meters.forEach(meterRegistry::remove);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.depth.deokive.system.metadata.guard;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "metadata.host-guard")
+public class HostGuardProperties {
+
+    /** 호스트당 동시 fetch 허용 수 (Consumer concurrency 120이 한 호스트에 몰리는 것 방지) */
+    private int maxConcurrentPerHost = 4;
+
+    /** 허용 수를 넘었을 때 대기할 수 있는 요청 수 (초과 시 즉시 거절) */
+    private int maxQueuePerHost = 16;
+
+    /** 대기열에서 permit을 기다리는 최대 시간 */
+    private Duration maxWait = Duration.ofSeconds(3);
+
+    /** 연속 실패 횟수가 이 값에 도달하면 Circuit OPEN */
+    private int failureThreshold = 5;
+
+    /** OPEN 유지 시간 (이후 HALF_OPEN에서 probe 1건 허용) */
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    /** 추적할 최대 호스트 수 (메트릭 카디널리티 제한) */
+    private int maxTrackedHosts = 500;
+
+    /** 마지막 사용 이후 호스트 상태를 유지하는 시간 */
+    private Duration idleEviction = Duration.ofMinutes(10);
+}
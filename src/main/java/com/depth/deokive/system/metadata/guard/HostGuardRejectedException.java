@@ -0,0 +1,23 @@
+package com.depth.deokive.system.metadata.guard;
+
+import lombok.Getter;
+
+/**
+ * HostGuard가 요청을 실행하지 않고 거절했을 때 발생하는 예외
+ * - CIRCUIT_OPEN: 해당 호스트가 최근 연속 실패하여 차단 중
+ * - QUEUE_FULL / WAIT_TIMEOUT: 해당 호스트로의 동시 요청이 한도를 넘음
+ */
+@Getter
+public class HostGuardRejectedException extends RuntimeException {
+
+    public enum Reason { CIRCUIT_OPEN, QUEUE_FULL, WAIT_TIMEOUT }
+
+    private final String host;
+    private final Reason reason;
+
+    public HostGuardRejectedException(String host, Reason reason) {
+        super(String.format("Host guard rejected request. host=%s, reason=%s", host, reason));
+        this.host = host;
+        this.reason = reason;
+    }
+}
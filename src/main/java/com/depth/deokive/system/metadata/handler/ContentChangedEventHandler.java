@@ -0,0 +1,33 @@
+package com.depth.deokive.system.metadata.handler;
+
+import com.depth.deokive.common.event.ContentChangedEvent;
+import com.depth.deokive.system.metadata.dto.ShareTarget;
+import com.depth.deokive.system.metadata.service.OEmbedCache;
+import com.depth.deokive.system.metadata.service.SharePageCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentChangedEventHandler {
+
+    private final SharePageCache sharePageCache;
+    private final OEmbedCache oEmbedCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleContentChanged(ContentChangedEvent event) {
+        ShareTarget target = ShareTarget.from(event.getDomain());
+        try {
+            sharePageCache.evict(target, event.getIds());
+            oEmbedCache.evict(target, event.getIds());
+        } catch (Exception e) {
+            // Soft Fail: Redis 장애 시 TTL 만료로 수렴
+            log.warn("[Share] Evict failed -> Target: {}, Ids: {}, Error: {}",
+                    target, event.getIds(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.depth.deokive.system.metadata.service;
+
+import com.depth.deokive.common.service.VersionedHashCache;
+import com.depth.deokive.system.metadata.dto.CachedOEmbed;
+import com.depth.deokive.system.metadata.dto.ShareTarget;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * oEmbed 응답 캐시
+ *
+ * [배경]
+ * - 임베드 플랫폼(디스코드, 노션 등)은 같은 URL의 oEmbed를 반복해서 다시 가져감 -> 매번 DB 조회
+ *
+ * [구조] (VersionedHashCache)
+ * - 키: oembed:{post|archive}:{id}, variant = 썸네일 크기 (maxwidth/maxheight 적용 결과, 예: 300x158)
+ * - 무효화: 게시글/아카이브 수정·삭제 커밋 후 (ContentChangedEvent)
+ */
+@Component
+public class OEmbedCache extends VersionedHashCache<CachedOEmbed> {
+
+    public OEmbedCache(RedisTemplate<String, Object> redisTemplate,
+                       RedisMessageListenerContainer redisMessageListenerContainer,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry,
+                       @Value("${oembed.cache.ttl:30m}") Duration ttl,
+                       @Value("${oembed.cache.local-ttl:1m}") Duration localTtl,
+                       @Value("${oembed.cache.local-max-size:10000}") long localMaxSize) {
+        super("oembed", CachedOEmbed.class, ttl, localTtl, localMaxSize,
+                redisTemplate, redisMessageListenerContainer, objectMapper, meterRegistry);
+    }
+
+    public CachedOEmbed get(ShareTarget target, Long id, String size, Supplier<CachedOEmbed> loader) {
+        return get(target.subjectOf(id), size, version -> loader.get());
+    }
+
+    public void evict(ShareTarget target, Collection<Long> ids) {
+        evictSubjects(ids.stream().map(target::subjectOf).toList());
+    }
+}
@@ -1,36 +1,126 @@
 package com.depth.deokive.system.metadata.service;
 
+import com.depth.deokive.system.metadata.dto.CachedOEmbed;
+import com.depth.deokive.system.metadata.dto.OEmbedBatchDto;
 import com.depth.deokive.system.metadata.dto.OEmbedDto;
 import com.depth.deokive.system.exception.model.ErrorCode;
 import com.depth.deokive.system.exception.model.RestException;
 import com.depth.deokive.system.metadata.strategy.OEmbedContentStrategy;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+/**
+ * oEmbed 조회 서비스
+ * - 응답은 OEmbedCache에 보관 -> Cache Hit이면 DB 조회 없음
+ * - 메서드 단위 @Transactional을 쓰지 않음: Cache Hit에서 커넥션을 잡지 않도록 Miss일 때만 readOnly 트랜잭션
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OEmbedService {
 
+    // 기본 썸네일 크기 (OG 이미지 권장 비율 1.91:1)
+    private static final int THUMBNAIL_WIDTH = 600;
+    private static final int THUMBNAIL_HEIGHT = 315;
+
     // Spring이 구현체들을 자동으로 리스트에 주입함
     private final List<OEmbedContentStrategy> strategies;
+    private final OEmbedCache oEmbedCache;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${oembed.batch.max-size:50}")
+    private int batchMaxSize;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
 
-    @Transactional(readOnly = true)
-    public OEmbedDto getOEmbedData(String url) {
+    /**
+     * 단건 조회 (maxwidth / maxheight: oEmbed 표준 파라미터, 썸네일 크기에 반영)
+     */
+    public CachedOEmbed getOEmbedData(String url, Integer maxWidth, Integer maxHeight) {
         // 1. URL 디코딩
         String decodedUrl = URLDecoder.decode(url, StandardCharsets.UTF_8);
 
         // 2. 지원하는 전략 탐색 (Post? Archive?)
-        return strategies.stream()
-                .filter(strategy -> strategy.supports(decodedUrl))
+        OEmbedContentStrategy strategy = strategies.stream()
+                .filter(candidate -> candidate.supports(decodedUrl))
                 .findFirst()
-                .map(strategy -> strategy.createOEmbed(decodedUrl))
                 .orElseThrow(() -> new RestException(ErrorCode.GLOBAL_BAD_REQUEST, "지원하지 않는 URL입니다."));
+        Long id = strategy.extractId(decodedUrl);
+
+        // 3. 썸네일 크기 결정 -> 크기가 같은 요청끼리 같은 캐시 항목 사용
+        int[] thumbnail = fitThumbnail(maxWidth, maxHeight);
+        String size = thumbnail[0] + "x" + thumbnail[1];
+
+        // 4. 캐시 조회 (Miss면 DB 조회)
+        return oEmbedCache.get(strategy.target(), id, size, () -> {
+            OEmbedDto body = readOnlyTransaction.execute(status -> strategy.createOEmbed(id));
+            body.setThumbnailWidth(thumbnail[0]);
+            body.setThumbnailHeight(thumbnail[1]);
+            return new CachedOEmbed(body, etagOf(body), System.currentTimeMillis());
+        });
+    }
+
+    /**
+     * 일괄 조회 (자사 프론트엔드 전용: 한 페이지의 임베드를 한 번에)
+     * - URL별로 성공/실패를 따로 담아 반환 (하나가 실패해도 나머지는 정상 응답)
+     */
+    public List<OEmbedBatchDto.Item> getOEmbedDataBatch(OEmbedBatchDto.Request request) {
+        if (request.getUrls().size() > batchMaxSize) {
+            throw new RestException(ErrorCode.GLOBAL_BAD_REQUEST, "한 번에 조회할 수 있는 URL은 최대 " + batchMaxSize + "개입니다.");
+        }
+
+        return request.getUrls().stream()
+                .map(url -> {
+                    try {
+                        return OEmbedBatchDto.Item.success(url,
+                                getOEmbedData(url, request.getMaxwidth(), request.getMaxheight()).body());
+                    } catch (RestException e) {
+                        return OEmbedBatchDto.Item.failure(url, e.getErrorCode().getStatus().value(), e.getMessage());
+                    } catch (Exception e) {
+                        log.warn("⚠️ [OEmbed] Batch item failed: url={}, error={}", url, e.getMessage());
+                        return OEmbedBatchDto.Item.failure(url, 500, ErrorCode.GLOBAL_INTERNAL_SERVER_ERROR.getMessage());
+                    }
+                })
+                .toList();
+    }
+
+    // 기본 크기를 비율 유지한 채 maxwidth / maxheight 안에 맞춤 (확대는 하지 않음)
+    static int[] fitThumbnail(Integer maxWidth, Integer maxHeight) {
+        double scale = 1.0;
+        if (maxWidth != null && maxWidth > 0) scale = Math.min(scale, (double) maxWidth / THUMBNAIL_WIDTH);
+        if (maxHeight != null && maxHeight > 0) scale = Math.min(scale, (double) maxHeight / THUMBNAIL_HEIGHT);
+
+        return new int[]{
+                Math.max(1, (int) Math.floor(THUMBNAIL_WIDTH * scale)),
+                Math.max(1, (int) Math.floor(THUMBNAIL_HEIGHT * scale))
+        };
+    }
+
+    // 본문 해시 (ShallowEtagHeaderFilter와 같은 형식)
+    private String etagOf(OEmbedDto body) {
+        try {
+            return "\"0" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(body)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new RestException(ErrorCode.GLOBAL_INTERNAL_SERVER_ERROR, e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.depth.deokive.system.metadata.service;
+
+import com.depth.deokive.common.service.VersionedHashCache;
+import com.depth.deokive.system.metadata.dto.SharePage;
+import com.depth.deokive.system.metadata.dto.ShareTarget;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 공유 페이지(/share/**) 렌더링 결과 캐시
+ *
+ * [배경]
+ * - 게시글이 퍼지면 크롤러/메신저 봇이 같은 공유 URL을 반복 호출 -> 매번 DB 조회 + Thymeleaf 렌더링
+ *
+ * [구조] (VersionedHashCache)
+ * - 저장 단위: 렌더링된 HTML 바이트 + ETag (SharePage)
+ * - 키: share:{post|archive}:{id}, variant = 프론트 URL (리다이렉트 URL이 요청의 Origin/Referer마다 다름)
+ * - 무효화: 게시글/아카이브 수정·삭제 커밋 후 (ContentChangedEvent)
+ */
+@Component
+public class SharePageCache extends VersionedHashCache<SharePage> {
+
+    public SharePageCache(RedisTemplate<String, Object> redisTemplate,
+                          RedisMessageListenerContainer redisMessageListenerContainer,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${share.cache.ttl:10m}") Duration ttl,
+                          @Value("${share.cache.local-ttl:1m}") Duration localTtl,
+                          @Value("${share.cache.local-max-size:10000}") long localMaxSize) {
+        super("share", SharePage.class, ttl, localTtl, localMaxSize,
+                redisTemplate, redisMessageListenerContainer, objectMapper, meterRegistry);
+    }
+
+    public SharePage get(ShareTarget target, Long id, String frontBaseUrl, Supplier<SharePage> renderer) {
+        return get(target.subjectOf(id), frontBaseUrl, version -> renderer.get());
+    }
+
+    public void evict(ShareTarget target, Collection<Long> ids) {
+        evictSubjects(ids.stream().map(target::subjectOf).toList());
+    }
+}
@@ -9,36 +9,104 @@ import com.depth.deokive.domain.post.repository.PostRepository;
 import com.depth.deokive.system.exception.model.ErrorCode;
 import com.depth.deokive.system.exception.model.RestException;
 import com.depth.deokive.system.metadata.dto.ShareMetadataDto;
+import com.depth.deokive.system.metadata.dto.SharePage;
+import com.depth.deokive.system.metadata.dto.ShareTarget;
 import com.depth.deokive.system.security.util.FrontUrlResolver;
 import com.depth.deokive.system.security.util.PropertiesParserUtils;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
 
 import java.util.List;
+import java.util.Locale;
 
 /**
  * 공유 페이지 메타데이터 및 리다이렉트 URL 생성 서비스
+ * - 렌더링된 HTML은 SharePageCache에 보관 -> Cache Hit이면 DB 조회/템플릿 렌더링 없음
+ * - 메서드 단위 @Transactional을 쓰지 않음: Cache Hit에서 커넥션을 잡지 않도록 Miss일 때만 readOnly 트랜잭션
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ShareService {
 
+    private static final String TEMPLATE = "share"; // resources/templates/share.html
+
     private final PostRepository postRepository;
     private final ArchiveRepository archiveRepository;
+    private final SharePageCache sharePageCache;
+    private final ITemplateEngine templateEngine;
+    private final PlatformTransactionManager transactionManager;
 
     @Value("${app.front-base-url}")
     private String frontBaseUrlConfig;
 
+    private List<String> allowedBaseUrls;
+    private String defaultBaseUrl;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        // 요청마다 파싱하지 않도록 기동 시 한 번만
+        allowedBaseUrls = PropertiesParserUtils.propertiesParser(frontBaseUrlConfig);
+
+        // localhost가 아닌 프로덕션 URL을 우선적으로 기본값으로 선택
+        // (소셜 미디어 링크 클릭 시 Origin/Referer가 없을 때 프로덕션 URL로 리다이렉트)
+        defaultBaseUrl = allowedBaseUrls.stream()
+                .filter(url -> !url.contains("localhost") && !url.contains("127.0.0.1"))
+                .findFirst()
+                .orElse(allowedBaseUrls.isEmpty() ? null : allowedBaseUrls.get(0)); // 모두 localhost이면 첫 번째 URL 사용
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 게시글 공유 페이지 (렌더링된 HTML + ETag)
+     */
+    public SharePage getPostSharePage(Long postId, HttpServletRequest request) {
+        return postSharePage(postId, resolveFrontBaseUrl(request));
+    }
+
+    /**
+     * 아카이브 공유 페이지 (렌더링된 HTML + ETag)
+     */
+    public SharePage getArchiveSharePage(Long archiveId, HttpServletRequest request) {
+        return archiveSharePage(archiveId, resolveFrontBaseUrl(request));
+    }
+
+    /**
+     * 웜업용: 크롤러 요청에는 Origin/Referer가 없으므로 기본 프론트 URL 항목을 적재
+     */
+    public void warmPostSharePage(Long postId) {
+        if (defaultBaseUrl != null) postSharePage(postId, defaultBaseUrl);
+    }
+
+    public void warmArchiveSharePage(Long archiveId) {
+        if (defaultBaseUrl != null) archiveSharePage(archiveId, defaultBaseUrl);
+    }
+
+    private SharePage postSharePage(Long postId, String frontBaseUrl) {
+        return sharePageCache.get(ShareTarget.POST, postId, frontBaseUrl,
+                () -> render(readOnlyTransaction.execute(status -> getPostShareMetadata(postId, frontBaseUrl))));
+    }
+
+    private SharePage archiveSharePage(Long archiveId, String frontBaseUrl) {
+        return sharePageCache.get(ShareTarget.ARCHIVE, archiveId, frontBaseUrl,
+                () -> render(readOnlyTransaction.execute(status -> getArchiveShareMetadata(archiveId, frontBaseUrl))));
+    }
+
     /**
      * 게시글 공유 메타데이터 및 리다이렉트 URL 생성
      */
-    @Transactional(readOnly = true)
-    public ShareMetadataDto getPostShareMetadata(Long postId, HttpServletRequest request) {
+    private ShareMetadataDto getPostShareMetadata(Long postId, String frontBaseUrl) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new RestException(ErrorCode.POST_NOT_FOUND));
 
@@ -52,8 +120,6 @@ public class ShareService {
                 ? FileUrlUtils.buildCdnUrl(post.getThumbnailKey())
                 : "";
 
-        // 요청에 맞는 프론트엔드 URL 선택
-        String frontBaseUrl = resolveFrontBaseUrl(request);
         String redirectUrl = frontBaseUrl + "/community/" + postId;
 
         return ShareMetadataDto.builder()
@@ -67,9 +133,9 @@ public class ShareService {
     /**
      * 아카이브 공유 메타데이터 및 리다이렉트 URL 생성
      */
-    @Transactional(readOnly = true)
-    public ShareMetadataDto getArchiveShareMetadata(Long archiveId, HttpServletRequest request) {
+    private ShareMetadataDto getArchiveShareMetadata(Long archiveId, String frontBaseUrl) {
         Archive archive = archiveRepository.findById(archiveId)
+                .filter(found -> !found.isDeleted()) // Tombstone 아카이브는 정리 전이라도 공유 불가
                 .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
 
         // 비공개 아카이브는 공유 불가
@@ -84,8 +150,6 @@ public class ShareService {
                 ? FileUrlUtils.buildCdnUrl(archive.getBannerFile().getS3ObjectKey())
                 : "";
 
-        // 요청에 맞는 프론트엔드 URL 선택
-        String frontBaseUrl = resolveFrontBaseUrl(request);
         String redirectUrl = frontBaseUrl + "/feed/" + archiveId;
 
         return ShareMetadataDto.builder()
@@ -96,26 +160,27 @@ public class ShareService {
                 .build();
     }
 
+    private SharePage render(ShareMetadataDto metadata) {
+        Context context = new Context(Locale.KOREAN);
+        context.setVariable("ogTitle", metadata.getOgTitle());
+        context.setVariable("ogDescription", metadata.getOgDescription());
+        context.setVariable("ogImage", metadata.getOgImage());
+        context.setVariable("redirectUrl", metadata.getRedirectUrl());
+
+        return SharePage.of(templateEngine.process(TEMPLATE, context));
+    }
+
     /**
      * 요청의 Origin/Referer를 확인하여 적절한 프론트엔드 base URL을 선택합니다.
      * 매칭되지 않으면 localhost가 아닌 프로덕션 URL을 우선적으로 기본값으로 사용합니다.
      * 모두 localhost인 경우에만 첫 번째 URL을 사용합니다.
      */
     private String resolveFrontBaseUrl(HttpServletRequest request) {
-        List<String> allowedBaseUrls = PropertiesParserUtils.propertiesParser(frontBaseUrlConfig);
-        
         if (allowedBaseUrls.isEmpty()) {
             log.warn("⚠️ [ShareService] 허용된 프론트엔드 URL이 없습니다. 설정을 확인하세요.");
             throw new RestException(ErrorCode.GLOBAL_INTERNAL_SERVER_ERROR, "프론트엔드 URL 설정이 없습니다.");
         }
 
-        // localhost가 아닌 프로덕션 URL을 우선적으로 기본값으로 선택
-        // (소셜 미디어 링크 클릭 시 Origin/Referer가 없을 때 프로덕션 URL로 리다이렉트)
-        String defaultUrl = allowedBaseUrls.stream()
-                .filter(url -> !url.contains("localhost") && !url.contains("127.0.0.1"))
-                .findFirst()
-                .orElse(allowedBaseUrls.get(0)); // 모두 localhost이면 첫 번째 URL 사용
-
-        return FrontUrlResolver.resolveUrl(request, allowedBaseUrls, defaultUrl);
+        return FrontUrlResolver.resolveUrl(request, allowedBaseUrls, defaultBaseUrl);
     }
 }
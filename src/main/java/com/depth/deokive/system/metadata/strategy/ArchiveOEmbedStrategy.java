@@ -1,11 +1,13 @@
 package com.depth.deokive.system.metadata.strategy;
 
+import com.depth.deokive.common.enums.Visibility;
 import com.depth.deokive.common.util.FileUrlUtils;
 import com.depth.deokive.domain.archive.entity.Archive;
 import com.depth.deokive.domain.archive.repository.ArchiveRepository;
 import com.depth.deokive.system.exception.model.ErrorCode;
 import com.depth.deokive.system.exception.model.RestException;
 import com.depth.deokive.system.metadata.dto.OEmbedDto;
+import com.depth.deokive.system.metadata.dto.ShareTarget;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -32,12 +34,21 @@ public class ArchiveOEmbedStrategy implements OEmbedContentStrategy {
     }
 
     @Override
-    public OEmbedDto createOEmbed(String url) {
-        Long id = extractId(url);
+    public ShareTarget target() {
+        return ShareTarget.ARCHIVE;
+    }
 
+    @Override
+    public OEmbedDto createOEmbed(Long id) {
         Archive archive = archiveRepository.findById(id)
+                .filter(found -> !found.isDeleted()) // Tombstone 아카이브 제외
                 .orElseThrow(() -> new RestException(ErrorCode.ARCHIVE_NOT_FOUND));
 
+        // 비공개 아카이브는 미리보기 불가 (공유 페이지와 동일, 캐시에도 남기지 않음)
+        if (archive.getVisibility() == Visibility.PRIVATE) {
+            throw new RestException(ErrorCode.AUTH_FORBIDDEN);
+        }
+
         // Archive의 배너 이미지를 썸네일로 사용
         String thumbnailUrl = null;
         if (archive.getBannerFile() != null) {
@@ -54,7 +65,8 @@ public class ArchiveOEmbedStrategy implements OEmbedContentStrategy {
                 .build();
     }
 
-    private Long extractId(String url) {
+    @Override
+    public Long extractId(String url) {
         Matcher matcher = PATTERN.matcher(url);
         if (matcher.find()) {
             return Long.parseLong(matcher.group(1));
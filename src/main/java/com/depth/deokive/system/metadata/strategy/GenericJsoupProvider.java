@@ -3,12 +3,17 @@ package com.depth.deokive.system.metadata.strategy;
 import com.depth.deokive.common.util.TextUtils;
 import com.depth.deokive.domain.post.dto.MetadataProvider;
 import com.depth.deokive.domain.post.dto.OgMetadata;
+import com.depth.deokive.system.metadata.strategy.HtmlHeadExtractor.HeadMetadata;
 import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Connection;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.SocketTimeoutException;
 
 @Slf4j
@@ -18,41 +23,42 @@ public class GenericJsoupProvider implements MetadataProvider {
     private static final int TIMEOUT_MS = 15000;
     private static final int MAX_BODY_SIZE = 5 * 1024 * 1024; // 5MB (OOM 방지)
 
+    @Value("${metadata.html.streaming-enabled:true}")
+    private boolean streamingEnabled;
+
+    @Value("${metadata.html.head-byte-cap:262144}")
+    private int headByteCap;
+
     @Override
     public boolean supports(String url) {
         return true; // 모든 URL의 Fallback으로 사용
     }
 
+    /**
+     * 요청은 한 번만 보냄 (maxBodySize = 전체 파싱 상한)
+     * - 스트리밍 모드: </head>까지만 읽고 충분하면 연결 종료
+     * - 부족하면 같은 응답의 읽은 바이트 + 남은 본문으로 전체 파싱 (재요청 없음)
+     */
     @Override
     public OgMetadata extract(String url) {
         try {
-            // Jsoup 연결 설정 (기존 설정 + 스크래핑 성공률 높이는 헤더 추가)
-            Document doc = Jsoup.connect(url)
-                    .timeout(TIMEOUT_MS)
-                    .userAgent(UserAgentGenerator.getRandom())  // 랜덤 User Agent
-                    .maxBodySize(MAX_BODY_SIZE)                 // OOM 방지 설정 유지
-                    .header("Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8,en;q=0.7") // 한국어 우선 설정
-                    .referrer("http://google.com")              // 레퍼러 우회
-                    .followRedirects(true)                      // 리다이렉트 허용
-                    .ignoreHttpErrors(false)                    // 4xx, 5xx 에러 시 예외 발생
-                    .get();
-
-            // 1. Title 추출
-            String title = extractOgTag(doc, "og:title");
-            if (title == null || title.isBlank()) { title = doc.title(); }
-            // DB 컬럼 제한(VARCHAR(255)) 준수
-            title = TextUtils.truncate(title, 255);
-
-            // 2. Image 추출
-            String imageUrl = extractOgTag(doc, "og:image");
-            if (imageUrl == null || imageUrl.isBlank()) {
-                imageUrl = extractOgTag(doc, "twitter:image");
-            }
+            Connection.Response response = connect(url, MAX_BODY_SIZE).execute();
+            try (BufferedInputStream body = response.bodyStream()) {
+                if (!streamingEnabled) {
+                    return extractFromDocument(body, response);
+                }
 
-            return OgMetadata.builder()
-                    .title(title)
-                    .imageUrl(imageUrl)
-                    .build();
+                HeadMetadata head = HtmlHeadExtractor.extract(body, response.charset(), headByteCap);
+                if (isSufficient(head)) {
+                    return OgMetadata.builder()
+                            .title(TextUtils.truncate(head.getTitle(), 255))
+                            .imageUrl(head.getImageUrl())
+                            .build();
+                }
+                log.debug("[OG] Head streaming insufficient, fallback to full parse: url={}, bytesRead={}, headComplete={}",
+                        url, head.getBytesRead(), head.isHeadComplete());
+                return extractFromDocument(head.replay(body), response);
+            }
 
         } catch (SocketTimeoutException e) {
             log.warn("Timeout extracting OG metadata from URL: {}", url);
@@ -63,6 +69,50 @@ public class GenericJsoupProvider implements MetadataProvider {
         }
     }
 
+    /**
+     * Fallback 판단
+     * - 제목/이미지 모두 없음 -> <head> 밖에 메타가 있거나 비정상 문서
+     * - byteCap에 걸려 <head>를 다 못 봤는데 하나라도 비어 있음 -> 뒤에 있을 수 있음
+     */
+    private boolean isSufficient(HeadMetadata head) {
+        if (!head.hasTitle() && !head.hasImage()) return false;
+        return head.isHeadComplete() || (head.hasTitle() && head.hasImage());
+    }
+
+    // 기존 Jsoup 전체 파싱 경로 (Fallback, 본문 상한은 응답의 maxBodySize)
+    private OgMetadata extractFromDocument(InputStream body, Connection.Response response) throws IOException {
+        Document doc = Jsoup.parse(body, response.charset(), response.url().toExternalForm());
+
+        // 1. Title 추출
+        String title = extractOgTag(doc, "og:title");
+        if (title == null || title.isBlank()) { title = doc.title(); }
+        // DB 컬럼 제한(VARCHAR(255)) 준수
+        title = TextUtils.truncate(title, 255);
+
+        // 2. Image 추출
+        String imageUrl = extractOgTag(doc, "og:image");
+        if (imageUrl == null || imageUrl.isBlank()) {
+            imageUrl = extractOgTag(doc, "twitter:image");
+        }
+
+        return OgMetadata.builder()
+                .title(title)
+                .imageUrl(imageUrl)
+                .build();
+    }
+
+    // Jsoup 연결 설정 (기존 설정 + 스크래핑 성공률 높이는 헤더 추가)
+    private Connection connect(String url, int maxBodySize) {
+        return Jsoup.connect(url)
+                .timeout(TIMEOUT_MS)
+                .userAgent(UserAgentGenerator.getRandom())  // 랜덤 User Agent
+                .maxBodySize(maxBodySize)                   // OOM 방지 설정 유지
+                .header("Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8,en;q=0.7") // 한국어 우선 설정
+                .referrer("http://google.com")              // 레퍼러 우회
+                .followRedirects(true)                      // 리다이렉트 허용
+                .ignoreHttpErrors(false);                   // 4xx, 5xx 에러 시 예외 발생
+    }
+
     // 태그 추출 헬퍼 메서드
     private String extractOgTag(Document doc, String property) {
         var element = doc.selectFirst("meta[property=" + property + "]");
@@ -71,4 +121,4 @@ public class GenericJsoupProvider implements MetadataProvider {
         }
         return element != null ? element.attr("content") : null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,321 @@
+package com.depth.deokive.system.metadata.strategy;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.jsoup.parser.Parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <head> 전용 스트리밍 메타데이터 추출기
+ *
+ * [배경]
+ * - og:/twitter:/<title> 태그는 거의 항상 <head> 안에 있음
+ * - Jsoup 전체 파싱은 최대 5MB를 내려받고 DOM 전체를 만든 뒤 몇 개의 태그만 읽음
+ *
+ * [동작]
+ * 1. 응답을 청크 단위로 읽다가 </head> 또는 <body 를 만나거나 byteCap에 도달하면 즉시 중단
+ *    (바이트 단위 ASCII 비교이므로 UTF-8 / EUC-KR 모두 안전)
+ * 2. Content-Type 헤더 또는 <meta charset>으로 문자셋 결정 후 디코딩
+ * 3. 경량 토크나이저로 <meta>/<title>만 훑음 (주석, script/style 내용은 건너뜀)
+ * 4. 부족하면 replay(rest)로 읽은 바이트 + 남은 스트림을 이어 붙여 전체 파싱 (같은 응답 재사용, 재요청 없음)
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HtmlHeadExtractor {
+
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+    private static final byte[] HEAD_CLOSE = "</head".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BODY_OPEN = "<body".getBytes(StandardCharsets.US_ASCII);
+    private static final int MARKER_OVERLAP = HEAD_CLOSE.length;
+    private static final int CHARSET_SNIFF_LIMIT = 4 * 1024;
+
+    private static final Pattern META_CHARSET =
+            Pattern.compile("<meta[^>]+charset\\s*=\\s*[\"']?\\s*([A-Za-z0-9_\\-:.]+)", Pattern.CASE_INSENSITIVE);
+
+    @Getter
+    @Builder
+    public static class HeadMetadata {
+        private String title;
+        private String imageUrl;
+        private String description;
+        private int bytesRead;       // 실제로 읽은 바이트 수
+        private boolean headComplete; // </head>(또는 <body, EOF)까지 확인했는지 여부
+        @Getter(AccessLevel.NONE)
+        private byte[] consumed;      // 읽은 바이트 (앞 bytesRead개 유효)
+
+        public boolean hasTitle() { return title != null && !title.isBlank(); }
+        public boolean hasImage() { return imageUrl != null && !imageUrl.isBlank(); }
+
+        /**
+         * 이미 읽은 바이트 뒤에 남은 본문을 이어 붙인 스트림 (전체 파싱 Fallback용)
+         * @param rest extract에 넘긴 스트림 (읽다 멈춘 위치부터 이어짐)
+         */
+        public InputStream replay(InputStream rest) {
+            if (consumed == null || bytesRead == 0) return rest;
+            return new SequenceInputStream(new ByteArrayInputStream(consumed, 0, bytesRead), rest);
+        }
+    }
+
+    /**
+     * @param in          응답 본문 스트림 (호출자가 close)
+     * @param charsetHint Content-Type 헤더의 charset (없으면 null)
+     * @param byteCap     최대 읽기 바이트 수
+     */
+    public static HeadMetadata extract(InputStream in, String charsetHint, int byteCap) throws IOException {
+        byte[] data = new byte[Math.min(byteCap, INITIAL_BUFFER_SIZE)];
+        int len = 0;
+        int headEnd = -1;
+        boolean eof = false;
+
+        while (len < byteCap) {
+            if (len == data.length) {
+                data = Arrays.copyOf(data, Math.min(byteCap, data.length * 2));
+            }
+            int n = in.read(data, len, data.length - len);
+            if (n < 0) {
+                eof = true;
+                break;
+            }
+            int scanFrom = Math.max(0, len - MARKER_OVERLAP);
+            len += n;
+            headEnd = indexOfHeadEnd(data, scanFrom, len);
+            if (headEnd >= 0) break;
+        }
+
+        int limit = headEnd >= 0 ? headEnd : len;
+        Charset charset = resolveCharset(charsetHint, data, limit);
+        HeadMetadata.HeadMetadataBuilder result = parse(new String(data, 0, limit, charset));
+
+        return result
+                .bytesRead(len)
+                .headComplete(headEnd >= 0 || eof)
+                .consumed(data)
+                .build();
+    }
+
+    /** 이미 메모리에 있는 HTML 문자열에서 추출 (테스트/벤치마크용) */
+    public static HeadMetadata extract(String html) {
+        return parse(html).bytesRead(html.length()).headComplete(true).build();
+    }
+
+    // --- Tokenizer
+
+    private static HeadMetadata.HeadMetadataBuilder parse(String html) {
+        Map<String, String> byProperty = new HashMap<>();
+        Map<String, String> byName = new HashMap<>();
+        String title = null;
+
+        int n = html.length();
+        int i = 0;
+        while (i < n) {
+            int lt = html.indexOf('<', i);
+            if (lt < 0 || lt + 1 >= n) break;
+
+            // 주석
+            if (html.startsWith("<!--", lt)) {
+                int end = html.indexOf("-->", lt + 4);
+                if (end < 0) break;
+                i = end + 3;
+                continue;
+            }
+
+            char first = html.charAt(lt + 1);
+            if (first == '/' || first == '!' || first == '?') { // 닫는 태그, DOCTYPE, PI
+                int end = html.indexOf('>', lt + 1);
+                if (end < 0) break;
+                i = end + 1;
+                continue;
+            }
+
+            int nameEnd = lt + 1;
+            while (nameEnd < n && isTagNameChar(html.charAt(nameEnd))) nameEnd++;
+            if (nameEnd == lt + 1) { // "<" 단독 (텍스트)
+                i = lt + 1;
+                continue;
+            }
+
+            int tagEnd = findTagEnd(html, nameEnd);
+            if (tagEnd < 0) break;
+
+            String tag = html.substring(lt + 1, nameEnd).toLowerCase(Locale.ROOT);
+            switch (tag) {
+                case "meta" -> {
+                    Map<String, String> attrs = parseAttributes(html, nameEnd, tagEnd);
+                    String content = attrs.get("content");
+                    if (content != null) {
+                        String value = Parser.unescapeEntities(content, true);
+                        String property = attrs.get("property");
+                        String name = attrs.get("name");
+                        if (property != null) byProperty.putIfAbsent(property.toLowerCase(Locale.ROOT), value);
+                        if (name != null) byName.putIfAbsent(name.toLowerCase(Locale.ROOT), value);
+                    }
+                    i = tagEnd + 1;
+                }
+                case "title" -> {
+                    int close = indexOfIgnoreCase(html, "</title", tagEnd + 1);
+                    String text = close < 0 ? html.substring(tagEnd + 1) : html.substring(tagEnd + 1, close);
+                    if (title == null) title = normalizeWhitespace(Parser.unescapeEntities(text, false));
+                    i = close < 0 ? n : close;
+                }
+                case "script", "style", "noscript", "template", "textarea" -> {
+                    // 내용 안의 "<meta" 같은 문자열을 태그로 오인하지 않도록 통째로 건너뜀
+                    int close = indexOfIgnoreCase(html, "</" + tag, tagEnd + 1);
+                    i = close < 0 ? n : close;
+                }
+                default -> i = tagEnd + 1;
+            }
+        }
+
+        // 기존 Jsoup 경로와 동일한 우선순위: property=X -> name=X
+        String ogTitle = firstNonBlank(byProperty.get("og:title"), byName.get("og:title"));
+        String image = firstNonBlank(byProperty.get("og:image"), byName.get("og:image"));
+        if (image == null) image = firstNonBlank(byProperty.get("twitter:image"), byName.get("twitter:image"));
+        String description = firstNonBlank(byProperty.get("og:description"), byName.get("og:description"));
+        if (description == null) description = firstNonBlank(byName.get("description"), null);
+
+        return HeadMetadata.builder()
+                .title(ogTitle != null ? ogTitle : title)
+                .imageUrl(image)
+                .description(description);
+    }
+
+    private static Map<String, String> parseAttributes(String html, int from, int to) {
+        Map<String, String> attrs = new HashMap<>(4);
+        int i = from;
+        while (i < to) {
+            char c = html.charAt(i);
+            if (Character.isWhitespace(c) || c == '/') {
+                i++;
+                continue;
+            }
+
+            int nameStart = i;
+            while (i < to) {
+                char ch = html.charAt(i);
+                if (Character.isWhitespace(ch) || ch == '=' || ch == '/' ) break;
+                i++;
+            }
+            String name = html.substring(nameStart, i).toLowerCase(Locale.ROOT);
+
+            while (i < to && Character.isWhitespace(html.charAt(i))) i++;
+            if (i >= to || html.charAt(i) != '=') { // 값 없는 속성
+                if (!name.isEmpty()) attrs.putIfAbsent(name, "");
+                continue;
+            }
+            i++; // '='
+            while (i < to && Character.isWhitespace(html.charAt(i))) i++;
+            if (i >= to) break;
+
+            String value;
+            char quote = html.charAt(i);
+            if (quote == '"' || quote == '\'') {
+                int close = html.indexOf(quote, i + 1);
+                if (close < 0 || close > to) close = to;
+                value = html.substring(i + 1, close);
+                i = close + 1;
+            } else {
+                int valueStart = i;
+                while (i < to && !Character.isWhitespace(html.charAt(i))) i++;
+                value = html.substring(valueStart, i);
+            }
+            if (!name.isEmpty()) attrs.putIfAbsent(name, value);
+        }
+        return attrs;
+    }
+
+    /** 따옴표 안의 '>'는 무시하고 태그의 끝 '>' 위치 반환 */
+    private static int findTagEnd(String html, int from) {
+        char quote = 0;
+        for (int i = from; i < html.length(); i++) {
+            char c = html.charAt(i);
+            if (quote != 0) {
+                if (c == quote) quote = 0;
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isTagNameChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == ':';
+    }
+
+    private static int indexOfIgnoreCase(String html, String needle, int from) {
+        int max = html.length() - needle.length();
+        for (int i = Math.max(0, from); i <= max; i++) {
+            if (html.regionMatches(true, i, needle, 0, needle.length())) return i;
+        }
+        return -1;
+    }
+
+    private static String normalizeWhitespace(String text) {
+        String normalized = text.replaceAll("\\s+", " ").trim();
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    private static String firstNonBlank(String a, String b) {
+        if (a != null && !a.isBlank()) return a;
+        if (b != null && !b.isBlank()) return b;
+        return null;
+    }
+
+    // --- Byte-level helpers
+
+    private static int indexOfHeadEnd(byte[] data, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (data[i] != '<') continue;
+            if (regionMatchesAscii(data, i, to, HEAD_CLOSE) || regionMatchesAscii(data, i, to, BODY_OPEN)) return i;
+        }
+        return -1;
+    }
+
+    private static boolean regionMatchesAscii(byte[] data, int offset, int limit, byte[] marker) {
+        if (offset + marker.length > limit) return false;
+        for (int j = 0; j < marker.length; j++) {
+            int b = data[offset + j];
+            if (b >= 'A' && b <= 'Z') b += 32; // toLowerCase (ASCII)
+            if (b != marker[j]) return false;
+        }
+        return true;
+    }
+
+    private static Charset resolveCharset(String charsetHint, byte[] data, int limit) {
+        Charset hinted = toCharset(charsetHint);
+        if (hinted != null) return hinted;
+
+        // <meta charset="..."> / <meta http-equiv content="...; charset=..."> 는 ASCII 범위이므로 ISO-8859-1로 훑어도 안전
+        String prefix = new String(data, 0, Math.min(limit, CHARSET_SNIFF_LIMIT), StandardCharsets.ISO_8859_1);
+        Matcher matcher = META_CHARSET.matcher(prefix);
+        if (matcher.find()) {
+            Charset sniffed = toCharset(matcher.group(1));
+            if (sniffed != null) return sniffed;
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private static Charset toCharset(String name) {
+        if (name == null || name.isBlank()) return null;
+        try {
+            return Charset.isSupported(name.trim()) ? Charset.forName(name.trim()) : null;
+        } catch (IllegalCharsetNameException e) {
+            return null;
+        }
+    }
+}
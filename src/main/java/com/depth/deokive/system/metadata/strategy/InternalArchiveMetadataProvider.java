@@ -39,6 +39,11 @@ public class InternalArchiveMetadataProvider implements MetadataProvider {
         this.pattern = Pattern.compile(patternString);
     }
 
+    @Override
+    public boolean isRemote() {
+        return false; // 내부 DB 조회 -> HostGuard 대상 아님
+    }
+
     @Override
     public boolean supports(String url) {
         if (url == null) return false;
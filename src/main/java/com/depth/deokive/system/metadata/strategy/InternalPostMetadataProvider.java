@@ -41,6 +41,11 @@ public class InternalPostMetadataProvider implements MetadataProvider {
         log.info("🔧 [Internal Post Provider] 정규식 패턴 초기화: {}", patternString);
     }
 
+    @Override
+    public boolean isRemote() {
+        return false; // 내부 DB 조회 -> HostGuard 대상 아님
+    }
+
     @Override
     public boolean supports(String url) {
         if (url == null) return false;
@@ -1,17 +1,22 @@
 package com.depth.deokive.system.metadata.strategy;
 
 import com.depth.deokive.domain.post.dto.MetadataProvider;
+import com.depth.deokive.domain.post.dto.OgMetadata;
+import com.depth.deokive.system.metadata.guard.HostGuard;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class MetadataProviderFactory {
 
     private final List<MetadataProvider> providers;
     private final GenericJsoupProvider genericProvider; // Fallback
+    private final HostGuard hostGuard;
 
     public MetadataProvider getProvider(String url) {
         // GenericJsoupProvider를 제외한 리스트 중에서 매칭되는 것 탐색
@@ -21,4 +26,19 @@ public class MetadataProviderFactory {
                 .findFirst()
                 .orElse(genericProvider); // 매칭되는게 없으면 Generic 반환
     }
-}
\ No newline at end of file
+
+    /**
+     * Provider 선택 + 추출
+     * - 외부 호스트 요청은 HostGuard(호스트별 동시성 제한 + Circuit Breaker)를 거침
+     * - OPEN 상태 호스트는 네트워크 요청 없이 HostGuardRejectedException으로 즉시 실패
+     */
+    public OgMetadata extract(String url) {
+        MetadataProvider provider = getProvider(url);
+        log.info("👉 Selected Strategy: {}", provider.getClass().getSimpleName());
+
+        if (!provider.isRemote()) {
+            return provider.extract(url);
+        }
+        return hostGuard.execute(HostGuard.hostOf(url), () -> provider.extract(url));
+    }
+}
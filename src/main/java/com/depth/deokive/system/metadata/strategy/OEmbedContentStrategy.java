@@ -1,8 +1,11 @@
 package com.depth.deokive.system.metadata.strategy;
 
 import com.depth.deokive.system.metadata.dto.OEmbedDto;
+import com.depth.deokive.system.metadata.dto.ShareTarget;
 
 public interface OEmbedContentStrategy {
     boolean supports(String url); // 해당 URL 패턴을 지원하는지 확인 (Regex 매칭)
-    OEmbedDto createOEmbed(String url); // 실제 데이터 조회 및 DTO 변환
-}
\ No newline at end of file
+    ShareTarget target(); // 캐시 키 / 무효화 단위
+    Long extractId(String url); // URL에서 대상 ID 추출 (DB 조회 없음 -> 캐시 조회 전에 호출)
+    OEmbedDto createOEmbed(Long id); // 실제 데이터 조회 및 DTO 변환
+}
@@ -6,6 +6,7 @@ import com.depth.deokive.domain.post.repository.PostRepository;
 import com.depth.deokive.system.exception.model.ErrorCode;
 import com.depth.deokive.system.exception.model.RestException;
 import com.depth.deokive.system.metadata.dto.OEmbedDto;
+import com.depth.deokive.system.metadata.dto.ShareTarget;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -32,9 +33,12 @@ public class PostOEmbedStrategy implements OEmbedContentStrategy {
     }
 
     @Override
-    public OEmbedDto createOEmbed(String url) {
-        Long id = extractId(url);
+    public ShareTarget target() {
+        return ShareTarget.POST;
+    }
 
+    @Override
+    public OEmbedDto createOEmbed(Long id) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new RestException(ErrorCode.POST_NOT_FOUND));
 
@@ -52,7 +56,8 @@ public class PostOEmbedStrategy implements OEmbedContentStrategy {
                 .build();
     }
 
-    private Long extractId(String url) {
+    @Override
+    public Long extractId(String url) {
         Matcher matcher = PATTERN.matcher(url);
         if (matcher.find()) {
             return Long.parseLong(matcher.group(2)); // (\d+) 부분 추출
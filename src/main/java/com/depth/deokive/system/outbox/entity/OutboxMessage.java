@@ -0,0 +1,46 @@
+package com.depth.deokive.system.outbox.entity;
+
+import com.depth.deokive.common.auditor.TimeBaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Transactional Outbox 메시지
+ * - 비즈니스 데이터와 같은 트랜잭션에서 INSERT
+ * - OutboxRelay가 배치로 읽어 RabbitMQ에 발행 (Publisher Confirm 후 삭제)
+ * - claimToken / leaseUntil: Relay가 발행 중인 배치 표시 (만료되면 다른 Relay가 다시 선점)
+ */
+@Entity
+@SuperBuilder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Table(name = "outbox_message", indexes = @Index(name = "idx_outbox_lease_until", columnList = "lease_until"))
+public class OutboxMessage extends TimeBaseEntity {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String exchange;
+
+    @Column(name = "routing_key", nullable = false, length = 100)
+    private String routingKey;
+
+    // Jackson2JsonMessageConverter의 __TypeId__ 헤더로 사용 (Consumer 역직렬화용)
+    @Column(name = "payload_type", nullable = false)
+    private String payloadType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload; // JSON
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+}
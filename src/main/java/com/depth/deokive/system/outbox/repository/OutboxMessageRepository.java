@@ -0,0 +1,35 @@
+package com.depth.deokive.system.outbox.repository;
+
+import com.depth.deokive.system.outbox.entity.OutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    // 여러 노드의 Relay가 동시에 돌아도 같은 행을 중복 발행하지 않도록 SKIP LOCKED 사용 (MySQL 8+)
+    // 다른 Relay가 발행 중(lease 유효)인 행은 제외
+    @Query(value = """
+            SELECT * FROM outbox_message
+            WHERE lease_until IS NULL OR lease_until < :now
+            ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxMessage> lockNextBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE outbox_message SET claim_token = :token, lease_until = :leaseUntil WHERE id IN (:ids)", nativeQuery = true)
+    int claim(@Param("ids") List<Long> ids, @Param("token") String token, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 선점이 만료되어 다른 Relay가 다시 가져간 행은 그쪽에서 삭제
+    @Modifying
+    @Query(value = "DELETE FROM outbox_message WHERE id IN (:ids) AND claim_token = :token", nativeQuery = true)
+    int deleteClaimed(@Param("ids") List<Long> ids, @Param("token") String token);
+
+    @Modifying
+    @Query(value = "UPDATE outbox_message SET claim_token = NULL, lease_until = NULL WHERE id IN (:ids) AND claim_token = :token", nativeQuery = true)
+    int release(@Param("ids") List<Long> ids, @Param("token") String token);
+}
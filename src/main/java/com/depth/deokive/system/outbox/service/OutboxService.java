@@ -0,0 +1,42 @@
+package com.depth.deokive.system.outbox.service;
+
+import com.depth.deokive.system.exception.model.ErrorCode;
+import com.depth.deokive.system.exception.model.RestException;
+import com.depth.deokive.system.outbox.entity.OutboxMessage;
+import com.depth.deokive.system.outbox.repository.OutboxMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Outbox 적재 서비스
+ * - 호출자의 트랜잭션에 참여해야만 의미가 있으므로 MANDATORY
+ * - 브로커 상태와 무관하게 INSERT 한 번으로 끝남 (요청 지연이 MQ에 묶이지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String exchange, String routingKey, Object payload) {
+        try {
+            outboxMessageRepository.save(OutboxMessage.builder()
+                    .exchange(exchange)
+                    .routingKey(routingKey)
+                    .payloadType(payload.getClass().getName())
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .build());
+        } catch (JsonProcessingException e) {
+            log.error("🔴 [Outbox] Failed to serialize payload: {}", payload.getClass().getSimpleName(), e);
+            throw new RestException(ErrorCode.GLOBAL_INTERNAL_SERVER_ERROR, e);
+        }
+    }
+}
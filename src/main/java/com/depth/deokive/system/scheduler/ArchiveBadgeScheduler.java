@@ -1,29 +1,44 @@
 package com.depth.deokive.system.scheduler;
 
 import com.depth.deokive.domain.archive.entity.enums.Badge;
-import com.depth.deokive.domain.archive.repository.ArchiveRepository;
-import com.depth.deokive.domain.archive.repository.ArchiveStatsRepository;
+import com.depth.deokive.system.config.datasource.BackgroundDatabase;
+import com.depth.deokive.system.scheduler.cluster.SchedulerCoordinator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Date;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ArchiveBadgeScheduler {
 
-    private final ArchiveRepository archiveRepository;
-    private final ArchiveStatsRepository archiveStatsRepository;
+    private final BackgroundDatabase backgroundDatabase;
+    private final SchedulerCoordinator schedulerCoordinator;
+
+    // 타겟보다 낮은 등급들만 골라서 업데이트 (일수만 비교)
+    // 뱃지는 상세 응답에 포함되므로 콘텐츠 버전도 증가 (캐시된 버전은 TTL 만료 후 반영)
+    private static final String ARCHIVE_BADGE_SQL = """
+            UPDATE archive SET badge = :targetBadge, content_version = content_version + 1
+            WHERE DATE(created_at) <= :cutOffDate AND badge IN (:lowerBadges)
+            """;
+    private static final String STATS_BADGE_SQL = """
+            UPDATE archive_stats SET badge = :targetBadge
+            WHERE DATE(created_at) <= :cutOffDate AND badge IN (:lowerBadges)
+            """;
 
     @Scheduled(cron = "${scheduler.badge-cron}")
-    @Transactional
+    public void scheduledArchiveBadges() {
+        schedulerCoordinator.runSingleton("archive-badge", this::updateArchiveBadges);
+    }
+
+    // 등급별로 archive + archive_stats를 한 트랜잭션에서 갱신 (백그라운드 풀)
     public void updateArchiveBadges() {
         log.info("[Scheduler] Starting Archive Badge Update...");
 
@@ -38,17 +53,25 @@ public class ArchiveBadgeScheduler {
 
             LocalDateTime cutOffDate = now.minusDays(requiredDays);
 
-            List<Badge> lowerBadges = Arrays.stream(badges)
+            List<String> lowerBadges = Arrays.stream(badges)
                     .filter(b -> b.ordinal() < targetBadge.ordinal())
-                    .collect(Collectors.toList());
+                    .map(Badge::name)
+                    .toList();
 
-            int count = archiveRepository.updateBadgesBulk(targetBadge, cutOffDate, lowerBadges);
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("targetBadge", targetBadge.name())
+                    .addValue("cutOffDate", Date.valueOf(cutOffDate.toLocalDate()))
+                    .addValue("lowerBadges", lowerBadges);
 
-            if (count > 0) {
-                int countStats = archiveStatsRepository.updateBadgesBulkInStats(targetBadge, cutOffDate, lowerBadges);
+            int[] counts = backgroundDatabase.inTransaction(status -> {
+                int count = backgroundDatabase.getNamedParameterJdbcTemplate().update(ARCHIVE_BADGE_SQL, params);
+                if (count == 0) return new int[]{0, 0};
+                return new int[]{count, backgroundDatabase.getNamedParameterJdbcTemplate().update(STATS_BADGE_SQL, params)};
+            });
 
-                log.info("   👉 Promoted to {}: {} archives", targetBadge, count);
-                totalUpdated += countStats;
+            if (counts[0] > 0) {
+                log.info("   👉 Promoted to {}: {} archives", targetBadge, counts[0]);
+                totalUpdated += counts[1];
             }
         }
 
@@ -0,0 +1,75 @@
+package com.depth.deokive.system.scheduler;
+
+import com.depth.deokive.domain.archive.service.ArchivePurgeService;
+import com.depth.deokive.system.config.archive.ArchivePurgeBatchConfig;
+import com.depth.deokive.system.scheduler.cluster.SchedulerCoordinator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 삭제(Tombstone)된 아카이브 정리 Job 실행
+ * - 오래된 순으로 batch-size개씩 archivePurgeJob 실행 (archiveId 당 JobInstance 1개)
+ * - 이전 실행이 실패한 아카이브는 같은 파라미터로 재실행 -> 실패한 Step부터 재개
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArchivePurgeScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job archivePurgeJob;
+    private final ArchivePurgeService archivePurgeService;
+    private final SchedulerCoordinator schedulerCoordinator;
+
+    @Value("${scheduler.archive-purge.batch-size:20}")
+    private int batchSize;
+
+    @Scheduled(cron = "${scheduler.archive-purge-cron}")
+    public void scheduledPurge() {
+        schedulerCoordinator.runSingleton("archive-purge", this::purgeDeletedArchives);
+    }
+
+    public void purgeDeletedArchives() {
+        List<Long> archiveIds = archivePurgeService.findTombstonedIds(batchSize);
+        if (archiveIds.isEmpty()) return;
+
+        log.info("🕒 [Scheduler] Archive Purge Start: targets={}", archiveIds.size());
+        int completed = 0;
+        for (Long archiveId : archiveIds) {
+            if (purge(archiveId)) completed++;
+        }
+        log.info("🟢 [Scheduler] Archive Purge Finished: completed={}/{}", completed, archiveIds.size());
+    }
+
+    /**
+     * 아카이브 1개 정리 (동기 실행)
+     * @return 정리 완료 여부
+     */
+    public boolean purge(Long archiveId) {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong(ArchivePurgeBatchConfig.ARCHIVE_ID, archiveId)
+                .toJobParameters();
+        try {
+            JobExecution execution = jobLauncher.run(archivePurgeJob, jobParameters);
+            return execution.getStatus() == BatchStatus.COMPLETED;
+        } catch (JobExecutionAlreadyRunningException e) {
+            log.info("[Scheduler] Archive Purge already running elsewhere: archiveId={}", archiveId);
+            return false;
+        } catch (Exception e) {
+            log.error("🔴 [Scheduler] Archive Purge failed: archiveId={}", archiveId, e);
+            return false;
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package com.depth.deokive.system.scheduler;
 
+import com.depth.deokive.system.config.datasource.BackgroundDatabase;
+import com.depth.deokive.system.scheduler.cluster.SchedulerCoordinator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -14,10 +15,15 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class FileCleanupScheduler {
 
-    private final JobLauncher jobLauncher;
+    private final BackgroundDatabase backgroundDatabase; // Job과 같은 JobRepository의 JobLauncher
     private final Job fileCleanupJob;
+    private final SchedulerCoordinator schedulerCoordinator;
 
     @Scheduled(cron = "${scheduler.file-cleanup-cron}")
+    public void scheduledCleanupJob() {
+        schedulerCoordinator.runSingleton("file-cleanup", this::runCleanupJob);
+    }
+
     public void runCleanupJob() {
         try {
             log.info("🕒 [Scheduler] Starting Orphaned File Cleanup Job...");
@@ -27,7 +33,7 @@ public class FileCleanupScheduler {
                     .addLong("time", System.currentTimeMillis())
                     .toJobParameters();
 
-            jobLauncher.run(fileCleanupJob, jobParameters);
+            backgroundDatabase.getJobLauncher().run(fileCleanupJob, jobParameters);
 
         } catch (Exception e) {
             log.error("🔴 [Scheduler] Failed to run file cleanup job", e);
@@ -1,69 +1,167 @@
 package com.depth.deokive.system.scheduler;
 
-import com.depth.deokive.common.enums.Visibility;
-import com.depth.deokive.domain.archive.repository.ArchiveQueryRepository;
-import com.depth.deokive.domain.post.repository.PostQueryRepository;
-import com.depth.deokive.system.config.aop.ExecutionTime;
+import com.depth.deokive.system.warmup.CacheWarmer;
+import com.depth.deokive.system.warmup.WarmupProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.event.EventListener;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * 애플리케이션 캐시 웜업 (노드 로컬 캐시를 채우므로 리더 선출 없이 모든 노드에서 실행)
+ *
+ * [흐름]
+ * 1. 등록된 CacheWarmer를 @Order 순서대로 실행
+ * 2. 웜러의 작업들을 가상 스레드로 동시 실행 (동시 실행 수 = warmup.concurrency, permit 대기 포함 시간 예산 = warmup.budget)
+ * 3. 예산 안에 끝난 작업 비율을 커버리지로 보고 (warmup.coverage, warmup.duration)
+ *
+ * [Readiness]
+ * - warmup.readiness-gate=true: 기동 웜업을 ApplicationReadyEvent 리스너 안에서 동기 실행
+ *   -> Boot는 리스너가 끝난 뒤 ACCEPTING_TRAFFIC을 발행하므로, 웜업 완료(또는 예산 소진) 전에는 트래픽을 받지 않음
+ * - false: 기동 웜업도 백그라운드에서 실행 (Readiness 지연 없음)
+ *
+ * [주기 실행]
+ * - 스케줄러 스레드를 예산만큼 붙잡지 않도록 실행만 넘기고 반환, 이전 회차가 진행 중이면 건너뜀
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@EnableConfigurationProperties(WarmupProperties.class)
 public class GlobalWarmupScheduler {
 
-    private final PostQueryRepository postQueryRepository;
-    private final ArchiveQueryRepository archiveQueryRepository;
+    private final List<CacheWarmer> warmers;
+    private final WarmupProperties properties;
+    private final MeterRegistry meterRegistry;
 
-    private static final int WARMUP_PAGE_SIZE = 10;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Map<String, Double> coverages = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        for (CacheWarmer warmer : warmers) {
+            Gauge.builder("warmup.coverage", coverages, map -> map.getOrDefault(warmer.name(), 0.0))
+                    .tag("warmer", warmer.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (executor != null) executor.shutdownNow();
+    }
 
-    @ExecutionTime
     @EventListener(ApplicationReadyEvent.class) // 서버 배포 직후 최초 1회 실행 (첫 사용자 렉 방지)
-    @Scheduled(fixedRate = 600000) // 10분
-    @Transactional(readOnly = true)
-    public void warmupMainContents() {
-        log.info("🔥 [Warm-up] Start: Main Feed & Hot Contents");
+    public void warmupOnStartup() {
+        if (!properties.isEnabled()) return;
+
+        if (properties.isReadinessGate()) {
+            warmupAll();
+        } else {
+            executor.submit(this::warmupAll);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${warmup.interval-ms:20000}", initialDelayString = "${warmup.interval-ms:20000}")
+    public void scheduledWarmup() {
+        if (!properties.isEnabled()) return;
+        executor.submit(this::warmupAll);
+    }
+
+    public void warmupAll() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("[Warm-up] Skipped: previous run still in progress");
+            return;
+        }
 
         try {
-            // 1. Post 도메인 웜업
-            // 1-1. 전체 게시글 최신순 (메인 피드 기본)
-            postQueryRepository.searchPostFeed(
-                    null, // category = ALL
-                    PageRequest.of(0, WARMUP_PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"))
-            );
-
-            // 1-2. Hot Post (인기 게시글) -> 메인 노출용
-            postQueryRepository.searchPostFeed(
-                    null,
-                    PageRequest.of(0, WARMUP_PAGE_SIZE, Sort.by(Sort.Direction.DESC, "hotScore"))
-            );
-
-
-            // 2. Archive 도메인 웜업
-            // 2-1. 최신 아카이브 피드 (LATEST) -> PUBLIC만 조회
-            archiveQueryRepository.searchArchiveFeed(
-                    null, // filterUserId = null (전체)
-                    List.of(Visibility.PUBLIC),
-                    PageRequest.of(0, WARMUP_PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"))
-            );
-
-            // 2-2. 핫 아카이브 피드 (HOT) -> PUBLIC만 조회
-            archiveQueryRepository.searchArchiveFeed(
-                    null,
-                    List.of(Visibility.PUBLIC),
-                    PageRequest.of(0, WARMUP_PAGE_SIZE, Sort.by(Sort.Direction.DESC, "hotScore"))
-            );
+            for (CacheWarmer warmer : warmers) {
+                run(warmer);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void run(CacheWarmer warmer) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + properties.getBudget().toNanos();
+
+        // SEQ 1. 작업 목록 (대상 조회 실패 시 이번 회차는 커버리지 0)
+        List<Runnable> tasks;
+        try {
+            tasks = warmer.tasks();
         } catch (Exception e) {
-            log.warn("⚠️ [Warm-up] Failed: {}", e.getMessage()); // 웜업 실패가 서비스 전체 장애로 이어지면 안 되므로 로그만 남김
+            log.warn("⚠️ [Warm-up] {} failed to plan: {}", warmer.name(), e.getMessage()); // 웜업 실패가 서비스 장애로 이어지면 안 되므로 로그만 남김
+            coverages.put(warmer.name(), 0.0);
+            return;
+        }
+
+        // SEQ 2. 동시 실행 (permit을 예산 안에 못 받으면 실행하지 않음)
+        Semaphore permits = new Semaphore(properties.getConcurrency());
+        List<Future<?>> futures = tasks.stream()
+                .<Future<?>>map(task -> executor.submit(() -> {
+                    if (!permits.tryAcquire(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS)) {
+                        throw new TimeoutException("Warm-up budget exhausted");
+                    }
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                    }
+                    return null;
+                }))
+                .toList();
+
+        // SEQ 3. 예산 안에 끝난 작업 집계
+        int warmed = 0;
+        int failed = 0;
+        for (Future<?> future : futures) {
+            try {
+                future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                warmed++;
+            } catch (TimeoutException e) {
+                future.cancel(true);
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof TimeoutException)) failed++;
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // SEQ 4. 보고
+        long elapsed = System.nanoTime() - startedAt;
+        double coverage = tasks.isEmpty() ? 1.0 : (double) warmed / tasks.size();
+        coverages.put(warmer.name(), coverage);
+        meterRegistry.timer("warmup.duration", "warmer", warmer.name()).record(elapsed, TimeUnit.NANOSECONDS);
+
+        if (warmed < tasks.size()) {
+            log.warn("⚠️ [Warm-up] {}: {}/{} warmed ({} failed) in {}ms",
+                    warmer.name(), warmed, tasks.size(), failed, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        } else {
+            log.info("🔥 [Warm-up] {}: {}/{} warmed in {}ms",
+                    warmer.name(), warmed, tasks.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
         }
     }
-}
\ No newline at end of file
+}
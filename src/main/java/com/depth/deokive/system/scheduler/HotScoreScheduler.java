@@ -1,53 +1,100 @@
 package com.depth.deokive.system.scheduler;
 
-import com.depth.deokive.domain.archive.repository.ArchiveRepository;
-import com.depth.deokive.domain.post.repository.PostRepository;
 import com.depth.deokive.system.config.aop.ExecutionTime;
+import com.depth.deokive.system.config.datasource.BackgroundDatabase;
+import com.depth.deokive.system.scheduler.cluster.SchedulerCoordinator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
+/**
+ * 핫스코어 갱신 (백그라운드 풀)
+ * - 최근 7일 전체 UPDATE를 PK 구간(ID_RANGE) 단위 트랜잭션으로 분할 -> 행 락 점유를 짧게, 구간 사이마다 스로틀 적용
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class HotScoreScheduler {
 
-    private final PostRepository postRepository;
-    private final ArchiveRepository archiveRepository;
+    private final BackgroundDatabase backgroundDatabase;
+    private final SchedulerCoordinator schedulerCoordinator;
 
     private static final double W1_LIKE = 20.0;    // 좋아요 가중치 (신뢰도 표현 장치)
     private static final double W2_VIEW = 3.0;     // 조회수 가중치 (로그스케일 보정)
     private static final double LAMBDA = 0.004;    // 시간 감쇠 계수 (반감기 약 7일)
 
+    private static final long ID_RANGE = 1000;
+
+    // 점수식: TIMESTAMPDIFF(MINUTE, ...) / 60.0 (정밀도 향상)
+    private static final String SCORE_EXPR = """
+            ( ? * LN(1 + like_count) + ? * LN(1 + view_count) )
+            * EXP(-? * (TIMESTAMPDIFF(MINUTE, created_at, NOW()) / 60.0))
+            """;
+
+    // 1. 일반 핫스코어 (최근 7일 이내)
+    private static final String RECENT = "created_at > DATE_SUB(NOW(), INTERVAL 7 DAY)";
+    // 2. 게이트키퍼 패널티 (7일 ~ 7일+1시간, 0.5배 적용 후 박제)
+    private static final String GATE = "created_at BETWEEN DATE_SUB(NOW(), INTERVAL 169 HOUR) AND DATE_SUB(NOW(), INTERVAL 168 HOUR)";
+
+    private record Target(String table, String idColumn, String filter) {}
+
+    private static final Target POST = new Target("post_stats", "post_id", "");
+    private static final Target ARCHIVE = new Target("archive_stats", "archive_id", "visibility = 'PUBLIC' AND ");
+
     @Scheduled(cron = "${scheduler.post-hot-score-cron}")
+    public void scheduledPostHotScores() {
+        schedulerCoordinator.runSingleton("post-hot-score", this::updatePostHotScores);
+    }
+
     @ExecutionTime
-    @Transactional
     public void updatePostHotScores() {
         log.info("🔥 [Scheduler] Starting Post Hot Score Update...");
 
-        // 1. 최근 7일 게시글 일반 점수 업데이트
-        int standardRows = postRepository.updateHotScoreStandard(W1_LIKE, W2_VIEW, LAMBDA);
-
-        // 2. 7일이 갓 지난(168h ~ 169h) 게시글 패널티(0.5배) 적용 및 박제
-        int penalizedRows = postRepository.applyHotScorePenalty(W1_LIKE, W2_VIEW, LAMBDA);
+        int standardRows = updateStandard(POST);
+        int penalizedRows = applyPenalty(POST);
 
         log.info("✅ [Scheduler] Post Hot Score Update Completed. (Standard: {}, Penalized: {})", standardRows, penalizedRows);
     }
 
-    @ExecutionTime
     @Scheduled(cron = "${scheduler.archive-hot-score-cron}")
-    @Transactional
+    public void scheduledArchiveHotScores() {
+        schedulerCoordinator.runSingleton("archive-hot-score", this::updateArchiveHotScores);
+    }
+
+    @ExecutionTime
     public void updateArchiveHotScores() {
         log.info("🔥 [Scheduler] Starting Archive Hot Score Update...");
 
-        // 1. 최근 7일 아카이브 일반 점수 업데이트
-        int standardRows = archiveRepository.updateHotScoreStandard(W1_LIKE, W2_VIEW, LAMBDA);
-
-        // 2. 7일이 갓 지난 아카이브 패널티 적용
-        int penalizedRows = archiveRepository.applyHotScorePenalty(W1_LIKE, W2_VIEW, LAMBDA);
+        int standardRows = updateStandard(ARCHIVE);
+        int penalizedRows = applyPenalty(ARCHIVE);
 
         log.info("✅ [Scheduler] Archive Hot Score Update Completed. (Standard: {}, Penalized: {})", standardRows, penalizedRows);
     }
-}
\ No newline at end of file
+
+    private int updateStandard(Target target) {
+        Map<String, Object> range = backgroundDatabase.getJdbcTemplate().queryForMap(
+                "SELECT MIN(" + target.idColumn() + ") AS min_id, MAX(" + target.idColumn() + ") AS max_id FROM "
+                        + target.table() + " WHERE " + target.filter() + RECENT);
+        if (range.get("min_id") == null) return 0;
+
+        long minId = ((Number) range.get("min_id")).longValue();
+        long maxId = ((Number) range.get("max_id")).longValue();
+        String sql = "UPDATE " + target.table() + " SET hot_score = (" + SCORE_EXPR + ") WHERE " + target.filter() + RECENT
+                + " AND " + target.idColumn() + " BETWEEN ? AND ?";
+
+        int updated = 0;
+        for (long from = minId; from <= maxId; from += ID_RANGE) {
+            updated += backgroundDatabase.update(sql, W1_LIKE, W2_VIEW, LAMBDA, from, from + ID_RANGE - 1);
+        }
+        return updated;
+    }
+
+    private int applyPenalty(Target target) {
+        return backgroundDatabase.update(
+                "UPDATE " + target.table() + " SET hot_score = (" + SCORE_EXPR + ") * 0.5 WHERE " + target.filter() + GATE,
+                W1_LIKE, W2_VIEW, LAMBDA);
+    }
+}
@@ -1,7 +1,7 @@
 package com.depth.deokive.system.scheduler;
 
-import com.depth.deokive.domain.archive.repository.ArchiveStatsRepository;
-import com.depth.deokive.domain.post.repository.PostStatsRepository;
+import com.depth.deokive.system.config.datasource.BackgroundDatabase;
+import com.depth.deokive.system.scheduler.cluster.SchedulerCoordinator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.Cursor;
@@ -9,9 +9,9 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.function.BiConsumer;
+import java.util.ArrayList;
+import java.util.List;
 
 @Slf4j
 @Component
@@ -19,15 +19,20 @@ import java.util.function.BiConsumer;
 public class LikeCountScheduler {
 
     private final RedisTemplate<String, Object> redisTemplate;
-    private final PostStatsRepository postStatsRepository;
-    private final ArchiveStatsRepository archiveStatsRepository;
+    private final BackgroundDatabase backgroundDatabase;
+    private final SchedulerCoordinator schedulerCoordinator;
+
+    private static final int WRITE_CHUNK_SIZE = 200; // 트랜잭션 1개당 UPDATE 수
+
+    private static final String POST_LIKE_SQL = "UPDATE post_stats SET like_count = ? WHERE post_id = ?";
+    private static final String ARCHIVE_LIKE_SQL = "UPDATE archive_stats SET like_count = ? WHERE archive_id = ?";
 
     // 매분 10초에 실행 (0분 10초, 1분 10초...)
     @Scheduled(cron = "${scheduler.post-like-cron}")
     public void syncPostLikes() {
         log.info("🔥 [Scheduler] Starting Post Like Count Sync (Redis -> DB)...");
         try {
-            syncLikeCounts("like:post:count:*", postStatsRepository::updateLikeCount);
+            syncLikeCounts("post", POST_LIKE_SQL);
             log.info("✅ [Scheduler] Post Like Count Sync Finished.");
         } catch (Exception e) {
             log.error("🔴 [Scheduler] Post Sync Failed", e);
@@ -39,41 +44,71 @@ public class LikeCountScheduler {
     public void syncArchiveLikes() {
         log.info("🔥 [Scheduler] Starting Archive Like Count Sync (Redis -> DB)...");
         try {
-            syncLikeCounts("like:archive:count:*", archiveStatsRepository::updateLikeCount);
+            syncLikeCounts("archive", ARCHIVE_LIKE_SQL);
             log.info("✅ [Scheduler] Archive Like Count Sync Finished.");
         } catch (Exception e) {
             log.error("🔴 [Scheduler] Archive Sync Failed", e);
         }
     }
 
-    private void syncLikeCounts(String pattern, BiConsumer<Long, Long> updater) {
-        // like:{domain}:count:* 패턴만 스캔
-        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(100).build();
+    private void syncLikeCounts(String prefix, String updateSql) {
+        // like:{domain}:count:* 패턴만 스캔, 이 노드가 소유한 샤드의 ID만 수집
+        ScanOptions options = ScanOptions.scanOptions().match("like:" + prefix + ":count:*").count(100).build();
+        List<Long> ids = new ArrayList<>();
 
         try (Cursor<String> cursor = redisTemplate.scan(options)) {
             while (cursor.hasNext()) {
                 String key = cursor.next();
                 try {
                     // Key Format: like:{domain}:count:{targetId} -> 마지막 ":" 뒤에 있는 것이 targetId 이다.
-                    String idStr = key.substring(key.lastIndexOf(":") + 1);
-                    Long id = Long.parseLong(idStr);
-
-                    // PostLikeRedisService에서 opsForValue().increment()로 저장했으므로 읽을 때도 opsForValue().get()을 사용
-                    Object countObj = redisTemplate.opsForValue().get(key);
-
-                    if (countObj != null) {
-                        Long count = Long.parseLong(countObj.toString());
-                        updater.accept(id, count);
-                    }
+                    long id = Long.parseLong(key.substring(key.lastIndexOf(":") + 1));
+                    if (schedulerCoordinator.ownsId(id)) ids.add(id);
                 } catch (NumberFormatException e) {
-                    log.error("❌ [Scheduler] Error parsing targetId/count from key: {}", key, e);
-                } catch (Exception e) {
-                    log.error("❌ [Scheduler] Error syncing key: {}", key, e);
+                    log.error("❌ [Scheduler] Error parsing targetId from key: {}", key, e);
                 }
             }
         } catch (Exception e) {
             log.error("❌ [Scheduler] Redis Scan Failed", e);
             throw new RuntimeException(e);
         }
+
+        // 샤드 락을 잡은 뒤 현재 값을 읽어 반영
+        schedulerCoordinator.runSharded(prefix + "-like", ids, Long::longValue, shardIds -> {
+            List<long[]> rows = readCounts(prefix, shardIds);
+            for (int from = 0; from < rows.size(); from += WRITE_CHUNK_SIZE) {
+                flush(updateSql, rows.subList(from, Math.min(from + WRITE_CHUNK_SIZE, rows.size())));
+            }
+        });
+    }
+
+    // PostLikeRedisService에서 opsForValue().increment()로 저장했으므로 읽을 때도 opsForValue()를 사용
+    private List<long[]> readCounts(String prefix, List<Long> ids) {
+        List<Object> values = redisTemplate.opsForValue().multiGet(
+                ids.stream().map(id -> "like:" + prefix + ":count:" + id).toList());
+
+        List<long[]> rows = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Object countObj = values != null ? values.get(i) : null;
+            if (countObj == null) continue;
+            try {
+                rows.add(new long[]{ids.get(i), Long.parseLong(countObj.toString())});
+            } catch (NumberFormatException e) {
+                log.error("❌ [Scheduler] Error parsing count: targetId={}, value={}", ids.get(i), countObj, e);
+            }
+        }
+        return rows;
+    }
+
+    // 백그라운드 풀에서 청크 단위 트랜잭션으로 반영 (실패한 청크는 Redis 값이 그대로 남아 다음 주기에 재반영)
+    private void flush(String updateSql, List<long[]> chunk) {
+        try {
+            backgroundDatabase.inTransaction(status ->
+                    backgroundDatabase.getJdbcTemplate().batchUpdate(updateSql, chunk, chunk.size(), (ps, row) -> {
+                        ps.setLong(1, row[1]);
+                        ps.setLong(2, row[0]);
+                    }));
+        } catch (Exception e) {
+            log.error("❌ [Scheduler] Error syncing like counts: chunk of {} items from ID {}", chunk.size(), chunk.get(0)[0], e);
+        }
     }
-}
\ No newline at end of file
+}
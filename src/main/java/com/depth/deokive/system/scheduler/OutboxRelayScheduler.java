@@ -0,0 +1,294 @@
+package com.depth.deokive.system.scheduler;
+
+import com.depth.deokive.common.dto.LikeMessageDto;
+import com.depth.deokive.common.enums.ViewLikeDomain;
+import com.depth.deokive.common.service.LikeRedisService;
+import com.depth.deokive.system.outbox.entity.OutboxMessage;
+import com.depth.deokive.system.outbox.repository.OutboxMessageRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outbox Relay
+ * - outbox_message 테이블 (Repost OG 추출 요청)과 Redis Stream outbox:like (좋아요)를 배치로 드레인
+ * - 배치 단위로 RabbitMQ에 발행 후 Publisher Confirm을 기다리고, 확인된 경우에만 Outbox에서 제거
+ * - Confirm 대기는 DB 트랜잭션 밖에서 수행 (테이블은 선점 lease로 중복 발행 방지)
+ * - 실패 시 Outbox에 그대로 남아 다음 주기에 재발행 (At-Least-Once, Consumer는 멱등 처리)
+ *
+ * [Metrics]
+ * - outbox.relay.batch.size: 한 번에 발행한 메시지 수
+ * - outbox.relay.lag.seconds: 이번 주기에 발행한 가장 오래된 메시지의 대기 시간
+ * - outbox.relay.failures: 발행/확인 실패 횟수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayScheduler {
+
+    private static final String SOURCE_TABLE = "table";
+    private static final String SOURCE_LIKE_STREAM = "like-stream";
+    private static final String LIKE_CONSUMER_GROUP = "outbox-relay";
+    private static final String TYPE_ID_HEADER = "__TypeId__";
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RabbitTemplate rabbitTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${outbox.relay.batch-size:200}")
+    private int batchSize;
+
+    @Value("${outbox.relay.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    @Value("${outbox.relay.claim-min-idle-ms:30000}")
+    private long claimMinIdleMs;
+
+    @Value("${outbox.relay.lease-ms:30000}")
+    private long leaseMs;
+
+    // 노드별 고유 Consumer 이름 (노드가 죽으면 다른 노드가 Pending 메시지를 claim)
+    private final String consumerName = "relay-" + UUID.randomUUID();
+
+    private volatile boolean likeGroupReady = false;
+
+    private final AtomicLong tableLagSeconds = new AtomicLong(0);
+    private final AtomicLong likeStreamLagSeconds = new AtomicLong(0);
+
+    private DistributionSummary tableBatchSize;
+    private DistributionSummary likeStreamBatchSize;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("outbox.relay.lag.seconds", tableLagSeconds, AtomicLong::get)
+                .tag("source", SOURCE_TABLE).register(meterRegistry);
+        Gauge.builder("outbox.relay.lag.seconds", likeStreamLagSeconds, AtomicLong::get)
+                .tag("source", SOURCE_LIKE_STREAM).register(meterRegistry);
+
+        tableBatchSize = DistributionSummary.builder("outbox.relay.batch.size")
+                .tag("source", SOURCE_TABLE).register(meterRegistry);
+        likeStreamBatchSize = DistributionSummary.builder("outbox.relay.batch.size")
+                .tag("source", SOURCE_LIKE_STREAM).register(meterRegistry);
+    }
+
+    /**
+     * outbox_message 테이블 드레인 (트랜잭션은 선점/삭제에만 짧게 사용)
+     * 1. 선점: SELECT ... FOR UPDATE SKIP LOCKED -> claim_token + lease_until 기록 후 커밋
+     * 2. 발행 + Confirm 대기: 트랜잭션 밖 (Confirm 대기 동안 Row Lock/커넥션을 잡지 않음)
+     * 3. 삭제: 자신의 claim_token인 행만 DELETE
+     * - 발행 실패 시 선점 해제 -> 다음 주기에 재발행 (해제도 실패하면 lease 만료 후 재선점)
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.fixed-delay-ms:200}")
+    public void relayOutboxTable() {
+        try {
+            int published;
+            do {
+                published = relayOutboxTableBatch();
+            } while (published >= batchSize); // 밀린 경우 다음 주기까지 기다리지 않고 연속 드레인
+        } catch (Exception e) {
+            meterRegistry.counter("outbox.relay.failures", "source", SOURCE_TABLE).increment();
+            log.error("🔴 [Outbox Relay] Table relay failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private int relayOutboxTableBatch() {
+        // SEQ 1. 선점
+        String token = UUID.randomUUID().toString();
+        List<OutboxMessage> batch = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxMessage> locked = outboxMessageRepository.lockNextBatch(now, batchSize);
+            if (!locked.isEmpty()) {
+                outboxMessageRepository.claim(ids(locked), token, now.plus(Duration.ofMillis(leaseMs)));
+            }
+            return locked;
+        });
+        if (batch == null || batch.isEmpty()) {
+            tableLagSeconds.set(0);
+            return 0;
+        }
+
+        // SEQ 2. 발행 + Confirm
+        try {
+            rabbitTemplate.invoke(ops -> {
+                for (OutboxMessage outbox : batch) {
+                    ops.send(outbox.getExchange(), outbox.getRoutingKey(), toAmqpMessage(outbox));
+                }
+                ops.waitForConfirmsOrDie(confirmTimeoutMs);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            releaseClaim(ids(batch), token);
+            throw e;
+        }
+
+        // SEQ 3. 삭제
+        transactionTemplate.executeWithoutResult(status -> outboxMessageRepository.deleteClaimed(ids(batch), token));
+
+        LocalDateTime oldest = batch.get(0).getCreatedAt();
+        tableLagSeconds.set(oldest != null ? Duration.between(oldest, LocalDateTime.now()).toSeconds() : 0);
+        tableBatchSize.record(batch.size());
+        return batch.size();
+    }
+
+    private void releaseClaim(List<Long> ids, String token) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxMessageRepository.release(ids, token));
+        } catch (Exception e) {
+            log.warn("⚠️ [Outbox Relay] Claim release failed (retried after lease): {}", e.getMessage());
+        }
+    }
+
+    private static List<Long> ids(List<OutboxMessage> batch) {
+        return batch.stream().map(OutboxMessage::getId).toList();
+    }
+
+    /**
+     * Redis Stream(outbox:like) 드레인
+     * - Consumer Group으로 읽어 노드 간 중복 발행 방지
+     * - 발행 + Confirm 성공 시에만 XACK + XDEL, 실패 시 Pending으로 남아 claim 후 재발행
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.fixed-delay-ms:200}")
+    public void relayLikeStream() {
+        try {
+            ensureLikeConsumerGroup();
+
+            // 1. 죽은 노드(또는 이전 실패)의 오래된 Pending 메시지 회수
+            List<MapRecord<String, Object, Object>> records = new ArrayList<>(claimIdlePendingLikes());
+
+            // 2. 신규 메시지
+            if (records.size() < batchSize) {
+                List<MapRecord<String, Object, Object>> fresh = stringRedisTemplate.opsForStream().read(
+                        Consumer.from(LIKE_CONSUMER_GROUP, consumerName),
+                        StreamReadOptions.empty().count(batchSize - records.size()),
+                        StreamOffset.create(LikeRedisService.LIKE_OUTBOX_STREAM, ReadOffset.lastConsumed())
+                );
+                if (fresh != null) records.addAll(fresh);
+            }
+
+            if (records.isEmpty()) {
+                likeStreamLagSeconds.set(0);
+                return;
+            }
+
+            rabbitTemplate.invoke(ops -> {
+                for (MapRecord<String, Object, Object> record : records) {
+                    Map<Object, Object> value = record.getValue();
+                    ViewLikeDomain domain = ViewLikeDomain.valueOf(value.get("domain").toString());
+                    LikeMessageDto message = new LikeMessageDto(
+                            Long.parseLong(value.get("id").toString()),
+                            Long.parseLong(value.get("userId").toString()),
+                            "1".equals(value.get("liked").toString())
+                    );
+                    ops.convertAndSend(domain.getExchangeName(), domain.getRoutingKey(), message);
+                }
+                ops.waitForConfirmsOrDie(confirmTimeoutMs);
+                return null;
+            });
+
+            RecordId[] ids = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+            stringRedisTemplate.opsForStream().acknowledge(LikeRedisService.LIKE_OUTBOX_STREAM, LIKE_CONSUMER_GROUP, ids);
+            stringRedisTemplate.opsForStream().delete(LikeRedisService.LIKE_OUTBOX_STREAM, ids);
+
+            // Stream ID의 앞부분은 XADD 시각(ms)
+            long oldestMs = records.stream().mapToLong(r -> r.getId().getTimestamp()).min().orElse(System.currentTimeMillis());
+            likeStreamLagSeconds.set(Math.max(0, (System.currentTimeMillis() - oldestMs) / 1000));
+            likeStreamBatchSize.record(records.size());
+
+        } catch (Exception e) {
+            // Stream 키가 지워지면(FLUSHALL 등) Group도 사라지므로 다음 주기에 재생성
+            if (hasRedisError(e, "NOGROUP")) likeGroupReady = false;
+            meterRegistry.counter("outbox.relay.failures", "source", SOURCE_LIKE_STREAM).increment();
+            log.error("🔴 [Outbox Relay] Like stream relay failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private List<MapRecord<String, Object, Object>> claimIdlePendingLikes() {
+        PendingMessages pending = stringRedisTemplate.opsForStream()
+                .pending(LikeRedisService.LIKE_OUTBOX_STREAM, LIKE_CONSUMER_GROUP, Range.unbounded(), batchSize);
+        if (pending == null || pending.isEmpty()) return List.of();
+
+        Duration minIdle = Duration.ofMillis(claimMinIdleMs);
+        RecordId[] idleIds = pending.stream()
+                .filter(p -> p.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (idleIds.length == 0) return List.of();
+
+        List<MapRecord<String, Object, Object>> claimed = stringRedisTemplate.opsForStream().claim(
+                LikeRedisService.LIKE_OUTBOX_STREAM, LIKE_CONSUMER_GROUP, consumerName,
+                XClaimOptions.minIdle(minIdle).ids(idleIds)
+        );
+        log.warn("🟡 [Outbox Relay] Claimed {} idle pending like messages", claimed.size());
+        return claimed;
+    }
+
+    private void ensureLikeConsumerGroup() {
+        if (likeGroupReady) return;
+        try {
+            byte[] key = LikeRedisService.LIKE_OUTBOX_STREAM.getBytes(StandardCharsets.UTF_8);
+            stringRedisTemplate.execute((RedisCallback<String>) (RedisConnection connection) ->
+                    connection.streamCommands().xGroupCreate(key, LIKE_CONSUMER_GROUP, ReadOffset.from("0"), true));
+        } catch (RuntimeException e) {
+            // BUSYGROUP: 이미 다른 노드(또는 이전 기동)가 생성함
+            if (!hasRedisError(e, "BUSYGROUP")) throw e;
+        }
+        likeGroupReady = true;
+    }
+
+    private boolean hasRedisError(Throwable e, String errorCode) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().contains(errorCode)) return true;
+        }
+        return false;
+    }
+
+    private Message toAmqpMessage(OutboxMessage outbox) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        properties.setHeader(TYPE_ID_HEADER, outbox.getPayloadType());
+        properties.setMessageId(String.valueOf(outbox.getId()));
+        if (outbox.getCreatedAt() != null) {
+            properties.setTimestamp(Date.from(outbox.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant()));
+        }
+        return new Message(outbox.getPayload().getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
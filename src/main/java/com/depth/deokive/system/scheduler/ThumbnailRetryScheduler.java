@@ -0,0 +1,41 @@
+package com.depth.deokive.system.scheduler;
+
+import com.depth.deokive.domain.file.service.ThumbnailService;
+import com.depth.deokive.system.scheduler.cluster.SchedulerCoordinator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실패(FAILED)한 이미지 썸네일 재요청
+ * - Consumer는 실패를 재큐잉하지 않으므로 (조회는 원본으로 Fallback) 주기적으로 다시 생성 요청
+ * - max-attempts번 실패한 파일은 FAILED로 남김 (계속 원본 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThumbnailRetryScheduler {
+
+    private final ThumbnailService thumbnailService;
+    private final SchedulerCoordinator schedulerCoordinator;
+
+    @Value("${scheduler.thumbnail-retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${scheduler.thumbnail-retry.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(cron = "${scheduler.thumbnail-retry-cron:0 */10 * * * *}")
+    public void scheduledRetry() {
+        schedulerCoordinator.runSingleton("thumbnail-retry", this::retry);
+    }
+
+    public void retry() {
+        int requeued = thumbnailService.retryFailed(maxAttempts, batchSize);
+        if (requeued > 0) {
+            log.info("🟢 [Scheduler] Thumbnail Retry: requeued={}", requeued);
+        }
+    }
+}
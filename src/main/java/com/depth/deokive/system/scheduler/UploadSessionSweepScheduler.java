@@ -0,0 +1,136 @@
+package com.depth.deokive.system.scheduler;
+
+import com.depth.deokive.domain.file.entity.SimpleUpload;
+import com.depth.deokive.domain.file.entity.UploadSession;
+import com.depth.deokive.domain.file.entity.enums.UploadSessionStatus;
+import com.depth.deokive.domain.file.service.UploadSessionService;
+import com.depth.deokive.domain.s3.dto.S3ServiceDto;
+import com.depth.deokive.domain.s3.service.S3Service;
+import com.depth.deokive.system.scheduler.cluster.SchedulerCoordinator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 멈춘 멀티파트 업로드 정리
+ *
+ * [배경]
+ * - 중단된 멀티파트 업로드의 Part는 Abort 전까지 S3 저장 비용 발생 (목록 조회로도 보이지 않음)
+ *
+ * [동작]
+ * 1. stale-hours 동안 활동이 없는 IN_PROGRESS 세션 -> S3 Abort 후 ABORTED
+ * 2. 세션이 없거나 멈춘 채 남은 S3 멀티파트 업로드(세션 도입 전 업로드 포함) -> S3 Abort
+ * 3. 발급 후 simple-stale-minutes 안에 확인되지 않은 단일 PUT 업로드 -> ABORTED 후 S3 객체 삭제
+ * 4. 종료 후 retention-days가 지난 세션 행 삭제
+ *
+ * - Abort/삭제는 멱등 (이미 없는 업로드/객체는 무시) -> 여러 노드가 동시에 실행해도 안전
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadSessionSweepScheduler {
+
+    private final UploadSessionService uploadSessionService;
+    private final S3Service s3Service;
+    private final SchedulerCoordinator schedulerCoordinator;
+
+    @Value("${scheduler.upload-session-sweep.stale-hours:24}")
+    private long staleHours;
+
+    @Value("${scheduler.upload-session-sweep.simple-stale-minutes:60}")
+    private long simpleStaleMinutes;
+
+    @Value("${scheduler.upload-session-sweep.batch-size:100}")
+    private int batchSize;
+
+    @Value("${scheduler.upload-session-sweep.retention-days:7}")
+    private long retentionDays;
+
+    @Scheduled(cron = "${scheduler.upload-session-sweep-cron}")
+    public void scheduledSweep() {
+        schedulerCoordinator.runSingleton("upload-session-sweep", this::sweep);
+    }
+
+    public void sweep() {
+        LocalDateTime staleBefore = LocalDateTime.now().minusHours(staleHours);
+        log.info("🕒 [Scheduler] Upload Session Sweep Start: staleBefore={}", staleBefore);
+
+        int staleSessions = abortStaleSessions(staleBefore);
+        int orphanUploads = abortOrphanUploads(staleBefore);
+        int unconfirmed = deleteUnconfirmedSimpleUploads(LocalDateTime.now().minusMinutes(simpleStaleMinutes));
+        int purged = uploadSessionService.purgeClosed(LocalDateTime.now().minusDays(retentionDays), batchSize);
+
+        log.info("🟢 [Scheduler] Upload Session Sweep Finished: staleSessions={}, orphanUploads={}, unconfirmedSimple={}, purgedSessions={}",
+                staleSessions, orphanUploads, unconfirmed, purged);
+    }
+
+    private int deleteUnconfirmedSimpleUploads(LocalDateTime issuedBefore) {
+        List<SimpleUpload> uploads = uploadSessionService.findStaleSimple(issuedBefore, batchSize);
+        int deleted = 0;
+        for (SimpleUpload upload : uploads) {
+            // 먼저 종료해 이후 확인을 막고, 그 사이 확인된 발급은 건너뜀
+            if (!uploadSessionService.abortSimple(upload.getId())) continue;
+            try {
+                s3Service.deleteObject(upload.getS3ObjectKey());
+                deleted++;
+            } catch (Exception e) {
+                // 종료된 발급은 더 이상 File로 등록될 수 없으므로 로그만 남김
+                log.error("🔴 [Scheduler] Unconfirmed object delete failed: key={}", upload.getS3ObjectKey(), e);
+            }
+        }
+        return deleted;
+    }
+
+    private int abortStaleSessions(LocalDateTime staleBefore) {
+        List<UploadSession> sessions = uploadSessionService.findStale(staleBefore, batchSize);
+        int aborted = 0;
+        for (UploadSession session : sessions) {
+            if (abort(session.getS3ObjectKey(), session.getUploadId())) aborted++;
+        }
+        return aborted;
+    }
+
+    private int abortOrphanUploads(LocalDateTime staleBefore) {
+        List<S3ServiceDto.MultipartUploadSummary> uploads;
+        try {
+            uploads = s3Service.listMultipartUploads(staleBefore.atZone(ZoneId.systemDefault()).toInstant());
+        } catch (Exception e) {
+            log.error("🔴 [Scheduler] Multipart upload listing failed", e);
+            return 0;
+        }
+        if (uploads.isEmpty()) return 0;
+
+        // 오래 전에 시작됐어도 최근까지 활동 중인 세션은 유지
+        Set<String> active = uploadSessionService.findActiveUploadIds(
+                uploads.stream().map(S3ServiceDto.MultipartUploadSummary::getUploadId).toList(), staleBefore);
+
+        int aborted = 0;
+        for (S3ServiceDto.MultipartUploadSummary upload : uploads) {
+            if (aborted >= batchSize) break;
+            if (active.contains(upload.getUploadId())) continue;
+            if (abort(upload.getKey(), upload.getUploadId())) aborted++;
+        }
+        return aborted;
+    }
+
+    private boolean abort(String key, String uploadId) {
+        try {
+            s3Service.abortUpload(S3ServiceDto.AbortUploadRequest.builder().key(key).uploadId(uploadId).build());
+        } catch (NoSuchUploadException e) {
+            log.debug("[Scheduler] Upload already gone: uploadId={}", uploadId);
+        } catch (Exception e) {
+            log.error("🔴 [Scheduler] Multipart upload abort failed: key={}, uploadId={}", key, uploadId, e);
+            return false;
+        }
+        uploadSessionService.close(uploadId, UploadSessionStatus.ABORTED);
+        return true;
+    }
+}
@@ -0,0 +1,79 @@
+package com.depth.deokive.system.scheduler;
+
+import com.depth.deokive.domain.user.service.UserPurgeService;
+import com.depth.deokive.system.config.user.UserPurgeBatchConfig;
+import com.depth.deokive.system.scheduler.cluster.SchedulerCoordinator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 탈퇴 유저 콘텐츠 정리 Job 실행
+ * - 탈퇴 후 grace-hours가 지난 유저를 오래된 순으로 batch-size명씩 userPurgeJob 실행 (userId 당 JobInstance 1개)
+ * - 이전 실행이 실패한 유저는 같은 파라미터로 재실행 -> 실패한 Step부터 재개
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPurgeScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job userPurgeJob;
+    private final UserPurgeService userPurgeService;
+    private final SchedulerCoordinator schedulerCoordinator;
+
+    @Value("${scheduler.user-purge.grace-hours:168}")
+    private long graceHours;
+
+    @Value("${scheduler.user-purge.batch-size:10}")
+    private int batchSize;
+
+    @Scheduled(cron = "${scheduler.user-purge-cron}")
+    public void scheduledPurge() {
+        schedulerCoordinator.runSingleton("user-purge", this::purgeWithdrawnUsers);
+    }
+
+    public void purgeWithdrawnUsers() {
+        List<Long> userIds = userPurgeService.findPurgeableIds(LocalDateTime.now().minusHours(graceHours), batchSize);
+        if (userIds.isEmpty()) return;
+
+        log.info("🕒 [Scheduler] User Purge Start: targets={}", userIds.size());
+        int completed = 0;
+        for (Long userId : userIds) {
+            if (purge(userId)) completed++;
+        }
+        log.info("🟢 [Scheduler] User Purge Finished: completed={}/{}", completed, userIds.size());
+    }
+
+    /**
+     * 유저 1명 정리 (동기 실행)
+     * @return 정리 완료 여부
+     */
+    public boolean purge(Long userId) {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong(UserPurgeBatchConfig.USER_ID, userId)
+                .toJobParameters();
+        try {
+            JobExecution execution = jobLauncher.run(userPurgeJob, jobParameters);
+            return execution.getStatus() == BatchStatus.COMPLETED;
+        } catch (JobExecutionAlreadyRunningException e) {
+            log.info("[Scheduler] User Purge already running elsewhere: userId={}", userId);
+            return false;
+        } catch (Exception e) {
+            log.error("🔴 [Scheduler] User Purge failed: userId={}", userId, e);
+            return false;
+        }
+    }
+}
@@ -1,16 +1,17 @@
 package com.depth.deokive.system.scheduler;
 
 import com.depth.deokive.common.enums.ViewLikeDomain;
-import com.depth.deokive.domain.archive.repository.ArchiveStatsRepository;
 import com.depth.deokive.common.service.RedisViewService;
-import com.depth.deokive.domain.post.repository.PostStatsRepository;
+import com.depth.deokive.system.config.datasource.BackgroundDatabase;
+import com.depth.deokive.system.scheduler.cluster.SchedulerCoordinator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.function.BiConsumer;
 
 @Slf4j
 @Component
@@ -18,16 +19,20 @@ import java.util.function.BiConsumer;
 public class ViewCountScheduler {
 
     private final RedisViewService redisViewService;
-    private final PostStatsRepository postStatsRepository;
-    private final ArchiveStatsRepository archiveStatsRepository;
+    private final BackgroundDatabase backgroundDatabase;
+    private final SchedulerCoordinator schedulerCoordinator;
 
     private static final int BATCH_SIZE = 5000;
+    private static final int WRITE_CHUNK_SIZE = 200; // 트랜잭션 1개당 UPDATE 수 (짧게 유지해야 스로틀이 촘촘히 걸림)
+
+    private static final String POST_VIEW_SQL = "UPDATE post_stats SET view_count = view_count + ? WHERE post_id = ?";
+    private static final String ARCHIVE_VIEW_SQL = "UPDATE archive_stats SET view_count = view_count + ? WHERE archive_id = ?";
 
     @Scheduled(cron = "${scheduler.post-view-cron}")
     public void syncPostViews() {
         log.info("🔥 [Scheduler] Starting Post View Count Sync...");
         try {
-            syncViews(ViewLikeDomain.POST, postStatsRepository::incrementViewCountForWriteBack);
+            syncViews(ViewLikeDomain.POST, POST_VIEW_SQL);
             log.info("✅ [Scheduler] Synced Post Views");
         } catch (Exception e) {
             log.error("🔴 [Scheduler] Post View Sync Failed", e);
@@ -38,33 +43,52 @@ public class ViewCountScheduler {
     public void syncArchiveViews() {
         log.info("🔥 [Scheduler] Starting Archive View Count Sync...");
         try {
-            syncViews(ViewLikeDomain.ARCHIVE, archiveStatsRepository::incrementViewCountForWriteBack);
+            syncViews(ViewLikeDomain.ARCHIVE, ARCHIVE_VIEW_SQL);
             log.info("✅ [Scheduler] Synced Archive Views");
         } catch (Exception e) {
             log.error("🔴 [Scheduler] Archive View Sync Failed", e);
         }
     }
 
-    private void syncViews(ViewLikeDomain domain, BiConsumer<Long, Long> dbUpdater) {
-        Map<Long, Long> counts = redisViewService.getAndFlushViewCounts(domain, BATCH_SIZE);
+    private void syncViews(ViewLikeDomain domain, String updateSql) {
+        // 클러스터: 이 노드가 소유한 샤드의 ID만 수집 -> 노드끼리 같은 키를 이중 반영하지 않음
+        Map<Long, Long> counts = redisViewService.getAndFlushViewCounts(domain, BATCH_SIZE, schedulerCoordinator::ownsId);
         if (counts.isEmpty()) return;
 
+        List<Map.Entry<Long, Long>> pending = new ArrayList<>();
         counts.forEach((id, count) -> {
             if (count > 0) {
-                try {
-                    // 1. DB 업데이트 (함수형 인터페이스 실행)
-                    dbUpdater.accept(id, count);
-
-                    // 2. Redis 차감 (DB 성공 시에만)
-                    redisViewService.decrementCount(domain, id, count);
-                } catch (Exception e) {
-                    log.error("🔴 View Sync Error ID: {} ({})", id, domain, e);
-                }
+                pending.add(Map.entry(id, count));
             } else {
-                // 3. Zombie Key 정리 (Count <= 0)
+                // Zombie Key 정리 (Count <= 0)
                 redisViewService.deleteViewCountKey(domain, id);
             }
         });
+
+        // 샤드 락을 잡은 뒤 값을 다시 읽음 -> 직전에 다른 노드가 같은 샤드를 반영했어도 남은 값만 반영
+        schedulerCoordinator.runSharded(domain.getPrefix() + "-view", pending, Map.Entry::getKey, shardEntries -> {
+            Map<Long, Long> fresh = redisViewService.getViewCounts(domain, shardEntries.stream().map(Map.Entry::getKey).toList());
+            flush(domain, updateSql, fresh.entrySet().stream().filter(entry -> entry.getValue() > 0).toList());
+        });
         log.info("✅ Synced {} Views: {} items", domain, counts.size());
     }
-}
\ No newline at end of file
+
+    private void flush(ViewLikeDomain domain, String updateSql, List<Map.Entry<Long, Long>> entries) {
+        for (int from = 0; from < entries.size(); from += WRITE_CHUNK_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + WRITE_CHUNK_SIZE, entries.size()));
+            try {
+                // 1. DB 업데이트 (백그라운드 풀, 청크 단위 트랜잭션)
+                backgroundDatabase.inTransaction(status ->
+                        backgroundDatabase.getJdbcTemplate().batchUpdate(updateSql, chunk, chunk.size(), (ps, entry) -> {
+                            ps.setLong(1, entry.getValue());
+                            ps.setLong(2, entry.getKey());
+                        }));
+
+                // 2. Redis 차감 (DB 커밋 성공 시에만, 실패한 청크는 다음 주기에 재시도)
+                chunk.forEach(entry -> redisViewService.decrementCount(domain, entry.getKey(), entry.getValue()));
+            } catch (Exception e) {
+                log.error("🔴 View Sync Error ({}): chunk of {} items from ID {}", domain, chunk.size(), chunk.get(0).getKey(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.depth.deokive.system.scheduler.cluster;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스케줄러 클러스터 멤버십 + 리더 선출 (Redisson)
+ *
+ * [멤버십]
+ * - 노드마다 heartbeat 주기로 scheduler:cluster:members(ZSET, score=마지막 heartbeat 시각)에 자신을 기록
+ * - member-ttl 동안 heartbeat가 없는 노드는 제거 -> 멤버 목록이 바뀌면 샤드 재분배 (rebalance)
+ *
+ * [리더]
+ * - scheduler:cluster:leader에 SET NX PX로 선점, 보유 노드는 heartbeat마다 TTL 갱신 (Lua로 원자 처리)
+ * - 리더가 죽으면 leader-ttl 후 다른 노드가 선점
+ *
+ * [샤드 소유]
+ * - shardCount개의 고정 샤드를 Rendezvous Hashing으로 멤버에 배정 -> 멤버 증감 시 이동하는 샤드 최소화
+ * - 모든 노드가 같은 멤버 목록으로 같은 배정을 계산 (중앙 배정 정보 없음)
+ *
+ * [Lease]
+ * - heartbeat는 전용 스레드에서 실행 (공용 @Scheduled 스레드가 다른 작업에 막혀 TTL 갱신이 밀리지 않도록)
+ * - 리더/샤드 소유는 마지막 성공 heartbeat 기준 leader-ttl/member-ttl 안에서만 유효
+ *   -> heartbeat가 멈춘 노드는 다른 노드가 선점하기 전에 스스로 리더/샤드를 내려놓음
+ *   (기한은 Redis 호출 직전 시각부터 계산 -> 실제 만료보다 항상 먼저 끝남)
+ *
+ * - scheduler.cluster.enabled=false: 단독 노드 (항상 리더 + 전체 샤드 소유, Redis 미사용)
+ */
+@Slf4j
+@Component
+public class ClusterMembership {
+
+    private static final String MEMBERS_KEY = "scheduler:cluster:members";
+    private static final String LEADER_KEY = "scheduler:cluster:leader";
+
+    // 보유 중이면 TTL 갱신, 비어 있으면 선점
+    private static final String ACQUIRE_LEADER_SCRIPT = """
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                redis.call('pexpire', KEYS[1], ARGV[2])
+                return 1
+            end
+            if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return 1
+            end
+            return 0
+            """;
+
+    private static final String RELEASE_LEADER_SCRIPT = """
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """;
+
+    private final RedissonClient redissonClient;
+    private final boolean enabled;
+    private final String nodeId;
+    private final Duration memberTtl;
+    private final Duration leaderTtl;
+    private final int shardCount;
+    private final Duration heartbeatInterval;
+
+    private final Counter rebalances;
+
+    private volatile List<String> members = List.of();
+    private volatile Set<Integer> ownedShards = Set.of();
+    private volatile boolean leader = false;
+    private volatile long memberLeaseUntil; // System.nanoTime() 기준
+    private volatile long leaderLeaseUntil;
+    private ScheduledExecutorService heartbeatExecutor;
+
+    public ClusterMembership(RedissonClient redissonClient,
+                             MeterRegistry meterRegistry,
+                             @Value("${scheduler.cluster.enabled:true}") boolean enabled,
+                             @Value("${scheduler.cluster.member-ttl:15s}") Duration memberTtl,
+                             @Value("${scheduler.cluster.leader-ttl:15s}") Duration leaderTtl,
+                             @Value("${scheduler.cluster.shards:16}") int shardCount,
+                             @Value("${scheduler.cluster.heartbeat-interval-ms:5000}") long heartbeatIntervalMs) {
+        this.redissonClient = redissonClient;
+        this.enabled = enabled;
+        this.nodeId = resolveHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.memberTtl = memberTtl;
+        this.leaderTtl = leaderTtl;
+        this.shardCount = shardCount;
+        this.heartbeatInterval = Duration.ofMillis(heartbeatIntervalMs);
+
+        this.rebalances = meterRegistry.counter("scheduler.cluster.rebalance");
+        Gauge.builder("scheduler.cluster.members", this, m -> m.members.size()).register(meterRegistry);
+        Gauge.builder("scheduler.cluster.leader", this, m -> m.isLeader() ? 1 : 0).register(meterRegistry);
+        Gauge.builder("scheduler.cluster.shards.owned", this, m -> m.getOwnedShards().size()).register(meterRegistry);
+
+        if (!enabled) {
+            updateMembers(List.of(nodeId));
+            updateLeader(true);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || heartbeatExecutor != null) return;
+        heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("cluster-heartbeat").daemon(true).factory());
+        heartbeatExecutor.scheduleWithFixedDelay(
+                this::heartbeat, 0, heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void heartbeat() {
+        if (!enabled) return;
+        try {
+            long startedAt = System.nanoTime();
+            long now = System.currentTimeMillis();
+            RScoredSortedSet<String> memberSet = redissonClient.getScoredSortedSet(MEMBERS_KEY, StringCodec.INSTANCE);
+            memberSet.add(now, nodeId);
+            memberSet.removeRangeByScore(0, true, now - memberTtl.toMillis(), false);
+            memberSet.expire(memberTtl.multipliedBy(4));
+
+            updateMembers(new ArrayList<>(new TreeSet<>(memberSet.readAll())));
+            memberLeaseUntil = startedAt + memberTtl.toNanos();
+
+            long leaderStartedAt = System.nanoTime();
+            boolean acquired = Boolean.TRUE.equals(redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE, ACQUIRE_LEADER_SCRIPT, RScript.ReturnType.BOOLEAN,
+                    List.of(LEADER_KEY), nodeId, String.valueOf(leaderTtl.toMillis())));
+            leaderLeaseUntil = leaderStartedAt + leaderTtl.toNanos();
+            updateLeader(acquired);
+        } catch (Exception e) {
+            // Redis 장애 시 리더/샤드 모두 내려놓음 -> 중복 실행보다 한 주기 건너뛰는 쪽을 택함
+            log.warn("⚠️ [Cluster] Heartbeat failed, releasing ownership: {}", e.getMessage());
+            updateMembers(List.of());
+            updateLeader(false);
+        }
+    }
+
+    @PreDestroy
+    public void leave() {
+        if (!enabled) return;
+        if (heartbeatExecutor != null) heartbeatExecutor.shutdownNow();
+        try {
+            redissonClient.getScoredSortedSet(MEMBERS_KEY, StringCodec.INSTANCE).remove(nodeId);
+            if (leader) {
+                redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, RELEASE_LEADER_SCRIPT,
+                        RScript.ReturnType.INTEGER, List.of(LEADER_KEY), nodeId);
+            }
+        } catch (Exception e) {
+            log.debug("[Cluster] Leave failed (expires by TTL): {}", e.getMessage());
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public List<String> getMembers() {
+        return members;
+    }
+
+    public boolean isLeader() {
+        return leader && leaseValid(leaderLeaseUntil);
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public Set<Integer> getOwnedShards() {
+        return leaseValid(memberLeaseUntil) ? ownedShards : Set.of();
+    }
+
+    public int shardOf(long id) {
+        return (int) Math.floorMod(mix(id), (long) shardCount);
+    }
+
+    public boolean ownsId(long id) {
+        return getOwnedShards().contains(shardOf(id));
+    }
+
+    // --- Helper Methods ---
+
+    private boolean leaseValid(long leaseUntil) {
+        return !enabled || System.nanoTime() - leaseUntil < 0;
+    }
+
+    private void updateMembers(List<String> current) {
+        if (current.equals(members)) return;
+
+        Set<Integer> owned = new TreeSet<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (nodeId.equals(ownerOf(shard, current))) owned.add(shard);
+        }
+
+        log.info("🟢 [Cluster] Rebalanced: members {} -> {}, owned shards {} -> {}",
+                members.size(), current.size(), ownedShards, owned);
+        members = List.copyOf(current);
+        ownedShards = Set.copyOf(owned);
+        rebalances.increment();
+    }
+
+    private void updateLeader(boolean acquired) {
+        if (acquired != leader) {
+            log.info("🟢 [Cluster] Leadership {}: node={}", acquired ? "acquired" : "released", nodeId);
+        }
+        leader = acquired;
+    }
+
+    // Rendezvous Hashing: 점수가 가장 높은 멤버가 소유
+    private static String ownerOf(int shard, List<String> members) {
+        String owner = null;
+        long best = Long.MIN_VALUE;
+        for (String member : members) {
+            long score = mix(member.hashCode() * 0x9E3779B97F4A7C15L + shard);
+            if (owner == null || score > best) {
+                owner = member;
+                best = score;
+            }
+        }
+        return owner;
+    }
+
+    // SplitMix64 finalizer (연속된 ID도 샤드에 고르게 분산)
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static String resolveHostName() {
+        try {
+            return Objects.requireNonNullElse(InetAddress.getLocalHost().getHostName(), "node");
+        } catch (Exception e) {
+            return "node";
+        }
+    }
+}
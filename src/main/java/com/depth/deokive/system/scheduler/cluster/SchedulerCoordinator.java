@@ -0,0 +1,105 @@
+package com.depth.deokive.system.scheduler.cluster;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 스케줄러 실행 조정
+ *
+ * [Singleton] (HotScore, Badge, Purge, Sweep 등 한 번만 돌아야 하는 작업)
+ * - 리더 노드에서만 실행 + 작업별 분산 락 -> 리더 교체 순간에도 겹쳐 실행되지 않음
+ * - @Scheduled 진입 메서드만 감싸고, 수동 실행(SystemSchedulerController)은 작업 메서드를 직접 호출 (노드 무관)
+ *
+ * [Sharded] (View/Like 카운터 Flush 등 ID 단위로 나눌 수 있는 작업)
+ * - 각 노드는 자신이 소유한 샤드의 ID만 처리 (ClusterMembership.ownsId)
+ * - 샤드마다 분산 락 -> 재분배 직후 멤버 목록이 노드마다 잠깐 달라도 같은 샤드를 동시에 처리하지 않음
+ *
+ * [메트릭]
+ * - scheduler.job.duration{job, mode=singleton|sharded}: 실행 시간
+ * - scheduler.job.skipped{job, reason=not-leader|locked}: 건너뛴 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchedulerCoordinator {
+
+    private static final String LOCK_PREFIX = "scheduler:lock:";
+
+    private final ClusterMembership membership;
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 리더 노드에서 한 번만 실행
+     * @return 실행 여부
+     */
+    public boolean runSingleton(String job, Runnable task) {
+        if (!membership.isLeader()) {
+            skipped(job, "not-leader");
+            return false;
+        }
+        return runLocked(job, LOCK_PREFIX + job, "singleton", task);
+    }
+
+    /**
+     * 이 노드가 소유한 샤드의 항목만 샤드별로 나눠 실행
+     * @return 처리한 샤드 수
+     */
+    public <T> int runSharded(String job, Collection<T> items, ToLongFunction<T> idOf, Consumer<List<T>> work) {
+        if (items.isEmpty()) return 0;
+
+        Map<Integer, List<T>> byShard = items.stream()
+                .collect(Collectors.groupingBy(item -> membership.shardOf(idOf.applyAsLong(item)), TreeMap::new, Collectors.toList()));
+
+        int processed = 0;
+        for (Map.Entry<Integer, List<T>> entry : byShard.entrySet()) {
+            if (!membership.getOwnedShards().contains(entry.getKey())) continue;
+            if (runLocked(job, LOCK_PREFIX + job + ":shard:" + entry.getKey(), "sharded", () -> work.accept(entry.getValue()))) {
+                processed++;
+            }
+        }
+        return processed;
+    }
+
+    /** 이 노드가 처리할 ID인지 (Redis 스캔 단계에서 미리 거르는 용도) */
+    public boolean ownsId(long id) {
+        return membership.ownsId(id);
+    }
+
+    // --- Helper Methods ---
+
+    private boolean runLocked(String job, String lockKey, String mode, Runnable task) {
+        RLock lock = redissonClient.getLock(lockKey);
+        if (!lock.tryLock()) { // 대기 없이 시도, 보유 중에는 Watchdog이 자동 연장
+            skipped(job, "locked");
+            return false;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            task.run();
+            return true;
+        } finally {
+            sample.stop(meterRegistry.timer("scheduler.job.duration", "job", job, "mode", mode));
+            if (lock.isHeldByCurrentThread()) lock.unlock();
+        }
+    }
+
+    private void skipped(String job, String reason) {
+        meterRegistry.counter("scheduler.job.skipped", "job", job, "reason", reason).increment();
+        log.debug("[Cluster] Skip {}: {}", job, reason);
+    }
+}
@@ -55,6 +55,7 @@ public class RequestMatcherHolder {
 
             // metadata
             new RequestInfo(HttpMethod.GET, "/oembed", null),      // oEmbed JSON Provider
+            new RequestInfo(HttpMethod.POST, "/oembed/batch", null), // oEmbed 일괄 조회
             new RequestInfo(HttpMethod.GET, "/share/**", null),    // Thymeleaf Share Page
 
             // static resources
@@ -77,13 +78,17 @@ public class RequestMatcherHolder {
             new RequestInfo(HttpMethod.GET, "/api/v1/events/{eventId:[0-9]+}", null),
             new RequestInfo(HttpMethod.GET, "/api/v1/events/monthly/{archiveId:[0-9]+}", null),
             new RequestInfo(HttpMethod.GET, "/api/v1/archives/{archiveId:[0-9]+}", null),
+            new RequestInfo(HttpMethod.GET, "/api/v1/archives/{archiveId:[0-9]+}/home", null),
+            new RequestInfo(HttpMethod.GET, "/api/v1/archives/{archiveId:[0-9]+}/stats", null),
             new RequestInfo(HttpMethod.GET, "/api/v1/gallery/{archiveId:[0-9]+}", null),
             new RequestInfo(HttpMethod.GET, "/api/v1/tickets/{ticketId:[0-9]+}", null),
             new RequestInfo(HttpMethod.GET, "/api/v1/tickets/book/{archiveId:[0-9]+}", null),
             new RequestInfo(HttpMethod.GET, "/api/v1/repost/{archiveId:[0-9]+}", null),
             new RequestInfo(HttpMethod.GET, "/api/v1/diary/book/{archiveId:[0-9]+}", null),
             new RequestInfo(HttpMethod.GET, "/api/v1/stickers/monthly/{archiveId:[0-9]+}", null),
+            new RequestInfo(HttpMethod.GET, "/api/v1/calendar/monthly/{archiveId:[0-9]+}", null),
             new RequestInfo(HttpMethod.GET, "/api/v1/posts/{postId:[0-9]+}", null),
+            new RequestInfo(HttpMethod.GET, "/api/v1/posts/{postId:[0-9]+}/stats", null),
             new RequestInfo(HttpMethod.GET, "/api/v1/posts/{postId:[0-9]+}/comments", null)
     );
 
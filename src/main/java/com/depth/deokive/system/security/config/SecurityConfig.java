@@ -88,13 +88,17 @@ public class SecurityConfig {
                                 "/api/v1/events/{eventId:[0-9]+}",
                                 "/api/v1/events/monthly/{archiveId:[0-9]+}",
                                 "/api/v1/archives/{archiveId:[0-9]+}",
+                                "/api/v1/archives/{archiveId:[0-9]+}/home",
+                                "/api/v1/archives/{archiveId:[0-9]+}/stats",
                                 "/api/v1/gallery/{archiveId:[0-9]+}",
                                 "/api/v1/tickets/{ticketId:[0-9]+}",
                                 "/api/v1/tickets/book/{archiveId:[0-9]+}",
                                 "/api/v1/repost/{archiveId:[0-9]+}",
                                 "/api/v1/diary/book/{archiveId:[0-9]+}",
                                 "/api/v1/stickers/monthly/{archiveId:[0-9]+}",
+                                "/api/v1/calendar/monthly/{archiveId:[0-9]+}",
                                 "/api/v1/posts/{postId:[0-9]+}",
+                                "/api/v1/posts/{postId:[0-9]+}/stats",
                                 "/api/v1/posts/{postId:[0-9]+}/comments"
                                 ).permitAll()
                         // .requestMatchers(requestMatcherHolder.getRequestMatchersForVisibilityByMinRole(null)).permitAll()
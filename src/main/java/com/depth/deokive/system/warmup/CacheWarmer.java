@@ -0,0 +1,15 @@
+package com.depth.deokive.system.warmup;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 캐시 웜업 단위 (빈으로 등록하면 GlobalWarmupScheduler가 @Order 순서대로 실행)
+ * - tasks(): 이번 회차에 적재할 항목들 (작업 하나 = 캐시 항목 하나, 커버리지 집계 단위)
+ * - 작업은 동시에 실행되므로 서로 독립적이어야 함
+ */
+public interface CacheWarmer {
+
+    String name();
+
+    List<Runnable> tasks();
+}
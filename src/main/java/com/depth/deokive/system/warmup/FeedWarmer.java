@@ -0,0 +1,43 @@
+package com.depth.deokive.system.warmup;
+
+import com.depth.deokive.domain.archive.service.ArchiveService;
+import com.depth.deokive.domain.post.entity.enums.Category;
+import com.depth.deokive.domain.post.service.PostService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 전역 피드 첫 페이지 (게시글: 전체 + 카테고리별, 아카이브: PUBLIC) x 정렬 기준
+ * - FeedCache TTL보다 짧은 주기로 refresh -> 메인 진입 사용자는 Miss 없이 조회
+ */
+@Component
+@Order(1) // 핫 피드 결과를 TrendingContentWarmer가 이어서 사용
+@RequiredArgsConstructor
+public class FeedWarmer implements CacheWarmer {
+
+    private final PostService postService;
+    private final ArchiveService archiveService;
+    private final WarmupProperties properties;
+
+    @Override
+    public String name() {
+        return "feed";
+    }
+
+    @Override
+    public List<Runnable> tasks() {
+        List<Runnable> tasks = new ArrayList<>();
+        for (String sort : properties.getFeedSorts()) {
+            tasks.add(() -> postService.refreshFeedFirstPage(null, sort));
+            for (Category category : Category.values()) {
+                tasks.add(() -> postService.refreshFeedFirstPage(category, sort));
+            }
+            tasks.add(() -> archiveService.refreshGlobalFeedFirstPage(sort));
+        }
+        return tasks;
+    }
+}
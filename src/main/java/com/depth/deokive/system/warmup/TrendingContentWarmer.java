@@ -0,0 +1,59 @@
+package com.depth.deokive.system.warmup;
+
+import com.depth.deokive.domain.archive.dto.ArchiveDto;
+import com.depth.deokive.domain.archive.service.ArchiveService;
+import com.depth.deokive.domain.post.dto.PostDto;
+import com.depth.deokive.domain.post.service.PostService;
+import com.depth.deokive.system.metadata.service.ShareService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 핫 피드 첫 페이지에 오른 게시글/아카이브 (가장 많이 열리고 공유되는 항목)
+ * - 게시글: 상세 Read Model(PostDetailCache) + 공유 페이지(SharePageCache)
+ * - 아카이브: 공유 페이지
+ * - 대상 목록은 FeedCache에서 조회 (FeedWarmer 직후라 DB 조회 없음)
+ */
+@Component
+@Order(2)
+@RequiredArgsConstructor
+public class TrendingContentWarmer implements CacheWarmer {
+
+    private static final String HOT = "hotScore";
+
+    private final PostService postService;
+    private final ArchiveService archiveService;
+    private final ShareService shareService;
+
+    @Override
+    public String name() {
+        return "trending";
+    }
+
+    @Override
+    public List<Runnable> tasks() {
+        List<Runnable> tasks = new ArrayList<>();
+
+        PostDto.PostPageRequest postRequest = new PostDto.PostPageRequest();
+        postRequest.setSort(HOT);
+        for (PostDto.PostPageResponse post : postService.getPosts(postRequest).getContent()) {
+            Long postId = post.getPostId();
+            tasks.add(() -> {
+                postService.warmDetail(postId);
+                shareService.warmPostSharePage(postId);
+            });
+        }
+
+        ArchiveDto.ArchivePageRequest archiveRequest = new ArchiveDto.ArchivePageRequest();
+        archiveRequest.setSort(HOT);
+        for (ArchiveDto.ArchivePageResponse archive : archiveService.getGlobalFeed(archiveRequest).getContent()) {
+            Long archiveId = archive.getArchiveId();
+            tasks.add(() -> shareService.warmArchiveSharePage(archiveId));
+        }
+        return tasks;
+    }
+}
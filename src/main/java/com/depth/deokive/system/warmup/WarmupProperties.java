@@ -0,0 +1,29 @@
+package com.depth.deokive.system.warmup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "warmup")
+public class WarmupProperties {
+
+    /** false면 웜업 전체 비활성화 */
+    private boolean enabled = true;
+
+    /** 동시 실행 작업 수 (요청 풀 커넥션을 쓰므로 작게 유지) */
+    private int concurrency = 2;
+
+    /** 웜러 하나의 시간 예산 (초과 시 남은 작업은 취소하고 커버리지로 보고) */
+    private Duration budget = Duration.ofSeconds(10);
+
+    /** true면 기동 직후 첫 웜업이 끝난 뒤에 Readiness가 ACCEPTING_TRAFFIC으로 전환 */
+    private boolean readinessGate = false;
+
+    /** 피드 첫 페이지를 미리 적재할 정렬 기준 (카테고리는 전체 + 카테고리별) */
+    private List<String> feedSorts = List.of("createdAt", "hotScore");
+}
@@ -0,0 +1,182 @@
+package com.depth.deokive.common.service;
+
+import com.depth.deokive.common.enums.ViewLikeDomain;
+import com.depth.deokive.common.enums.Visibility;
+import com.depth.deokive.common.test.IntegrationTestSupport;
+import com.depth.deokive.domain.archive.dto.ArchiveDto;
+import com.depth.deokive.domain.archive.service.ArchiveService;
+import com.depth.deokive.domain.post.controller.PostController;
+import com.depth.deokive.domain.post.dto.PostDto;
+import com.depth.deokive.domain.post.entity.enums.Category;
+import com.depth.deokive.domain.post.service.PostService;
+import com.depth.deokive.domain.user.entity.User;
+import com.depth.deokive.domain.user.entity.enums.Role;
+import com.depth.deokive.domain.user.entity.enums.UserType;
+import com.depth.deokive.system.exception.model.ErrorCode;
+import com.depth.deokive.system.exception.model.RestException;
+import com.depth.deokive.system.security.model.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("상세 조회 콘텐츠 버전(ETag) 통합 테스트")
+class ContentVersionCacheTest extends IntegrationTestSupport {
+
+    @Autowired PostService postService;
+    @Autowired ArchiveService archiveService;
+    @Autowired ContentVersionCache contentVersionCache;
+    @Autowired PostController postController;
+
+    private User writer;
+    private User stranger;
+
+    @BeforeEach
+    void setUp() {
+        writer = createUser("Writer");
+        stranger = createUser("Stranger");
+        setupMockUser(writer);
+    }
+
+    private User createUser(String nickname) {
+        return userRepository.save(User.builder()
+                .email("content_" + UUID.randomUUID() + "@test.com")
+                .username("user_" + UUID.randomUUID())
+                .nickname(nickname)
+                .password("password")
+                .role(Role.USER)
+                .userType(UserType.COMMON)
+                .isEmailVerified(true)
+                .build());
+    }
+
+    private Long createPost() {
+        PostDto.CreateRequest request = PostDto.CreateRequest.builder()
+                .title("Title").content("Content").category(Category.IDOL).build();
+        return postService.createPost(UserPrincipal.from(writer), request).getId();
+    }
+
+    @Test
+    @DisplayName("게시글 ETag는 수정으로 콘텐츠 버전이 바뀌고 캐시가 무효화된 뒤에만 달라진다.")
+    void postEtagChangesOnlyAfterUpdate() {
+        // given
+        Long postId = createPost();
+        String first = postService.getPostEtag(postId);
+
+        // when: 좋아요 (동적 값) -> ETag 유지
+        postService.toggleLike(UserPrincipal.from(writer), postId);
+
+        // then
+        assertThat(postService.getPostEtag(postId)).isEqualTo(first);
+
+        // when: 수정 + 무효화 (AFTER_COMMIT 리스너 대신 직접 호출)
+        postService.updatePost(UserPrincipal.from(writer), postId,
+                PostDto.UpdateRequest.builder().title("Changed").build());
+        flushAndClear();
+        contentVersionCache.evict(ViewLikeDomain.POST, List.of(postId));
+
+        // then
+        assertThat(postService.getPostEtag(postId)).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 304를 본문 없이 반환한다.")
+    void returnsNotModifiedForMatchingEtag() throws Exception {
+        // given
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(postController)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+        Long postId = createPost();
+        String etag = postService.getPostEtag(postId);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts/{postId}", postId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        mockMvc.perform(get("/api/v1/posts/{postId}", postId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("상세 본문에는 카운터/좋아요 여부가 없어서, 좋아요 후에도 같은 ETag에 같은 바이트를 반환한다.")
+    void detailBodyIsStableAcrossLikes() throws Exception {
+        // given
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(postController)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+        Long postId = createPost();
+        byte[] before = mockMvc.perform(get("/api/v1/posts/{postId}", postId))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // when
+        postService.toggleLike(UserPrincipal.from(writer), postId);
+        byte[] after = mockMvc.perform(get("/api/v1/posts/{postId}", postId))
+                .andExpect(header().string(HttpHeaders.ETAG, postService.getPostEtag(postId)))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        assertThat(after).isEqualTo(before);
+        assertThat(new String(after, StandardCharsets.UTF_8)).doesNotContain("likeCount", "isLiked", "viewCount");
+    }
+
+    @Test
+    @DisplayName("통계 엔드포인트는 ETag와 별개로 실시간 좋아요 수/여부를 반환한다.")
+    void statsReflectLiveCounters() {
+        // given
+        Long postId = createPost();
+        postService.toggleLike(UserPrincipal.from(writer), postId);
+
+        // when
+        PostDto.StatsResponse stats = postService.getPostStats(UserPrincipal.from(writer), postId);
+
+        // then
+        assertThat(stats.getLikeCount()).isEqualTo(1L);
+        assertThat(stats.getIsLiked()).isTrue();
+        assertThat(stats.getCommentCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("아카이브 ETag는 권한 체크를 거치고, 소유자 여부에 따라 달라진다.")
+    void archiveEtagChecksPermissionAndOwner() {
+        // given
+        ArchiveDto.CreateRequest request = new ArchiveDto.CreateRequest();
+        request.setTitle("Archive");
+        request.setVisibility(Visibility.PRIVATE);
+        Long archiveId = archiveService.createArchive(UserPrincipal.from(writer), request).getId();
+
+        // when & then: 비공개 -> 타인은 304도 받을 수 없음
+        assertThatThrownBy(() -> archiveService.getArchiveEtag(UserPrincipal.from(stranger), archiveId))
+                .isInstanceOf(RestException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.AUTH_FORBIDDEN);
+
+        // when: 공개 전환 + 무효화
+        ArchiveDto.UpdateRequest update = new ArchiveDto.UpdateRequest();
+        update.setVisibility(Visibility.PUBLIC);
+        archiveService.updateArchive(UserPrincipal.from(writer), archiveId, update);
+        flushAndClear();
+        contentVersionCache.evict(ViewLikeDomain.ARCHIVE, List.of(archiveId));
+
+        // then
+        String ownerEtag = archiveService.getArchiveEtag(UserPrincipal.from(writer), archiveId);
+        String strangerEtag = archiveService.getArchiveEtag(UserPrincipal.from(stranger), archiveId);
+        assertThat(ownerEtag).isNotEqualTo(strangerEtag);
+        assertThat(archiveService.getArchiveEtag(null, archiveId)).isEqualTo(strangerEtag);
+    }
+}
@@ -0,0 +1,134 @@
+package com.depth.deokive.common.service;
+
+import com.depth.deokive.common.dto.PageDto;
+import com.depth.deokive.common.enums.ViewLikeDomain;
+import com.depth.deokive.common.enums.Visibility;
+import com.depth.deokive.common.event.ContentChangedEvent;
+import com.depth.deokive.common.test.IntegrationTestSupport;
+import com.depth.deokive.domain.archive.dto.ArchiveDto;
+import com.depth.deokive.domain.archive.service.ArchiveService;
+import com.depth.deokive.domain.user.entity.User;
+import com.depth.deokive.domain.user.entity.enums.Role;
+import com.depth.deokive.domain.user.entity.enums.UserType;
+import com.depth.deokive.system.security.model.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("전역 피드 캐시 무효화 통합 테스트")
+class FeedCacheTest extends IntegrationTestSupport {
+
+    @Autowired ArchiveService archiveService;
+    @Autowired FeedCache feedCache;
+    @Autowired ContentChangedEventListener contentChangedEventListener;
+
+    @Value("${feed.cache.ttl:30s}") Duration feedTtl;
+
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(User.builder()
+                .email("feed_" + UUID.randomUUID() + "@test.com")
+                .username("user_" + UUID.randomUUID())
+                .nickname("Writer")
+                .password("password")
+                .role(Role.USER)
+                .userType(UserType.COMMON)
+                .isEmailVerified(true)
+                .build());
+        setupMockUser(writer);
+        feedCache.evict(ViewLikeDomain.ARCHIVE); // 다른 테스트가 적재한 첫 페이지 제거
+    }
+
+    private Long createPublicArchive() {
+        ArchiveDto.CreateRequest request = new ArchiveDto.CreateRequest();
+        request.setTitle("Feed Archive");
+        request.setVisibility(Visibility.PUBLIC);
+        Long archiveId = archiveService.createArchive(UserPrincipal.from(writer), request).getId();
+        flushAndClear();
+        return archiveId;
+    }
+
+    private List<Long> feedIds() {
+        PageDto.PageListResponse<ArchiveDto.ArchivePageResponse> feed =
+                archiveService.getGlobalFeed(new ArchiveDto.ArchivePageRequest());
+        return feed.getContent().stream().map(ArchiveDto.ArchivePageResponse::getArchiveId).toList();
+    }
+
+    @Test
+    @DisplayName("비공개로 바뀐 아카이브는 TTL 전이라도 변경 이벤트 후 피드에서 빠진다.")
+    void evictsFeedOnVisibilityChange() {
+        // given: TTL이 0이면 캐시 여부를 검증할 수 없음
+        assertThat(feedTtl).isPositive();
+        Long archiveId = createPublicArchive();
+        assertThat(feedIds()).contains(archiveId);
+
+        // when: 비공개 전환 (테스트 트랜잭션은 커밋되지 않으므로 이벤트 없이 캐시만 남은 상태)
+        ArchiveDto.UpdateRequest update = new ArchiveDto.UpdateRequest();
+        update.setVisibility(Visibility.PRIVATE);
+        archiveService.updateArchive(UserPrincipal.from(writer), archiveId, update);
+        flushAndClear();
+
+        // then: 무효화 전에는 캐시된 피드
+        assertThat(feedIds()).contains(archiveId);
+
+        // when: 커밋 후 ContentChangedEvent 경로와 동일
+        contentChangedEventListener.handleContentChanged(ContentChangedEvent.archive(archiveId));
+
+        // then
+        assertThat(feedIds()).doesNotContain(archiveId);
+    }
+
+    @Test
+    @DisplayName("삭제된 아카이브는 변경 이벤트 후 피드에서 빠진다.")
+    void evictsFeedOnDelete() {
+        // given
+        Long archiveId = createPublicArchive();
+        assertThat(feedIds()).contains(archiveId);
+
+        // when
+        archiveService.deleteArchive(UserPrincipal.from(writer), archiveId);
+        flushAndClear();
+        contentChangedEventListener.handleContentChanged(ContentChangedEvent.archive(archiveId));
+
+        // then
+        assertThat(feedIds()).doesNotContain(archiveId);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 그 결과는 캐시에 남지 않는다 (Miss / 웜업 모두).")
+    void discardsPageLoadedAcrossEviction() {
+        // given
+        String key = FeedCache.keyOf(ViewLikeDomain.ARCHIVE, "race");
+        PageDto.PageListResponse<Long> stale = PageDto.PageListResponse.<Long>builder().content(List.of(1L)).build();
+        PageDto.PageListResponse<Long> fresh = PageDto.PageListResponse.<Long>builder().content(List.of(2L)).build();
+
+        // when: 웜업 조회 도중 무효화
+        feedCache.refresh(key, () -> {
+            feedCache.evict(ViewLikeDomain.ARCHIVE);
+            return stale;
+        });
+
+        // then
+        assertThat(feedCache.get(key, () -> fresh)).isSameAs(fresh);
+
+        // when: Miss 조회 도중 무효화
+        feedCache.evict(ViewLikeDomain.ARCHIVE);
+        feedCache.get(key, () -> {
+            feedCache.evict(ViewLikeDomain.ARCHIVE);
+            return stale;
+        });
+
+        // then
+        assertThat(feedCache.get(key, () -> fresh)).isSameAs(fresh);
+    }
+}
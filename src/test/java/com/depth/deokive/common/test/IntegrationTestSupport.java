@@ -83,7 +83,13 @@ public abstract class IntegrationTestSupport {
         registry.add("scheduler.post-hot-score-cron", () -> "-");
         registry.add("scheduler.archive-hot-score-cron", () -> "-");
         registry.add("scheduler.file-cleanup-cron", () -> "-");
+        registry.add("scheduler.archive-purge-cron", () -> "-");
+        registry.add("scheduler.user-purge-cron", () -> "-");
+        registry.add("scheduler.upload-session-sweep-cron", () -> "-");
         registry.add("scheduler.badge-cron", () -> "-");
+        registry.add("scheduler.cluster.enabled", () -> "false"); // 캐시된 컨텍스트끼리 클러스터를 이루지 않도록 단독 모드
+        registry.add("warmup.enabled", () -> "false");
+        registry.add("feed.cache.ttl", () -> "0s"); // 테스트마다 만든 데이터가 피드에 바로 보이도록
     }
 
     @Autowired protected UserRepository userRepository;
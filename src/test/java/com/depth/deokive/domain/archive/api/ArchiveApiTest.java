@@ -297,7 +297,7 @@ class ArchiveApiTest extends ApiTestSupport {
                     .statusCode(HttpStatus.OK.value());
             
             // DB 반영 후 검증
-            given().cookie("ATK", tokenUserA).get("/api/v1/archives/{id}", publicId)
+            given().cookie("ATK", tokenUserA).get("/api/v1/archives/{id}/stats", publicId)
                     .then().body("viewCount", equalTo((int) initial + 2));
         }
 
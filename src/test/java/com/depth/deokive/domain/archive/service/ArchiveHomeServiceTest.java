@@ -0,0 +1,178 @@
+package com.depth.deokive.domain.archive.service;
+
+import com.depth.deokive.common.enums.Visibility;
+import com.depth.deokive.common.test.IntegrationTestSupport;
+import com.depth.deokive.domain.archive.dto.ArchiveDto;
+import com.depth.deokive.domain.archive.dto.ArchiveHomeDto;
+import com.depth.deokive.domain.ticket.dto.TicketDto;
+import com.depth.deokive.domain.ticket.service.TicketService;
+import com.depth.deokive.domain.user.entity.User;
+import com.depth.deokive.domain.user.entity.enums.Role;
+import com.depth.deokive.domain.user.entity.enums.UserType;
+import com.depth.deokive.system.exception.model.ErrorCode;
+import com.depth.deokive.system.exception.model.RestException;
+import com.depth.deokive.system.security.model.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 섹션은 별도 가상 스레드 + 별도 트랜잭션에서 조회 -> 테스트 트랜잭션의 미커밋 데이터가 보이지 않으므로
+ * 데이터는 REQUIRES_NEW로 커밋하고 테스트 후 직접 정리
+ */
+@DisplayName("ArchiveHomeService 통합 테스트")
+class ArchiveHomeServiceTest extends IntegrationTestSupport {
+
+    @Autowired ArchiveHomeService archiveHomeService;
+    @Autowired ArchiveService archiveService;
+    @Autowired ArchivePurgeService archivePurgeService;
+    @Autowired ArchiveHomeProperties archiveHomeProperties;
+    @Autowired TicketService ticketService;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate requiresNew;
+    private final List<Long> archiveIds = new ArrayList<>();
+    private final List<Long> userIds = new ArrayList<>();
+
+    private User owner;
+    private User stranger;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        owner = createUser("Owner");
+        stranger = createUser("Stranger");
+        setupMockUser(owner);
+        request = new MockHttpServletRequest();
+        request.setRemoteAddr("127.0.0.1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        archiveHomeProperties.getSections().remove(ArchiveHomeDto.Section.GALLERY);
+        requiresNew.executeWithoutResult(status -> {
+            for (Long archiveId : archiveIds) {
+                archiveService.deleteArchive(UserPrincipal.from(owner), archiveId);
+                archivePurgeService.purgeRoot(archiveId, 500);
+            }
+            userRepository.deleteAllById(userIds);
+        });
+    }
+
+    private User createUser(String nickname) {
+        User user = requiresNew.execute(status -> userRepository.save(User.builder()
+                .email("home_" + UUID.randomUUID() + "@test.com")
+                .username("user_" + UUID.randomUUID())
+                .nickname(nickname)
+                .password("password")
+                .role(Role.USER)
+                .userType(UserType.COMMON)
+                .isEmailVerified(true)
+                .build()));
+        userIds.add(user.getId());
+        return user;
+    }
+
+    private Long createArchive(Visibility visibility) {
+        ArchiveDto.CreateRequest createRequest = new ArchiveDto.CreateRequest();
+        createRequest.setTitle("Home");
+        createRequest.setVisibility(visibility);
+
+        Long archiveId = requiresNew.execute(status ->
+                archiveService.createArchive(UserPrincipal.from(owner), createRequest).getId());
+        archiveIds.add(archiveId);
+        return archiveId;
+    }
+
+    @Test
+    @DisplayName("권한 검증 후 모든 섹션의 첫 페이지를 한 번에 반환한다.")
+    void returnsAllSections() {
+        // given
+        Long archiveId = createArchive(Visibility.PUBLIC);
+        YearMonth month = YearMonth.of(2025, 5);
+
+        // when
+        ArchiveHomeDto.Response home = archiveHomeService.getArchiveHome(
+                UserPrincipal.from(stranger), archiveId, month, request);
+
+        // then
+        assertThat(home.getArchive().getId()).isEqualTo(archiveId);
+        assertThat(home.getDegradedSections()).isEmpty();
+        assertThat(home.getGalleries().getContent()).isEmpty();
+        assertThat(home.getTickets().getContent()).isEmpty();
+        assertThat(home.getDiaries().getContent()).isEmpty();
+        assertThat(home.getReposts().getContent()).isEmpty();
+        assertThat(home.getCalendar().getMonth()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("권한이 없으면 섹션 조회 없이 예외를 던진다.")
+    void rejectsBeforeFanOut() {
+        // given
+        Long archiveId = createArchive(Visibility.PRIVATE);
+
+        // when & then
+        assertThatThrownBy(() -> archiveHomeService.getArchiveHome(
+                UserPrincipal.from(stranger), archiveId, YearMonth.of(2025, 5), request))
+                .isInstanceOf(RestException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.AUTH_FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("시간 예산을 넘긴 섹션만 비우고 degradedSections로 알린다.")
+    void degradesTimedOutSection() {
+        // given
+        Long archiveId = createArchive(Visibility.PUBLIC);
+        ArchiveHomeProperties.SectionLimit noBudget = new ArchiveHomeProperties.SectionLimit();
+        noBudget.setTimeout(Duration.ZERO);
+        archiveHomeProperties.getSections().put(ArchiveHomeDto.Section.GALLERY, noBudget);
+
+        // when
+        ArchiveHomeDto.Response home = archiveHomeService.getArchiveHome(
+                UserPrincipal.from(owner), archiveId, YearMonth.of(2025, 5), request);
+
+        // then
+        assertThat(home.getDegradedSections()).containsExactly(ArchiveHomeDto.Section.GALLERY);
+        assertThat(home.getGalleries()).isNull();
+        assertThat(home.getTickets()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("방금 작성한 항목이 바로 이어진 홈 조회의 섹션에 보인다.")
+    void showsOwnWriteImmediately() {
+        // given
+        Long archiveId = createArchive(Visibility.PUBLIC);
+        TicketDto.CreateRequest ticketRequest = new TicketDto.CreateRequest();
+        ticketRequest.setTitle("Just Written");
+
+        // when: 커밋 직후 같은 사용자가 홈 조회
+        Long ticketId = requiresNew.execute(status ->
+                ticketService.createTicket(UserPrincipal.from(owner), archiveId, ticketRequest).getId());
+        ArchiveHomeDto.Response home = archiveHomeService.getArchiveHome(
+                UserPrincipal.from(owner), archiveId, YearMonth.of(2025, 5), request);
+
+        // then
+        assertThat(home.getDegradedSections()).isEmpty();
+        assertThat(home.getTickets().getContent())
+                .extracting(TicketDto.TicketPageResponse::getId)
+                .containsExactly(ticketId);
+    }
+}
@@ -48,6 +48,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 class ArchiveServiceTest extends IntegrationTestSupport {
 
     @Autowired ArchiveService archiveService;
+    @Autowired ArchivePurgeService archivePurgeService;
 
     // Core Repositories
     @Autowired ArchiveRepository archiveRepository;
@@ -486,7 +487,7 @@ class ArchiveServiceTest extends IntegrationTestSupport {
     @DisplayName("[Category 4] Delete Archive")
     class Delete {
         @Test
-        @DisplayName("SCENE 44: 정상 케이스 (Cascade Delete 확인 - 모든 하위 데이터 포함)")
+        @DisplayName("SCENE 44: 정상 케이스 (Tombstone 기록 후 Purge로 모든 하위 데이터 삭제)")
         void deleteArchive_CascadeFull() {
             // Given: Archive with SubBooks
             Archive archive = createArchiveByService(userA, Visibility.PUBLIC, null);
@@ -500,11 +501,27 @@ class ArchiveServiceTest extends IntegrationTestSupport {
 
             // When
             archiveService.deleteArchive(UserPrincipal.from(userA), id);
+            flushAndClear();
 
-            // Then: Root Deleted
-            assertThat(archiveRepository.existsById(id)).isFalse();
+            // Then: Tombstone -> 조회 불가, 피드(통계) 즉시 제외, 하위 데이터는 아직 남아 있음
+            assertThat(archiveRepository.findById(id)).get().extracting(Archive::isDeleted).isEqualTo(true);
+            assertThat(archiveStatsRepository.existsById(id)).isFalse();
+            assertThat(diaryBookRepository.existsById(id)).isTrue();
+            assertThatThrownBy(() -> archiveService.getArchiveDetail(UserPrincipal.from(userA), id, new MockHttpServletRequest()))
+                    .isInstanceOf(RestException.class).hasFieldOrPropertyWithValue("errorCode", ErrorCode.ARCHIVE_NOT_FOUND);
+            assertThatThrownBy(() -> archiveService.deleteArchive(UserPrincipal.from(userA), id))
+                    .isInstanceOf(RestException.class).hasFieldOrPropertyWithValue("errorCode", ErrorCode.ARCHIVE_NOT_FOUND);
+            assertThat(archivePurgeService.findTombstonedIds(100)).contains(id);
+
+            // When: Purge (Job의 Step 순서와 동일)
+            for (ArchivePurgeService.PurgeTarget target : ArchivePurgeService.PurgeTarget.values()) {
+                archivePurgeService.purgeChunk(target, id, 500);
+            }
+            assertThat(archivePurgeService.purgeRoot(id, 500)).isTrue();
+            flushAndClear();
 
-            // Then: Cascade Deleted
+            // Then: Root & SubBooks Deleted
+            assertThat(archiveRepository.existsById(id)).isFalse();
             assertThat(diaryBookRepository.existsById(id)).isFalse();
             assertThat(ticketBookRepository.existsById(id)).isFalse();
             assertThat(galleryBookRepository.existsById(id)).isFalse();
@@ -518,10 +535,19 @@ class ArchiveServiceTest extends IntegrationTestSupport {
             Archive a2 = createArchiveByService(userA, Visibility.PRIVATE, null);
 
             archiveService.deleteArchive(UserPrincipal.from(userA), a1.getId());
-            assertThat(archiveRepository.existsById(a1.getId())).isFalse();
-
             archiveService.deleteArchive(UserPrincipal.from(userA), a2.getId());
-            assertThat(archiveRepository.existsById(a2.getId())).isFalse();
+            flushAndClear();
+
+            // 본인 피드(Archive 테이블 기반)에서도 즉시 제외
+            ArchiveDto.ArchivePageRequest req = new ArchiveDto.ArchivePageRequest();
+            PageDto.PageListResponse<ArchiveDto.ArchivePageResponse> myFeed =
+                    archiveService.getUserArchives(UserPrincipal.from(userA), userA.getId(), req);
+            assertThat(myFeed.getContent()).extracting(ArchiveDto.ArchivePageResponse::getArchiveId)
+                    .doesNotContain(a1.getId(), a2.getId());
+
+            // Purge 대상이 아닌 아카이브는 Root 삭제하지 않음
+            Archive alive = createArchiveByService(userA, Visibility.PUBLIC, null);
+            assertThat(archivePurgeService.purgeRoot(alive.getId(), 500)).isFalse();
         }
 
         @Test
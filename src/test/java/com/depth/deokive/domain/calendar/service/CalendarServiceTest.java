@@ -0,0 +1,168 @@
+package com.depth.deokive.domain.calendar.service;
+
+import com.depth.deokive.common.enums.Visibility;
+import com.depth.deokive.common.test.IntegrationTestSupport;
+import com.depth.deokive.domain.archive.dto.ArchiveDto;
+import com.depth.deokive.domain.archive.entity.Archive;
+import com.depth.deokive.domain.archive.repository.ArchiveRepository;
+import com.depth.deokive.domain.archive.service.ArchiveService;
+import com.depth.deokive.domain.calendar.dto.CalendarDto;
+import com.depth.deokive.domain.calendar.event.CalendarChangedEvent;
+import com.depth.deokive.domain.event.dto.EventDto;
+import com.depth.deokive.domain.event.service.EventService;
+import com.depth.deokive.domain.sticker.entity.Sticker;
+import com.depth.deokive.domain.sticker.entity.enums.StickerType;
+import com.depth.deokive.domain.sticker.repository.StickerRepository;
+import com.depth.deokive.domain.user.entity.User;
+import com.depth.deokive.domain.user.entity.enums.Role;
+import com.depth.deokive.domain.user.entity.enums.UserType;
+import com.depth.deokive.system.exception.model.ErrorCode;
+import com.depth.deokive.system.exception.model.RestException;
+import com.depth.deokive.system.security.model.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CalendarService 월별 Read Model 테스트")
+class CalendarServiceTest extends IntegrationTestSupport {
+
+    private static final YearMonth MAY = YearMonth.of(2025, 5);
+
+    @Autowired CalendarService calendarService;
+    @Autowired CalendarCache calendarCache;
+    @Autowired EventService eventService;
+    @Autowired ArchiveService archiveService;
+    @Autowired ArchiveRepository archiveRepository;
+    @Autowired StickerRepository stickerRepository;
+
+    private User owner;
+    private Archive publicArchive;
+    private Archive privateArchive;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .email("calendar@test.com")
+                .username("user_" + UUID.randomUUID())
+                .nickname("CalendarOwner")
+                .password("password")
+                .role(Role.USER)
+                .userType(UserType.COMMON)
+                .isEmailVerified(true)
+                .build());
+
+        publicArchive = createArchive(Visibility.PUBLIC);
+        privateArchive = createArchive(Visibility.PRIVATE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<YearMonth> months = List.of(MAY.minusMonths(1), MAY, MAY.plusMonths(1));
+        calendarCache.evict(publicArchive.getId(), months);
+        calendarCache.evict(privateArchive.getId(), months);
+    }
+
+    private Archive createArchive(Visibility visibility) {
+        setupMockUser(owner);
+        ArchiveDto.CreateRequest req = new ArchiveDto.CreateRequest();
+        req.setTitle("Calendar " + visibility);
+        req.setVisibility(visibility);
+        ArchiveDto.Response response = archiveService.createArchive(UserPrincipal.from(owner), req);
+        SecurityContextHolder.clearContext();
+        return archiveRepository.findById(response.getId()).orElseThrow();
+    }
+
+    private void createEvent(String title, LocalDate date) {
+        eventService.createEvent(UserPrincipal.from(owner), publicArchive.getId(), EventDto.CreateRequest.builder()
+                .title(title).startDate(date).endDate(date).color("#FF5733").build());
+    }
+
+    @Test
+    @DisplayName("일정과 스티커를 한 번에 조회하고, 무효화 전까지는 같은 Read Model을 반환한다.")
+    void servesCachedMonthUntilEvicted() {
+        // given
+        createEvent("May Event", LocalDate.of(2025, 5, 10));
+        stickerRepository.save(Sticker.builder()
+                .archive(publicArchive).date(LocalDate.of(2025, 5, 11)).stickerType(StickerType.HEART).build());
+        flushAndClear();
+
+        // when
+        CalendarDto.MonthlyResponse first = calendarService.getMonthlyCalendar(null, publicArchive.getId(), 2025, 5);
+
+        // then
+        assertThat(first.getEvents()).extracting(EventDto.Response::getTitle).containsExactly("May Event");
+        assertThat(first.getStickers()).hasSize(1);
+
+        // when: 커밋 이벤트 없이 추가된 일정 -> 캐시된 Read Model 유지
+        createEvent("Late Event", LocalDate.of(2025, 5, 20));
+        flushAndClear();
+        assertThat(calendarService.getMonthlyCalendar(null, publicArchive.getId(), 2025, 5).getEvents()).hasSize(1);
+
+        // when: 해당 월 무효화 (CalendarChangedEventHandler가 커밋 후 수행하는 동작)
+        calendarCache.evict(publicArchive.getId(), List.of(MAY));
+
+        // then
+        assertThat(calendarService.getMonthlyCalendar(null, publicArchive.getId(), 2025, 5).getEvents())
+                .extracting(EventDto.Response::getTitle).containsExactly("May Event", "Late Event");
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화된 월은 Read Model에 적재하지 않는다.")
+    void skipsStoreWhenEvictedDuringLoad() {
+        // given
+        Long archiveId = publicArchive.getId();
+        CalendarDto.MonthlyResponse stale = CalendarDto.MonthlyResponse.builder()
+                .archiveId(archiveId).year(2025).month(5).events(List.of()).stickers(List.of()).build();
+
+        // when: loader 실행 중 다른 요청이 같은 월을 무효화
+        calendarCache.get(archiveId, MAY, (id, ym) -> {
+            calendarCache.evict(id, List.of(ym));
+            return stale;
+        });
+        createEvent("Fresh Event", LocalDate.of(2025, 5, 3));
+        flushAndClear();
+
+        // then: 오래된 값 대신 DB에서 다시 적재
+        assertThat(calendarService.getMonthlyCalendar(null, archiveId, 2025, 5).getEvents())
+                .extracting(EventDto.Response::getTitle).containsExactly("Fresh Event");
+    }
+
+    @Test
+    @DisplayName("권한 검증은 캐시와 무관하게 매 요청 수행한다.")
+    void checksPermissionBeforeCache() {
+        // given: 주인이 먼저 조회해 캐시 적재
+        calendarService.getMonthlyCalendar(UserPrincipal.from(owner), privateArchive.getId(), 2025, 5);
+
+        // when & then
+        assertThatThrownBy(() -> calendarService.getMonthlyCalendar(null, privateArchive.getId(), 2025, 5))
+                .isInstanceOf(RestException.class);
+        assertThatThrownBy(() -> calendarService.getMonthlyCalendar(null, publicArchive.getId(), 2025, 13))
+                .isInstanceOf(RestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.GLOBAL_BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("일정이 걸친 월을 모두 무효화 대상으로 계산한다.")
+    void monthsOfEventRange() {
+        assertThat(CalendarChangedEvent.monthsOf(
+                LocalDateTime.of(2025, 4, 28, 10, 0), LocalDateTime.of(2025, 6, 2, 0, 0)))
+                .containsExactly(YearMonth.of(2025, 4), MAY, YearMonth.of(2025, 6));
+
+        // 1일 00:00 시작 일정은 전월 조회 범위에도 포함
+        assertThat(CalendarChangedEvent.monthsOf(
+                LocalDateTime.of(2025, 5, 1, 0, 0), LocalDateTime.of(2025, 5, 1, 0, 0)))
+                .containsExactly(YearMonth.of(2025, 4), MAY);
+    }
+}
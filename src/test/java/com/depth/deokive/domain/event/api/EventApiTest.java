@@ -323,6 +323,24 @@ class EventApiTest extends ApiTestSupport {
                     .body("error", notNullValue());
         }
 
+        @Test
+        @DisplayName("SCENE 5-1. 예외 - 255자 초과 해시태그")
+        void createEvent_HashtagTooLong() {
+            given()
+                    .cookie("ATK", tokenUserA)
+                    .contentType(ContentType.JSON)
+                    .body(Map.of(
+                            "title", "Long Tag",
+                            "date", "2024-01-01",
+                            "color", "#FF5733",
+                            "hashtags", List.of("t".repeat(256))))
+                    .when()
+                    .post("/api/v1/events/{archiveId}", publicArchiveId)
+                    .then()
+                    .statusCode(HttpStatus.BAD_REQUEST.value())
+                    .body("error", notNullValue());
+        }
+
         @Test
         @DisplayName("SCENE 6. 예외 - 타인 아카이브 생성 시도")
         void createEvent_Forbidden() {
@@ -249,6 +249,49 @@ class EventServiceTest extends IntegrationTestSupport {
             assertThat(tags).hasSize(2).containsExactlyInAnyOrder("tag1", "tag2");
         }
 
+        @Test
+        @DisplayName("SCENE 5-1: 기존 해시태그 재사용 + 신규 해시태그 일괄 생성")
+        void createEvent_BulkHashtags() {
+            setupMockUser(userA);
+            EventDto.CreateRequest first = EventDto.CreateRequest.builder()
+                    .title("Bulk Tag 1").date(LocalDate.now()).color("#FF5733")
+                    .hashtags(List.of("bulk1", "bulk2"))
+                    .build();
+            EventDto.CreateRequest second = EventDto.CreateRequest.builder()
+                    .title("Bulk Tag 2").date(LocalDate.now()).color("#FF5733")
+                    .hashtags(List.of("bulk2", "bulk3", "BULK3")) // 대소문자만 다른 태그 -> 같은 태그
+                    .build();
+
+            eventService.createEvent(UserPrincipal.from(userA), archiveAPublic.getId(), first);
+            Long bulk2Id = hashtagRepository.findByName("bulk2").orElseThrow().getId();
+            EventDto.Response response = eventService.createEvent(UserPrincipal.from(userA), archiveAPublic.getId(), second);
+
+            assertThat(hashtagRepository.findByName("bulk2").orElseThrow().getId()).isEqualTo(bulk2Id);
+            assertThat(hashtagRepository.findAll()).filteredOn(tag -> tag.getName().startsWith("bulk")).hasSize(3);
+            assertThat(eventHashtagMapRepository.findHashtagNamesByEventId(response.getId()))
+                    .containsExactlyInAnyOrder("bulk2", "bulk3");
+        }
+
+        @Test
+        @DisplayName("SCENE 5-2: 악센트/전각만 다른 해시태그는 DB Collation 기준으로 기존 태그 재사용")
+        void createEvent_CollationEqualHashtags() {
+            setupMockUser(userA);
+            EventDto.CreateRequest first = EventDto.CreateRequest.builder()
+                    .title("Collation Tag 1").date(LocalDate.now()).color("#FF5733")
+                    .hashtags(List.of("cafe", "bulkwide"))
+                    .build();
+            EventDto.CreateRequest second = EventDto.CreateRequest.builder()
+                    .title("Collation Tag 2").date(LocalDate.now()).color("#FF5733")
+                    .hashtags(List.of("café", "ｂｕｌｋｗｉｄｅ"))
+                    .build();
+
+            eventService.createEvent(UserPrincipal.from(userA), archiveAPublic.getId(), first);
+            EventDto.Response response = eventService.createEvent(UserPrincipal.from(userA), archiveAPublic.getId(), second);
+
+            assertThat(eventHashtagMapRepository.findHashtagNamesByEventId(response.getId()))
+                    .containsExactlyInAnyOrder("cafe", "bulkwide");
+        }
+
         @Test
         @DisplayName("SCENE 6: 존재하지 않는 Archive")
         void createEvent_ArchiveNotFound() {
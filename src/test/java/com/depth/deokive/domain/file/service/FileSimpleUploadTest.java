@@ -0,0 +1,176 @@
+package com.depth.deokive.domain.file.service;
+
+import com.depth.deokive.common.test.IntegrationTestSupport;
+import com.depth.deokive.domain.file.dto.FileDto;
+import com.depth.deokive.domain.file.entity.File;
+import com.depth.deokive.domain.file.entity.enums.MediaRole;
+import com.depth.deokive.domain.file.entity.enums.MediaType;
+import com.depth.deokive.domain.file.entity.enums.ThumbnailStatus;
+import com.depth.deokive.domain.s3.dto.S3ServiceDto;
+import com.depth.deokive.domain.user.entity.User;
+import com.depth.deokive.domain.user.entity.enums.Role;
+import com.depth.deokive.domain.user.entity.enums.UserType;
+import com.depth.deokive.system.exception.model.ErrorCode;
+import com.depth.deokive.system.exception.model.RestException;
+import com.depth.deokive.system.scheduler.UploadSessionSweepScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("FileService 소용량 단일 업로드 테스트")
+class FileSimpleUploadTest extends IntegrationTestSupport {
+
+    private static final String KEY = "files/" + UUID.randomUUID() + "__avatar.png";
+    private static final long SIZE = 200 * 1024L;
+
+    @Autowired FileService fileService;
+    @Autowired UploadSessionSweepScheduler uploadSessionSweepScheduler;
+
+    @BeforeEach
+    void setUp() {
+        user = saveUser("owner");
+        strangerUser = saveUser("stranger");
+    }
+
+    private User saveUser(String name) {
+        return userRepository.save(User.builder()
+                .email(name + "@test.com")
+                .username("user_" + UUID.randomUUID())
+                .nickname(name)
+                .password("password")
+                .role(Role.USER)
+                .userType(UserType.COMMON)
+                .isEmailVerified(true)
+                .build());
+    }
+
+    private FileDto.SimpleUploadConfirmRequest confirmRequest(String key) {
+        return FileDto.SimpleUploadConfirmRequest.builder().key(key).mediaRole(MediaRole.PREVIEW).build();
+    }
+
+    /** owner에게 key 발급 (S3 서명은 Mock) */
+    private void issue(User owner, String key) {
+        given(s3Service.generateSimpleUploadUrl(any(), any())).willReturn(S3ServiceDto.SimpleUploadResponse.builder()
+                .key(key).contentType("image/png").presignedUrl("https://s3/" + key).expiresAt(Instant.now()).build());
+        setupMockUser(owner);
+        fileService.initiateSimpleUpload(FileDto.SimpleUploadInitiateRequest.builder()
+                .originalFileName("avatar.png").mimeType("image/png").fileSize(SIZE).build());
+        flushAndClear();
+    }
+
+    private void givenUploaded(String key, long size) {
+        given(s3Service.headObject(key)).willReturn(Optional.of(S3ServiceDto.ObjectMetadata.builder()
+                .key(key).size(size).contentType("image/png").build()));
+    }
+
+    @Test
+    @DisplayName("크기 제한을 넘는 파일은 단일 업로드 URL을 발급하지 않는다.")
+    void rejectsLargeFile() {
+        assertThatThrownBy(() -> fileService.initiateSimpleUpload(FileDto.SimpleUploadInitiateRequest.builder()
+                .originalFileName("movie.mp4").mimeType("video/mp4").fileSize(11L * 1024 * 1024).build()))
+                .isInstanceOf(RestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_SIZE_EXCEEDED);
+        verify(s3Service, never()).generateSimpleUploadUrl(any(), any());
+    }
+
+    @Test
+    @DisplayName("S3에 올라간 객체를 확인하고 File을 등록한다. 같은 키 재확인은 기존 File을 반환한다.")
+    void confirmRegistersFileOnce() {
+        // given
+        issue(user, KEY);
+        givenUploaded(KEY, SIZE);
+
+        // when
+        File first = fileService.confirmSimpleUpload(user.getId(), confirmRequest(KEY));
+        flushAndClear();
+        File retried = fileService.confirmSimpleUpload(user.getId(), confirmRequest(KEY));
+
+        // then
+        assertThat(first.getFilename()).isEqualTo("avatar.png");
+        assertThat(first.getMediaType()).isEqualTo(MediaType.IMAGE);
+        assertThat(first.getIsThumbnail()).isTrue();
+        assertThat(first.getThumbnailStatus()).isEqualTo(ThumbnailStatus.PENDING);
+        assertThat(retried.getId()).isEqualTo(first.getId());
+
+        // 다른 사용자는 같은 키로 확인 불가
+        assertThatThrownBy(() -> fileService.confirmSimpleUpload(strangerUser.getId(), confirmRequest(KEY)))
+                .isInstanceOf(RestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_ACCESS_DENIED);
+    }
+
+    @Test
+    @DisplayName("발급하지 않은 키는 S3에 객체가 있어도 등록하지 않는다.")
+    void rejectsKeyNotIssued() {
+        // given: 다른 경로로 올라간 객체
+        String foreignKey = "files/" + UUID.randomUUID() + "__other.png";
+        givenUploaded(foreignKey, SIZE);
+        setupMockUser(user);
+
+        // when & then
+        assertThatThrownBy(() -> fileService.confirmSimpleUpload(user.getId(), confirmRequest(foreignKey)))
+                .isInstanceOf(RestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+        verify(s3Service, never()).headObject(foreignKey);
+    }
+
+    @Test
+    @DisplayName("업로드되지 않았거나 크기가 발급 값과 다르면 등록하지 않는다.")
+    void rejectsMissingOrMismatchedObject() {
+        // given
+        issue(user, KEY);
+        given(s3Service.headObject(KEY)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> fileService.confirmSimpleUpload(user.getId(), confirmRequest(KEY)))
+                .isInstanceOf(RestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_NOT_FOUND);
+
+        givenUploaded(KEY, SIZE - 1);
+        assertThatThrownBy(() -> fileService.confirmSimpleUpload(user.getId(), confirmRequest(KEY)))
+                .isInstanceOf(RestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.GLOBAL_BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("확인되지 않은 발급은 Sweep에서 S3 객체를 삭제하고, 이후 확인을 거부한다. 확인된 객체는 유지한다.")
+    void sweepDeletesUnconfirmedUploads() {
+        // given: KEY는 확인, unconfirmedKey는 업로드만 하고 확인하지 않음
+        String unconfirmedKey = "files/" + UUID.randomUUID() + "__left.png";
+        issue(user, KEY);
+        issue(user, unconfirmedKey);
+        givenUploaded(KEY, SIZE);
+        givenUploaded(unconfirmedKey, SIZE);
+        fileService.confirmSimpleUpload(user.getId(), confirmRequest(KEY));
+        flushAndClear();
+
+        // when: 발급 직후도 정리 대상이 되도록 기한 0분
+        Object staleMinutes = ReflectionTestUtils.getField(uploadSessionSweepScheduler, "simpleStaleMinutes");
+        ReflectionTestUtils.setField(uploadSessionSweepScheduler, "simpleStaleMinutes", 0L);
+        try {
+            uploadSessionSweepScheduler.sweep();
+        } finally {
+            ReflectionTestUtils.setField(uploadSessionSweepScheduler, "simpleStaleMinutes", staleMinutes);
+        }
+        flushAndClear();
+
+        // then
+        verify(s3Service).deleteObject(unconfirmedKey);
+        verify(s3Service, never()).deleteObject(KEY);
+        assertThatThrownBy(() -> fileService.confirmSimpleUpload(user.getId(), confirmRequest(unconfirmedKey)))
+                .isInstanceOf(RestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.UPLOAD_SESSION_CLOSED);
+    }
+}
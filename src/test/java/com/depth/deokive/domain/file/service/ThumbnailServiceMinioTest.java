@@ -0,0 +1,266 @@
+package com.depth.deokive.domain.file.service;
+
+import com.depth.deokive.common.util.ThumbnailUtils;
+import com.depth.deokive.domain.file.entity.File;
+import com.depth.deokive.domain.file.entity.enums.MediaType;
+import com.depth.deokive.domain.file.entity.enums.ThumbnailStatus;
+import com.depth.deokive.domain.file.repository.FileRepository;
+import com.depth.deokive.domain.s3.service.S3Service;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 썸네일 생성 End-to-End (MinIO)
+ * - 원본 업로드 -> ThumbnailService.generate -> 파생 키에 Variant 생성 + 상태 갱신 확인
+ */
+@Testcontainers
+@DisplayName("썸네일 생성 테스트 (MinIO)")
+class ThumbnailServiceMinioTest {
+
+    private static final String BUCKET = "deokive-thumbnail-test";
+
+    @Container
+    static final MinIOContainer MINIO = new MinIOContainer("minio/minio:RELEASE.2024-01-16T16-07-38Z");
+
+    private S3Client s3Client;
+    private S3Presigner presigner;
+    private S3Service s3Service;
+    private FileRepository fileRepository;
+    private JdbcTemplate jdbcTemplate;
+    private ThumbnailProducer thumbnailProducer;
+    private ThumbnailService thumbnailService;
+
+    @BeforeEach
+    void setUp() {
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(MINIO.getUserName(), MINIO.getPassword()));
+        URI endpoint = URI.create(MINIO.getS3URL());
+
+        s3Client = S3Client.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .endpointOverride(endpoint)
+                .forcePathStyle(true)
+                .build();
+        presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .endpointOverride(endpoint)
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+        if (s3Client.listBuckets().buckets().stream().noneMatch(b -> b.name().equals(BUCKET))) {
+            s3Client.createBucket(b -> b.bucket(BUCKET));
+        }
+
+        s3Service = new S3Service(s3Client, presigner);
+        ReflectionTestUtils.setField(s3Service, "bucketName", BUCKET);
+
+        ThumbnailGenerator generator = new ThumbnailGenerator();
+        ReflectionTestUtils.setField(generator, "maxPixels", 40_000_000L);
+        ReflectionTestUtils.setField(generator, "jpegQuality", 0.82);
+
+        fileRepository = mock(FileRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        thumbnailProducer = mock(ThumbnailProducer.class);
+        thumbnailService = new ThumbnailService(fileRepository, s3Service, generator, jdbcTemplate, new SimpleMeterRegistry(),
+                mock(ApplicationEventPublisher.class), mock(PlatformTransactionManager.class), thumbnailProducer);
+        thumbnailService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        presigner.close();
+        s3Client.close();
+    }
+
+    private File givenFile(long id, String key) {
+        File file = File.builder()
+                .id(id).s3ObjectKey(key).filename(key).fileSize(1L)
+                .mediaType(MediaType.IMAGE).thumbnailStatus(ThumbnailStatus.PENDING)
+                .build();
+        given(fileRepository.findById(id)).willReturn(Optional.of(file));
+        return file;
+    }
+
+    private byte[] image(int width, int height, int type, String format) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.ORANGE);
+        g.fillRect(0, 0, width / 2, height);
+        g.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    // JFIF(APP0) 뒤에 Orientation 태그 하나만 가진 EXIF(APP1) 세그먼트 삽입
+    private byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] app1 = {
+                (byte) 0xFF, (byte) 0xE1, 0x00, 0x22,
+                'E', 'x', 'i', 'f', 0x00, 0x00,
+                'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08,
+                0x00, 0x01,
+                0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, 0x00, (byte) orientation, 0x00, 0x00,
+                0x00, 0x00, 0x00, 0x00
+        };
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, app0End);
+        out.write(app1, 0, app1.length);
+        out.write(jpeg, app0End, jpeg.length - app0End);
+        return out.toByteArray();
+    }
+
+    private BufferedImage readVariant(String originalKey, ThumbnailUtils.Variant variant) throws Exception {
+        try (InputStream in = s3Service.openObject(ThumbnailUtils.getThumbnailKey(originalKey, variant))) {
+            return ImageIO.read(in);
+        }
+    }
+
+    @Test
+    @DisplayName("원본을 Variant 너비로 축소해 파생 키에 저장하고, 원본보다 크게 늘리지 않는다.")
+    void generatesVariantsUnderDerivedKeys() throws Exception {
+        // given: 1200x600 JPEG
+        String key = "files/" + UUID.randomUUID() + "__photo.jpg";
+        s3Service.putObject(key, image(1200, 600, BufferedImage.TYPE_INT_RGB, "jpg"), "image/jpeg");
+        givenFile(1L, key);
+
+        // when
+        ThumbnailStatus status = thumbnailService.generate(1L);
+
+        // then
+        assertThat(status).isEqualTo(ThumbnailStatus.READY);
+        assertThat(readVariant(key, ThumbnailUtils.Variant.SMALL).getWidth()).isEqualTo(320);
+        assertThat(readVariant(key, ThumbnailUtils.Variant.MEDIUM).getWidth()).isEqualTo(800);
+        assertThat(readVariant(key, ThumbnailUtils.Variant.LARGE).getWidth()).isEqualTo(1200); // 확대 안 함
+        assertThat(readVariant(key, ThumbnailUtils.Variant.SMALL).getHeight()).isEqualTo(160); // 비율 유지
+
+        // 기존 파생 키 규칙과 동일 (조회 측 ThumbnailUtils.getMediumThumbnailKey)
+        assertThat(s3Service.headObject(ThumbnailUtils.getMediumThumbnailKey(key))).hasValueSatisfying(
+                metadata -> assertThat(metadata.getContentType()).isEqualTo("image/jpeg"));
+        verify(jdbcTemplate).update("UPDATE files SET thumbnail_status = ? WHERE id = ?", "READY", 1L);
+    }
+
+    @Test
+    @DisplayName("투명도가 있는 이미지는 PNG로 생성한다.")
+    void keepsAlphaAsPng() throws Exception {
+        // given
+        String key = "files/" + UUID.randomUUID() + "__sticker.png";
+        s3Service.putObject(key, image(400, 400, BufferedImage.TYPE_INT_ARGB, "png"), "image/png");
+        givenFile(2L, key);
+
+        // when
+        thumbnailService.generate(2L);
+
+        // then
+        assertThat(s3Service.headObject(ThumbnailUtils.getThumbnailKey(key, ThumbnailUtils.Variant.SMALL)))
+                .hasValueSatisfying(metadata -> assertThat(metadata.getContentType()).isEqualTo("image/png"));
+        assertThat(readVariant(key, ThumbnailUtils.Variant.SMALL).getColorModel().hasAlpha()).isTrue();
+    }
+
+    @Test
+    @DisplayName("EXIF Orientation이 있는 사진은 회전을 반영한 뒤 축소한다.")
+    void appliesExifOrientation() throws Exception {
+        // given: 가로 400x200으로 저장됐지만 90도 회전(Orientation=6)해서 보여야 하는 사진
+        String key = "files/" + UUID.randomUUID() + "__portrait.jpg";
+        s3Service.putObject(key, withExifOrientation(image(400, 200, BufferedImage.TYPE_INT_RGB, "jpg"), 6), "image/jpeg");
+        givenFile(4L, key);
+
+        // when
+        thumbnailService.generate(4L);
+
+        // then
+        BufferedImage large = readVariant(key, ThumbnailUtils.Variant.LARGE);
+        assertThat(large.getWidth()).isEqualTo(200);
+        assertThat(large.getHeight()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("파생 키의 확장자는 실제로 쓴 포맷과 같다 (GIF 원본 -> PNG 썸네일).")
+    void variantKeyExtensionMatchesFormat() throws Exception {
+        // given
+        String key = "files/" + UUID.randomUUID() + "__anim.gif";
+        s3Service.putObject(key, image(400, 400, BufferedImage.TYPE_INT_RGB, "gif"), "image/gif");
+        givenFile(5L, key);
+
+        // when
+        thumbnailService.generate(5L);
+
+        // then
+        String smallKey = ThumbnailUtils.getThumbnailKey(key, ThumbnailUtils.Variant.SMALL);
+        assertThat(smallKey).endsWith("__anim.png");
+        assertThat(s3Service.headObject(smallKey))
+                .hasValueSatisfying(metadata -> assertThat(metadata.getContentType()).isEqualTo("image/png"));
+        assertThat(ThumbnailUtils.getMediumThumbnailKey(key)).endsWith("__anim.png");
+    }
+
+    @Test
+    @DisplayName("FAILED 썸네일은 PENDING으로 되돌린 건만 다시 생성 요청한다.")
+    void retriesFailedThumbnails() {
+        // given: 6번은 다른 노드가 먼저 되돌림
+        given(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(3), eq(100))).willReturn(List.of(5L, 6L));
+        given(jdbcTemplate.update(anyString(), eq(5L))).willReturn(1);
+        given(jdbcTemplate.update(anyString(), eq(6L))).willReturn(0);
+
+        // when
+        int requeued = thumbnailService.retryFailed(3, 100);
+
+        // then
+        assertThat(requeued).isEqualTo(1);
+        verify(thumbnailProducer).requestThumbnail(5L);
+        verify(thumbnailProducer, never()).requestThumbnail(6L);
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 원본은 SKIPPED로 기록한다.")
+    void skipsUndecodableSource() {
+        // given
+        String key = "files/" + UUID.randomUUID() + "__vector.svg";
+        s3Service.putObject(key, "<svg xmlns='http://www.w3.org/2000/svg'/>".getBytes(), "image/svg+xml");
+        givenFile(3L, key);
+
+        // when
+        ThumbnailStatus status = thumbnailService.generate(3L);
+
+        // then
+        assertThat(status).isEqualTo(ThumbnailStatus.SKIPPED);
+        assertThat(s3Service.headObject(ThumbnailUtils.getThumbnailKey(key, ThumbnailUtils.Variant.SMALL))).isEmpty();
+        verify(jdbcTemplate).update("UPDATE files SET thumbnail_status = ? WHERE id = ?", "SKIPPED", 3L);
+    }
+}
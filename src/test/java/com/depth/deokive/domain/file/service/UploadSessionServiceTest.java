@@ -0,0 +1,199 @@
+package com.depth.deokive.domain.file.service;
+
+import com.depth.deokive.common.test.IntegrationTestSupport;
+import com.depth.deokive.domain.file.dto.FileDto;
+import com.depth.deokive.domain.file.entity.UploadSession;
+import com.depth.deokive.domain.file.entity.UploadSessionPart;
+import com.depth.deokive.domain.file.entity.enums.UploadSessionStatus;
+import com.depth.deokive.domain.file.repository.UploadSessionPartRepository;
+import com.depth.deokive.domain.file.repository.UploadSessionRepository;
+import com.depth.deokive.domain.s3.dto.S3ServiceDto;
+import com.depth.deokive.domain.user.entity.User;
+import com.depth.deokive.domain.user.entity.enums.Role;
+import com.depth.deokive.domain.user.entity.enums.UserType;
+import com.depth.deokive.system.exception.model.ErrorCode;
+import com.depth.deokive.system.exception.model.RestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("UploadSessionService 멀티파트 Resume 테스트")
+class UploadSessionServiceTest extends IntegrationTestSupport {
+
+    private static final long PART_SIZE = 64L * 1024 * 1024;
+    private static final String UPLOAD_ID = "upload-" + UUID.randomUUID();
+    private static final String KEY = "videos/resume.mp4";
+
+    @Autowired UploadSessionService uploadSessionService;
+    @Autowired UploadSessionRepository uploadSessionRepository;
+    @Autowired UploadSessionPartRepository uploadSessionPartRepository;
+
+    @BeforeEach
+    void setUp() {
+        user = saveUser("owner");
+        strangerUser = saveUser("stranger");
+
+        given(s3Service.calculatePartSize(anyLong(), anyInt(), anyInt())).willReturn(PART_SIZE);
+        given(s3Service.generatePartPresignedUrls(any())).willAnswer(invocation -> {
+            S3ServiceDto.PartPresignedUrlRequest request = invocation.getArgument(0);
+            List<Integer> partNumbers = request.getPartNumbers() != null
+                    ? request.getPartNumbers()
+                    : IntStream.rangeClosed(request.getFromPartNumber(), request.getToPartNumber()).boxed().toList();
+            return partNumbers.stream()
+                    .map(n -> S3ServiceDto.PartPresignedUrlResponse.builder()
+                            .partNumber(n).presignedUrl("https://s3/part-" + n).contentLength(PART_SIZE).build())
+                    .toList();
+        });
+
+        // 4 Part 세션 (생성자 = owner)
+        setupMockUser(user);
+        uploadSessionService.open(
+                S3ServiceDto.UploadInitiateResponse.builder().key(KEY).uploadId(UPLOAD_ID).contentType("video/mp4").build(),
+                FileDto.MultipartUploadInitiateRequest.builder().originalFileName("resume.mp4").fileSize(PART_SIZE * 4).build(),
+                4);
+        flushAndClear();
+    }
+
+    private User saveUser(String name) {
+        return userRepository.save(User.builder()
+                .email(name + "@test.com")
+                .username("user_" + UUID.randomUUID())
+                .nickname(name)
+                .password("password")
+                .role(Role.USER)
+                .userType(UserType.COMMON)
+                .isEmailVerified(true)
+                .build());
+    }
+
+    private S3ServiceDto.UploadedPart uploaded(int partNumber, long size) {
+        return S3ServiceDto.UploadedPart.builder().partNumber(partNumber).etag("\"etag-" + partNumber + "\"").size(size).build();
+    }
+
+    @Test
+    @DisplayName("S3에 올라간 Part만 확인으로 인정하고, 누락 Part에 새 Presigned URL을 발급한다.")
+    void resumeReturnsMissingParts() {
+        // given: 클라이언트는 1~3을 ack 했지만 S3에는 1, 3만 존재 + 3은 크기 불일치(중간에 끊김)
+        uploadSessionService.acknowledge(user.getId(), UPLOAD_ID, List.of(
+                FileDto.Part.builder().partNumber(1).etag("\"etag-1\"").build(),
+                FileDto.Part.builder().partNumber(2).etag("\"etag-2\"").build(),
+                FileDto.Part.builder().partNumber(3).etag("\"etag-3\"").build()));
+        given(s3Service.listUploadedParts(eq(KEY), eq(UPLOAD_ID)))
+                .willReturn(List.of(uploaded(1, PART_SIZE), uploaded(3, PART_SIZE - 1)));
+
+        // when
+        FileDto.UploadResumeResponse response = uploadSessionService.resume(user.getId(), UPLOAD_ID);
+        flushAndClear();
+
+        // then
+        assertThat(response.getConfirmedParts()).extracting(FileDto.Part::getPartNumber).containsExactly(1);
+        assertThat(response.getMissingPartNumbers()).containsExactly(2, 3, 4);
+        assertThat(response.getPartPresignedUrls()).extracting(FileDto.PartPresignedUrl::getPartNumber)
+                .containsExactly(2, 3, 4);
+
+        // S3에 없는 ack(2)와 크기 불일치(3)는 제거
+        UploadSession session = uploadSessionRepository.findByUploadId(UPLOAD_ID).orElseThrow();
+        assertThat(uploadSessionPartRepository.findAllBySessionIdOrderByPartNumberAsc(session.getId()))
+                .extracting(UploadSessionPart::getPartNumber).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 세션은 ack/resume 할 수 없다.")
+    void rejectsOtherUser() {
+        assertThatThrownBy(() -> uploadSessionService.resume(strangerUser.getId(), UPLOAD_ID))
+                .isInstanceOf(RestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_ACCESS_DENIED);
+        assertThatThrownBy(() -> uploadSessionService.acknowledge(strangerUser.getId(), UPLOAD_ID,
+                List.of(FileDto.Part.builder().partNumber(1).etag("\"etag-1\"").build())))
+                .isInstanceOf(RestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_ACCESS_DENIED);
+    }
+
+    @Test
+    @DisplayName("Part URL 추가 발급은 세션의 키/크기로 서명하고, 다른 사용자의 세션은 서명하거나 활동 시각을 갱신할 수 없다.")
+    void presignsOnlyOwnSession() {
+        // given
+        FileDto.PartPresignRequest request = FileDto.PartPresignRequest.builder()
+                .uploadId(UPLOAD_ID).fromPartNumber(3).toPartNumber(4).build();
+        LocalDateTime openedAt = uploadSessionRepository.findByUploadId(UPLOAD_ID).orElseThrow().getLastActivityAt();
+
+        // when & then: 다른 사용자
+        assertThatThrownBy(() -> uploadSessionService.presignParts(strangerUser.getId(), request))
+                .isInstanceOf(RestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_ACCESS_DENIED);
+        flushAndClear();
+        assertThat(uploadSessionRepository.findByUploadId(UPLOAD_ID).orElseThrow().getLastActivityAt()).isEqualTo(openedAt);
+
+        // when: 소유자
+        FileDto.PartPresignResponse response = uploadSessionService.presignParts(user.getId(), request);
+
+        // then
+        assertThat(response.getKey()).isEqualTo(KEY);
+        assertThat(response.getPartCount()).isEqualTo(4);
+        assertThat(response.getPartPresignedUrls()).extracting(FileDto.PartPresignedUrl::getPartNumber)
+                .containsExactly(3, 4);
+        verify(s3Service).generatePartPresignedUrls(argThat(signed ->
+                KEY.equals(signed.getKey()) && Long.valueOf(PART_SIZE * 4).equals(signed.getFileSize())));
+    }
+
+    @Test
+    @DisplayName("세션 Part 수를 넘는 구간은 서명하지 않는다.")
+    void rejectsPresignBeyondPartCount() {
+        FileDto.PartPresignRequest request = FileDto.PartPresignRequest.builder()
+                .uploadId(UPLOAD_ID).fromPartNumber(4).toPartNumber(5).build();
+
+        assertThatThrownBy(() -> uploadSessionService.presignParts(user.getId(), request))
+                .isInstanceOf(RestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.GLOBAL_BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 Part 번호는 거부한다.")
+    void rejectsOutOfRangePart() {
+        assertThatThrownBy(() -> uploadSessionService.acknowledge(user.getId(), UPLOAD_ID,
+                List.of(FileDto.Part.builder().partNumber(5).etag("\"etag-5\"").build())))
+                .isInstanceOf(RestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.GLOBAL_BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("종료된 세션은 재개할 수 없고, 보관 기간이 지나면 삭제된다.")
+    void closedSessionCannotResume() {
+        // given
+        uploadSessionService.close(UPLOAD_ID, UploadSessionStatus.ABORTED);
+        flushAndClear();
+
+        // when & then
+        assertThatThrownBy(() -> uploadSessionService.resume(user.getId(), UPLOAD_ID))
+                .isInstanceOf(RestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.UPLOAD_SESSION_CLOSED);
+
+        assertThat(uploadSessionService.purgeClosed(LocalDateTime.now().plusMinutes(1), 100)).isEqualTo(1);
+        assertThat(uploadSessionRepository.findByUploadId(UPLOAD_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("미활동 세션은 Sweep 대상이고, 활동 중인 세션은 고아 업로드에서 제외된다.")
+    void findsStaleAndActiveSessions() {
+        assertThat(uploadSessionService.findStale(LocalDateTime.now().plusMinutes(1), 10))
+                .extracting(UploadSession::getUploadId).contains(UPLOAD_ID);
+        assertThat(uploadSessionService.findActiveUploadIds(List.of(UPLOAD_ID, "orphan"), LocalDateTime.now().minusHours(1)))
+                .containsExactly(UPLOAD_ID);
+    }
+}
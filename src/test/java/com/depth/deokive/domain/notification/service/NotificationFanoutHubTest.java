@@ -0,0 +1,125 @@
+package com.depth.deokive.domain.notification.service;
+
+import com.depth.deokive.common.test.IntegrationTestSupport;
+import com.depth.deokive.domain.notification.dto.event.NotificationEvent;
+import com.depth.deokive.domain.notification.entity.enums.NotificationType;
+import com.depth.deokive.domain.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("알림 Fan-out Hub 테스트 (Redis Pub/Sub)")
+class NotificationFanoutHubTest extends IntegrationTestSupport {
+
+    @Autowired NotificationFanoutHub notificationFanoutHub;
+    @Autowired NotificationRepository notificationRepository;
+    @Autowired MeterRegistry meterRegistry;
+
+    private final List<Long> registeredUsers = new CopyOnWriteArrayList<>();
+    private final List<SseEmitter> registeredEmitters = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (int i = 0; i < registeredUsers.size(); i++) {
+            notificationRepository.delete(registeredUsers.get(i), registeredEmitters.get(i));
+        }
+    }
+
+    private RecordingEmitter connect(Long userId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        notificationRepository.save(userId, emitter);
+        registeredUsers.add(userId);
+        registeredEmitters.add(emitter);
+        return emitter;
+    }
+
+    @Test
+    @DisplayName("같은 유저의 여러 연결(탭/기기) 모두에 전달된다.")
+    void deliversToAllEmittersOfUser() {
+        // given
+        Long userId = 70_001L;
+        RecordingEmitter tab1 = connect(userId);
+        RecordingEmitter tab2 = connect(userId);
+
+        // when & then: 샤드 SUBSCRIBE 반영 전일 수 있으므로 전달될 때까지 재발행
+        await().atMost(5, TimeUnit.SECONDS).pollInterval(200, TimeUnit.MILLISECONDS).until(() -> {
+            notificationFanoutHub.publish(userId, NotificationType.FRIEND_REQUEST.name(), 1L,
+                    NotificationEvent.of(userId, 1L, NotificationType.FRIEND_REQUEST, "친구 요청", null));
+            return tab1.sentCount > 0;
+        });
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(tab2.sentCount).isEqualTo(tab1.sentCount));
+        assertThat(notificationRepository.get(userId)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("구독 중인 샤드라도 이 노드에 연결이 없는 유저의 메시지는 본문을 처리하지 않고 건너뛴다.")
+    void skipsUsersNotHeldByThisNode() {
+        // given: 70_999와 같은 샤드(16 샤드 기준)의 다른 유저만 연결
+        connect(71_015L);
+        double before = skippedCount();
+
+        // when & then
+        await().atMost(5, TimeUnit.SECONDS).pollInterval(200, TimeUnit.MILLISECONDS).until(() -> {
+            notificationFanoutHub.publish(70_999L, NotificationType.FRIEND_ACCEPT.name(), 2L,
+                    NotificationEvent.of(70_999L, 1L, NotificationType.FRIEND_ACCEPT, "친구 수락", null));
+            return skippedCount() > before;
+        });
+    }
+
+    @Test
+    @DisplayName("연결된 유저의 샤드만 구독하고, 마지막 연결이 끊기면 구독을 해제한다.")
+    void subscribesOnlyShardsOfConnectedUsers() {
+        // given
+        int before = notificationFanoutHub.subscribedShardCount();
+
+        // when: 같은 유저의 두 탭
+        RecordingEmitter tab1 = connect(70_003L);
+        RecordingEmitter tab2 = connect(70_003L);
+
+        // then
+        assertThat(notificationFanoutHub.subscribedShardCount()).isEqualTo(before + 1);
+
+        // when: 한 탭만 종료 -> 구독 유지, 모두 종료 -> 구독 해제
+        notificationRepository.delete(70_003L, tab1);
+        assertThat(notificationFanoutHub.subscribedShardCount()).isEqualTo(before + 1);
+        notificationRepository.delete(70_003L, tab2);
+        assertThat(notificationFanoutHub.subscribedShardCount()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("연결 하나를 끊어도 같은 유저의 나머지 연결은 유지된다.")
+    void deleteRemovesOnlyThatEmitter() {
+        Long userId = 70_002L;
+        RecordingEmitter tab1 = connect(userId);
+        connect(userId);
+
+        notificationRepository.delete(userId, tab1);
+
+        assertThat(notificationRepository.get(userId)).hasSize(1);
+        assertThat(notificationRepository.contains(userId)).isTrue();
+    }
+
+    private double skippedCount() {
+        return meterRegistry.get("notification.fanout.messages").tag("result", "skipped").counter().count();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private volatile int sentCount;
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) {
+            sentCount++;
+        }
+    }
+}
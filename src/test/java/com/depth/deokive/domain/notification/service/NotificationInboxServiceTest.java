@@ -0,0 +1,143 @@
+package com.depth.deokive.domain.notification.service;
+
+import com.depth.deokive.common.test.IntegrationTestSupport;
+import com.depth.deokive.domain.notification.dto.NotificationDto;
+import com.depth.deokive.domain.notification.dto.event.NotificationEvent;
+import com.depth.deokive.domain.notification.entity.enums.NotificationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("알림 Inbox 테스트")
+class NotificationInboxServiceTest extends IntegrationTestSupport {
+
+    private static final Long RECEIVER_ID = 80_001L;
+    private static final Long OTHER_ID = 80_002L;
+
+    @Autowired NotificationInboxService notificationInboxService;
+    @Autowired RedisTemplate<String, Long> longRedisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        longRedisTemplate.delete(List.of("notification:unread:" + RECEIVER_ID, "notification:unread:" + OTHER_ID));
+    }
+
+    private List<Long> appendAll(Long receiverId, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(notificationInboxService.append(
+                    NotificationEvent.of(receiverId, 1L, NotificationType.FRIEND_REQUEST, "친구 요청 " + i, null)));
+        }
+        flushAndClear();
+        return ids;
+    }
+
+    @Test
+    @DisplayName("Inbox는 최신순 Keyset Pagination으로 조회된다.")
+    void getInbox_KeysetPagination() {
+        // given
+        List<Long> ids = appendAll(RECEIVER_ID, 5);
+        appendAll(OTHER_ID, 2);
+
+        // when
+        NotificationDto.SliceResponse first = notificationInboxService.getInbox(RECEIVER_ID, null, 3);
+        NotificationDto.SliceResponse second = notificationInboxService.getInbox(RECEIVER_ID, first.getNextCursor(), 3);
+
+        // then
+        assertThat(first.getContent()).extracting(NotificationDto.Response::getNotificationId)
+                .containsExactly(ids.get(4), ids.get(3), ids.get(2));
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getContent()).extracting(NotificationDto.Response::getNotificationId)
+                .containsExactly(ids.get(1), ids.get(0));
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(first.getUnreadCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 이후의 알림만 오래된 순으로 Replay 대상이 된다.")
+    void findAfter_ReplaysMissedEvents() {
+        // given
+        List<Long> ids = appendAll(RECEIVER_ID, 4);
+
+        // when
+        List<NotificationEvent> missed = notificationInboxService.findAfter(RECEIVER_ID, ids.get(1));
+
+        // then
+        assertThat(missed).extracting(NotificationEvent::getNotificationId).containsExactly(ids.get(2), ids.get(3));
+        assertThat(notificationInboxService.findAfter(RECEIVER_ID, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일괄 읽음 처리는 본인 알림만 반영하고, 읽지 않은 수를 함께 갱신한다.")
+    void markAsRead_UpdatesUnreadCounter() {
+        // given
+        List<Long> mine = appendAll(RECEIVER_ID, 3);
+        List<Long> others = appendAll(OTHER_ID, 1);
+        assertThat(notificationInboxService.getUnreadCount(RECEIVER_ID)).isEqualTo(3); // Cache 적재
+
+        // when: 타인 알림 ID가 섞여 있어도 무시
+        long remaining = notificationInboxService.markAsRead(RECEIVER_ID, List.of(mine.get(0), mine.get(1), others.get(0)));
+
+        // then
+        assertThat(remaining).isEqualTo(1);
+        assertThat(longRedisTemplate.opsForValue().get("notification:unread:" + RECEIVER_ID)).isEqualTo(1L);
+        assertThat(notificationInboxService.getUnreadCount(OTHER_ID)).isEqualTo(1);
+
+        // when: 전체 읽음
+        notificationInboxService.markAllAsRead(RECEIVER_ID);
+
+        // then
+        assertThat(notificationInboxService.getUnreadCount(RECEIVER_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("Cache가 없을 때의 증가는 무시되고, 다음 조회 시 DB 기준으로 재적재된다.")
+    void incrementUnread_WithoutCache_RecountsFromDb() {
+        // given
+        appendAll(RECEIVER_ID, 2);
+
+        // when
+        notificationInboxService.incrementUnread(RECEIVER_ID);
+
+        // then
+        assertThat(notificationInboxService.getUnreadCount(RECEIVER_ID)).isEqualTo(2);
+        notificationInboxService.incrementUnread(RECEIVER_ID);
+        assertThat(notificationInboxService.getUnreadCount(RECEIVER_ID)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재적재/초기화된 안 읽은 수 캐시는 TTL을 가지며, 증감 후에도 TTL이 유지된다.")
+    void unreadCache_HasTtl() {
+        // given
+        String key = "notification:unread:" + RECEIVER_ID;
+        List<Long> ids = appendAll(RECEIVER_ID, 2);
+
+        // when: 재적재
+        assertThat(notificationInboxService.getUnreadCount(RECEIVER_ID)).isEqualTo(2);
+
+        // then
+        assertThat(longRedisTemplate.getExpire(key)).isPositive();
+
+        // when: 0 미만 보정 경로
+        longRedisTemplate.opsForValue().set(key, 0L, Duration.ofHours(1));
+        notificationInboxService.markAsRead(RECEIVER_ID, ids);
+
+        // then
+        assertThat(longRedisTemplate.getExpire(key)).isPositive();
+
+        // when: 전체 읽음
+        notificationInboxService.markAllAsRead(RECEIVER_ID);
+
+        // then
+        assertThat(longRedisTemplate.getExpire(key)).isPositive();
+    }
+}
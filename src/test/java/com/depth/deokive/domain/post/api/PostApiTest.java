@@ -350,7 +350,7 @@ class PostApiTest extends ApiTestSupport {
                     .statusCode(HttpStatus.OK.value());
             
             // DB 반영 후 검증
-            given().get("/api/v1/posts/{id}", postId)
+            given().get("/api/v1/posts/{id}/stats", postId)
                     .then().body("viewCount", equalTo((int) initial + 2));
         }
 
@@ -139,7 +139,7 @@ class PostLikeApiTest extends ApiTestSupport {
 
             // 3. 검증 (Redis API 조회)
             given().cookie("ATK", ownerToken)
-                    .get("/api/v1/posts/{postId}", targetPostId)
+                    .get("/api/v1/posts/{postId}/stats", targetPostId)
                     .then()
                     .body("likeCount", equalTo(threadCount));
 
@@ -0,0 +1,101 @@
+package com.depth.deokive.domain.post.service;
+
+import com.depth.deokive.common.test.IntegrationTestSupport;
+import com.depth.deokive.domain.post.dto.PostDto;
+import com.depth.deokive.domain.post.entity.enums.Category;
+import com.depth.deokive.domain.user.entity.User;
+import com.depth.deokive.domain.user.entity.enums.Role;
+import com.depth.deokive.domain.user.entity.enums.UserType;
+import com.depth.deokive.system.security.model.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("게시글 상세 Read Model 캐시 통합 테스트")
+class PostDetailCacheTest extends IntegrationTestSupport {
+
+    @Autowired PostService postService;
+    @Autowired PostDetailCache postDetailCache;
+
+    private User writer;
+    private User reader;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        writer = createUser("Writer");
+        reader = createUser("Reader");
+        setupMockUser(writer);
+        request = new MockHttpServletRequest();
+    }
+
+    private User createUser(String nickname) {
+        return userRepository.save(User.builder()
+                .email("detail_" + UUID.randomUUID() + "@test.com")
+                .username("user_" + UUID.randomUUID())
+                .nickname(nickname)
+                .password("password")
+                .role(Role.USER)
+                .userType(UserType.COMMON)
+                .isEmailVerified(true)
+                .build());
+    }
+
+    private Long createPost(String title) {
+        PostDto.CreateRequest createRequest = PostDto.CreateRequest.builder()
+                .title(title).content("Content").category(Category.IDOL).build();
+        return postService.createPost(UserPrincipal.from(writer), createRequest).getId();
+    }
+
+    @Test
+    @DisplayName("본문은 무효화 전까지 캐시된 값을 재사용하고, 무효화 후 다시 조립된다.")
+    void reusesDetailUntilEvicted() {
+        // given
+        Long postId = createPost("Original Title");
+        PostDto.Response first = postService.getPost(UserPrincipal.from(reader), postId, request);
+
+        // when: 이벤트 없이 DB만 변경
+        em.createQuery("UPDATE Post p SET p.title = :title WHERE p.id = :id")
+                .setParameter("title", "Changed Title").setParameter("id", postId)
+                .executeUpdate();
+        flushAndClear();
+        PostDto.Response cached = postService.getPost(UserPrincipal.from(reader), postId, request);
+
+        // then
+        assertThat(first.getTitle()).isEqualTo("Original Title");
+        assertThat(cached.getTitle()).isEqualTo("Original Title");
+
+        // when: 무효화 (커밋 후 ContentChangedEvent 경로와 동일)
+        postDetailCache.evict(List.of(postId));
+        PostDto.Response reloaded = postService.getPost(UserPrincipal.from(reader), postId, request);
+
+        // then
+        assertThat(reloaded.getTitle()).isEqualTo("Changed Title");
+    }
+
+    @Test
+    @DisplayName("본문이 캐시된 상태에서도 좋아요 수와 좋아요 여부는 조회 시점 값으로 덮어쓴다.")
+    void overlaysLiveLikeOnCachedDetail() {
+        // given
+        Long postId = createPost("Liked");
+        PostDto.Response before = postService.getPost(UserPrincipal.from(reader), postId, request);
+
+        // when
+        postService.toggleLike(UserPrincipal.from(reader), postId);
+        PostDto.Response after = postService.getPost(UserPrincipal.from(reader), postId, request);
+
+        // then
+        assertThat(before.getLikeCount()).isZero();
+        assertThat(before.getIsLiked()).isFalse();
+        assertThat(after.getLikeCount()).isEqualTo(1L);
+        assertThat(after.getIsLiked()).isTrue();
+        assertThat(after.getCommentCount()).isZero();
+    }
+}
@@ -497,6 +497,25 @@ class PostServiceTest extends IntegrationTestSupport {
             assertThat(postFileMapRepository.findAllByPostIdOrderBySequenceAsc(post.getId())).hasSize(2);
         }
 
+        @Test
+        @DisplayName("SCENE 17-1: 게시글을 읽은 뒤 다른 경로(썸네일 완료)가 버전을 올려도 수정은 그 위에서 증가시킨다.")
+        void updatePost_BumpsVersionAtomically() {
+            // given: 수정 전에 엔티티가 이미 로드된 상태에서 썸네일 완료가 버전을 올림
+            long before = postRepository.findContentVersionById(post.getId()).orElseThrow();
+            postRepository.findById(post.getId()).orElseThrow();
+            em.createNativeQuery("UPDATE post SET content_version = content_version + 1 WHERE id = :id")
+                    .setParameter("id", post.getId())
+                    .executeUpdate();
+
+            // when
+            postService.updatePost(UserPrincipal.from(userA), post.getId(),
+                    PostDto.UpdateRequest.builder().title("Concurrent").build());
+            flushAndClear();
+
+            // then: 로드 시점 값 + 1로 덮어쓰지 않음
+            assertThat(postRepository.findContentVersionById(post.getId())).contains(before + 2);
+        }
+
         @Test
         @DisplayName("SCENE 18~20: 부분 수정 (제목만/내용만/카테고리만)")
         void updatePost_Partial() {
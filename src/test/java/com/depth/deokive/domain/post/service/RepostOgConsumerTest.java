@@ -0,0 +1,86 @@
+package com.depth.deokive.domain.post.service;
+
+import com.depth.deokive.domain.post.dto.OgMetadata;
+import com.depth.deokive.domain.post.dto.RepostCompletedEvent;
+import com.depth.deokive.domain.post.dto.RepostOgExtractionMessage;
+import com.depth.deokive.domain.post.entity.enums.RepostStatus;
+import com.depth.deokive.system.metadata.strategy.MetadataProviderFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Repost OG Consumer 실패 처리 테스트")
+class RepostOgConsumerTest {
+
+    private static final RepostOgExtractionMessage MESSAGE =
+            new RepostOgExtractionMessage(1L, 7L, "https://example.com/article");
+
+    private RepostCompletionAggregator aggregator;
+    private MetadataProviderFactory factory;
+    private RepostOgConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = mock(RepostCompletionAggregator.class);
+        factory = mock(MetadataProviderFactory.class);
+        consumer = new RepostOgConsumer(aggregator, factory);
+    }
+
+    private RepostCompletedEvent submitted() {
+        ArgumentCaptor<RepostCompletedEvent> captor = ArgumentCaptor.forClass(RepostCompletedEvent.class);
+        verify(aggregator, times(1)).submitAndWait(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("추출 실패는 FAILED로 반영하고 정상 종료(Ack)한다.")
+    void marksFailedOnExtractionError() {
+        // given
+        given(factory.extract(any())).willThrow(new IllegalStateException("timeout"));
+        given(aggregator.submitAndWait(any())).willReturn(true);
+
+        // when
+        consumer.extractAndUpdateOgMetadata(MESSAGE);
+
+        // then
+        assertThat(submitted().getStatus()).isEqualTo(RepostStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("추출 성공 후 반영이 실패하면 FAILED로 덮지 않고 예외를 전파해 재전달받는다.")
+    void rethrowsPersistenceFailure() {
+        // given
+        given(factory.extract(any())).willReturn(OgMetadata.builder().title("Title").build());
+        given(aggregator.submitAndWait(any())).willThrow(new DataAccessResourceFailureException("db down"));
+
+        // when & then
+        assertThatThrownBy(() -> consumer.extractAndUpdateOgMetadata(MESSAGE))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(submitted().getStatus()).isEqualTo(RepostStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("반영 대기 시간 초과도 예외를 전파한다.")
+    void rethrowsAggregatorTimeout() {
+        // given
+        given(factory.extract(any())).willReturn(OgMetadata.builder().title("Title").build());
+        given(aggregator.submitAndWait(any())).willThrow(new CompletionException(new TimeoutException()));
+
+        // when & then
+        assertThatThrownBy(() -> consumer.extractAndUpdateOgMetadata(MESSAGE))
+                .isInstanceOf(CompletionException.class);
+    }
+}
@@ -0,0 +1,149 @@
+package com.depth.deokive.domain.post.service;
+
+import com.depth.deokive.common.enums.Visibility;
+import com.depth.deokive.common.test.IntegrationTestSupport;
+import com.depth.deokive.domain.archive.dto.ArchiveDto;
+import com.depth.deokive.domain.archive.service.ArchiveService;
+import com.depth.deokive.domain.post.dto.RepostCompletedEvent;
+import com.depth.deokive.domain.post.dto.RepostDto;
+import com.depth.deokive.domain.post.entity.Repost;
+import com.depth.deokive.domain.post.entity.enums.RepostStatus;
+import com.depth.deokive.domain.post.repository.RepostRepository;
+import com.depth.deokive.domain.user.entity.User;
+import com.depth.deokive.domain.user.entity.enums.Role;
+import com.depth.deokive.domain.user.entity.enums.UserType;
+import com.depth.deokive.system.security.model.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RepostOgUpdateService Batch 반영 테스트")
+class RepostOgUpdateServiceTest extends IntegrationTestSupport {
+
+    @Autowired RepostOgUpdateService repostOgUpdateService;
+    @Autowired RepostService repostService;
+    @Autowired ArchiveService archiveService;
+    @Autowired RepostRepository repostRepository;
+
+    private User user;
+    private Long tabId;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("og-batch@test.com").username("user_" + UUID.randomUUID()).nickname("OgBatch")
+                .password("password").role(Role.USER).userType(UserType.COMMON).isEmailVerified(true).build());
+        setupMockUser(user);
+
+        ArchiveDto.CreateRequest archiveReq = new ArchiveDto.CreateRequest();
+        archiveReq.setTitle("OG Batch Archive");
+        archiveReq.setVisibility(Visibility.PUBLIC);
+        Long archiveId = archiveService.createArchive(UserPrincipal.from(user), archiveReq).getId();
+        tabId = repostService.createRepostTab(UserPrincipal.from(user), archiveId).getId();
+    }
+
+    private Long createRepost(String url) {
+        RepostDto.CreateRequest req = new RepostDto.CreateRequest();
+        req.setUrl(url);
+        return repostService.createRepost(UserPrincipal.from(user), tabId, req).getId();
+    }
+
+    @Test
+    @DisplayName("완료/실패 결과를 한 번에 반영하고, 반영된 이벤트만 반환한다.")
+    void applyBatch_CompletedAndFailed() {
+        // given
+        Long completedId = createRepost("https://twitter.com/test/status/1");
+        Long failedId = createRepost("https://twitter.com/test/status/2");
+        flushAndClear();
+
+        // when
+        List<RepostCompletedEvent> applied = repostOgUpdateService.applyBatch(List.of(
+                RepostCompletedEvent.completed(user.getId(), completedId, "x".repeat(300), "https://img.example.com/1.png"),
+                RepostCompletedEvent.failed(user.getId(), failedId)
+        ));
+        flushAndClear();
+
+        // then
+        assertThat(applied).extracting(RepostCompletedEvent::getRepostId).containsExactlyInAnyOrder(completedId, failedId);
+
+        Repost completed = repostRepository.findById(completedId).orElseThrow();
+        assertThat(completed.getStatus()).isEqualTo(RepostStatus.COMPLETED);
+        assertThat(completed.getTitle()).hasSize(255);
+        assertThat(completed.getThumbnailUrl()).isEqualTo("https://img.example.com/1.png");
+
+        assertThat(repostRepository.findById(failedId).orElseThrow().getStatus()).isEqualTo(RepostStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("PENDING이 아닌 Repost(중복 메시지/이미 처리됨)와 삭제된 Repost는 반영하지 않는다.")
+    void applyBatch_SkipsNonPending() {
+        // given
+        Long repostId = createRepost("https://twitter.com/test/status/3");
+        flushAndClear();
+        repostOgUpdateService.applyBatch(List.of(
+                RepostCompletedEvent.completed(user.getId(), repostId, "First", null)));
+        flushAndClear();
+
+        // when: 같은 Repost에 대한 재전송 + 존재하지 않는 Repost
+        List<RepostCompletedEvent> applied = repostOgUpdateService.applyBatch(List.of(
+                RepostCompletedEvent.failed(user.getId(), repostId),
+                RepostCompletedEvent.completed(user.getId(), 999_999L, "Ghost", null)
+        ));
+        flushAndClear();
+
+        // then
+        assertThat(applied).isEmpty();
+        Repost repost = repostRepository.findById(repostId).orElseThrow();
+        assertThat(repost.getStatus()).isEqualTo(RepostStatus.COMPLETED);
+        assertThat(repost.getTitle()).isEqualTo("First");
+    }
+
+    @Test
+    @DisplayName("컬럼 길이를 넘는 썸네일 URL은 버리고 완료 처리하며, 반환 이벤트에도 보정된 값을 담는다.")
+    void applyBatch_DropsOversizedThumbnailUrl() {
+        // given
+        Long repostId = createRepost("https://twitter.com/test/status/4");
+        flushAndClear();
+        String oversized = "https://img.example.com/" + "a".repeat(2048);
+
+        // when
+        List<RepostCompletedEvent> applied = repostOgUpdateService.applyBatch(List.of(
+                RepostCompletedEvent.completed(user.getId(), repostId, "Title", oversized)));
+        flushAndClear();
+
+        // then
+        assertThat(applied).singleElement().satisfies(event -> assertThat(event.getThumbnailUrl()).isNull());
+        Repost repost = repostRepository.findById(repostId).orElseThrow();
+        assertThat(repost.getStatus()).isEqualTo(RepostStatus.COMPLETED);
+        assertThat(repost.getThumbnailUrl()).isNull();
+    }
+
+    @Test
+    @DisplayName("건별 반영(Batch 실패 시 재시도 경로)도 PENDING인 Repost에만 반영한다.")
+    void applyOne_AppliesOnlyPending() {
+        // given
+        Long repostId = createRepost("https://twitter.com/test/status/5");
+        flushAndClear();
+
+        // when
+        Optional<RepostCompletedEvent> first = repostOgUpdateService.applyOne(
+                RepostCompletedEvent.completed(user.getId(), repostId, "x".repeat(300), "https://img.example.com/5.png"));
+        Optional<RepostCompletedEvent> duplicate = repostOgUpdateService.applyOne(
+                RepostCompletedEvent.failed(user.getId(), repostId));
+        flushAndClear();
+
+        // then
+        assertThat(first).hasValueSatisfying(event -> assertThat(event.getTitle()).hasSize(255));
+        assertThat(duplicate).isEmpty();
+        Repost repost = repostRepository.findById(repostId).orElseThrow();
+        assertThat(repost.getStatus()).isEqualTo(RepostStatus.COMPLETED);
+        assertThat(repost.getThumbnailUrl()).isEqualTo("https://img.example.com/5.png");
+    }
+}
@@ -0,0 +1,120 @@
+package com.depth.deokive.domain.post.service;
+
+import com.depth.deokive.common.test.IntegrationTestSupport;
+import com.depth.deokive.domain.post.dto.RepostCompletedEvent;
+import com.depth.deokive.system.config.sse.SseConnectionManager;
+import com.depth.deokive.system.config.sse.SseEmitterRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("Repost 완료 이벤트 샤드 라우팅 테스트")
+class RepostSseSubscriberTest extends IntegrationTestSupport {
+
+    @Autowired RepostSseSubscriber repostSseSubscriber;
+    @Autowired RepostCompletionCache repostCompletionCache;
+    @Autowired SseConnectionManager sseConnectionManager;
+    @Autowired RedisTemplate<String, Object> redisTemplate;
+    @Autowired ObjectMapper objectMapper;
+
+    private final List<Long> registeredUsers = new CopyOnWriteArrayList<>();
+    private final List<SseEmitter> registeredEmitters = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (int i = 0; i < registeredUsers.size(); i++) {
+            sseConnectionManager.unregister(SseEmitterRegistry.CHANNEL, registeredUsers.get(i), registeredEmitters.get(i));
+        }
+        redisTemplate.delete(List.of("repost:completion:90001", "repost:completion:90002"));
+    }
+
+    private RecordingEmitter connect(Long userId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        sseConnectionManager.register(SseEmitterRegistry.CHANNEL, userId, emitter, "heartbeat");
+        registeredUsers.add(userId);
+        registeredEmitters.add(emitter);
+        return emitter;
+    }
+
+    private void complete(RepostCompletedEvent event) throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(event);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            repostCompletionCache.record(connection, event, json);
+            connection.publish(repostSseSubscriber.channelOf(event.getUserId()).getBytes(StandardCharsets.UTF_8),
+                    RepostSseSubscriber.encode(event.getUserId(), json));
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("연결된 유저의 샤드만 구독하고, 마지막 연결이 끊기면 구독을 해제한다.")
+    void subscribesOnlyShardsOfConnectedUsers() {
+        // given
+        int before = repostSseSubscriber.subscribedShardCount();
+
+        // when: 같은 유저의 두 탭
+        RecordingEmitter tab1 = connect(90_001L);
+        RecordingEmitter tab2 = connect(90_001L);
+
+        // then
+        assertThat(repostSseSubscriber.subscribedShardCount()).isEqualTo(before + 1);
+
+        // when: 한 탭만 종료 -> 구독 유지, 모두 종료 -> 구독 해제
+        sseConnectionManager.unregister(SseEmitterRegistry.CHANNEL, 90_001L, tab1);
+        assertThat(repostSseSubscriber.subscribedShardCount()).isEqualTo(before + 1);
+        sseConnectionManager.unregister(SseEmitterRegistry.CHANNEL, 90_001L, tab2);
+        assertThat(repostSseSubscriber.subscribedShardCount()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("샤드 채널로 발행된 완료 이벤트는 해당 유저의 연결에만 전달된다.")
+    void deliversCompletionThroughUserShard() throws Exception {
+        // given
+        RecordingEmitter emitter = connect(90_001L);
+
+        // when & then: 샤드 SUBSCRIBE 반영 전일 수 있으므로 전달될 때까지 재발행
+        await().atMost(5, TimeUnit.SECONDS).pollInterval(200, TimeUnit.MILLISECONDS).until(() -> {
+            complete(RepostCompletedEvent.completed(90_001L, 1L, "제목", "https://img.example.com/1.png"));
+            return emitter.sentCount > 0;
+        });
+    }
+
+    @Test
+    @DisplayName("구독 전에 완료된 건은 연결 시 캐시에서 Replay되고, 목록 보정용으로 조회된다.")
+    void replaysCompletionsFinishedBeforeSubscribe() throws Exception {
+        // given: 아무도 구독하지 않은 상태에서 완료
+        complete(RepostCompletedEvent.completed(90_002L, 11L, "제목", null));
+        complete(RepostCompletedEvent.failed(90_002L, 12L));
+
+        // when
+        RecordingEmitter emitter = connect(90_002L);
+
+        // then
+        assertThat(emitter.sentCount).isEqualTo(2);
+        Map<Long, RepostCompletedEvent> found = repostCompletionCache.find(90_002L, List.of(11L, 12L, 13L));
+        assertThat(found).containsOnlyKeys(11L, 12L);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private volatile int sentCount;
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) {
+            sentCount++;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.depth.deokive.domain.s3.service;
+
+import com.depth.deokive.domain.s3.dto.S3ServiceDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 멀티파트 Resume 검증 (MinIO)
+ * - Presigned URL로 Part 업로드 후 ListParts / ListMultipartUploads / Abort가 실제 S3 API와 맞는지 확인
+ * - 단일 PUT Presigned URL은 서명된 Content-Type과 다른 요청을 거부하는지 확인
+ */
+@Testcontainers
+@DisplayName("S3 멀티파트/단일 PUT 업로드 테스트 (MinIO)")
+class S3MultipartMinioTest {
+
+    private static final String BUCKET = "deokive-test";
+    private static final long PART_SIZE = 5L * 1024 * 1024; // S3 최소 Part 크기
+
+    @Container
+    static final MinIOContainer MINIO = new MinIOContainer("minio/minio:RELEASE.2024-01-16T16-07-38Z");
+
+    private S3Client s3Client;
+    private S3Presigner presigner;
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() {
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(MINIO.getUserName(), MINIO.getPassword()));
+        URI endpoint = URI.create(MINIO.getS3URL());
+
+        s3Client = S3Client.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .endpointOverride(endpoint)
+                .forcePathStyle(true)
+                .build();
+        presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .endpointOverride(endpoint)
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+
+        if (s3Client.listBuckets().buckets().stream().noneMatch(b -> b.name().equals(BUCKET))) {
+            s3Client.createBucket(b -> b.bucket(BUCKET));
+        }
+
+        s3Service = new S3Service(s3Client, presigner);
+        ReflectionTestUtils.setField(s3Service, "bucketName", BUCKET);
+    }
+
+    @AfterEach
+    void tearDown() {
+        presigner.close();
+        s3Client.close();
+    }
+
+    @Test
+    @DisplayName("Presigned URL로 올린 Part는 ListParts에 크기와 함께 조회되고, 중단 후에는 사라진다.")
+    void listsUploadedPartsAndAborts() throws Exception {
+        // given
+        S3ServiceDto.UploadInitiateResponse upload = s3Service.initiateUpload(S3ServiceDto.UploadInitiateRequest.builder()
+                .originFileName("resume.mp4").mimeType("video/mp4").fileSize(PART_SIZE * 3).build());
+
+        // when: Part 1, 3만 업로드 (2번은 연결 끊김 가정)
+        String etag1 = putPart(upload, 1);
+        String etag3 = putPart(upload, 3);
+
+        // then: ListParts 기준으로 확인
+        assertThat(s3Service.listUploadedParts(upload.getKey(), upload.getUploadId()))
+                .extracting(S3ServiceDto.UploadedPart::getPartNumber, S3ServiceDto.UploadedPart::getSize)
+                .containsExactly(
+                        tuple(1, PART_SIZE),
+                        tuple(3, PART_SIZE));
+        assertThat(s3Service.listUploadedParts(upload.getKey(), upload.getUploadId()))
+                .extracting(S3ServiceDto.UploadedPart::getEtag)
+                .containsExactly(etag1, etag3);
+
+        assertThat(s3Service.listMultipartUploads(Instant.now().plusSeconds(60)))
+                .extracting(S3ServiceDto.MultipartUploadSummary::getUploadId)
+                .contains(upload.getUploadId());
+
+        // when: 중단
+        s3Service.abortUpload(S3ServiceDto.AbortUploadRequest.builder()
+                .key(upload.getKey()).uploadId(upload.getUploadId()).build());
+
+        // then
+        assertThat(s3Service.listMultipartUploads(Instant.now().plusSeconds(60)))
+                .extracting(S3ServiceDto.MultipartUploadSummary::getUploadId)
+                .doesNotContain(upload.getUploadId());
+        assertThatThrownBy(() -> s3Service.listUploadedParts(upload.getKey(), upload.getUploadId()))
+                .isInstanceOf(NoSuchUploadException.class);
+    }
+
+    @Test
+    @DisplayName("단일 PUT Presigned URL은 서명된 Content-Type으로만 업로드되고, HeadObject로 크기를 확인할 수 있다.")
+    void simpleUploadIsBoundToSignedHeaders() throws Exception {
+        // given
+        byte[] body = new byte[200 * 1024];
+        S3ServiceDto.SimpleUploadResponse upload = s3Service.generateSimpleUploadUrl(S3ServiceDto.UploadInitiateRequest.builder()
+                .originFileName("avatar.png").mimeType("image/png").fileSize((long) body.length).build(), Duration.ofMinutes(5));
+
+        // when: 다른 Content-Type으로 업로드 -> 서명 불일치
+        HttpResponse<Void> rejected = put(upload.getPresignedUrl(), "text/html", body);
+
+        // then
+        assertThat(rejected.statusCode()).isEqualTo(403);
+        assertThat(s3Service.headObject(upload.getKey())).isEmpty();
+
+        // when: 서명된 Content-Type으로 업로드
+        HttpResponse<Void> accepted = put(upload.getPresignedUrl(), upload.getContentType(), body);
+
+        // then
+        assertThat(accepted.statusCode()).isEqualTo(200);
+        assertThat(s3Service.headObject(upload.getKey())).hasValueSatisfying(metadata -> {
+            assertThat(metadata.getSize()).isEqualTo(body.length);
+            assertThat(metadata.getContentType()).isEqualTo("image/png");
+        });
+    }
+
+    private HttpResponse<Void> put(String url, String contentType, byte[] body) throws Exception {
+        return HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create(url))
+                        .header("Content-Type", contentType)
+                        .PUT(HttpRequest.BodyPublishers.ofByteArray(body))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+    }
+
+    private String putPart(S3ServiceDto.UploadInitiateResponse upload, int partNumber) throws Exception {
+        URL url = s3Service.generatePresignedUrl(S3ServiceDto.PresignedUrlRequest.builder()
+                .key(upload.getKey()).uploadId(upload.getUploadId())
+                .partNumber(partNumber).contentLength(PART_SIZE).build());
+
+        HttpResponse<Void> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(url.toURI())
+                        .PUT(HttpRequest.BodyPublishers.ofByteArray(new byte[(int) PART_SIZE]))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response.headers().firstValue("ETag").orElseThrow();
+    }
+}
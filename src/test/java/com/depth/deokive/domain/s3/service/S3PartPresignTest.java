@@ -0,0 +1,80 @@
+package com.depth.deokive.domain.s3.service;
+
+import com.depth.deokive.domain.s3.dto.S3ServiceDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Part Presigned URL 서명 검증
+ * - 서명은 로컬 연산(HMAC)이므로 S3 연결 없이 검증 가능
+ * - 초기화 지연 벤치마크는 src/jmh의 S3PartPresignBenchmark (./gradlew jmh)
+ */
+@DisplayName("S3 Part Presign 병렬/구간 서명 테스트")
+class S3PartPresignTest {
+
+    private static final long GB = 1024L * 1024 * 1024;
+
+    private S3Presigner presigner;
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() {
+        presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test-access", "test-secret")))
+                .build();
+        s3Service = new S3Service(null, presigner);
+        ReflectionTestUtils.setField(s3Service, "bucketName", "bench-bucket");
+    }
+
+    @AfterEach
+    void tearDown() {
+        presigner.close();
+    }
+
+    private S3ServiceDto.PartPresignedUrlRequest request(long fileSize, Integer from, Integer to) {
+        return S3ServiceDto.PartPresignedUrlRequest.builder()
+                .key("videos/bench.mp4").uploadId("bench-upload").fileSize(fileSize)
+                .fromPartNumber(from).toPartNumber(to)
+                .build();
+    }
+
+    @Test
+    @DisplayName("병렬 서명 결과는 Part 순서를 유지하고, Part 크기 합은 파일 크기와 같다.")
+    void parallelPresignKeepsOrderAndSizes() {
+        long fileSize = 3 * GB + 123;
+        int partCount = s3Service.calculatePartCount(fileSize);
+
+        List<S3ServiceDto.PartPresignedUrlResponse> all = s3Service.generatePartPresignedUrls(request(fileSize, null, null));
+
+        assertThat(all).extracting(S3ServiceDto.PartPresignedUrlResponse::getPartNumber)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, partCount).boxed().toList());
+        assertThat(all.stream().mapToLong(S3ServiceDto.PartPresignedUrlResponse::getContentLength).sum()).isEqualTo(fileSize);
+        assertThat(all).allSatisfy(p -> assertThat(p.getPresignedUrl()).contains("partNumber=" + p.getPartNumber()));
+    }
+
+    @Test
+    @DisplayName("구간 요청은 해당 Part만 서명하고, 범위를 넘는 끝 번호는 마지막 Part로 자른다.")
+    void presignsRequestedRangeOnly() {
+        long fileSize = 3 * GB;
+        int partCount = s3Service.calculatePartCount(fileSize);
+
+        List<S3ServiceDto.PartPresignedUrlResponse> range =
+                s3Service.generatePartPresignedUrls(request(fileSize, partCount - 2, partCount + 10));
+
+        assertThat(range).extracting(S3ServiceDto.PartPresignedUrlResponse::getPartNumber)
+                .containsExactly(partCount - 2, partCount - 1, partCount);
+    }
+}
@@ -0,0 +1,253 @@
+package com.depth.deokive.domain.user.service;
+
+import com.depth.deokive.common.enums.Visibility;
+import com.depth.deokive.common.test.IntegrationTestSupport;
+import com.depth.deokive.domain.archive.dto.ArchiveDto;
+import com.depth.deokive.domain.archive.entity.Archive;
+import com.depth.deokive.domain.archive.entity.ArchiveLike;
+import com.depth.deokive.domain.archive.repository.ArchiveLikeRepository;
+import com.depth.deokive.domain.archive.repository.ArchiveRepository;
+import com.depth.deokive.domain.archive.repository.ArchiveStatsRepository;
+import com.depth.deokive.domain.archive.service.ArchiveService;
+import com.depth.deokive.domain.auth.dto.AuthDto;
+import com.depth.deokive.domain.comment.entity.Comment;
+import com.depth.deokive.domain.comment.repository.CommentRepository;
+import com.depth.deokive.domain.file.entity.File;
+import com.depth.deokive.domain.file.entity.enums.MediaRole;
+import com.depth.deokive.domain.file.entity.enums.MediaType;
+import com.depth.deokive.domain.file.repository.FileRepository;
+import com.depth.deokive.domain.file.service.FileCleanupQueue;
+import com.depth.deokive.domain.post.dto.PostDto;
+import com.depth.deokive.domain.post.entity.Post;
+import com.depth.deokive.domain.post.entity.PostLike;
+import com.depth.deokive.domain.post.entity.enums.Category;
+import com.depth.deokive.domain.post.repository.PostLikeRepository;
+import com.depth.deokive.domain.post.repository.PostRepository;
+import com.depth.deokive.domain.post.repository.PostStatsRepository;
+import com.depth.deokive.domain.post.service.PostService;
+import com.depth.deokive.domain.user.entity.User;
+import com.depth.deokive.domain.user.entity.enums.Role;
+import com.depth.deokive.domain.user.entity.enums.UserType;
+import com.depth.deokive.domain.user.service.UserPurgeService.PurgeTarget;
+import com.depth.deokive.system.security.model.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+@DisplayName("탈퇴 유저 콘텐츠 정리 테스트")
+class UserPurgeServiceTest extends IntegrationTestSupport {
+
+    private static final int CHUNK_SIZE = 2; // 여러 chunk에 걸쳐 처리되는지 확인
+    private static final int MAX_CALLS = 50;
+
+    @Autowired UserPurgeService userPurgeService;
+    @Autowired FileCleanupQueue fileCleanupQueue;
+    @Autowired ArchiveService archiveService;
+    @Autowired PostService postService;
+    @Autowired ArchiveRepository archiveRepository;
+    @Autowired ArchiveLikeRepository archiveLikeRepository;
+    @Autowired ArchiveStatsRepository archiveStatsRepository;
+    @Autowired PostRepository postRepository;
+    @Autowired PostStatsRepository postStatsRepository;
+    @Autowired PostLikeRepository postLikeRepository;
+    @Autowired CommentRepository commentRepository;
+    @Autowired FileRepository fileRepository;
+    @Autowired RedisTemplate<String, Object> redisTemplate;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private User withdrawn;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        withdrawn = createTestUser("withdrawn@test.com", "Withdrawn");
+        other = createTestUser("other@test.com", "Other");
+        redisTemplate.delete(FileCleanupQueue.QUEUE_KEY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        redisTemplate.delete(FileCleanupQueue.QUEUE_KEY);
+    }
+
+    @Test
+    @DisplayName("유예 기간이 지난 탈퇴 유저의 콘텐츠를 chunk 단위로 삭제/익명화하고 카운터를 차감한다.")
+    void purgeWithdrawnUserContent() {
+        // given: 탈퇴 유저의 아카이브 2개 + 게시글 3개 (파일 첨부)
+        List<File> files = createFiles(withdrawn, 3);
+        List<Long> archiveIds = List.of(createArchive(withdrawn).getId(), createArchive(withdrawn).getId());
+        List<Long> postIds = new ArrayList<>();
+        for (File file : files) {
+            postIds.add(createPost(withdrawn, file).getId());
+        }
+
+        // given: 타인 콘텐츠에 남긴 흔적
+        Post otherPost = postRepository.findById(createPost(other, null).getId()).orElseThrow();
+        Archive otherArchive = createArchive(other);
+        postLikeRepository.save(PostLike.builder().post(otherPost).user(withdrawn).build());
+        archiveLikeRepository.save(ArchiveLike.builder().archive(otherArchive).user(withdrawn).build());
+        // 비동기 좋아요 반영과 같은 결과를 테스트 트랜잭션 안에서 기록 (REQUIRES_NEW 경로는 미커밋 게시글을 보지 못함)
+        em.flush(); // 통계 행(Shared PK)은 flush 시점에 INSERT
+        jdbcTemplate.update("UPDATE post_stats SET like_count = 1 WHERE post_id = ?", otherPost.getId());
+        jdbcTemplate.update("UPDATE archive_stats SET like_count = 1 WHERE archive_id = ?", otherArchive.getId());
+
+        Comment leaf = saveComment(otherPost, withdrawn, null);
+        Comment threadRoot = saveComment(otherPost, withdrawn, null);
+        Comment othersReply = saveComment(otherPost, other, threadRoot);
+        Comment othersRoot = saveComment(otherPost, other, null);
+        Comment reply = saveComment(otherPost, withdrawn, othersRoot);
+
+        // given: 탈퇴 유저 게시글에 달린 타인의 좋아요/댓글
+        Post withdrawnPost = postRepository.findById(postIds.get(0)).orElseThrow();
+        postLikeRepository.save(PostLike.builder().post(withdrawnPost).user(other).build());
+        Comment receivedRoot = saveComment(withdrawnPost, other, null);
+        saveComment(withdrawnPost, withdrawn, receivedRoot);
+
+        // given: 탈퇴
+        User found = userRepository.findById(withdrawn.getId()).orElseThrow();
+        found.softDelete(AuthDto.SoftDeleteDto.of(found));
+        flushAndClear();
+
+        assertThat(postStatsRepository.findById(otherPost.getId()).orElseThrow().getLikeCount()).isEqualTo(1L);
+        assertThat(archiveStatsRepository.findById(otherArchive.getId()).orElseThrow().getLikeCount()).isEqualTo(1L);
+        assertThat(userPurgeService.findPurgeableIds(LocalDateTime.now().minusHours(1), 100))
+                .doesNotContain(withdrawn.getId()); // 유예 기간 중
+        assertThat(userPurgeService.findPurgeableIds(LocalDateTime.now().plusHours(1), 100))
+                .contains(withdrawn.getId()).doesNotContain(other.getId());
+
+        // when: Job의 Step 순서와 동일하게 실행
+        int archiveCalls = repeatWhile(() -> userPurgeService.purgeArchiveChunk(withdrawn.getId(), CHUNK_SIZE), processed -> processed >= 0);
+        Map<PurgeTarget, Integer> calls = new EnumMap<>(PurgeTarget.class);
+        for (PurgeTarget target : PurgeTarget.values()) {
+            calls.put(target, repeatWhile(() -> userPurgeService.purgeChunk(target, withdrawn.getId(), CHUNK_SIZE), processed -> processed >= CHUNK_SIZE));
+        }
+        long lastFileId = 0L;
+        List<Long> enqueued;
+        while (!(enqueued = userPurgeService.enqueueFiles(withdrawn.getId(), lastFileId, CHUNK_SIZE)).isEmpty()) {
+            lastFileId = enqueued.get(enqueued.size() - 1);
+        }
+        userPurgeService.complete(withdrawn.getId());
+        flushAndClear();
+
+        // then: chunk 단위 반복 (아카이브는 1개씩 + 종료 확인 1회, 게시글 3개는 2 + 1)
+        assertThat(archiveCalls).isEqualTo(archiveIds.size() + 1);
+        assertThat(calls.get(PurgeTarget.POST)).isEqualTo(2);
+
+        // then: 작성 콘텐츠 삭제
+        assertThat(archiveRepository.findAllById(archiveIds)).isEmpty();
+        assertThat(postRepository.findAllById(postIds)).isEmpty();
+        assertThat(commentRepository.existsById(receivedRoot.getId())).isFalse();
+
+        // then: 타인 콘텐츠의 좋아요 삭제 + 통계 차감
+        assertThat(postLikeRepository.existsByPostIdAndUserId(otherPost.getId(), withdrawn.getId())).isFalse();
+        assertThat(archiveLikeRepository.existsByArchiveIdAndUserId(otherArchive.getId(), withdrawn.getId())).isFalse();
+        assertThat(postStatsRepository.findById(otherPost.getId()).orElseThrow().getLikeCount()).isZero();
+        assertThat(archiveStatsRepository.findById(otherArchive.getId()).orElseThrow().getLikeCount()).isZero();
+
+        // then: 댓글은 삭제, 대댓글이 달린 댓글은 익명화 (타인의 댓글은 유지)
+        assertThat(commentRepository.existsById(leaf.getId())).isFalse();
+        assertThat(commentRepository.existsById(reply.getId())).isFalse();
+        assertThat(commentRepository.findById(threadRoot.getId()).orElseThrow().isDeleted()).isTrue();
+        assertThat(commentRepository.existsById(othersReply.getId())).isTrue();
+        assertThat(commentRepository.findById(othersRoot.getId()).orElseThrow().isDeleted()).isFalse();
+
+        // then: 파일은 정리 대기열로, 유저는 재실행 대상에서 제외
+        assertThat(fileCleanupQueue.poll(100)).containsExactlyInAnyOrderElementsOf(files.stream().map(File::getId).toList());
+        assertThat(userRepository.findById(withdrawn.getId()).orElseThrow().getContentPurgedAt()).isNotNull();
+        assertThat(userPurgeService.findPurgeableIds(LocalDateTime.now().plusHours(1), 100)).doesNotContain(withdrawn.getId());
+    }
+
+    /**
+     * Job의 Tasklet 반복과 동일하게 hasMore가 false일 때까지 호출
+     * @return 호출 횟수 (MAX_CALLS를 넘으면 실패 -> 멱등성이 깨져 끝나지 않는 경우 방어)
+     */
+    private static int repeatWhile(IntSupplier chunk, IntPredicate hasMore) {
+        int calls = 0;
+        do {
+            if (++calls > MAX_CALLS) fail("chunk did not converge within " + MAX_CALLS + " calls");
+        } while (hasMore.test(chunk.getAsInt()));
+        return calls;
+    }
+
+    private User createTestUser(String email, String nickname) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .username("user_" + UUID.randomUUID())
+                .nickname(nickname)
+                .password("password")
+                .role(Role.USER)
+                .userType(UserType.COMMON)
+                .isEmailVerified(true)
+                .build());
+    }
+
+    private List<File> createFiles(User owner, int count) {
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String uuid = UUID.randomUUID().toString();
+            files.add(fileRepository.save(File.builder()
+                    .filename("file_" + uuid + ".jpg")
+                    .s3ObjectKey("posts/" + owner.getNickname() + "/" + uuid + ".jpg")
+                    .fileSize(100L)
+                    .mediaType(MediaType.IMAGE)
+                    .createdBy(owner.getId())
+                    .lastModifiedBy(owner.getId())
+                    .build()));
+        }
+        return files;
+    }
+
+    private Archive createArchive(User owner) {
+        setupMockUser(owner);
+        ArchiveDto.CreateRequest req = new ArchiveDto.CreateRequest();
+        req.setTitle("Archive");
+        req.setVisibility(Visibility.PUBLIC);
+
+        ArchiveDto.Response res = archiveService.createArchive(UserPrincipal.from(owner), req);
+        SecurityContextHolder.clearContext();
+        return archiveRepository.findById(res.getId()).orElseThrow();
+    }
+
+    private PostDto.Response createPost(User owner, File file) {
+        setupMockUser(owner);
+        List<PostDto.AttachedFileRequest> attached = file == null
+                ? List.of()
+                : List.of(new PostDto.AttachedFileRequest(file.getId(), MediaRole.PREVIEW, 0));
+
+        PostDto.Response res = postService.createPost(UserPrincipal.from(owner), PostDto.CreateRequest.builder()
+                .title("Title")
+                .content("Content")
+                .category(Category.IDOL)
+                .files(attached)
+                .build());
+        SecurityContextHolder.clearContext();
+        return res;
+    }
+
+    private Comment saveComment(Post post, User writer, Comment parent) {
+        return commentRepository.save(Comment.builder()
+                .content("comment")
+                .post(post)
+                .user(writer)
+                .parent(parent)
+                .build());
+    }
+}
@@ -0,0 +1,91 @@
+package com.depth.deokive.system.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BackgroundThrottle 테스트")
+class BackgroundThrottleTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger requestPending;
+    private AtomicInteger backgroundPending;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        requestPending = new AtomicInteger();
+        backgroundPending = new AtomicInteger();
+        Gauge.builder("hikaricp.connections.pending", requestPending, AtomicInteger::get)
+                .tag("pool", "HikariPool-1").register(meterRegistry);
+        Gauge.builder("hikaricp.connections.pending", backgroundPending, AtomicInteger::get)
+                .tag("pool", "background").register(meterRegistry);
+    }
+
+    private BackgroundThrottle throttle(Duration budget, Duration maxPause) {
+        return new BackgroundThrottle(meterRegistry, "background", budget, 0, maxPause);
+    }
+
+    @Test
+    @DisplayName("예산이 남아 있으면 대기하지 않고, 예산을 넘기면 다음 1초 구간까지 대기한다.")
+    void waitsForNextWindowWhenBudgetExhausted() {
+        // given
+        BackgroundThrottle throttle = throttle(Duration.ofMillis(100), Duration.ofSeconds(5));
+
+        // when & then: 예산 내
+        assertThat(elapsedMillis(throttle::acquire)).isLessThan(50);
+
+        // when: 예산 초과 사용
+        throttle.record(TimeUnit.MILLISECONDS.toNanos(150));
+
+        // then
+        assertThat(elapsedMillis(throttle::acquire)).isBetween(1L, 1100L);
+        assertThat(meterRegistry.get("background.throttle.pause").tag("reason", "budget").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예산보다 긴 트랜잭션은 초과분만큼 다음 구간들에서 쉰다.")
+    void carriesOverrunIntoNextWindows() {
+        // given
+        BackgroundThrottle throttle = throttle(Duration.ofMillis(100), Duration.ofSeconds(5));
+
+        // when: 예산의 2.5배 사용 -> 2개 구간이 지나야 상환
+        throttle.record(TimeUnit.MILLISECONDS.toNanos(250));
+
+        // then
+        assertThat(elapsedMillis(throttle::acquire)).isGreaterThan(1000);
+    }
+
+    @Test
+    @DisplayName("요청 풀에 대기 스레드가 있으면 멈추고, 최대 정지 시간이 지나면 진행한다. 백그라운드 풀 대기는 무시한다.")
+    void pausesWhileRequestPoolIsPressured() {
+        // given
+        BackgroundThrottle throttle = throttle(Duration.ofMillis(100), Duration.ofMillis(300));
+        backgroundPending.set(5);
+
+        // when & then: 백그라운드 풀 대기는 요청 압박이 아님
+        assertThat(elapsedMillis(throttle::acquire)).isLessThan(50);
+
+        // when: 요청 풀 대기 발생
+        requestPending.set(3);
+
+        // then: max-pause 후 진행
+        assertThat(elapsedMillis(throttle::acquire)).isBetween(250L, 1000L);
+        assertThat(meterRegistry.get("background.throttle.pause.expired").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("background.throttle.pause").tag("reason", "request-pool").timer().count()).isEqualTo(1);
+    }
+
+    private static long elapsedMillis(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
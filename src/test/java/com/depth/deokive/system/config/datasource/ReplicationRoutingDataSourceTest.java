@@ -0,0 +1,291 @@
+package com.depth.deokive.system.config.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.Network;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Primary/Replica 라우팅 검증 (MySQL GTID 복제)
+ * - @@server_id로 실제 커넥션이 어느 서버인지 확인 (Primary=1, Replica=2)
+ */
+@DisplayName("ReplicationRoutingDataSource 라우팅 테스트 (MySQL Primary/Replica)")
+class ReplicationRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+    private static final Network NETWORK = Network.newNetwork();
+
+    private static final MySQLContainer<?> PRIMARY = new MySQLContainer<>("mysql:8.0")
+            .withNetwork(NETWORK)
+            .withNetworkAliases("primary")
+            .withCommand("--server-id=1", "--log-bin=mysql-bin", "--gtid-mode=ON", "--enforce-gtid-consistency=ON");
+
+    private static final MySQLContainer<?> REPLICA = new MySQLContainer<>("mysql:8.0")
+            .withNetwork(NETWORK)
+            .withCommand("--server-id=2", "--gtid-mode=ON", "--enforce-gtid-consistency=ON");
+
+    private static HikariDataSource primaryDataSource;
+    private static HikariDataSource replicaDataSource;
+
+    private StringRedisTemplate redisTemplate;
+    private AuditorAware<Long> auditorAware;
+    private ReplicaLagMonitor lagMonitor;
+    private ReadYourWritesTracker tracker;
+    private TransactionTemplate tx;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void startReplication() throws Exception {
+        PRIMARY.start();
+        REPLICA.start();
+
+        // 컨테이너 초기화 이력은 복제 대상에서 제외 (Replica에도 이미 같은 DB/계정이 있음)
+        String executed = queryString(PRIMARY, "SELECT @@GLOBAL.gtid_executed");
+        execAsRoot(REPLICA,
+                "RESET MASTER",
+                "SET GLOBAL gtid_purged = '" + executed + "'",
+                "CHANGE REPLICATION SOURCE TO SOURCE_HOST = 'primary', SOURCE_PORT = 3306, "
+                        + "SOURCE_USER = 'root', SOURCE_PASSWORD = '" + PRIMARY.getPassword() + "', "
+                        + "SOURCE_AUTO_POSITION = 1, GET_SOURCE_PUBLIC_KEY = 1",
+                "START REPLICA");
+
+        primaryDataSource = pool("primary", PRIMARY);
+        replicaDataSource = pool("replica", REPLICA);
+
+        new JdbcTemplate(primaryDataSource).execute(
+                "CREATE TABLE route_probe (id BIGINT PRIMARY KEY, title VARCHAR(50) NOT NULL)");
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() ->
+                assertThat(new JdbcTemplate(replicaDataSource).queryForObject(
+                        "SELECT COUNT(*) FROM information_schema.tables WHERE table_name = 'route_probe'", Integer.class))
+                        .isEqualTo(1));
+    }
+
+    @AfterAll
+    static void stop() {
+        primaryDataSource.close();
+        replicaDataSource.close();
+        REPLICA.stop();
+        PRIMARY.stop();
+        NETWORK.close();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        redisTemplate = mock(StringRedisTemplate.class);
+        auditorAware = mock(AuditorAware.class);
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.empty());
+        given(redisTemplate.opsForValue()).willReturn(mock(ValueOperations.class));
+
+        lagMonitor = new ReplicaLagMonitor(replicaDataSource, 2, Duration.ofSeconds(10), meterRegistry);
+        lagMonitor.check();
+        tracker = new ReadYourWritesTracker(redisTemplate, auditorAware, WINDOW);
+
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(lagMonitor, tracker, meterRegistry);
+        routing.setTargetDataSources(Map.of(
+                ReplicationRoutingDataSource.Route.PRIMARY, primaryDataSource,
+                ReplicationRoutingDataSource.Route.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        tracker.clear();
+        execAsRoot(REPLICA, "START REPLICA");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 Replica, 쓰기 트랜잭션은 Primary로 간다. 쓴 데이터는 복제된다.")
+    void routesByReadOnlyFlag() {
+        assertThat(lagMonitor.isHealthy()).isTrue();
+        assertThat(serverIdIn(true)).isEqualTo(2);
+        assertThat(serverIdIn(false)).isEqualTo(1);
+
+        // when
+        tx.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO route_probe VALUES (1, 'replicated')"));
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> assertThat(readOnly(() ->
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM route_probe WHERE id = 1", Integer.class))).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("onPrimary 범위 안의 읽기 전용 트랜잭션은 Primary로 가고, 범위를 벗어나면 다시 Replica로 간다.")
+    void routesForcedReadsToPrimary() {
+        assertThat(ReplicationRoutingDataSource.onPrimary(() -> serverIdIn(true))).isEqualTo(1);
+        assertThat(serverIdIn(true)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("인증 사용자의 쓰기 커밋 후에는 같은 스레드의 읽기가 Primary로 고정되고, 마커가 기록된다.")
+    @SuppressWarnings("unchecked")
+    void pinsReadsAfterOwnWrite() {
+        // given
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(7L));
+        ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOps);
+
+        // when
+        tx.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO route_probe VALUES (2, 'mine')"));
+
+        // then
+        assertThat(tracker.isPinned()).isTrue();
+        verify(valueOps).set("ryw:7", "1", WINDOW);
+        assertThat(readOnly(() -> jdbcTemplate.queryForObject("SELECT title FROM route_probe WHERE id = 2", String.class)))
+                .isEqualTo("mine");
+        assertThat(serverIdIn(true)).isEqualTo(1);
+
+        // when: 다음 요청 (다른 노드에서 쓴 마커)
+        tracker.clear();
+        given(redisTemplate.hasKey(anyString())).willReturn(true);
+        tracker.load();
+
+        // then
+        assertThat(serverIdIn(true)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 고정된 요청의 쓰기도 커밋마다 마커를 갱신하고, 한 트랜잭션에서는 한 번만 기록한다.")
+    @SuppressWarnings("unchecked")
+    void refreshesMarkerWhilePinned() {
+        // given: 요청 시작 시 고정된 상태
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(8L));
+        ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOps);
+        tracker.pin();
+
+        // when: 같은 요청에서 쓰기 트랜잭션 2회 (두 번째는 쿼리 2개)
+        tx.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO route_probe VALUES (4, 'first')"));
+        tx.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO route_probe VALUES (5, 'second')");
+            jdbcTemplate.update("UPDATE route_probe SET title = 'second-updated' WHERE id = 5");
+        });
+
+        // then
+        verify(valueOps, times(2)).set("ryw:8", "1", WINDOW);
+    }
+
+    @Test
+    @DisplayName("복제가 멈추면 읽기 전용 트랜잭션도 Primary로 간다.")
+    void fallsBackToPrimaryWhenReplicaStops() throws Exception {
+        // given
+        execAsRoot(REPLICA, "STOP REPLICA");
+
+        // when
+        lagMonitor.check();
+
+        // then
+        assertThat(lagMonitor.isHealthy()).isFalse();
+        assertThat(serverIdIn(true)).isEqualTo(1);
+
+        // when: 복제 재개
+        execAsRoot(REPLICA, "START REPLICA");
+        await().atMost(Duration.ofSeconds(10)).until(() -> {
+            lagMonitor.check();
+            return lagMonitor.isHealthy();
+        });
+
+        // then
+        assertThat(serverIdIn(true)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 다른 스레드로 넘긴 읽기도 propagate()로 감싸면 Primary에서 방금 쓴 데이터를 본다.")
+    void propagatesPinToFanOutThreads() throws Exception {
+        // given: 복제 중단 (lagMonitor는 아직 정상으로 판단 -> 고정이 없으면 Replica로 감)
+        given(auditorAware.getCurrentAuditor()).willReturn(Optional.of(7L));
+        execAsRoot(REPLICA, "STOP REPLICA");
+        tx.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO route_probe VALUES (3, 'fan-out')"));
+        Callable<Integer> countOnOtherThread = () ->
+                readOnly(() -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM route_probe WHERE id = 3", Integer.class));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // when & then: 전파 없이 -> Replica (아직 복제되지 않음)
+            assertThat(executor.submit(countOnOtherThread).get()).isZero();
+
+            // when & then: 전파 -> Primary
+            assertThat(executor.submit(tracker.propagate(countOnOtherThread)).get()).isEqualTo(1);
+        }
+    }
+
+    // --- Helper Methods ---
+
+    private Integer serverIdIn(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(tx.getTransactionManager());
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT @@server_id", Integer.class));
+    }
+
+    private <T> T readOnly(Supplier<T> query) {
+        TransactionTemplate template = new TransactionTemplate(tx.getTransactionManager());
+        template.setReadOnly(true);
+        return template.execute(status -> query.get());
+    }
+
+    private static HikariDataSource pool(String name, MySQLContainer<?> container) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(container.getJdbcUrl());
+        config.setUsername("root");
+        config.setPassword(container.getPassword());
+        config.setMaximumPoolSize(2);
+        return new HikariDataSource(config);
+    }
+
+    private static String queryString(MySQLContainer<?> container, String sql) throws Exception {
+        try (Connection conn = DriverManager.getConnection(container.getJdbcUrl(), "root", container.getPassword());
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    private static void execAsRoot(MySQLContainer<?> container, String... statements) throws Exception {
+        try (Connection conn = DriverManager.getConnection(container.getJdbcUrl(), "root", container.getPassword());
+             Statement stmt = conn.createStatement()) {
+            for (String sql : statements) stmt.execute(sql);
+        }
+    }
+}
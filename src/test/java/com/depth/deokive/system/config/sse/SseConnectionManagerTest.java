@@ -0,0 +1,98 @@
+package com.depth.deokive.system.config.sse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SseConnectionManager 단위 테스트 (Heartbeat Timer Wheel)")
+class SseConnectionManagerTest {
+
+    private static final String CHANNEL = "test";
+    private static final long INTERVAL_MS = 1_000;
+    private static final long TICK_MS = 100; // 10 slots
+
+    private SseConnectionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        // start()를 호출하지 않음 -> runTick()을 테스트에서 직접 구동
+        manager = new SseConnectionManager(new SimpleMeterRegistry(), INTERVAL_MS, TICK_MS);
+    }
+
+    @Test
+    @DisplayName("Heartbeat는 한 tick에 한 버킷씩, 한 바퀴 동안 모든 연결에 정확히 한 번 전송된다.")
+    void spreadsHeartbeatsEvenlyAcrossSlots() throws InterruptedException {
+        List<CountingEmitter> emitters = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            CountingEmitter emitter = new CountingEmitter();
+            manager.register(CHANNEL, (long) i, emitter, "ping");
+            emitters.add(emitter);
+        }
+        Thread.sleep(INTERVAL_MS / 2 + 50); // 등록 직후 skip window 경과
+
+        List<Integer> perTick = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            perTick.add(manager.runTick());
+        }
+
+        assertThat(perTick).allMatch(sent -> sent == 10);
+        assertThat(emitters).allMatch(e -> e.sent == 1);
+    }
+
+    @Test
+    @DisplayName("최근에 실제 이벤트를 보낸 연결은 Heartbeat를 생략한다.")
+    void skipsRecentlyWrittenConnections() throws InterruptedException {
+        CountingEmitter idle = new CountingEmitter();
+        CountingEmitter active = new CountingEmitter();
+        manager.register(CHANNEL, 1L, idle, "ping");
+        SseConnection activeConnection = manager.register(CHANNEL, 2L, active, "ping");
+        Thread.sleep(INTERVAL_MS / 2 + 50);
+
+        activeConnection.send(SseEmitter.event().name("data").data("payload"));
+        for (int i = 0; i < 10; i++) manager.runTick();
+
+        assertThat(idle.sent).isEqualTo(1);  // heartbeat
+        assertThat(active.sent).isEqualTo(1); // 실제 이벤트만
+    }
+
+    @Test
+    @DisplayName("전송 실패한 연결과 종료된 연결은 인덱스와 Wheel에서 모두 제거된다.")
+    void removesFailedAndClosedConnections() {
+        CountingEmitter healthy = new CountingEmitter();
+        FailingEmitter broken = new FailingEmitter();
+        manager.register(CHANNEL, 1L, healthy, "ping");
+        SseConnection brokenConnection = manager.register(CHANNEL, 1L, broken, "ping");
+        assertThat(manager.getConnections(CHANNEL, 1L)).hasSize(2);
+
+        assertThat(brokenConnection.send(SseEmitter.event().data("x"))).isFalse();
+        assertThat(manager.getConnections(CHANNEL, 1L)).hasSize(1);
+
+        manager.unregister(CHANNEL, 1L, healthy);
+        assertThat(manager.isConnected(CHANNEL, 1L)).isFalse();
+        assertThat(manager.countConnections(CHANNEL)).isZero();
+    }
+
+    private static class CountingEmitter extends SseEmitter {
+        private volatile int sent;
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) {
+            sent++;
+        }
+    }
+
+    private static class FailingEmitter extends SseEmitter {
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            throw new IOException("Broken pipe");
+        }
+    }
+}
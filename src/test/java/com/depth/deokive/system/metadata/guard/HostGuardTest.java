@@ -0,0 +1,122 @@
+package com.depth.deokive.system.metadata.guard;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HostGuard 단위 테스트 (호스트별 동시성 제한 + Circuit Breaker)")
+class HostGuardTest {
+
+    private static final String HOST = "slow.example.com";
+
+    private HostGuardProperties props;
+    private SimpleMeterRegistry meterRegistry;
+    private HostGuard hostGuard;
+
+    @BeforeEach
+    void setUp() {
+        props = new HostGuardProperties();
+        props.setMaxConcurrentPerHost(2);
+        props.setMaxQueuePerHost(1);
+        props.setMaxWait(Duration.ofMillis(100));
+        props.setFailureThreshold(3);
+        props.setOpenDuration(Duration.ofMillis(200));
+
+        meterRegistry = new SimpleMeterRegistry();
+        hostGuard = new HostGuard(props, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 OPEN되어 action을 실행하지 않고 즉시 거절한다.")
+    void opensAfterConsecutiveFailures() {
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> hostGuard.execute(HOST, () -> { throw new RuntimeException("boom"); }))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessage("boom");
+        }
+        assertThat(hostGuard.getCircuitState(HOST)).isEqualTo(HostGuard.CircuitState.OPEN);
+
+        AtomicInteger calls = new AtomicInteger();
+        assertThatThrownBy(() -> hostGuard.execute(HOST, calls::incrementAndGet))
+                .isInstanceOf(HostGuardRejectedException.class)
+                .extracting("reason").isEqualTo(HostGuardRejectedException.Reason.CIRCUIT_OPEN);
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("OPEN 유지 시간이 지나면 probe 1건을 통과시키고, 성공 시 CLOSED로 복구된다.")
+    void halfOpenProbeClosesOnSuccess() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            try { hostGuard.execute(HOST, () -> { throw new RuntimeException("boom"); }); } catch (RuntimeException ignored) { }
+        }
+        Thread.sleep(250);
+
+        String result = hostGuard.execute(HOST, () -> "ok");
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(hostGuard.getCircuitState(HOST)).isEqualTo(HostGuard.CircuitState.CLOSED);
+    }
+
+    @Test
+    @DisplayName("probe가 실패하면 다시 OPEN된다.")
+    void halfOpenProbeReopensOnFailure() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            try { hostGuard.execute(HOST, () -> { throw new RuntimeException("boom"); }); } catch (RuntimeException ignored) { }
+        }
+        Thread.sleep(250);
+
+        assertThatThrownBy(() -> hostGuard.execute(HOST, () -> { throw new RuntimeException("still down"); }))
+                .hasMessage("still down");
+        assertThat(hostGuard.getCircuitState(HOST)).isEqualTo(HostGuard.CircuitState.OPEN);
+    }
+
+    @Test
+    @DisplayName("호스트당 동시 실행은 permit 수로 제한되고, 대기열을 넘는 요청은 즉시 거절된다.")
+    void limitsConcurrencyPerHost() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        for (int i = 0; i < 2; i++) {
+            executor.submit(() -> hostGuard.execute(HOST, () -> {
+                started.countDown();
+                try { release.await(5, TimeUnit.SECONDS); } catch (InterruptedException ignored) { }
+                return null;
+            }));
+        }
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(hostGuard.getInFlight(HOST)).isEqualTo(2);
+
+        // permit 2개 사용 중 -> 대기 후 타임아웃
+        assertThatThrownBy(() -> hostGuard.execute(HOST, () -> "late"))
+                .isInstanceOf(HostGuardRejectedException.class)
+                .extracting("reason").isEqualTo(HostGuardRejectedException.Reason.WAIT_TIMEOUT);
+
+        // 다른 호스트는 영향 없음
+        assertThat(hostGuard.execute("fast.example.com", () -> "ok")).isEqualTo("ok");
+
+        release.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(hostGuard.getInFlight(HOST)).isZero();
+        assertThat(meterRegistry.get("metadata.host.inflight").tag("host", HOST).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("URL에서 호스트를 소문자로 추출한다.")
+    void hostOf() {
+        assertThat(HostGuard.hostOf("https://WWW.Example.com/path?q=1")).isEqualTo("www.example.com");
+        assertThat(HostGuard.hostOf("not a url")).isEqualTo("unknown");
+    }
+}
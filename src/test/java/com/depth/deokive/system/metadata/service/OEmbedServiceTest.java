@@ -0,0 +1,169 @@
+package com.depth.deokive.system.metadata.service;
+
+import com.depth.deokive.common.enums.Visibility;
+import com.depth.deokive.common.test.IntegrationTestSupport;
+import com.depth.deokive.domain.archive.entity.Archive;
+import com.depth.deokive.domain.archive.repository.ArchiveRepository;
+import com.depth.deokive.domain.post.entity.Post;
+import com.depth.deokive.domain.post.entity.enums.Category;
+import com.depth.deokive.domain.post.repository.PostRepository;
+import com.depth.deokive.domain.user.entity.User;
+import com.depth.deokive.domain.user.entity.enums.Role;
+import com.depth.deokive.domain.user.entity.enums.UserType;
+import com.depth.deokive.system.metadata.controller.OEmbedController;
+import com.depth.deokive.system.metadata.dto.CachedOEmbed;
+import com.depth.deokive.system.metadata.dto.OEmbedBatchDto;
+import com.depth.deokive.system.metadata.dto.ShareTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("OEmbedService 캐시/일괄 조회 통합 테스트")
+class OEmbedServiceTest extends IntegrationTestSupport {
+
+    private static final String BASE_URL = "https://deokive.com";
+
+    @Autowired OEmbedService oEmbedService;
+    @Autowired OEmbedCache oEmbedCache;
+    @Autowired OEmbedController oEmbedController;
+    @Autowired PostRepository postRepository;
+    @Autowired ArchiveRepository archiveRepository;
+
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(User.builder()
+                .email("oembed_" + UUID.randomUUID() + "@test.com")
+                .username("user_" + UUID.randomUUID())
+                .nickname("Writer")
+                .password("password")
+                .role(Role.USER)
+                .userType(UserType.COMMON)
+                .isEmailVerified(true)
+                .build());
+        setupMockUser(writer);
+    }
+
+    private Post createPost(String title) {
+        return postRepository.save(Post.builder()
+                .user(writer)
+                .title(title)
+                .content("Content")
+                .category(Category.IDOL)
+                .build());
+    }
+
+    private String postUrl(Long postId) {
+        return BASE_URL + "/community/" + postId;
+    }
+
+    @Test
+    @DisplayName("응답은 무효화 전까지 재사용되고, 무효화 후 다시 조회된다.")
+    void reusesResponseUntilEvicted() {
+        // given
+        Post post = createPost("Original Title");
+        CachedOEmbed first = oEmbedService.getOEmbedData(postUrl(post.getId()), null, null);
+
+        // when: 이벤트 없이 DB만 변경
+        em.createQuery("UPDATE Post p SET p.title = :title WHERE p.id = :id")
+                .setParameter("title", "Changed Title").setParameter("id", post.getId())
+                .executeUpdate();
+        flushAndClear();
+        CachedOEmbed cached = oEmbedService.getOEmbedData(postUrl(post.getId()), null, null);
+
+        // then
+        assertThat(cached.etag()).isEqualTo(first.etag());
+        assertThat(cached.body().getTitle()).isEqualTo("Original Title");
+
+        // when: 무효화
+        oEmbedCache.evict(ShareTarget.POST, List.of(post.getId()));
+        CachedOEmbed reloaded = oEmbedService.getOEmbedData(postUrl(post.getId()), null, null);
+
+        // then
+        assertThat(reloaded.etag()).isNotEqualTo(first.etag());
+        assertThat(reloaded.body().getTitle()).isEqualTo("Changed Title");
+    }
+
+    @Test
+    @DisplayName("maxwidth/maxheight는 비율을 유지한 썸네일 크기로 반영되고, 같은 크기로 수렴하는 요청은 같은 항목을 쓴다.")
+    void fitsThumbnailToRequestedSize() {
+        // given
+        Post post = createPost("Sized");
+
+        // when
+        CachedOEmbed small = oEmbedService.getOEmbedData(postUrl(post.getId()), 300, null);
+        CachedOEmbed sameSize = oEmbedService.getOEmbedData(postUrl(post.getId()), 300, 1000);
+        CachedOEmbed original = oEmbedService.getOEmbedData(postUrl(post.getId()), 2000, 2000);
+
+        // then
+        assertThat(small.body().getThumbnailWidth()).isEqualTo(300);
+        assertThat(small.body().getThumbnailHeight()).isEqualTo(157);
+        assertThat(sameSize.etag()).isEqualTo(small.etag());
+        assertThat(original.body().getThumbnailWidth()).isEqualTo(600); // 확대하지 않음
+        assertThat(original.body().getThumbnailHeight()).isEqualTo(315);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 304를 본문 없이 반환한다.")
+    void returnsNotModifiedForMatchingEtag() throws Exception {
+        // given
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(oEmbedController).build();
+        Post post = createPost("Conditional");
+        String etag = oEmbedService.getOEmbedData(postUrl(post.getId()), null, null).etag();
+
+        // when & then
+        mockMvc.perform(get("/oembed").param("url", postUrl(post.getId())))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("public")));
+
+        mockMvc.perform(get("/oembed").param("url", postUrl(post.getId())).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 요청 순서대로 URL별 성공/실패를 따로 반환한다.")
+    void batchReportsPerItemResult() {
+        // given
+        Post post = createPost("Batch");
+        Archive privateArchive = archiveRepository.save(Archive.builder()
+                .user(writer)
+                .title("Private")
+                .visibility(Visibility.PRIVATE)
+                .build());
+
+        OEmbedBatchDto.Request request = OEmbedBatchDto.Request.builder()
+                .urls(List.of(
+                        postUrl(post.getId()),
+                        postUrl(Long.MAX_VALUE),
+                        BASE_URL + "/feed/" + privateArchive.getId(),
+                        BASE_URL + "/unknown"))
+                .build();
+
+        // when
+        List<OEmbedBatchDto.Item> items = oEmbedService.getOEmbedDataBatch(request);
+
+        // then
+        assertThat(items).extracting(OEmbedBatchDto.Item::getStatus).containsExactly(200, 404, 403, 400);
+        assertThat(items.get(0).getData().getTitle()).isEqualTo("Batch");
+        assertThat(items.get(1).getData()).isNull();
+        assertThat(items.get(1).getError()).isNotBlank();
+    }
+}
@@ -0,0 +1,145 @@
+package com.depth.deokive.system.metadata.service;
+
+import com.depth.deokive.common.enums.Visibility;
+import com.depth.deokive.common.test.IntegrationTestSupport;
+import com.depth.deokive.domain.archive.entity.Archive;
+import com.depth.deokive.domain.archive.repository.ArchiveRepository;
+import com.depth.deokive.domain.post.entity.Post;
+import com.depth.deokive.domain.post.entity.enums.Category;
+import com.depth.deokive.domain.post.repository.PostRepository;
+import com.depth.deokive.domain.user.entity.User;
+import com.depth.deokive.domain.user.entity.enums.Role;
+import com.depth.deokive.domain.user.entity.enums.UserType;
+import com.depth.deokive.system.exception.model.ErrorCode;
+import com.depth.deokive.system.exception.model.RestException;
+import com.depth.deokive.system.metadata.controller.ShareController;
+import com.depth.deokive.system.metadata.dto.SharePage;
+import com.depth.deokive.system.metadata.dto.ShareTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("ShareService 공유 페이지 캐시 통합 테스트")
+class ShareServiceTest extends IntegrationTestSupport {
+
+    @Autowired ShareService shareService;
+    @Autowired SharePageCache sharePageCache;
+    @Autowired ShareController shareController;
+    @Autowired PostRepository postRepository;
+    @Autowired ArchiveRepository archiveRepository;
+
+    private User writer;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(User.builder()
+                .email("share_" + UUID.randomUUID() + "@test.com")
+                .username("user_" + UUID.randomUUID())
+                .nickname("Writer")
+                .password("password")
+                .role(Role.USER)
+                .userType(UserType.COMMON)
+                .isEmailVerified(true)
+                .build());
+        setupMockUser(writer);
+        request = new MockHttpServletRequest();
+    }
+
+    private Post createPost(String title) {
+        return postRepository.save(Post.builder()
+                .user(writer)
+                .title(title)
+                .content("Content")
+                .category(Category.IDOL)
+                .build());
+    }
+
+    @Test
+    @DisplayName("렌더링된 페이지는 무효화 전까지 DB 변경과 무관하게 재사용되고, 무효화 후 다시 렌더링된다.")
+    void reusesRenderedPageUntilEvicted() {
+        // given
+        Post post = createPost("Original Title");
+        SharePage first = shareService.getPostSharePage(post.getId(), request);
+
+        // when: 이벤트 없이 DB만 변경
+        em.createQuery("UPDATE Post p SET p.title = :title WHERE p.id = :id")
+                .setParameter("title", "Changed Title").setParameter("id", post.getId())
+                .executeUpdate();
+        flushAndClear();
+        SharePage cached = shareService.getPostSharePage(post.getId(), request);
+
+        // then
+        assertThat(cached.etag()).isEqualTo(first.etag());
+        assertThat(new String(cached.body(), StandardCharsets.UTF_8)).contains("Original Title");
+
+        // when: 무효화
+        sharePageCache.evict(ShareTarget.POST, List.of(post.getId()));
+        SharePage rendered = shareService.getPostSharePage(post.getId(), request);
+
+        // then
+        assertThat(rendered.etag()).isNotEqualTo(first.etag());
+        assertThat(new String(rendered.body(), StandardCharsets.UTF_8)).contains("Changed Title");
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 304를 본문 없이 반환한다.")
+    void returnsNotModifiedForMatchingEtag() throws Exception {
+        // given
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(shareController).build();
+        Post post = createPost("Conditional");
+        String etag = shareService.getPostSharePage(post.getId(), request).etag();
+
+        // when & then
+        mockMvc.perform(get("/share/posts/{postId}", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().contentTypeCompatibleWith("text/html"));
+
+        mockMvc.perform(get("/share/posts/{postId}", post.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("비공개 아카이브는 공유할 수 없고, 실패 결과는 캐시하지 않는다.")
+    void privateArchiveIsNotCached() {
+        // given
+        Archive archive = archiveRepository.save(Archive.builder()
+                .user(writer)
+                .title("Private")
+                .visibility(Visibility.PRIVATE)
+                .build());
+
+        // when & then
+        assertThatThrownBy(() -> shareService.getArchiveSharePage(archive.getId(), request))
+                .isInstanceOf(RestException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.AUTH_FORBIDDEN);
+
+        // when: 공개 전환 (이벤트 없이)
+        em.createQuery("UPDATE Archive a SET a.visibility = :visibility WHERE a.id = :id")
+                .setParameter("visibility", Visibility.PUBLIC).setParameter("id", archive.getId())
+                .executeUpdate();
+        flushAndClear();
+
+        // then
+        SharePage page = shareService.getArchiveSharePage(archive.getId(), request);
+        assertThat(new String(page.body(), StandardCharsets.UTF_8)).contains("Writer님의 아카이브");
+    }
+}
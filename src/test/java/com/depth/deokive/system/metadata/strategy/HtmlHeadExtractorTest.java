@@ -0,0 +1,160 @@
+package com.depth.deokive.system.metadata.strategy;
+
+import com.depth.deokive.system.metadata.strategy.HtmlHeadExtractor.HeadMetadata;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HtmlHeadExtractor 코퍼스 테스트 (Jsoup 전체 파싱 결과와 비교)")
+class HtmlHeadExtractorTest {
+
+    private static final String CORPUS_DIR = "/html-corpus/";
+    private static final int BYTE_CAP = 256 * 1024;
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {
+            "og-standard.html",
+            "twitter-only.html",
+            "title-entities.html",
+            "name-vs-property.html",
+            "unquoted-attrs.html",
+            "comments-and-scripts.html",
+            "no-head.html",
+            "no-metadata.html",
+            "euc-kr-meta.html"
+    })
+    @DisplayName("스트리밍 추출 결과는 Jsoup 전체 파싱(기존 경로)과 동일하다.")
+    void matchesJsoupOracle(String fileName) throws IOException {
+        byte[] html = readCorpus(fileName);
+
+        HeadMetadata streamed = HtmlHeadExtractor.extract(new ByteArrayInputStream(html), null, BYTE_CAP);
+        Document oracle = Jsoup.parse(new ByteArrayInputStream(html), null, "https://example.com/");
+
+        assertThat(blankToNull(streamed.getTitle())).isEqualTo(blankToNull(expectedTitle(oracle)));
+        assertThat(blankToNull(streamed.getImageUrl())).isEqualTo(blankToNull(expectedImage(oracle)));
+        assertThat(streamed.isHeadComplete()).isTrue();
+    }
+
+    @Test
+    @DisplayName("주석/script/style 안의 가짜 태그는 무시한다.")
+    void ignoresFakeTagsInCommentsAndScripts() throws IOException {
+        HeadMetadata result = extract("comments-and-scripts.html");
+
+        assertThat(result.getTitle()).isEqualTo("Real Title");
+        assertThat(result.getImageUrl()).isEqualTo("https://img.example.com/real.png");
+    }
+
+    @Test
+    @DisplayName("<meta http-equiv> 의 charset(EUC-KR)으로 디코딩한다.")
+    void decodesWithMetaCharset() throws IOException {
+        HeadMetadata result = extract("euc-kr-meta.html");
+
+        assertThat(result.getTitle()).isEqualTo("네이버 블로그 - 덕질 일기");
+    }
+
+    @Test
+    @DisplayName("</head> 이후 본문은 읽지 않는다.")
+    void stopsReadingAtHeadEnd() throws IOException {
+        byte[] html = largeDocument();
+
+        HeadMetadata result = HtmlHeadExtractor.extract(new ByteArrayInputStream(html), "UTF-8", BYTE_CAP);
+
+        assertThat(result.getTitle()).isEqualTo("Large Page");
+        assertThat(result.getImageUrl()).isEqualTo("https://img.example.com/large.png");
+        assertThat(result.isHeadComplete()).isTrue();
+        assertThat(result.getBytesRead()).isLessThan(64 * 1024);
+        assertThat(html.length).isGreaterThan(2 * 1024 * 1024);
+    }
+
+    @Test
+    @DisplayName("byteCap에 도달하면 중단하고 headComplete=false로 표시한다.")
+    void stopsAtByteCap() throws IOException {
+        String hugeHead = "<html><head><script>" + "x".repeat(10_000) + "</script>"
+                + "<meta property=\"og:title\" content=\"Too Late\"></head><body></body></html>";
+
+        HeadMetadata result = HtmlHeadExtractor.extract(
+                new ByteArrayInputStream(hugeHead.getBytes(StandardCharsets.UTF_8)), "UTF-8", 4 * 1024);
+
+        assertThat(result.getBytesRead()).isEqualTo(4 * 1024);
+        assertThat(result.isHeadComplete()).isFalse();
+        assertThat(result.hasTitle()).isFalse();
+    }
+
+    @Test
+    @DisplayName("replay는 읽은 바이트와 남은 스트림을 이어 원문 전체를 돌려준다. (전체 파싱 Fallback, 재요청 없음)")
+    void replayResumesSameStream() throws IOException {
+        String hugeHead = "<html><head><script>" + "x".repeat(10_000) + "</script>"
+                + "<meta property=\"og:title\" content=\"Too Late\"></head><body></body></html>";
+        byte[] html = hugeHead.getBytes(StandardCharsets.UTF_8);
+        InputStream in = new ByteArrayInputStream(html);
+
+        HeadMetadata result = HtmlHeadExtractor.extract(in, "UTF-8", 4 * 1024);
+        byte[] replayed = result.replay(in).readAllBytes();
+        Document doc = Jsoup.parse(new ByteArrayInputStream(replayed), "UTF-8", "https://example.com/");
+
+        assertThat(result.hasTitle()).isFalse();
+        assertThat(replayed).isEqualTo(html);
+        assertThat(metaContent(doc, "og:title")).isEqualTo("Too Late");
+    }
+
+    // --- Helpers
+
+    static byte[] readCorpus(String fileName) throws IOException {
+        try (InputStream in = HtmlHeadExtractorTest.class.getResourceAsStream(CORPUS_DIR + fileName)) {
+            assertThat(in).as("corpus file %s", fileName).isNotNull();
+            return in.readAllBytes();
+        }
+    }
+
+    static byte[] largeDocument() {
+        StringBuilder sb = new StringBuilder("""
+                <!DOCTYPE html>
+                <html>
+                <head>
+                <meta charset="utf-8">
+                <meta property="og:title" content="Large Page">
+                <meta property="og:image" content="https://img.example.com/large.png">
+                </head>
+                <body>
+                """);
+        for (int i = 0; i < 40_000; i++) {
+            sb.append("<div class=\"row\"><p>Lorem ipsum dolor sit amet ").append(i).append("</p></div>\n");
+        }
+        return sb.append("</body></html>").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private HeadMetadata extract(String fileName) throws IOException {
+        return HtmlHeadExtractor.extract(new ByteArrayInputStream(readCorpus(fileName)), null, BYTE_CAP);
+    }
+
+    // GenericJsoupProvider 전체 파싱 경로와 동일한 규칙
+    private String expectedTitle(Document doc) {
+        String title = metaContent(doc, "og:title");
+        return (title == null || title.isBlank()) ? doc.title() : title;
+    }
+
+    private String expectedImage(Document doc) {
+        String image = metaContent(doc, "og:image");
+        return (image == null || image.isBlank()) ? metaContent(doc, "twitter:image") : image;
+    }
+
+    private String metaContent(Document doc, String key) {
+        var element = doc.selectFirst("meta[property=" + key + "]");
+        if (element == null) element = doc.selectFirst("meta[name=" + key + "]");
+        return element != null ? element.attr("content") : null;
+    }
+
+    private String blankToNull(String s) {
+        return (s == null || s.isBlank()) ? null : s;
+    }
+}
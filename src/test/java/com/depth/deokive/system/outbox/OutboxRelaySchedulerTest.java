@@ -0,0 +1,128 @@
+package com.depth.deokive.system.outbox;
+
+import com.depth.deokive.common.dto.LikeMessageDto;
+import com.depth.deokive.common.enums.ViewLikeDomain;
+import com.depth.deokive.common.service.LikeRedisService;
+import com.depth.deokive.common.test.IntegrationTestSupport;
+import com.depth.deokive.system.outbox.entity.OutboxMessage;
+import com.depth.deokive.system.outbox.repository.OutboxMessageRepository;
+import com.depth.deokive.system.outbox.service.OutboxService;
+import com.depth.deokive.system.scheduler.OutboxRelayScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("Outbox Relay 테스트 (RabbitMQ Testcontainer)")
+class OutboxRelaySchedulerTest extends IntegrationTestSupport {
+
+    private static final String TEST_EXCHANGE = "outbox.test.exchange";
+    private static final String TEST_QUEUE = "outbox.test.queue";
+    private static final String TEST_ROUTING_KEY = "outbox.test.key";
+
+    @Autowired OutboxService outboxService;
+    @Autowired OutboxRelayScheduler outboxRelayScheduler;
+    @Autowired OutboxMessageRepository outboxMessageRepository;
+    @Autowired LikeRedisService likeRedisService;
+    @Autowired RabbitTemplate rabbitTemplate;
+    @Autowired StringRedisTemplate stringRedisTemplate;
+
+    private RabbitAdmin rabbitAdmin;
+
+    @BeforeEach
+    void setUp() {
+        rabbitAdmin = new RabbitAdmin(rabbitTemplate.getConnectionFactory());
+        DirectExchange exchange = new DirectExchange(TEST_EXCHANGE);
+        Queue queue = new Queue(TEST_QUEUE, false);
+        rabbitAdmin.declareExchange(exchange);
+        rabbitAdmin.declareQueue(queue);
+        rabbitAdmin.declareBinding(BindingBuilder.bind(queue).to(exchange).with(TEST_ROUTING_KEY));
+        rabbitAdmin.purgeQueue(TEST_QUEUE, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        rabbitAdmin.deleteQueue(TEST_QUEUE);
+        rabbitAdmin.deleteExchange(TEST_EXCHANGE);
+    }
+
+    @Test
+    @DisplayName("Outbox 테이블에 적재된 메시지는 Relay가 발행(Confirm)한 뒤 삭제된다.")
+    void relayOutboxTable_PublishesAndDeletes() {
+        // given
+        outboxService.enqueue(TEST_EXCHANGE, TEST_ROUTING_KEY, new LikeMessageDto(10L, 20L, true));
+        em.flush();
+        assertThat(outboxMessageRepository.count()).isEqualTo(1);
+
+        // when
+        outboxRelayScheduler.relayOutboxTable();
+
+        // then
+        Object received = rabbitTemplate.receiveAndConvert(TEST_QUEUE, 5000);
+        assertThat(received).isInstanceOf(LikeMessageDto.class);
+        LikeMessageDto message = (LikeMessageDto) received;
+        assertThat(message.getId()).isEqualTo(10L);
+        assertThat(message.getUserId()).isEqualTo(20L);
+        assertThat(message.isLiked()).isTrue();
+
+        assertThat(outboxMessageRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 Relay가 선점(lease 유효)한 행은 건너뛰고, lease가 만료되면 다시 선점해 발행한다.")
+    void relayOutboxTable_SkipsLeasedRowsUntilExpired() {
+        // given: 다른 노드가 발행 중인 행
+        outboxService.enqueue(TEST_EXCHANGE, TEST_ROUTING_KEY, new LikeMessageDto(11L, 21L, true));
+        em.flush();
+        List<Long> ids = outboxMessageRepository.findAll().stream().map(OutboxMessage::getId).toList();
+        outboxMessageRepository.claim(ids, "other-relay", LocalDateTime.now().plusMinutes(1));
+
+        // when
+        outboxRelayScheduler.relayOutboxTable();
+
+        // then
+        assertThat(rabbitTemplate.receiveAndConvert(TEST_QUEUE, 500)).isNull();
+        assertThat(outboxMessageRepository.count()).isEqualTo(1);
+
+        // when: 선점한 노드가 죽어 lease 만료
+        outboxMessageRepository.claim(ids, "other-relay", LocalDateTime.now().minusSeconds(1));
+        outboxRelayScheduler.relayOutboxTable();
+
+        // then
+        assertThat(rabbitTemplate.receiveAndConvert(TEST_QUEUE, 5000)).isInstanceOf(LikeMessageDto.class);
+        assertThat(outboxMessageRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("좋아요 토글은 MQ를 직접 호출하지 않고 Stream에 적재되며, Relay가 드레인한다.")
+    void toggleLike_WritesToStream_ThenRelayDrains() {
+        // given
+        Long targetId = 987654L;
+        Long userId = 123L;
+
+        // when
+        likeRedisService.toggleLike(ViewLikeDomain.POST, targetId, userId, List::of, null);
+        outboxRelayScheduler.relayLikeStream();
+
+        // then: 스케줄 주기 Relay와 경합할 수 있으므로 최종적으로 비워지는지만 검증
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            outboxRelayScheduler.relayLikeStream();
+            Long size = stringRedisTemplate.opsForStream().size(LikeRedisService.LIKE_OUTBOX_STREAM);
+            assertThat(size == null ? 0L : size).isZero();
+        });
+    }
+}
@@ -0,0 +1,140 @@
+package com.depth.deokive.system.scheduler;
+
+import com.depth.deokive.system.warmup.CacheWarmer;
+import com.depth.deokive.system.warmup.WarmupProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GlobalWarmupScheduler 웜업 실행 테스트")
+class GlobalWarmupSchedulerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WarmupProperties properties;
+    private GlobalWarmupScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new WarmupProperties();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) scheduler.stop();
+    }
+
+    private GlobalWarmupScheduler scheduler(CacheWarmer... warmers) {
+        scheduler = new GlobalWarmupScheduler(List.of(warmers), properties, meterRegistry);
+        scheduler.init();
+        return scheduler;
+    }
+
+    private static CacheWarmer warmer(String name, Supplier<List<Runnable>> tasks) {
+        return new CacheWarmer() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public List<Runnable> tasks() {
+                return tasks.get();
+            }
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double coverageOf(String name) {
+        return meterRegistry.get("warmup.coverage").tag("warmer", name).gauge().value();
+    }
+
+    @Test
+    @DisplayName("모든 작업을 동시 실행 수 이하로 실행하고, 커버리지와 소요 시간을 기록한다.")
+    void runsAllTasksWithinConcurrency() {
+        // given
+        properties.setConcurrency(2);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            tasks.add(() -> {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                sleep(30);
+                active.decrementAndGet();
+            });
+        }
+
+        // when
+        scheduler(warmer("feed", () -> tasks)).warmupAll();
+
+        // then
+        assertThat(maxActive.get()).isLessThanOrEqualTo(2);
+        assertThat(coverageOf("feed")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("warmup.duration").tag("warmer", "feed").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예산을 넘긴 작업은 취소하고 완료된 비율만 커버리지로 보고하며, 다음 웜러는 자기 예산으로 실행한다.")
+    void reportsPartialCoverageWhenBudgetExhausted() {
+        // given
+        properties.setConcurrency(2);
+        properties.setBudget(Duration.ofMillis(300));
+        AtomicInteger nextRuns = new AtomicInteger();
+        CacheWarmer slow = warmer("slow", () -> List.of(
+                () -> sleep(10),
+                () -> sleep(5_000),
+                () -> sleep(10),
+                () -> sleep(10)));
+        CacheWarmer next = warmer("next", () -> List.of(nextRuns::incrementAndGet));
+
+        // when
+        long startedAt = System.currentTimeMillis();
+        scheduler(slow, next).warmupAll();
+
+        // then
+        assertThat(System.currentTimeMillis() - startedAt).isLessThan(2_000);
+        assertThat(coverageOf("slow")).isEqualTo(0.75); // 느린 작업이 permit 하나를 잡아도 나머지는 다른 permit으로 진행
+        assertThat(coverageOf("next")).isEqualTo(1.0);
+        assertThat(nextRuns.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대상 조회나 개별 작업이 실패해도 예외를 전파하지 않고 커버리지에 반영한다.")
+    void isolatesFailures() {
+        // given
+        CacheWarmer broken = warmer("broken", () -> {
+            throw new IllegalStateException("db down");
+        });
+        CacheWarmer partial = warmer("partial", () -> List.of(
+                () -> {},
+                () -> {
+                    throw new IllegalStateException("not found");
+                }));
+
+        // when
+        scheduler(broken, partial).warmupAll();
+
+        // then
+        assertThat(coverageOf("broken")).isEqualTo(0.0);
+        assertThat(coverageOf("partial")).isEqualTo(0.5);
+    }
+}
@@ -0,0 +1,174 @@
+package com.depth.deokive.system.scheduler.cluster;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 노드(ClusterMembership 인스턴스)가 같은 Redis로 멤버십/리더/샤드를 나누는지 검증
+ */
+@DisplayName("ClusterMembership 멤버십/리더/샤드 테스트 (Redis)")
+class ClusterMembershipTest {
+
+    private static final int SHARDS = 16;
+
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    private static RedissonClient redissonClient;
+
+    @BeforeAll
+    static void startRedis() {
+        REDIS.start();
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + REDIS.getHost() + ":" + REDIS.getMappedPort(6379));
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redissonClient.shutdown();
+        REDIS.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        redissonClient.getKeys().flushall();
+    }
+
+    private ClusterMembership node() {
+        return node(Duration.ofSeconds(15));
+    }
+
+    private ClusterMembership node(Duration ttl) {
+        return new ClusterMembership(redissonClient, new SimpleMeterRegistry(), true, ttl, ttl, SHARDS, 5000);
+    }
+
+    // 모든 노드가 서로를 보도록 두 번 heartbeat
+    private static void heartbeat(List<ClusterMembership> nodes) {
+        for (int round = 0; round < 2; round++) {
+            nodes.forEach(ClusterMembership::heartbeat);
+        }
+    }
+
+    @Test
+    @DisplayName("노드들은 샤드를 겹치지 않게 전부 나눠 갖고, 리더는 하나다.")
+    void shardsArePartitionedAndSingleLeader() {
+        // given
+        List<ClusterMembership> nodes = List.of(node(), node(), node());
+
+        // when
+        heartbeat(nodes);
+
+        // then
+        Set<Integer> covered = new HashSet<>();
+        int total = 0;
+        for (ClusterMembership node : nodes) {
+            assertThat(node.getMembers()).hasSize(3);
+            covered.addAll(node.getOwnedShards());
+            total += node.getOwnedShards().size();
+        }
+        assertThat(total).isEqualTo(SHARDS);
+        assertThat(covered).containsExactlyInAnyOrderElementsOf(IntStream.range(0, SHARDS).boxed().toList());
+        assertThat(nodes.stream().filter(ClusterMembership::isLeader).count()).isEqualTo(1);
+
+        // 같은 ID는 정확히 한 노드만 소유
+        for (long id = 1; id <= 1000; id++) {
+            long currentId = id;
+            assertThat(nodes.stream().filter(node -> node.ownsId(currentId)).count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("리더가 떠나면 남은 노드가 리더를 이어받고, 떠난 노드의 샤드를 재분배한다.")
+    void leaderLeavesAndShardsRebalance() {
+        // given
+        List<ClusterMembership> nodes = List.of(node(), node());
+        heartbeat(nodes);
+        ClusterMembership leader = nodes.stream().filter(ClusterMembership::isLeader).findFirst().orElseThrow();
+        ClusterMembership survivor = nodes.stream().filter(node -> node != leader).findFirst().orElseThrow();
+        assertThat(survivor.getOwnedShards()).hasSizeLessThan(SHARDS);
+
+        // when
+        leader.leave();
+        survivor.heartbeat();
+
+        // then
+        assertThat(survivor.isLeader()).isTrue();
+        assertThat(survivor.getMembers()).containsExactly(survivor.getNodeId());
+        assertThat(survivor.getOwnedShards()).hasSize(SHARDS);
+    }
+
+    @Test
+    @DisplayName("heartbeat가 멈추면 Redis 키가 만료되기 전에 스스로 리더/샤드 소유를 내려놓는다.")
+    void ownershipExpiresWithoutHeartbeat() throws InterruptedException {
+        // given
+        ClusterMembership node = node(Duration.ofMillis(500));
+        node.heartbeat();
+        assertThat(node.isLeader()).isTrue();
+        assertThat(node.getOwnedShards()).hasSize(SHARDS);
+
+        // when: 스케줄러 스레드가 막혀 갱신이 밀린 상황
+        Thread.sleep(700);
+
+        // then
+        assertThat(node.isLeader()).isFalse();
+        assertThat(node.getOwnedShards()).isEmpty();
+        assertThat(node.ownsId(1L)).isFalse();
+
+        // when: heartbeat 재개
+        node.heartbeat();
+
+        // then
+        assertThat(node.isLeader()).isTrue();
+        assertThat(node.getOwnedShards()).hasSize(SHARDS);
+    }
+
+    @Test
+    @DisplayName("Singleton 작업은 리더에서만, Sharded 작업은 각 노드가 소유한 샤드만 실행한다.")
+    void coordinatorRunsOnlyOwnedWork() {
+        // given
+        ClusterMembership first = node();
+        ClusterMembership second = node();
+        heartbeat(List.of(first, second));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SchedulerCoordinator onFirst = new SchedulerCoordinator(first, redissonClient, meterRegistry);
+        SchedulerCoordinator onSecond = new SchedulerCoordinator(second, redissonClient, meterRegistry);
+
+        // when: Singleton
+        AtomicInteger runs = new AtomicInteger();
+        onFirst.runSingleton("test-job", runs::incrementAndGet);
+        onSecond.runSingleton("test-job", runs::incrementAndGet);
+
+        // then
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("scheduler.job.skipped").tag("reason", "not-leader").counter().count()).isEqualTo(1);
+
+        // when: Sharded
+        List<Long> ids = IntStream.rangeClosed(1, 500).mapToObj(Long::valueOf).toList();
+        Set<Long> processedByFirst = new HashSet<>();
+        Set<Long> processedBySecond = new HashSet<>();
+        onFirst.runSharded("test-sharded", ids, Long::longValue, processedByFirst::addAll);
+        onSecond.runSharded("test-sharded", ids, Long::longValue, processedBySecond::addAll);
+
+        // then
+        assertThat(processedByFirst).doesNotContainAnyElementsOf(processedBySecond);
+        assertThat(processedByFirst.size() + processedBySecond.size()).isEqualTo(ids.size());
+    }
+}